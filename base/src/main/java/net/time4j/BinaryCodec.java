@@ -0,0 +1,1210 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BinaryCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.engine.EpochDays;
+import net.time4j.engine.TimeSpan;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.ZonalOffset;
+
+import java.lang.reflect.Array;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * <p>Compact and versioned binary format for temporal values based on {@code ByteBuffer}. </p>
+ *
+ * <p>In contrast to the serialization proxies of Time4J, this codec writes no class descriptors
+ * and uses variable-length integers (varint with zigzag-encoding for signed values) so that typical
+ * values only need a few bytes. It is suitable for off-heap caches or messaging payloads. There
+ * are two levels: </p>
+ *
+ * <ul>
+ *     <li>{@link #write(Object, ByteBuffer)} and {@link #read(ByteBuffer)} handle the raw payload
+ *     of one value and are intended for embedding into own record formats. </li>
+ *     <li>{@link #encode(Object)}, {@link #decode(ByteBuffer)}, {@link #encodeArray(Object[], ByteBuffer)}
+ *     and {@link #decodeArray(ByteBuffer)} prepend a header with type tag and format version so the
+ *     data are self-describing. Arrays are delta-encoded where possible which is very efficient for
+ *     time series. </li>
+ * </ul>
+ *
+ * <p>Decoding reads directly from the given buffer using relative get-operations so that direct
+ * (off-heap) buffers can be decoded without copying the bytes into the heap. </p>
+ *
+ * <pre>
+ *  ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+ *  BinaryCodec.MOMENT.encodeArray(moments, buffer);
+ *  buffer.flip();
+ *  Moment[] copy = BinaryCodec.MOMENT.decodeArray(buffer);
+ * </pre>
+ *
+ * <p>Buffer limits are handled by the buffer itself: Writing throws a
+ * {@code BufferOverflowException} and reading the raw payload a {@code BufferUnderflowException}.
+ * Corrupt, truncated or incompatible data cause an {@code IllegalArgumentException} in all
+ * decoding methods. All instances are immutable and thread-safe. </p>
+ *
+ * @param   <T> type of temporal value
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     net.time4j.range.IntervalCodec
+ */
+/*[deutsch]
+ * <p>Kompaktes und versioniertes Bin&auml;rformat f&uuml;r Zeitwerte auf der Basis von
+ * {@code ByteBuffer}. </p>
+ *
+ * <p>Im Unterschied zu den Serialisierungs-Proxies von Time4J schreibt dieser Codec keine
+ * Klassenbeschreibungen und verwendet ganze Zahlen variabler L&auml;nge (varint mit
+ * Zickzack-Kodierung f&uuml;r vorzeichenbehaftete Werte), so da&szlig; typische Werte nur
+ * wenige Bytes ben&ouml;tigen. Er ist f&uuml;r Caches au&szlig;erhalb des Heap oder
+ * Nachrichten geeignet. Es gibt zwei Ebenen: </p>
+ *
+ * <ul>
+ *     <li>{@link #write(Object, ByteBuffer)} und {@link #read(ByteBuffer)} bearbeiten die
+ *     reinen Nutzdaten eines Werts und sind f&uuml;r die Einbettung in eigene Satzformate
+ *     gedacht. </li>
+ *     <li>{@link #encode(Object)}, {@link #decode(ByteBuffer)}, {@link #encodeArray(Object[], ByteBuffer)}
+ *     und {@link #decodeArray(ByteBuffer)} stellen einen Kopf mit Typkennung und Formatversion
+ *     voran, so da&szlig; die Daten selbstbeschreibend sind. Arrays werden nach M&ouml;glichkeit
+ *     als Differenzen kodiert, was f&uuml;r Zeitreihen sehr effizient ist. </li>
+ * </ul>
+ *
+ * <p>Das Dekodieren liest mit relativen get-Operationen direkt aus dem angegebenen Puffer, so
+ * da&szlig; direkte Puffer (au&szlig;erhalb des Heap) ohne Kopieren der Bytes in den Heap
+ * dekodiert werden k&ouml;nnen. </p>
+ *
+ * <pre>
+ *  ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+ *  BinaryCodec.MOMENT.encodeArray(moments, buffer);
+ *  buffer.flip();
+ *  Moment[] copy = BinaryCodec.MOMENT.decodeArray(buffer);
+ * </pre>
+ *
+ * <p>Puffergrenzen werden vom Puffer selbst behandelt: Das Schreiben wirft eine
+ * {@code BufferOverflowException} und das Lesen der reinen Nutzdaten eine
+ * {@code BufferUnderflowException}. Fehlerhafte, abgeschnittene oder inkompatible Daten
+ * f&uuml;hren in allen Dekodiermethoden zu einer {@code IllegalArgumentException}. Alle
+ * Instanzen sind unver&auml;nderlich und thread-sicher. </p>
+ *
+ * @param   <T> type of temporal value
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     net.time4j.range.IntervalCodec
+ */
+public abstract class BinaryCodec<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * <p>The current version of the binary format. </p>
+     */
+    /*[deutsch]
+     * <p>Die aktuelle Version des Bin&auml;rformats. </p>
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MRD = 1000000000;
+    private static final int MAX_ENCODED_SIZE = 64;
+
+    // feste Codes der Zeiteinheiten im Binärformat (Index = Code), unabhängig von Enum-Ordinalzahlen
+    private static final IsoUnit[] UNIT_CODES = {
+        CalendarUnit.MILLENNIA, // 0
+        CalendarUnit.CENTURIES, // 1
+        CalendarUnit.DECADES, // 2
+        CalendarUnit.YEARS, // 3
+        CalendarUnit.QUARTERS, // 4
+        CalendarUnit.MONTHS, // 5
+        CalendarUnit.WEEKS, // 6
+        CalendarUnit.DAYS, // 7
+        ClockUnit.HOURS, // 8
+        ClockUnit.MINUTES, // 9
+        ClockUnit.SECONDS, // 10
+        ClockUnit.MILLIS, // 11
+        ClockUnit.MICROS, // 12
+        ClockUnit.NANOS // 13
+    };
+
+    /**
+     * <p>Codec for calendar dates (varint of epoch days, delta-encoded in arrays). </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Kalenderdaten (varint der Epochentage, in Arrays als Differenzen). </p>
+     */
+    public static final BinaryCodec<PlainDate> PLAIN_DATE = new DateCodec();
+
+    /**
+     * <p>Codec for wall times (varint of second of day, optionally followed by the nanosecond). </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Uhrzeiten (varint der Sekunde des Tages, optional gefolgt von der
+     * Nanosekunde). </p>
+     */
+    public static final BinaryCodec<PlainTime> PLAIN_TIME = new TimeCodec();
+
+    /**
+     * <p>Codec for local timestamps (date followed by wall time). </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r lokale Zeitstempel (Datum gefolgt von der Uhrzeit). </p>
+     */
+    public static final BinaryCodec<PlainTimestamp> PLAIN_TIMESTAMP = new TimestampCodec();
+
+    /**
+     * <p>Codec for global timestamps (POSIX-seconds including leap second flag and optional
+     * nanosecond, delta-encoded in arrays). </p>
+     *
+     * <p>Leap seconds can only be decoded if they are registered in the decoding VM. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r globale Zeitstempel (POSIX-Sekunden einschlie&szlig;lich
+     * Schaltsekundenkennung und optionaler Nanosekunde, in Arrays als Differenzen). </p>
+     *
+     * <p>Schaltsekunden k&ouml;nnen nur dekodiert werden, wenn sie in der dekodierenden VM
+     * registriert sind. </p>
+     */
+    public static final BinaryCodec<Moment> MOMENT = new MomentCodec();
+
+    /**
+     * <p>Codec for timezone offsets (total seconds and optional fraction). </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Zeitzonen-Offsets (Gesamtsekunden und optionaler Bruchteil). </p>
+     */
+    public static final BinaryCodec<ZonalOffset> ZONAL_OFFSET = new OffsetCodec();
+
+    /**
+     * <p>Codec for durations in standard units of {@code CalendarUnit} and {@code ClockUnit}. </p>
+     *
+     * <p>Durations with any other units cannot be encoded. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Dauern in den Standardeinheiten von {@code CalendarUnit} und
+     * {@code ClockUnit}. </p>
+     *
+     * <p>Dauern mit anderen Einheiten k&ouml;nnen nicht kodiert werden. </p>
+     */
+    public static final BinaryCodec<Duration<IsoUnit>> DURATION = new DurationCodec();
+
+    /**
+     * <p>Codec for machine times on the POSIX- or UTC-scale. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Maschinenzeiten auf der POSIX- oder UTC-Skala. </p>
+     */
+    public static final BinaryCodec<MachineTime<?>> MACHINE_TIME = new MachineTimeCodec();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int tag;
+    private final Class<T> type;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new codec. </p>
+     *
+     * @param   tag     type tag in range {@code 1-127} written into the header of encoded data
+     * @param   type    type of temporal values
+     * @throws  IllegalArgumentException if the tag is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Codec. </p>
+     *
+     * @param   tag     type tag in range {@code 1-127} written into the header of encoded data
+     * @param   type    type of temporal values
+     * @throws  IllegalArgumentException if the tag is out of range
+     */
+    protected BinaryCodec(
+        int tag,
+        Class<T> type
+    ) {
+        super();
+
+        if ((tag < 1) || (tag > 127)) {
+            throw new IllegalArgumentException("Type tag out of range: " + tag);
+        }
+
+        this.tag = tag;
+        this.type = type;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the type of temporal values supported by this codec. </p>
+     *
+     * @return  Class
+     */
+    /*[deutsch]
+     * <p>Liefert den von diesem Codec unterst&uuml;tzten Typ von Zeitwerten. </p>
+     *
+     * @return  Class
+     */
+    public final Class<T> getType() {
+
+        return this.type;
+
+    }
+
+    /**
+     * <p>Writes the raw payload of given value without any header. </p>
+     *
+     * @param   value       temporal value to be written
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt die reinen Nutzdaten des angegebenen Werts ohne Kopf. </p>
+     *
+     * @param   value       temporal value to be written
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    public abstract void write(
+        T value,
+        ByteBuffer buffer
+    );
+
+    /**
+     * <p>Reads the raw payload of a value written by {@link #write(Object, ByteBuffer)}. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded temporal value
+     * @throws  IllegalArgumentException if the data are corrupt
+     * @throws  java.nio.BufferUnderflowException if the buffer has not enough remaining bytes
+     */
+    /*[deutsch]
+     * <p>Liest die reinen Nutzdaten eines mit {@link #write(Object, ByteBuffer)} geschriebenen
+     * Werts. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded temporal value
+     * @throws  IllegalArgumentException if the data are corrupt
+     * @throws  java.nio.BufferUnderflowException if the buffer has not enough remaining bytes
+     */
+    public abstract T read(ByteBuffer buffer);
+
+    /**
+     * <p>Encodes given value including header with type tag and format version. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Kodiert den angegebenen Wert einschlie&szlig;lich eines Kopfs mit Typkennung und
+     * Formatversion. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    public final void encode(
+        T value,
+        ByteBuffer buffer
+    ) {
+
+        buffer.put((byte) this.tag);
+        buffer.put((byte) FORMAT_VERSION);
+        this.write(value, buffer);
+
+    }
+
+    /**
+     * <p>Encodes given value including header with type tag and format version. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @return  new byte array
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     */
+    /*[deutsch]
+     * <p>Kodiert den angegebenen Wert einschlie&szlig;lich eines Kopfs mit Typkennung und
+     * Formatversion. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @return  new byte array
+     * @throws  IllegalArgumentException if the value cannot be encoded
+     */
+    public final byte[] encode(T value) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_ENCODED_SIZE);
+
+        while (true) {
+            try {
+                this.encode(value, buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (BufferOverflowException boe) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Decodes a value written by {@link #encode(Object, ByteBuffer)}. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded temporal value
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    /*[deutsch]
+     * <p>Dekodiert einen mit {@link #encode(Object, ByteBuffer)} geschriebenen Wert. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  decoded temporal value
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    public final T decode(ByteBuffer buffer) {
+
+        try {
+            this.readHeader(buffer, false);
+            return this.read(buffer);
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalArgumentException("Truncated data.", bue);
+        }
+
+    }
+
+    /**
+     * <p>Decodes a value written by {@link #encode(Object)}. </p>
+     *
+     * @param   data        encoded bytes
+     * @return  decoded temporal value
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    /*[deutsch]
+     * <p>Dekodiert einen mit {@link #encode(Object)} geschriebenen Wert. </p>
+     *
+     * @param   data        encoded bytes
+     * @return  decoded temporal value
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    public final T decode(byte[] data) {
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        T value = this.decode(buffer);
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes: " + buffer.remaining());
+        }
+
+        return value;
+
+    }
+
+    /**
+     * <p>Encodes all given values including header with type tag, format version and count. </p>
+     *
+     * @param   values      array of temporal values (without {@code null}-elements)
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if any value cannot be encoded
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Kodiert alle angegebenen Werte einschlie&szlig;lich eines Kopfs mit Typkennung,
+     * Formatversion und Anzahl. </p>
+     *
+     * @param   values      array of temporal values (without {@code null}-elements)
+     * @param   buffer      target buffer
+     * @throws  IllegalArgumentException if any value cannot be encoded
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    public final void encodeArray(
+        T[] values,
+        ByteBuffer buffer
+    ) {
+
+        buffer.put((byte) (this.tag | 0x80)); // Kennung für Arrays
+        buffer.put((byte) FORMAT_VERSION);
+        writeUnsigned(values.length, buffer);
+        T previous = null;
+
+        for (T value : values) {
+            if (value == null) {
+                throw new NullPointerException("Null elements are not supported.");
+            } else if (previous == null) {
+                this.write(value, buffer);
+            } else {
+                this.writeNext(value, previous, buffer);
+            }
+            previous = value;
+        }
+
+    }
+
+    /**
+     * <p>Encodes all given values including header with type tag, format version and count. </p>
+     *
+     * @param   values      array of temporal values (without {@code null}-elements)
+     * @return  new byte array
+     * @throws  IllegalArgumentException if any value cannot be encoded
+     */
+    /*[deutsch]
+     * <p>Kodiert alle angegebenen Werte einschlie&szlig;lich eines Kopfs mit Typkennung,
+     * Formatversion und Anzahl. </p>
+     *
+     * @param   values      array of temporal values (without {@code null}-elements)
+     * @return  new byte array
+     * @throws  IllegalArgumentException if any value cannot be encoded
+     */
+    public final byte[] encodeArray(T[] values) {
+
+        ByteBuffer buffer = ByteBuffer.allocate(8 + values.length * 8);
+
+        while (true) {
+            try {
+                this.encodeArray(values, buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (BufferOverflowException boe) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Decodes an array written by {@link #encodeArray(Object[], ByteBuffer)}. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  new array of decoded temporal values
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    /*[deutsch]
+     * <p>Dekodiert ein mit {@link #encodeArray(Object[], ByteBuffer)} geschriebenes Array. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  new array of decoded temporal values
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    public final T[] decodeArray(ByteBuffer buffer) {
+
+        try {
+            return this.readArray(buffer);
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalArgumentException("Truncated data.", bue);
+        }
+
+    }
+
+    private T[] readArray(ByteBuffer buffer) {
+
+        this.readHeader(buffer, true);
+        long count = readUnsigned(buffer);
+
+        if (count > buffer.remaining()) { // mindestens ein Byte pro Element
+            throw new IllegalArgumentException("Invalid array length: " + count);
+        }
+
+        @SuppressWarnings("unchecked")
+        T[] values = (T[]) Array.newInstance(this.type, (int) count);
+        T previous = null;
+
+        for (int i = 0; i < values.length; i++) {
+            T value = ((previous == null) ? this.read(buffer) : this.readNext(previous, buffer));
+            values[i] = value;
+            previous = value;
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Decodes an array written by {@link #encodeArray(Object[])}. </p>
+     *
+     * @param   data        encoded bytes
+     * @return  new array of decoded temporal values
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    /*[deutsch]
+     * <p>Dekodiert ein mit {@link #encodeArray(Object[])} geschriebenes Array. </p>
+     *
+     * @param   data        encoded bytes
+     * @return  new array of decoded temporal values
+     * @throws  IllegalArgumentException if the data are corrupt, truncated or of another type or version
+     */
+    public final T[] decodeArray(byte[] data) {
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        T[] values = this.decodeArray(buffer);
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes: " + buffer.remaining());
+        }
+
+        return values;
+
+    }
+
+    /**
+     * <p>Writes the payload of a value which follows given previous value in an array. </p>
+     *
+     * <p>Subclasses can override this method in order to write only the difference to the
+     * previous value. The default implementation just calls {@link #write(Object, ByteBuffer)}. </p>
+     *
+     * @param   value       temporal value to be written
+     * @param   previous    previous value in array
+     * @param   buffer      target buffer
+     * @see     #readNext(Object, ByteBuffer)
+     */
+    /*[deutsch]
+     * <p>Schreibt die Nutzdaten eines Werts, der im Array dem angegebenen vorherigen Wert
+     * folgt. </p>
+     *
+     * <p>Subklassen k&ouml;nnen diese Methode &uuml;berschreiben, um nur die Differenz zum
+     * vorherigen Wert zu schreiben. Die Standardimplementierung ruft einfach
+     * {@link #write(Object, ByteBuffer)} auf. </p>
+     *
+     * @param   value       temporal value to be written
+     * @param   previous    previous value in array
+     * @param   buffer      target buffer
+     * @see     #readNext(Object, ByteBuffer)
+     */
+    protected void writeNext(
+        T value,
+        T previous,
+        ByteBuffer buffer
+    ) {
+
+        this.write(value, buffer);
+
+    }
+
+    /**
+     * <p>Reads the payload of a value written by {@link #writeNext(Object, Object, ByteBuffer)}. </p>
+     *
+     * @param   previous    previous value in array
+     * @param   buffer      source buffer
+     * @return  decoded temporal value
+     */
+    /*[deutsch]
+     * <p>Liest die Nutzdaten eines mit {@link #writeNext(Object, Object, ByteBuffer)}
+     * geschriebenen Werts. </p>
+     *
+     * @param   previous    previous value in array
+     * @param   buffer      source buffer
+     * @return  decoded temporal value
+     */
+    protected T readNext(
+        T previous,
+        ByteBuffer buffer
+    ) {
+
+        return this.read(buffer);
+
+    }
+
+    /**
+     * <p>Writes an unsigned variable-length integer (7 bits per byte, lowest group first). </p>
+     *
+     * @param   value       value to be written, interpreted as unsigned
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt eine vorzeichenlose ganze Zahl variabler L&auml;nge (7 Bits pro Byte, niedrigste
+     * Gruppe zuerst). </p>
+     *
+     * @param   value       value to be written, interpreted as unsigned
+     * @param   buffer      target buffer
+     */
+    protected static void writeUnsigned(
+        long value,
+        ByteBuffer buffer
+    ) {
+
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+
+    }
+
+    /**
+     * <p>Reads an unsigned variable-length integer. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  read value (interpreted as unsigned)
+     * @throws  IllegalArgumentException if the encoding is longer than ten bytes
+     */
+    /*[deutsch]
+     * <p>Liest eine vorzeichenlose ganze Zahl variabler L&auml;nge. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  read value (interpreted as unsigned)
+     * @throws  IllegalArgumentException if the encoding is longer than ten bytes
+     */
+    protected static long readUnsigned(ByteBuffer buffer) {
+
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= ((long) (b & 0x7F)) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed variable-length integer.");
+
+    }
+
+    /**
+     * <p>Writes a signed variable-length integer using zigzag-encoding. </p>
+     *
+     * @param   value       value to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt eine vorzeichenbehaftete ganze Zahl variabler L&auml;nge mit
+     * Zickzack-Kodierung. </p>
+     *
+     * @param   value       value to be written
+     * @param   buffer      target buffer
+     */
+    protected static void writeSigned(
+        long value,
+        ByteBuffer buffer
+    ) {
+
+        writeUnsigned((value << 1) ^ (value >> 63), buffer);
+
+    }
+
+    /**
+     * <p>Reads a signed variable-length integer using zigzag-encoding. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  read value
+     */
+    /*[deutsch]
+     * <p>Liest eine vorzeichenbehaftete ganze Zahl variabler L&auml;nge mit
+     * Zickzack-Kodierung. </p>
+     *
+     * @param   buffer      source buffer
+     * @return  read value
+     */
+    protected static long readSigned(ByteBuffer buffer) {
+
+        long v = readUnsigned(buffer);
+        return (v >>> 1) ^ -(v & 1);
+
+    }
+
+    private void readHeader(
+        ByteBuffer buffer,
+        boolean array
+    ) {
+
+        int t = buffer.get() & 0xFF;
+        int version = buffer.get() & 0xFF;
+        int expected = (array ? (this.tag | 0x80) : this.tag);
+
+        if (t != expected) {
+            throw new IllegalArgumentException(
+                "Unexpected type tag: " + t + " (expected = " + expected + ")");
+        } else if ((version < 1) || (version > FORMAT_VERSION)) {
+            throw new IllegalArgumentException("Unsupported format version: " + version);
+        }
+
+    }
+
+    private static int toInt(
+        long value,
+        long min,
+        long max
+    ) {
+
+        if ((value < min) || (value > max)) {
+            throw new IllegalArgumentException("Value out of range: " + value);
+        }
+
+        return (int) value;
+
+    }
+
+    // liefert den festen Binärcode einer Zeiteinheit
+    private static int getUnitCode(IsoUnit unit) {
+
+        for (int i = 0; i < UNIT_CODES.length; i++) {
+            if (UNIT_CODES[i] == unit) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported unit: " + unit);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class DateCodec
+        extends BinaryCodec<PlainDate> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateCodec() {
+            super(1, PlainDate.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            PlainDate value,
+            ByteBuffer buffer
+        ) {
+
+            writeSigned(value.getDaysSinceUTC(), buffer);
+
+        }
+
+        @Override
+        public PlainDate read(ByteBuffer buffer) {
+
+            return ofEpochDays(readSigned(buffer));
+
+        }
+
+        @Override
+        protected void writeNext(
+            PlainDate value,
+            PlainDate previous,
+            ByteBuffer buffer
+        ) {
+
+            writeSigned(value.getDaysSinceUTC() - previous.getDaysSinceUTC(), buffer);
+
+        }
+
+        @Override
+        protected PlainDate readNext(
+            PlainDate previous,
+            ByteBuffer buffer
+        ) {
+
+            return ofEpochDays(previous.getDaysSinceUTC() + readSigned(buffer));
+
+        }
+
+        private static PlainDate ofEpochDays(long utcDays) {
+
+            try {
+                return PlainDate.of(utcDays, EpochDays.UTC);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalArgumentException("Invalid encoded date: " + utcDays, iae);
+            }
+
+        }
+
+    }
+
+    private static class TimeCodec
+        extends BinaryCodec<PlainTime> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimeCodec() {
+            super(2, PlainTime.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            PlainTime value,
+            ByteBuffer buffer
+        ) {
+
+            // Sekunde des Tages (0-86400) mit Kennung für Nanosekunden im untersten Bit
+            int sod = value.getHour() * 3600 + value.getMinute() * 60 + value.getSecond();
+            int nano = value.getNanosecond();
+            writeUnsigned((sod << 1) | ((nano == 0) ? 0 : 1), buffer);
+
+            if (nano != 0) {
+                writeUnsigned(nano, buffer);
+            }
+
+        }
+
+        @Override
+        public PlainTime read(ByteBuffer buffer) {
+
+            int v = toInt(readUnsigned(buffer), 0, 86400 * 2);
+            int sod = (v >> 1);
+            int nano = (((v & 1) == 0) ? 0 : toInt(readUnsigned(buffer), 1, MRD - 1));
+
+            if (sod == 86400) {
+                if (nano != 0) {
+                    throw new IllegalArgumentException("Invalid encoded time: T24 with fraction");
+                }
+                return PlainTime.midnightAtEndOfDay();
+            }
+
+            return PlainTime.of(sod / 3600, (sod / 60) % 60, sod % 60, nano);
+
+        }
+
+    }
+
+    private static class TimestampCodec
+        extends BinaryCodec<PlainTimestamp> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimestampCodec() {
+            super(3, PlainTimestamp.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            PlainTimestamp value,
+            ByteBuffer buffer
+        ) {
+
+            PLAIN_DATE.write(value.getCalendarDate(), buffer);
+            PLAIN_TIME.write(value.getWallTime(), buffer);
+
+        }
+
+        @Override
+        public PlainTimestamp read(ByteBuffer buffer) {
+
+            PlainDate date = PLAIN_DATE.read(buffer);
+            PlainTime time = PLAIN_TIME.read(buffer);
+            return toTimestamp(date, time);
+
+        }
+
+        @Override
+        protected void writeNext(
+            PlainTimestamp value,
+            PlainTimestamp previous,
+            ByteBuffer buffer
+        ) {
+
+            PLAIN_DATE.writeNext(value.getCalendarDate(), previous.getCalendarDate(), buffer);
+            PLAIN_TIME.write(value.getWallTime(), buffer);
+
+        }
+
+        @Override
+        protected PlainTimestamp readNext(
+            PlainTimestamp previous,
+            ByteBuffer buffer
+        ) {
+
+            PlainDate date = PLAIN_DATE.readNext(previous.getCalendarDate(), buffer);
+            PlainTime time = PLAIN_TIME.read(buffer);
+            return toTimestamp(date, time);
+
+        }
+
+        private static PlainTimestamp toTimestamp(
+            PlainDate date,
+            PlainTime time
+        ) {
+
+            if (time.getHour() == 24) {
+                throw new IllegalArgumentException("Invalid encoded timestamp: T24");
+            }
+
+            return PlainTimestamp.of(date, time);
+
+        }
+
+    }
+
+    private static class MomentCodec
+        extends BinaryCodec<Moment> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentCodec() {
+            super(4, Moment.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            Moment value,
+            ByteBuffer buffer
+        ) {
+
+            this.write(value, value.getPosixTime(), buffer);
+
+        }
+
+        @Override
+        public Moment read(ByteBuffer buffer) {
+
+            return this.read(0L, buffer);
+
+        }
+
+        @Override
+        protected void writeNext(
+            Moment value,
+            Moment previous,
+            ByteBuffer buffer
+        ) {
+
+            this.write(value, value.getPosixTime() - previous.getPosixTime(), buffer);
+
+        }
+
+        @Override
+        protected Moment readNext(
+            Moment previous,
+            ByteBuffer buffer
+        ) {
+
+            return this.read(previous.getPosixTime(), buffer);
+
+        }
+
+        // Zickzack-Sekunden mit Schaltsekunden- und Nanosekundenkennung in den untersten Bits
+        private void write(
+            Moment value,
+            long seconds,
+            ByteBuffer buffer
+        ) {
+
+            int nano = value.getNanosecond();
+            long zigzag = (seconds << 1) ^ (seconds >> 63);
+            writeUnsigned((zigzag << 2) | (value.isLeapSecond() ? 2 : 0) | ((nano == 0) ? 0 : 1), buffer);
+
+            if (nano != 0) {
+                writeUnsigned(nano, buffer);
+            }
+
+        }
+
+        private Moment read(
+            long base,
+            ByteBuffer buffer
+        ) {
+
+            long v = readUnsigned(buffer);
+            long zigzag = (v >>> 2);
+            long posix = base + ((zigzag >>> 1) ^ -(zigzag & 1));
+            int nano = (((v & 1) == 0) ? 0 : toInt(readUnsigned(buffer), 1, MRD - 1));
+
+            try {
+                Moment moment = Moment.of(posix, nano, TimeScale.POSIX);
+
+                if ((v & 2) != 0) {
+                    moment = moment.plus(1, SI.SECONDS);
+                    if (!moment.isLeapSecond()) {
+                        throw new IllegalArgumentException("Not registered as leap second: " + moment);
+                    }
+                }
+
+                return moment;
+            } catch (ArithmeticException ex) {
+                throw new IllegalArgumentException("Invalid encoded moment.", ex);
+            }
+
+        }
+
+    }
+
+    private static class OffsetCodec
+        extends BinaryCodec<ZonalOffset> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        OffsetCodec() {
+            super(5, ZonalOffset.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            ZonalOffset value,
+            ByteBuffer buffer
+        ) {
+
+            int fraction = value.getFractionalAmount();
+            long total = value.getIntegralAmount();
+            writeSigned((total << 1) | ((fraction == 0) ? 0 : 1), buffer);
+
+            if (fraction != 0) {
+                writeSigned(fraction, buffer);
+            }
+
+        }
+
+        @Override
+        public ZonalOffset read(ByteBuffer buffer) {
+
+            long v = readSigned(buffer);
+            int total = toInt(v >> 1, -18 * 3600, 18 * 3600);
+
+            if ((v & 1) == 0) {
+                return ZonalOffset.ofTotalSeconds(total);
+            }
+
+            int fraction = toInt(readSigned(buffer), -MRD + 1, MRD - 1);
+            return ZonalOffset.ofTotalSeconds(total, fraction);
+
+        }
+
+    }
+
+    private static class DurationCodec
+        extends BinaryCodec<Duration<IsoUnit>> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        DurationCodec() {
+            super(6, (Class<Duration<IsoUnit>>) (Class<?>) Duration.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            Duration<IsoUnit> value,
+            ByteBuffer buffer
+        ) {
+
+            List<TimeSpan.Item<IsoUnit>> items = value.getTotalLength();
+            writeUnsigned((items.size() << 1) | (value.isNegative() ? 1 : 0), buffer);
+
+            for (TimeSpan.Item<IsoUnit> item : items) {
+                buffer.put((byte) getUnitCode(item.getUnit()));
+                writeUnsigned(item.getAmount(), buffer);
+            }
+
+        }
+
+        @Override
+        public Duration<IsoUnit> read(ByteBuffer buffer) {
+
+            long v = readUnsigned(buffer);
+            int size = toInt(v >>> 1, 0, UNIT_CODES.length);
+
+            if (size == 0) {
+                return Duration.ofZero();
+            }
+
+            List<TimeSpan.Item<IsoUnit>> items = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                int code = buffer.get();
+
+                if ((code < 0) || (code >= UNIT_CODES.length)) {
+                    throw new IllegalArgumentException("Unknown unit code: " + code);
+                }
+
+                IsoUnit unit = UNIT_CODES[code];
+
+                long amount = readUnsigned(buffer);
+
+                if (amount <= 0) {
+                    throw new IllegalArgumentException("Invalid amount: " + amount);
+                }
+
+                items.add(TimeSpan.Item.of(amount, unit));
+            }
+
+            return new Duration<>(items, (v & 1) == 1);
+
+        }
+
+    }
+
+    private static class MachineTimeCodec
+        extends BinaryCodec<MachineTime<?>> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        @SuppressWarnings("unchecked")
+        MachineTimeCodec() {
+            super(7, (Class<MachineTime<?>>) (Class<?>) MachineTime.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public void write(
+            MachineTime<?> value,
+            ByteBuffer buffer
+        ) {
+
+            int fraction = value.getFraction();
+            buffer.put((byte) (((value.getScale() == TimeScale.UTC) ? 2 : 0) | ((fraction == 0) ? 0 : 1)));
+            writeSigned(value.getSeconds(), buffer);
+
+            if (fraction != 0) {
+                writeSigned(fraction, buffer);
+            }
+
+        }
+
+        @Override
+        public MachineTime<?> read(ByteBuffer buffer) {
+
+            int flags = buffer.get();
+
+            if ((flags & ~3) != 0) {
+                throw new IllegalArgumentException("Invalid flags: " + flags);
+            }
+
+            long seconds = readSigned(buffer);
+            int fraction = (((flags & 1) == 0) ? 0 : toInt(readSigned(buffer), -MRD + 1, MRD - 1));
+
+            if ((flags & 2) == 0) {
+                return MachineTime.ofPosixUnits(seconds, fraction);
+            } else {
+                return MachineTime.ofSIUnits(seconds, fraction);
+            }
+
+        }
+
+    }
+
+}
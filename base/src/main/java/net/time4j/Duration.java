@@ -169,6 +169,12 @@ public final class Duration<U extends IsoUnit>
 
     private static final Comparator<Item<? extends ChronoUnit>> ITEM_COMPARATOR = StdNormalizer.comparator();
 
+    // Einheiten der kompakten Darstellung, absteigend nach Länge sortiert (Index = Bitposition)
+    private static final IsoUnit[] COMPACT_UNITS = {
+        MILLENNIA, CENTURIES, DECADES, YEARS, QUARTERS, MONTHS, WEEKS, DAYS,
+        HOURS, MINUTES, SECONDS, MILLIS, MICROS, NANOS
+    };
+
     /**
      * <p>Normalizes the duration items on the base of
      * {@code 1 year = 12 months} and {@code 1 day = 24 hours} and
@@ -275,8 +281,11 @@ public final class Duration<U extends IsoUnit>
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private transient final List<Item<U>> items;
+    private transient final List<Item<U>> items; // null in compact form
+    private transient final long[] amounts; // compact form: amounts in order of units, else null
+    private transient final int slots; // compact form: bit set for every unit in COMPACT_UNITS
     private transient final boolean negative;
+    private transient volatile List<Item<U>> expanded = null; // entfaltete kompakte Form (Cache)
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -294,18 +303,50 @@ public final class Duration<U extends IsoUnit>
         super();
 
         boolean empty = items.isEmpty();
+        long[] compact = null;
+        int bits = 0;
 
         if (empty) {
             this.items = Collections.emptyList();
         } else {
             items.sort(ITEM_COMPARATOR);
-            this.items = Collections.unmodifiableList(items);
+            int n = items.size();
+            compact = new long[n];
+            for (int i = 0; i < n; i++) {
+                Item<U> item = items.get(i);
+                int slot = slot(item.getUnit());
+                if ((slot == -1) || ((bits & (1 << slot)) != 0)) {
+                    compact = null;
+                    bits = 0;
+                    break;
+                }
+                compact[i] = item.getAmount();
+                bits |= (1 << slot);
+            }
+            this.items = ((compact == null) ? Collections.unmodifiableList(items) : null);
         }
 
+        this.amounts = compact;
+        this.slots = bits;
         this.negative = (!empty && negative);
 
     }
 
+    // kompakte Darstellung mit Beträgen in der Reihenfolge der gesetzten Bits
+    private Duration(
+        long[] amounts,
+        int slots,
+        boolean negative
+    ) {
+        super();
+
+        this.items = null;
+        this.amounts = amounts;
+        this.slots = slots;
+        this.negative = negative;
+
+    }
+
     // Kopiekonstruktor (siehe inverse())
     private Duration(
         Duration<U> duration,
@@ -314,6 +355,8 @@ public final class Duration<U extends IsoUnit>
         super();
 
         this.items = duration.items;
+        this.amounts = duration.amounts;
+        this.slots = duration.slots;
         this.negative = (inverse != duration.negative);
 
     }
@@ -323,6 +366,8 @@ public final class Duration<U extends IsoUnit>
         super();
 
         this.items = Collections.emptyList();
+        this.amounts = null;
+        this.slots = 0;
         this.negative = false;
 
     }
@@ -422,6 +467,12 @@ public final class Duration<U extends IsoUnit>
 	        }
         }
 
+        int slot = slot(u);
+
+        if (slot != -1) {
+            return new Duration<>(new long[] {value}, 1 << slot, (amount < 0));
+        }
+
         List<Item<U>> items = new ArrayList<>(1);
         items.add(Item.of(value, u));
         return new Duration<>(items, (amount < 0));
@@ -501,21 +552,7 @@ public final class Duration<U extends IsoUnit>
         int days
     ) {
 
-        List<Item<CalendarUnit>> items = new ArrayList<>(3);
-
-        if (years != 0) {
-            items.add(Item.of(years, YEARS));
-        }
-
-        if (months != 0) {
-            items.add(Item.of(months, MONTHS));
-        }
-
-        if (days != 0) {
-            items.add(Item.of(days, DAYS));
-        }
-
-        return new Duration<>(items, false);
+        return ofCompact(years, YEARS, months, MONTHS, days, DAYS);
 
     }
 
@@ -555,21 +592,7 @@ public final class Duration<U extends IsoUnit>
         int seconds
     ) {
 
-        List<Item<ClockUnit>> items = new ArrayList<>(3);
-
-        if (hours != 0) {
-            items.add(Item.of(hours, HOURS));
-        }
-
-        if (minutes != 0) {
-            items.add(Item.of(minutes, MINUTES));
-        }
-
-        if (seconds != 0) {
-            items.add(Item.of(seconds, SECONDS));
-        }
-
-        return new Duration<>(items, false);
+        return ofCompact(hours, HOURS, minutes, MINUTES, seconds, SECONDS);
 
     }
 
@@ -992,7 +1015,41 @@ public final class Duration<U extends IsoUnit>
     @Override
     public List<Item<U>> getTotalLength() {
 
-        return this.items;
+        if (this.items != null) {
+            return this.items;
+        }
+
+        List<Item<U>> result = this.expanded;
+
+        if (result == null) {
+            // kompakte Darstellung wird nur bei Bedarf entfaltet und dann gecacht
+            List<Item<U>> list = new ArrayList<>(this.amounts.length);
+
+            for (int i = 0, bits = this.slots; bits != 0; i++, bits &= (bits - 1)) {
+                list.add(Item.of(this.amounts[i], cast(COMPACT_UNITS[Integer.numberOfTrailingZeros(bits)])));
+            }
+
+            result = Collections.unmodifiableList(list);
+            this.expanded = result;
+        }
+
+        return result;
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        if (this.amounts != null) {
+            for (long amount : this.amounts) {
+                if (amount > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return super.isEmpty();
 
     }
 
@@ -1035,8 +1092,15 @@ public final class Duration<U extends IsoUnit>
 
         boolean fractional = isFractionUnit(unit);
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        if ((this.amounts != null) && !fractional) {
+            int index = this.indexOf(unit);
+            return ((index >= 0) && (this.amounts[index] > 0));
+        }
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (
@@ -1087,8 +1151,15 @@ public final class Duration<U extends IsoUnit>
 
         boolean fractional = isFractionUnit(unit);
 
-        for (int i = 0, n = this.items.size(); i < n; i++) {
-            Item<U> item = this.items.get(i);
+        if ((this.amounts != null) && !fractional) {
+            int index = this.indexOf(unit);
+            return ((index >= 0) ? this.amounts[index] : 0);
+        }
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             U u = item.getUnit();
 
             if (u.equals(unit)) {
@@ -1293,7 +1364,6 @@ public final class Duration<U extends IsoUnit>
         }
 
         // Millis und Micros ersetzen
-        List<Item<U>> temp = new ArrayList<>(this.getTotalLength());
         Item<U> item = replaceFraction(amount, unit);
 
         if (item != null) {
@@ -1301,6 +1371,28 @@ public final class Duration<U extends IsoUnit>
             unit = item.getUnit();
         }
 
+        // kompakte Darstellung bei gleichen Vorzeichen direkt aktualisieren
+        int slot = slot(unit);
+
+        if ((this.amounts != null) && (slot != -1) && (this.negative == negatedValue) && !this.isEmpty()) {
+            int index = this.indexOf(unit);
+            if (index >= 0) {
+                long[] newAmounts = this.amounts.clone();
+                newAmounts[index] = MathUtils.safeAdd(newAmounts[index], amount);
+                return new Duration<>(newAmounts, this.slots, this.negative);
+            } else {
+                int bit = (1 << slot);
+                int pos = Integer.bitCount(this.slots & (bit - 1));
+                long[] newAmounts = new long[this.amounts.length + 1];
+                System.arraycopy(this.amounts, 0, newAmounts, 0, pos);
+                newAmounts[pos] = amount;
+                System.arraycopy(this.amounts, pos, newAmounts, pos + 1, this.amounts.length - pos);
+                return new Duration<>(newAmounts, this.slots | bit, this.negative);
+            }
+        }
+
+        List<Item<U>> temp = new ArrayList<>(this.getTotalLength());
+
         if (this.isEmpty()) {
             temp.add((item == null) ? Item.of(amount, unit) : item);
             return new Duration<>(temp, negatedValue);
@@ -1671,11 +1763,22 @@ public final class Duration<U extends IsoUnit>
             return new Duration<>(this, true);
         }
 
-        List<Item<U>> newItems = new ArrayList<>(this.count());
         int scalar = Math.abs(factor);
 
-        for (int i = 0, n = this.count(); i < n; i++) {
-            Item<U> item = this.getTotalLength().get(i);
+        if (this.amounts != null) {
+            long[] newAmounts = new long[this.amounts.length];
+            for (int i = 0; i < newAmounts.length; i++) {
+                newAmounts[i] = MathUtils.safeMultiply(this.amounts[i], scalar);
+            }
+            return new Duration<>(newAmounts, this.slots, ((factor < 0) != this.isNegative()));
+        }
+
+        List<Item<U>> newItems = new ArrayList<>(this.count());
+
+        List<Item<U>> list = this.getTotalLength();
+
+        for (int i = 0, n = list.size(); i < n; i++) {
+            Item<U> item = list.get(i);
             newItems.add(
                 Item.of(
                     MathUtils.safeMultiply(item.getAmount(), scalar),
@@ -1839,7 +1942,7 @@ public final class Duration<U extends IsoUnit>
 
         List<Item<CalendarUnit>> calItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof CalendarUnit) {
                 calItems.add(Item.of(item.getAmount(), CalendarUnit.class.cast(item.getUnit())));
             }
@@ -1884,7 +1987,7 @@ public final class Duration<U extends IsoUnit>
 
         List<Item<ClockUnit>> clockItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof ClockUnit) {
                 clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             }
@@ -1930,7 +2033,7 @@ public final class Duration<U extends IsoUnit>
         List<Item<ClockUnit>> clockItems = new ArrayList<>();
         long extraHours = 0L;
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (item.getUnit() instanceof ClockUnit) {
                 clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             } else if (item.getUnit().equals(CalendarUnit.DAYS)) {
@@ -2108,7 +2211,7 @@ public final class Duration<U extends IsoUnit>
         double min = unit.getLength();
         List<Item<U>> newItems = new ArrayList<>();
 
-        for (Item<U> item : this.items) {
+        for (Item<U> item : this.getTotalLength()) {
             if (Double.compare(item.getUnit().getLength(), min) >= 0) {
                 newItems.add(item);
             } else {
@@ -2399,10 +2502,15 @@ public final class Duration<U extends IsoUnit>
             return true;
         } else if (obj instanceof Duration) {
             Duration<?> that = Duration.class.cast(obj);
-            return (
-                (this.negative == that.negative)
-                && this.getTotalLength().equals(that.getTotalLength())
-            );
+            if (this.negative != that.negative) {
+                return false;
+            } else if ((this.amounts != null) && (that.amounts != null)) {
+                return ((this.slots == that.slots) && Arrays.equals(this.amounts, that.amounts));
+            } else if ((this.amounts != null) || (that.amounts != null)) {
+                // nicht-kompakte Form enthält immer Einheiten außerhalb von COMPACT_UNITS, wenn nicht leer
+                return ((this.count() == 0) && (that.count() == 0));
+            }
+            return this.items.equals(that.items);
         } else {
             return false;
         }
@@ -2419,7 +2527,19 @@ public final class Duration<U extends IsoUnit>
     @Override
     public int hashCode() {
 
-        int hash = this.getTotalLength().hashCode();
+        int hash;
+
+        if (this.amounts != null) {
+            hash = 1; // same algorithm as in List.hashCode() and Item.hashCode()
+            for (int i = 0, bits = this.slots; bits != 0; i++, bits &= (bits - 1)) {
+                long amount = this.amounts[i];
+                int itemHash = COMPACT_UNITS[Integer.numberOfTrailingZeros(bits)].hashCode();
+                itemHash = 29 * itemHash + (int) (amount ^ (amount >>> 32));
+                hash = 31 * hash + itemHash;
+            }
+        } else {
+            hash = this.items.hashCode();
+        }
 
         if (this.negative) {
             hash ^= hash;
@@ -2556,6 +2676,46 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    /**
+     * <p>Appends the ISO-conforming representation to given buffer. </p>
+     *
+     * <p>The output is the same as in {@link #toStringISO()}, but directly written into the buffer without
+     * creating any temporary objects if all units are of type {@code CalendarUnit} or {@code ClockUnit}.
+     * In case of an exception, the buffer will remain unchanged. </p>
+     *
+     * @param   buffer      the buffer to be appended to
+     * @throws  ChronoException if this duration is negative or if any special units shall be output
+     * @see     #toStringISO()
+     * @see     #parsePeriod(CharSequence, int, int)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt die ISO-konforme Darstellung an den angegebenen Puffer an. </p>
+     *
+     * <p>Die Ausgabe ist die gleiche wie in {@link #toStringISO()}, wird aber direkt in den Puffer
+     * geschrieben, ohne tempor&auml;re Objekte zu erzeugen, wenn alle Einheiten vom Typ
+     * {@code CalendarUnit} oder {@code ClockUnit} sind. Im Fall einer Ausnahme bleibt der Puffer
+     * unver&auml;ndert. </p>
+     *
+     * @param   buffer      the buffer to be appended to
+     * @throws  ChronoException if this duration is negative or if any special units shall be output
+     * @see     #toStringISO()
+     * @see     #parsePeriod(CharSequence, int, int)
+     * @since   5.6
+     */
+    public void printISO(StringBuilder buffer) {
+
+        int start = buffer.length();
+
+        try {
+            this.print(PRINT_STYLE_ISO, buffer);
+        } catch (RuntimeException ex) {
+            buffer.setLength(start);
+            throw ex;
+        }
+
+    }
+
     /**
      * <p>Gets a canonical representation conforming to XML-schema which
      * optionally starts with a negative sign then continues with the letter
@@ -2828,6 +2988,74 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    /**
+     * <p>Parses a part of given text as canonical representation of a duration. </p>
+     *
+     * <p>This method is equivalent to {@code parsePeriod(text.subSequence(start, end).toString())} but
+     * avoids the intermediate string. The canonical formats like &quot;P1Y2M3DT4H5M6,789S&quot; or
+     * &quot;P2W&quot; are parsed directly from given text, and the only allocated array is the one
+     * which holds the amounts of the result, so this method is suitable for high-volume processing of
+     * messages containing ISO-8601-periods. The error offset of any {@code ParseException} is relative
+     * to the whole text. </p>
+     *
+     * @param   text            text containing a duration in canonical, ISO-8601-compatible or
+     *                          XML-schema-compatible format (P-string)
+     * @param   start           start index of duration in text (inclusive)
+     * @param   end             end index of duration in text (exclusive)
+     * @return  parsed duration in all possible standard units of date and time
+     * @throws  ParseException if parsing fails
+     * @throws  IndexOutOfBoundsException if the indices are out of range
+     * @see     #parsePeriod(String)
+     * @see     #printISO(StringBuilder)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Parst einen Teil des angegebenen Texts als kanonische Darstellung einer Dauer. </p>
+     *
+     * <p>Diese Methode ist &auml;quivalent zu {@code parsePeriod(text.subSequence(start, end).toString())},
+     * vermeidet aber die Zwischenzeichenkette. Die kanonischen Formate wie &quot;P1Y2M3DT4H5M6,789S&quot;
+     * oder &quot;P2W&quot; werden direkt aus dem angegebenen Text interpretiert, und das einzige dabei
+     * angelegte Array ist dasjenige, das die Betr&auml;ge des Ergebnisses enth&auml;lt, so da&szlig; diese
+     * Methode f&uuml;r die massenhafte Verarbeitung von Nachrichten mit ISO-8601-Dauern geeignet ist. Die Fehlerposition einer {@code ParseException} bezieht sich auf den ganzen Text. </p>
+     *
+     * @param   text            text containing a duration in canonical, ISO-8601-compatible or
+     *                          XML-schema-compatible format (P-string)
+     * @param   start           start index of duration in text (inclusive)
+     * @param   end             end index of duration in text (exclusive)
+     * @return  parsed duration in all possible standard units of date and time
+     * @throws  ParseException if parsing fails
+     * @throws  IndexOutOfBoundsException if the indices are out of range
+     * @see     #parsePeriod(String)
+     * @see     #printISO(StringBuilder)
+     * @since   5.6
+     */
+    public static Duration<IsoUnit> parsePeriod(
+        CharSequence text,
+        int start,
+        int end
+    ) throws ParseException {
+
+        if ((start < 0) || (end > text.length()) || (start > end)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid range [" + start + ", " + end + "] for text length: " + text.length());
+        }
+
+        Duration<IsoUnit> dur = parseCanonical(text, start, end, SUPER_TYPE);
+
+        if (dur != null) {
+            return dur;
+        }
+
+        try {
+            return parsePeriod(text.subSequence(start, end).toString(), IsoUnit.class);
+        } catch (ParseException ex) {
+            ParseException pe = new ParseException(ex.getMessage(), ex.getErrorOffset() + start);
+            pe.initCause(ex);
+            throw pe;
+        }
+
+    }
+
     /**
      * <p>Equivalent to {@link net.time4j.Duration.Formatter#ofPattern(String)}. </p>
      *
@@ -2881,16 +3109,28 @@ public final class Duration<U extends IsoUnit>
 
     private String toString(int style) {
 
+        StringBuilder sb = new StringBuilder();
+        this.print(style, sb);
+        return sb.toString();
+
+    }
+
+    private void print(
+        int style,
+        StringBuilder sb
+    ) {
+
         if ((style == PRINT_STYLE_ISO) && this.isNegative()) {
             throw new ChronoException("Negative sign not allowed in ISO-8601.");
         }
 
         if (this.isEmpty()) {
-            return "PT0S";
+            sb.append("PT0S");
+            return;
         }
 
         boolean xml = (style == PRINT_STYLE_XML);
-        StringBuilder sb = new StringBuilder();
+        int start = sb.length();
 
         if (this.isNegative()) {
             sb.append('-');
@@ -2904,15 +3144,14 @@ public final class Duration<U extends IsoUnit>
         long weeksAsDays = 0;
 
         for (int index = 0, limit = this.count(); index < limit; index++) {
-            Item<U> item = this.getTotalLength().get(index);
-            U unit = item.getUnit();
+            U unit = this.getUnit(index);
 
             if (!timeAppended && !unit.isCalendrical()) {
                 sb.append('T');
                 timeAppended = true;
             }
 
-            long amount = item.getAmount();
+            long amount = this.getAmount(index);
             char symbol = unit.getSymbol();
 
             if (unit == Weekcycle.YEARS) {
@@ -3000,11 +3239,10 @@ public final class Duration<U extends IsoUnit>
             seconds = MathUtils.safeAdd(seconds, nanos / MRD);
             sb.append(seconds);
             sb.append(xml ? '.' : ISO_DECIMAL_SEPARATOR);
-            String f = String.valueOf(nanos % MRD);
-            for (int i = 0, len = 9 - f.length(); i < len; i++) {
-                sb.append('0');
+            int f = (int) (nanos % MRD);
+            for (int divisor = 100_000_000; divisor > 0; divisor /= 10) {
+                sb.append((char) ('0' + ((f / divisor) % 10)));
             }
-            sb.append(f);
             sb.append('S');
         } else if (seconds != 0) {
             sb.append(seconds);
@@ -3015,7 +3253,7 @@ public final class Duration<U extends IsoUnit>
             boolean representable = !timeAppended;
             if (representable) {
                 for (int index = 0, limit = this.count(); index < limit; index++) {
-                    Object unit = this.getTotalLength().get(index).getUnit();
+                    Object unit = this.getUnit(index);
                     if ((unit != Weekcycle.YEARS) && (unit != CalendarUnit.WEEKS) && (unit != CalendarUnit.DAYS)) {
                         representable = false;
                         break;
@@ -3023,13 +3261,11 @@ public final class Duration<U extends IsoUnit>
                 }
             }
             if (!representable) {
-                int pos = sb.indexOf("Y");
+                int pos = sb.indexOf("Y", start);
                 sb.replace(pos, pos + 1, "{WEEK_BASED_YEARS}");
             }
         }
 
-        return sb.toString();
-
     }
 
     private static boolean hasMixedSigns(
@@ -3045,10 +3281,108 @@ public final class Duration<U extends IsoUnit>
 
     private int count() {
 
+        if (this.amounts != null) {
+            return this.amounts.length;
+        }
+
         return this.getTotalLength().size();
 
     }
 
+    // Einheit an der angegebenen Position der sortierten Elemente
+    private U getUnit(int index) {
+
+        if (this.amounts != null) {
+            int bits = this.slots;
+            for (int i = 0; i < index; i++) {
+                bits &= (bits - 1);
+            }
+            return cast(COMPACT_UNITS[Integer.numberOfTrailingZeros(bits)]);
+        }
+
+        return this.items.get(index).getUnit();
+
+    }
+
+    // Betrag an der angegebenen Position der sortierten Elemente
+    private long getAmount(int index) {
+
+        if (this.amounts != null) {
+            return this.amounts[index];
+        }
+
+        return this.items.get(index).getAmount();
+
+    }
+
+    // Position der Einheit in der kompakten Darstellung oder -1
+    private static int slot(Object unit) {
+
+        if (unit instanceof CalendarUnit) {
+            return CalendarUnit.class.cast(unit).ordinal();
+        } else if (unit instanceof ClockUnit) {
+            return 8 + ClockUnit.class.cast(unit).ordinal();
+        }
+
+        return -1;
+
+    }
+
+    // Index des Betrags zur Einheit in der kompakten Darstellung oder -1
+    private int indexOf(Object unit) {
+
+        int slot = slot(unit);
+
+        if ((slot == -1) || ((this.slots & (1 << slot)) == 0)) {
+            return -1;
+        }
+
+        return Integer.bitCount(this.slots & ((1 << slot) - 1));
+
+    }
+
+    // positive kompakte Zeitspanne aus drei Einheiten, Nullbeträge werden ignoriert
+    private static <U extends IsoUnit> Duration<U> ofCompact(
+        int a1,
+        U u1,
+        int a2,
+        U u2,
+        int a3,
+        U u3
+    ) {
+
+        if ((a1 < 0) || (a2 < 0) || (a3 < 0)) {
+            throw new IllegalArgumentException(
+                "Temporal amount must be positive or zero: " + Math.min(a1, Math.min(a2, a3)));
+        }
+
+        int bits = 0;
+        int n = 0;
+        long[] values = new long[3];
+
+        if (a1 != 0) {
+            bits |= (1 << slot(u1));
+            values[n++] = a1;
+        }
+
+        if (a2 != 0) {
+            bits |= (1 << slot(u2));
+            values[n++] = a2;
+        }
+
+        if (a3 != 0) {
+            bits |= (1 << slot(u3));
+            values[n++] = a3;
+        }
+
+        if (n == 0) {
+            return ofZero();
+        }
+
+        return new Duration<>(Arrays.copyOf(values, n), bits, false);
+
+    }
+
     // wildcard capture
     private static <U> boolean isEmpty(TimeSpan<U> timespan) {
 
@@ -3181,12 +3515,11 @@ public final class Duration<U extends IsoUnit>
         Map<U, Long> map = new HashMap<>();
 
         for (int i = 0, n = duration.count(); i < n; i++) {
-            Item<U> item = duration.getTotalLength().get(i);
             map.put(
-                item.getUnit(),
+                duration.getUnit(i),
                 Long.valueOf(
                     MathUtils.safeMultiply(
-                        item.getAmount(),
+                        duration.getAmount(i),
                         (duration.isNegative() ? -1 : 1)
                     )
                 )
@@ -3195,8 +3528,10 @@ public final class Duration<U extends IsoUnit>
 
         boolean tsign = timespan.isNegative();
 
-        for (int i = 0, n = timespan.getTotalLength().size(); i < n; i++) {
-            TimeSpan.Item<? extends U> e = timespan.getTotalLength().get(i);
+        List<? extends TimeSpan.Item<? extends U>> spanItems = timespan.getTotalLength();
+
+        for (int i = 0, n = spanItems.size(); i < n; i++) {
+            TimeSpan.Item<? extends U> e = spanItems.get(i);
             U unit = e.getUnit();
             long amount = e.getAmount();
 
@@ -3432,6 +3767,22 @@ public final class Duration<U extends IsoUnit>
         Class<U> type
     ) throws ParseException {
 
+        int typeID = SUPER_TYPE;
+
+        if (type == CalendarUnit.class) {
+            typeID = CALENDAR_TYPE;
+        } else if (type == ClockUnit.class) {
+            typeID = CLOCK_TYPE;
+        } else if (type == IsoDateUnit.class) {
+            typeID = WEEK_BASED_TYPE;
+        }
+
+        Duration<U> dur = parseCanonical(period, 0, period.length(), typeID);
+
+        if (dur != null) {
+            return dur;
+        }
+
         int index = 0;
         boolean negative = false;
 
@@ -3454,15 +3805,6 @@ public final class Duration<U extends IsoUnit>
             List<Item<U>> items = new ArrayList<>();
             int sep = period.indexOf('T', index);
             boolean calendrical = (sep == -1);
-            int typeID = SUPER_TYPE;
-
-            if (type == CalendarUnit.class) {
-                typeID = CALENDAR_TYPE;
-            } else if (type == ClockUnit.class) {
-                typeID = CLOCK_TYPE;
-            } else if (type == IsoDateUnit.class) {
-                typeID = WEEK_BASED_TYPE;
-            }
 
             if (calendrical) {
                 if (typeID == CLOCK_TYPE) {
@@ -3503,6 +3845,181 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    // schneller Pfad für kanonische Formate ohne Zwischenobjekte, liefert null, wenn der Standardweg nötig ist
+    private static <U extends IsoUnit> Duration<U> parseCanonical(
+        CharSequence text,
+        int start,
+        int end,
+        int typeID
+    ) {
+
+        if (typeID == WEEK_BASED_TYPE) {
+            return null;
+        }
+
+        int i = start;
+        boolean negative = false;
+
+        if ((i < end) && (text.charAt(i) == '-')) {
+            negative = true;
+            i++;
+        }
+
+        if ((i >= end - 1) || (text.charAt(i) != 'P')) {
+            return null;
+        }
+
+        i++;
+
+        if ((typeID == CLOCK_TYPE) && (text.charAt(i) != 'T')) {
+            return null;
+        }
+
+        int capacity = 0; // obere Schranke für die Anzahl der Beträge (Symbole und Dezimaltrennzeichen)
+
+        for (int k = i; k < end; k++) {
+            char c = text.charAt(k);
+            if (((c > '9') && (c != 'T')) || (c == ',') || (c == '.')) {
+                capacity++;
+            }
+        }
+
+        long[] amounts = null; // Beträge in aufsteigender Reihenfolge der Positionen in COMPACT_UNITS
+        int n = 0;
+        int bits = 0;
+        int last = -1;
+        boolean time = false;
+
+        while (i < end) {
+            char c = text.charAt(i);
+
+            if (c == 'T') {
+                if (time || (typeID == CALENDAR_TYPE) || (++i == end)) {
+                    return null;
+                }
+                time = true;
+                c = text.charAt(i);
+            }
+
+            int digitStart = i;
+            long amount = 0;
+
+            while ((c >= '0') && (c <= '9')) {
+                int digit = c - '0';
+                if (amount > (Long.MAX_VALUE - digit) / 10) {
+                    return null;
+                }
+                amount = amount * 10 + digit;
+                if (++i == end) {
+                    return null;
+                }
+                c = text.charAt(i);
+            }
+
+            if (i == digitStart) {
+                return null;
+            }
+
+            long nanos = 0;
+            int slot;
+
+            if (time && ((c == ',') || (c == '.'))) {
+                int fractionStart = ++i;
+                int digits = 0;
+                while ((i < end) && ((c = text.charAt(i)) >= '0') && (c <= '9')) {
+                    if (digits < 9) {
+                        nanos = nanos * 10 + (c - '0');
+                        digits++;
+                    }
+                    i++;
+                }
+                if ((i == fractionStart) || (i == end) || (c != 'S')) {
+                    return null;
+                }
+                for (; digits < 9; digits++) {
+                    nanos *= 10;
+                }
+                slot = 10;
+            } else {
+                slot = canonicalSlot(c, time);
+            }
+
+            if (slot <= last) {
+                return null; // unknown symbol, wrong order or duplicate unit
+            }
+
+            if ((amount != 0) || (nanos != 0)) {
+                if (amounts == null) {
+                    amounts = new long[capacity];
+                }
+                if (amount != 0) {
+                    amounts[n++] = amount;
+                    bits |= (1 << slot);
+                }
+                if (nanos != 0) {
+                    amounts[n++] = nanos;
+                    bits |= (1 << 13);
+                }
+            }
+
+            last = ((nanos != 0) ? 13 : slot);
+            i++;
+        }
+
+        if (bits == 0) {
+            return ofZero();
+        }
+
+        if (n < amounts.length) {
+            amounts = Arrays.copyOf(amounts, n); // nur bei Nullbeträgen
+        }
+
+        return new Duration<>(amounts, bits, negative);
+
+    }
+
+    // Position in COMPACT_UNITS für ein kanonisches Symbol oder -1
+    private static int canonicalSlot(
+        char symbol,
+        boolean time
+    ) {
+
+        if (time) {
+            switch (symbol) {
+                case 'H':
+                    return 8;
+                case 'M':
+                    return 9;
+                case 'S':
+                    return 10;
+                default:
+                    return -1;
+            }
+        }
+
+        switch (symbol) {
+            case 'I':
+                return 0;
+            case 'C':
+                return 1;
+            case 'E':
+                return 2;
+            case 'Y':
+                return 3;
+            case 'Q':
+                return 4;
+            case 'M':
+                return 5;
+            case 'W':
+                return 6;
+            case 'D':
+                return 7;
+            default:
+                return -1;
+        }
+
+    }
+
     private static <U extends ChronoUnit> boolean parse(
         String period,
         int from,
@@ -5050,8 +5567,10 @@ public final class Duration<U extends IsoUnit>
             double total = 0.0;
             boolean empty = true;
 
-            for (int i = 0, n = dur.getTotalLength().size(); i < n; i++) {
-                Item<? extends IsoUnit> item = dur.getTotalLength().get(i);
+            List<? extends Item<? extends IsoUnit>> list = dur.getTotalLength();
+
+            for (int i = 0, n = list.size(); i < n; i++) {
+                Item<? extends IsoUnit> item = list.get(i);
                 total += (item.getAmount() * item.getUnit().getLength());
                 if (item.getAmount() > 0) {
                     empty = false;
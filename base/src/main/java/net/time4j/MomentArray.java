@@ -0,0 +1,403 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MomentArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Fixed-size array of global timestamps stored as pairs of primitive {@code long}-values
+ * (POSIX-seconds and nanosecond including a leap second marker), either on the heap or
+ * off-heap. </p>
+ *
+ * <p>One element takes 16 bytes. {@code Moment}-objects are only created on request by
+ * {@link #get(int)} or the {@link #asList() list view}. Sorting and binary search work directly
+ * on the primitive data and yield the same order as {@code Moment.compareTo()}, including
+ * leap seconds. </p>
+ *
+ * <p>Instances are mutable and not thread-safe. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     PlainDateArray
+ * @see     PlainTimestampArray
+ */
+/*[deutsch]
+ * <p>Array fester Gr&ouml;&szlig;e f&uuml;r globale Zeitstempel, die als Paare primitiver
+ * {@code long}-Werte (POSIX-Sekunden und Nanosekunde einschlie&szlig;lich einer
+ * Schaltsekundenmarkierung) entweder im Heap oder au&szlig;erhalb des Heap gespeichert
+ * werden. </p>
+ *
+ * <p>Ein Element belegt 16 Bytes. {@code Moment}-Objekte werden erst auf Anfrage mit
+ * {@link #get(int)} oder der {@link #asList() Listensicht} erzeugt. Sortieren und bin&auml;re
+ * Suche arbeiten direkt auf den primitiven Daten und ergeben dieselbe Reihenfolge wie
+ * {@code Moment.compareTo()}, Schaltsekunden eingeschlossen. </p>
+ *
+ * <p>Instanzen sind ver&auml;nderlich und nicht thread-sicher. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     PlainDateArray
+ * @see     PlainTimestampArray
+ */
+public final class MomentArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PackedLongs data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MomentArray(PackedLongs data) {
+        super();
+
+        this.data = data;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new heap-based array with all elements set to the UNIX epoch. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array im Heap mit der UNIX-Epoche in allen Elementen. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    public static MomentArray allocate(int size) {
+
+        return new MomentArray(PackedLongs.allocate(size, 2, false));
+
+    }
+
+    /**
+     * <p>Creates a new off-heap array with all elements set to the UNIX epoch. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array backed by a direct buffer
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array au&szlig;erhalb des Heap mit der UNIX-Epoche in allen
+     * Elementen. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array backed by a direct buffer
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    public static MomentArray allocateDirect(int size) {
+
+        return new MomentArray(PackedLongs.allocate(size, 2, true));
+
+    }
+
+    /**
+     * <p>Creates a new heap-based array with copies of given moments. </p>
+     *
+     * @param   moments     global timestamps to be copied
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array im Heap mit Kopien der angegebenen Momente. </p>
+     *
+     * @param   moments     global timestamps to be copied
+     * @return  new array
+     */
+    public static MomentArray of(Moment... moments) {
+
+        MomentArray array = allocate(moments.length);
+
+        for (int i = 0; i < moments.length; i++) {
+            array.set(i, moments[i]);
+        }
+
+        return array;
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.data.size();
+
+    }
+
+    /**
+     * <p>Is this array stored outside of the heap? </p>
+     *
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Liegt dieses Array au&szlig;erhalb des Heap? </p>
+     *
+     * @return  boolean
+     */
+    public boolean isDirect() {
+
+        return this.data.isDirect();
+
+    }
+
+    /**
+     * <p>Creates the moment at given index. </p>
+     *
+     * <p>Leap seconds can only be restored if they are still registered. </p>
+     *
+     * @param   index   element index
+     * @return  Moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt den Moment am angegebenen Index. </p>
+     *
+     * <p>Schaltsekunden k&ouml;nnen nur wiederhergestellt werden, wenn sie noch registriert
+     * sind. </p>
+     *
+     * @param   index   element index
+     * @return  Moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public Moment get(int index) {
+
+        long posix = this.data.get(index, 0);
+        int fraction = (int) this.data.get(index, 1);
+
+        if (fraction >= MRD) {
+            return Moment.of(posix, fraction - MRD, TimeScale.POSIX).plus(1, SI.SECONDS);
+        } else {
+            return Moment.of(posix, fraction, TimeScale.POSIX);
+        }
+
+    }
+
+    /**
+     * <p>Replaces the moment at given index. </p>
+     *
+     * @param   index   element index
+     * @param   moment  new global timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt den Moment am angegebenen Index. </p>
+     *
+     * @param   index   element index
+     * @param   moment  new global timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(
+        int index,
+        Moment moment
+    ) {
+
+        long fraction = fraction(moment);
+        this.data.set(index, 0, moment.getPosixTime());
+        this.data.set(index, 1, fraction);
+
+    }
+
+    /**
+     * <p>Yields the POSIX-seconds of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  elapsed POSIX-seconds since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getPosixTime()
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Sekunden des Elements am angegebenen Index, ohne ein Objekt zu
+     * erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  elapsed POSIX-seconds since UNIX epoch
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getPosixTime()
+     */
+    public long getPosixTime(int index) {
+
+        return this.data.get(index, 0);
+
+    }
+
+    /**
+     * <p>Yields the nanosecond of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  nanosecond fraction ({@code 0 - 999,999,999})
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getNanosecond()
+     */
+    /*[deutsch]
+     * <p>Liefert die Nanosekunde des Elements am angegebenen Index, ohne ein Objekt zu
+     * erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  nanosecond fraction ({@code 0 - 999,999,999})
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getNanosecond()
+     */
+    public int getNanosecond(int index) {
+
+        return (int) (this.data.get(index, 1) % MRD);
+
+    }
+
+    /**
+     * <p>Queries if the element at given index is a leap second without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#isLeapSecond()
+     */
+    /*[deutsch]
+     * <p>Ist das Element am angegebenen Index eine Schaltsekunde? Es wird kein Objekt
+     * erzeugt. </p>
+     *
+     * @param   index   element index
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#isLeapSecond()
+     */
+    public boolean isLeapSecond(int index) {
+
+        return (this.data.get(index, 1) >= MRD);
+
+    }
+
+    /**
+     * <p>Sorts all elements in ascending order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente aufsteigend. </p>
+     */
+    public void sort() {
+
+        this.data.sort();
+
+    }
+
+    /**
+     * <p>Searches given moment in this sorted array. </p>
+     *
+     * @param   moment  global timestamp to be searched
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     * @see     #sort()
+     */
+    /*[deutsch]
+     * <p>Sucht den angegebenen Moment in diesem sortierten Array. </p>
+     *
+     * @param   moment  global timestamp to be searched
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     * @see     #sort()
+     */
+    public int binarySearch(Moment moment) {
+
+        return this.data.binarySearch(moment.getPosixTime(), fraction(moment));
+
+    }
+
+    /**
+     * <p>Yields a modifiable list view which creates {@code Moment}-objects only on access. </p>
+     *
+     * @return  list view of fixed size (writes through)
+     */
+    /*[deutsch]
+     * <p>Liefert eine ver&auml;nderbare Listensicht, die {@code Moment}-Objekte erst beim
+     * Zugriff erzeugt. </p>
+     *
+     * @return  list view of fixed size (writes through)
+     */
+    public List<Moment> asList() {
+
+        return new ListView();
+
+    }
+
+    // Schaltsekunden folgen allen Nanosekunden der vorangehenden Sekunde mit gleicher POSIX-Zeit
+    private static long fraction(Moment moment) {
+
+        int nano = moment.getNanosecond();
+        return (moment.isLeapSecond() ? nano + MRD : nano);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private class ListView
+        extends AbstractList<Moment>
+        implements RandomAccess {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Moment get(int index) {
+
+            return MomentArray.this.get(index);
+
+        }
+
+        @Override
+        public Moment set(
+            int index,
+            Moment element
+        ) {
+
+            Moment old = MomentArray.this.get(index);
+            MomentArray.this.set(index, element);
+            return old;
+
+        }
+
+        @Override
+        public int size() {
+
+            return MomentArray.this.size();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PackedLongs.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+
+/**
+ * <p>Gemeinsamer Speicher der primitiven Zeitwert-Arrays, in dem jedes Element aus einer festen
+ * Anzahl von long-Werten besteht, die lexikalisch (mit Vorzeichen) sortiert werden. </p>
+ *
+ * <p>Der Speicher ist entweder ein {@code long[]} im Heap oder ein direkter {@code ByteBuffer}
+ * au&szlig;erhalb des Heap. Er ist nicht thread-sicher. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class PackedLongs {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final LongBuffer data;
+    private final int slots;
+    private final int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PackedLongs(
+        LongBuffer data,
+        int slots,
+        int size
+    ) {
+        super();
+
+        this.data = data;
+        this.slots = slots;
+        this.size = size;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Reserviert einen neuen mit Nullen gef&uuml;llten Speicher. </p>
+     *
+     * @param   size    count of elements
+     * @param   slots   count of long values per element (1 or 2)
+     * @param   direct  off-heap memory?
+     * @return  new storage
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    static PackedLongs allocate(
+        int size,
+        int slots,
+        boolean direct
+    ) {
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+
+        long count = (long) size * slots;
+        LongBuffer data;
+
+        if (direct) {
+            if (count > Integer.MAX_VALUE / 8) {
+                throw new IllegalArgumentException("Size too big for direct memory: " + size);
+            }
+            data = ByteBuffer.allocateDirect((int) count * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+        } else {
+            if (count > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Size too big: " + size);
+            }
+            data = LongBuffer.wrap(new long[(int) count]);
+        }
+
+        return new PackedLongs(data, slots, size);
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Liegt der Speicher au&szlig;erhalb des Heap? </p>
+     *
+     * @return  boolean
+     */
+    boolean isDirect() {
+
+        return this.data.isDirect();
+
+    }
+
+    /**
+     * <p>Liefert den angegebenen Teilwert eines Elements. </p>
+     *
+     * @param   index   element index
+     * @param   slot    index of long value in element
+     * @return  long
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    long get(
+        int index,
+        int slot
+    ) {
+
+        this.check(index);
+        return this.data.get(index * this.slots + slot);
+
+    }
+
+    /**
+     * <p>Setzt den angegebenen Teilwert eines Elements. </p>
+     *
+     * @param   index   element index
+     * @param   slot    index of long value in element
+     * @param   value   new long value
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    void set(
+        int index,
+        int slot,
+        long value
+    ) {
+
+        this.check(index);
+        this.data.put(index * this.slots + slot, value);
+
+    }
+
+    /**
+     * <p>Setzt alle Elemente auf die angegebenen Teilwerte. </p>
+     *
+     * @param   values  long values of one element
+     */
+    void fill(long... values) {
+
+        for (int i = 0, n = this.size * this.slots; i < n; i++) {
+            this.data.put(i, values[i % this.slots]);
+        }
+
+    }
+
+    /**
+     * <p>Sortiert die Elemente aufsteigend. </p>
+     *
+     * <p>Einfache Elemente im Heap werden mit {@code Arrays.sort()} sortiert, sonst wird ein
+     * Heapsort ohne zus&auml;tzlichen Speicher verwendet. </p>
+     */
+    void sort() {
+
+        if ((this.slots == 1) && this.data.hasArray()) {
+            int offset = this.data.arrayOffset();
+            Arrays.sort(this.data.array(), offset, offset + this.size);
+            return;
+        }
+
+        for (int i = this.size / 2 - 1; i >= 0; i--) {
+            this.siftDown(i, this.size);
+        }
+
+        for (int end = this.size - 1; end > 0; end--) {
+            this.swap(0, end);
+            this.siftDown(0, end);
+        }
+
+    }
+
+    /**
+     * <p>Sucht das Element mit den angegebenen Teilwerten in sortierten Elementen. </p>
+     *
+     * @param   key     long values of searched element
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     */
+    int binarySearch(long... key) {
+
+        int low = 0;
+        int high = this.size - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = this.compare(mid, key);
+
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+
+    }
+
+    private void siftDown(
+        int root,
+        int end
+    ) {
+
+        while (true) {
+            int child = 2 * root + 1;
+
+            if (child >= end) {
+                return;
+            }
+
+            if ((child + 1 < end) && (this.compare(child, child + 1) < 0)) {
+                child++;
+            }
+
+            if (this.compare(root, child) >= 0) {
+                return;
+            }
+
+            this.swap(root, child);
+            root = child;
+        }
+
+    }
+
+    private int compare(
+        int i,
+        int j
+    ) {
+
+        int pi = i * this.slots;
+        int pj = j * this.slots;
+
+        for (int k = 0; k < this.slots; k++) {
+            int cmp = Long.compare(this.data.get(pi + k), this.data.get(pj + k));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+
+        return 0;
+
+    }
+
+    private int compare(
+        int i,
+        long[] key
+    ) {
+
+        int pi = i * this.slots;
+
+        for (int k = 0; k < this.slots; k++) {
+            int cmp = Long.compare(this.data.get(pi + k), key[k]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+
+        return 0;
+
+    }
+
+    private void swap(
+        int i,
+        int j
+    ) {
+
+        int pi = i * this.slots;
+        int pj = j * this.slots;
+
+        for (int k = 0; k < this.slots; k++) {
+            long tmp = this.data.get(pi + k);
+            this.data.put(pi + k, this.data.get(pj + k));
+            this.data.put(pj + k, tmp);
+        }
+
+    }
+
+    private void check(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index + " (size = " + this.size + ")");
+        }
+
+    }
+
+}
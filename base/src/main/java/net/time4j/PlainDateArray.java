@@ -0,0 +1,391 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainDateArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Fixed-size array of calendar dates stored as primitive {@code long}-values in the packed
+ * format of {@link GregorianMath#readYear(long)}, either on the heap or off-heap. </p>
+ *
+ * <p>One element takes eight bytes instead of a {@code PlainDate}-object and its reference.
+ * {@code PlainDate}-objects are only created on request by {@link #get(int)} or the
+ * {@link #asList() list view} while the date components can be read without any object
+ * creation. Sorting and binary search work directly on the primitive data. </p>
+ *
+ * <p>Instances are mutable and not thread-safe. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     PlainTimestampArray
+ * @see     MomentArray
+ */
+/*[deutsch]
+ * <p>Array fester Gr&ouml;&szlig;e f&uuml;r Kalenderdaten, die als primitive {@code long}-Werte
+ * im gepackten Format von {@link GregorianMath#readYear(long)} entweder im Heap oder
+ * au&szlig;erhalb des Heap gespeichert werden. </p>
+ *
+ * <p>Ein Element belegt acht Bytes statt eines {@code PlainDate}-Objekts samt Referenz.
+ * {@code PlainDate}-Objekte werden erst auf Anfrage mit {@link #get(int)} oder der
+ * {@link #asList() Listensicht} erzeugt, w&auml;hrend die Datumskomponenten ohne jede
+ * Objekterzeugung gelesen werden k&ouml;nnen. Sortieren und bin&auml;re Suche arbeiten direkt
+ * auf den primitiven Daten. </p>
+ *
+ * <p>Instanzen sind ver&auml;nderlich und nicht thread-sicher. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     PlainTimestampArray
+ * @see     MomentArray
+ */
+public final class PlainDateArray {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PackedLongs data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PlainDateArray(PackedLongs data) {
+        super();
+
+        this.data = data;
+        this.data.fill(pack(1970, 1, 1));
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new heap-based array with all elements set to the date 1970-01-01. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array im Heap mit dem Datum 1970-01-01 in allen Elementen. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    public static PlainDateArray allocate(int size) {
+
+        return new PlainDateArray(PackedLongs.allocate(size, 1, false));
+
+    }
+
+    /**
+     * <p>Creates a new off-heap array with all elements set to the date 1970-01-01. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array backed by a direct buffer
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array au&szlig;erhalb des Heap mit dem Datum 1970-01-01 in allen
+     * Elementen. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array backed by a direct buffer
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    public static PlainDateArray allocateDirect(int size) {
+
+        return new PlainDateArray(PackedLongs.allocate(size, 1, true));
+
+    }
+
+    /**
+     * <p>Creates a new heap-based array with copies of given dates. </p>
+     *
+     * @param   dates   calendar dates to be copied
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array im Heap mit Kopien der angegebenen Kalenderdaten. </p>
+     *
+     * @param   dates   calendar dates to be copied
+     * @return  new array
+     */
+    public static PlainDateArray of(PlainDate... dates) {
+
+        PlainDateArray array = allocate(dates.length);
+
+        for (int i = 0; i < dates.length; i++) {
+            array.set(i, dates[i]);
+        }
+
+        return array;
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.data.size();
+
+    }
+
+    /**
+     * <p>Is this array stored outside of the heap? </p>
+     *
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Liegt dieses Array au&szlig;erhalb des Heap? </p>
+     *
+     * @return  boolean
+     */
+    public boolean isDirect() {
+
+        return this.data.isDirect();
+
+    }
+
+    /**
+     * <p>Creates the calendar date at given index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt das Kalenderdatum am angegebenen Index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainDate get(int index) {
+
+        long packed = this.data.get(index, 0);
+
+        return PlainDate.of(
+            GregorianMath.readYear(packed),
+            GregorianMath.readMonth(packed),
+            GregorianMath.readDayOfMonth(packed));
+
+    }
+
+    /**
+     * <p>Replaces the calendar date at given index. </p>
+     *
+     * @param   index   element index
+     * @param   date    new calendar date
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt das Kalenderdatum am angegebenen Index. </p>
+     *
+     * @param   index   element index
+     * @param   date    new calendar date
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(
+        int index,
+        PlainDate date
+    ) {
+
+        this.data.set(index, 0, pack(date));
+
+    }
+
+    /**
+     * <p>Yields the year of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  proleptic iso year
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Jahr des Elements am angegebenen Index, ohne ein Objekt zu erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  proleptic iso year
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getYear(int index) {
+
+        return GregorianMath.readYear(this.data.get(index, 0));
+
+    }
+
+    /**
+     * <p>Yields the month of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  gregorian month (1-12)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Monat des Elements am angegebenen Index, ohne ein Objekt zu erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  gregorian month (1-12)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getMonth(int index) {
+
+        return GregorianMath.readMonth(this.data.get(index, 0));
+
+    }
+
+    /**
+     * <p>Yields the day of month of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  day of month (1-31)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Tag des Monats des Elements am angegebenen Index, ohne ein Objekt zu
+     * erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  day of month (1-31)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getDayOfMonth(int index) {
+
+        return GregorianMath.readDayOfMonth(this.data.get(index, 0));
+
+    }
+
+    /**
+     * <p>Sorts all elements in ascending order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente aufsteigend. </p>
+     */
+    public void sort() {
+
+        this.data.sort();
+
+    }
+
+    /**
+     * <p>Searches given date in this sorted array. </p>
+     *
+     * @param   date    calendar date to be searched
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     * @see     #sort()
+     */
+    /*[deutsch]
+     * <p>Sucht das angegebene Datum in diesem sortierten Array. </p>
+     *
+     * @param   date    calendar date to be searched
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     * @see     #sort()
+     */
+    public int binarySearch(PlainDate date) {
+
+        return this.data.binarySearch(pack(date));
+
+    }
+
+    /**
+     * <p>Yields a modifiable list view which creates {@code PlainDate}-objects only on access. </p>
+     *
+     * @return  list view of fixed size (writes through)
+     */
+    /*[deutsch]
+     * <p>Liefert eine ver&auml;nderbare Listensicht, die {@code PlainDate}-Objekte erst beim
+     * Zugriff erzeugt. </p>
+     *
+     * @return  list view of fixed size (writes through)
+     */
+    public List<PlainDate> asList() {
+
+        return new ListView();
+
+    }
+
+    // Format wie GregorianMath.toPackedDate(long)
+    static long pack(PlainDate date) {
+
+        return pack(date.getYear(), date.getMonth(), date.getDayOfMonth());
+
+    }
+
+    private static long pack(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return (((long) year) << 32) | (month << 16) | dayOfMonth;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private class ListView
+        extends AbstractList<PlainDate>
+        implements RandomAccess {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate get(int index) {
+
+            return PlainDateArray.this.get(index);
+
+        }
+
+        @Override
+        public PlainDate set(
+            int index,
+            PlainDate element
+        ) {
+
+            PlainDate old = PlainDateArray.this.get(index);
+            PlainDateArray.this.set(index, element);
+            return old;
+
+        }
+
+        @Override
+        public int size() {
+
+            return PlainDateArray.this.size();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,454 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PlainTimestampArray.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Fixed-size array of local timestamps stored as pairs of primitive {@code long}-values
+ * (packed date as in {@link PlainDateArray} and nanosecond of day), either on the heap or
+ * off-heap. </p>
+ *
+ * <p>One element takes 16 bytes instead of three objects ({@code PlainTimestamp} with its date
+ * and wall time). {@code PlainTimestamp}-objects are only created on request by
+ * {@link #get(int)} or the {@link #asList() list view}. Sorting and binary search work directly
+ * on the primitive data. </p>
+ *
+ * <p>Instances are mutable and not thread-safe. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     PlainDateArray
+ * @see     MomentArray
+ */
+/*[deutsch]
+ * <p>Array fester Gr&ouml;&szlig;e f&uuml;r lokale Zeitstempel, die als Paare primitiver
+ * {@code long}-Werte (gepacktes Datum wie in {@link PlainDateArray} und Nanosekunde des Tages)
+ * entweder im Heap oder au&szlig;erhalb des Heap gespeichert werden. </p>
+ *
+ * <p>Ein Element belegt 16 Bytes statt dreier Objekte ({@code PlainTimestamp} mit Datum und
+ * Uhrzeit). {@code PlainTimestamp}-Objekte werden erst auf Anfrage mit {@link #get(int)} oder
+ * der {@link #asList() Listensicht} erzeugt. Sortieren und bin&auml;re Suche arbeiten direkt
+ * auf den primitiven Daten. </p>
+ *
+ * <p>Instanzen sind ver&auml;nderlich und nicht thread-sicher. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     PlainDateArray
+ * @see     MomentArray
+ */
+public final class PlainTimestampArray {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MRD = 1000000000L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PackedLongs data;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PlainTimestampArray(PackedLongs data) {
+        super();
+
+        this.data = data;
+        this.data.fill(PlainDateArray.pack(PlainDate.of(1970, 1, 1)), 0L);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new heap-based array with all elements set to 1970-01-01T00:00. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array im Heap mit 1970-01-01T00:00 in allen Elementen. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    public static PlainTimestampArray allocate(int size) {
+
+        return new PlainTimestampArray(PackedLongs.allocate(size, 2, false));
+
+    }
+
+    /**
+     * <p>Creates a new off-heap array with all elements set to 1970-01-01T00:00. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array backed by a direct buffer
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array au&szlig;erhalb des Heap mit 1970-01-01T00:00 in allen
+     * Elementen. </p>
+     *
+     * @param   size    count of elements
+     * @return  new array backed by a direct buffer
+     * @throws  IllegalArgumentException if size is negative or too big
+     */
+    public static PlainTimestampArray allocateDirect(int size) {
+
+        return new PlainTimestampArray(PackedLongs.allocate(size, 2, true));
+
+    }
+
+    /**
+     * <p>Creates a new heap-based array with copies of given timestamps. </p>
+     *
+     * @param   timestamps  local timestamps to be copied
+     * @return  new array
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Array im Heap mit Kopien der angegebenen Zeitstempel. </p>
+     *
+     * @param   timestamps  local timestamps to be copied
+     * @return  new array
+     */
+    public static PlainTimestampArray of(PlainTimestamp... timestamps) {
+
+        PlainTimestampArray array = allocate(timestamps.length);
+
+        for (int i = 0; i < timestamps.length; i++) {
+            array.set(i, timestamps[i]);
+        }
+
+        return array;
+
+    }
+
+    /**
+     * <p>Yields the count of elements. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Elemente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.data.size();
+
+    }
+
+    /**
+     * <p>Is this array stored outside of the heap? </p>
+     *
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Liegt dieses Array au&szlig;erhalb des Heap? </p>
+     *
+     * @return  boolean
+     */
+    public boolean isDirect() {
+
+        return this.data.isDirect();
+
+    }
+
+    /**
+     * <p>Creates the local timestamp at given index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainTimestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt den lokalen Zeitstempel am angegebenen Index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainTimestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainTimestamp get(int index) {
+
+        return PlainTimestamp.of(this.getCalendarDate(index), this.getWallTime(index));
+
+    }
+
+    /**
+     * <p>Replaces the local timestamp at given index. </p>
+     *
+     * @param   index       element index
+     * @param   timestamp   new local timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Ersetzt den lokalen Zeitstempel am angegebenen Index. </p>
+     *
+     * @param   index       element index
+     * @param   timestamp   new local timestamp
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(
+        int index,
+        PlainTimestamp timestamp
+    ) {
+
+        long nanoOfDay = nanoOfDay(timestamp.getWallTime());
+        this.data.set(index, 0, PlainDateArray.pack(timestamp.getCalendarDate()));
+        this.data.set(index, 1, nanoOfDay);
+
+    }
+
+    /**
+     * <p>Creates only the calendar date of the element at given index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt nur das Kalenderdatum des Elements am angegebenen Index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainDate
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainDate getCalendarDate(int index) {
+
+        long packed = this.data.get(index, 0);
+
+        return PlainDate.of(
+            GregorianMath.readYear(packed),
+            GregorianMath.readMonth(packed),
+            GregorianMath.readDayOfMonth(packed));
+
+    }
+
+    /**
+     * <p>Creates only the wall time of the element at given index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainTime
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt nur die Uhrzeit des Elements am angegebenen Index. </p>
+     *
+     * @param   index   element index
+     * @return  PlainTime
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public PlainTime getWallTime(int index) {
+
+        long nanoOfDay = this.data.get(index, 1);
+        int secs = (int) (nanoOfDay / MRD);
+        return PlainTime.of(secs / 3600, (secs / 60) % 60, secs % 60, (int) (nanoOfDay % MRD));
+
+    }
+
+    /**
+     * <p>Yields the year of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  proleptic iso year
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Jahr des Elements am angegebenen Index, ohne ein Objekt zu erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  proleptic iso year
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getYear(int index) {
+
+        return GregorianMath.readYear(this.data.get(index, 0));
+
+    }
+
+    /**
+     * <p>Yields the month of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  gregorian month (1-12)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Monat des Elements am angegebenen Index, ohne ein Objekt zu erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  gregorian month (1-12)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getMonth(int index) {
+
+        return GregorianMath.readMonth(this.data.get(index, 0));
+
+    }
+
+    /**
+     * <p>Yields the day of month of the element at given index without creating any object. </p>
+     *
+     * @param   index   element index
+     * @return  day of month (1-31)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Tag des Monats des Elements am angegebenen Index, ohne ein Objekt zu
+     * erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  day of month (1-31)
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getDayOfMonth(int index) {
+
+        return GregorianMath.readDayOfMonth(this.data.get(index, 0));
+
+    }
+
+    /**
+     * <p>Yields the nanosecond of day of the element at given index without creating any
+     * object. </p>
+     *
+     * @param   index   element index
+     * @return  nanosecond of day ({@code 0 <= x < 86400 * 10^9})
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Nanosekunde des Tages des Elements am angegebenen Index, ohne ein Objekt
+     * zu erzeugen. </p>
+     *
+     * @param   index   element index
+     * @return  nanosecond of day ({@code 0 <= x < 86400 * 10^9})
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getNanoOfDay(int index) {
+
+        return this.data.get(index, 1);
+
+    }
+
+    /**
+     * <p>Sorts all elements in ascending order. </p>
+     */
+    /*[deutsch]
+     * <p>Sortiert alle Elemente aufsteigend. </p>
+     */
+    public void sort() {
+
+        this.data.sort();
+
+    }
+
+    /**
+     * <p>Searches given timestamp in this sorted array. </p>
+     *
+     * @param   timestamp   local timestamp to be searched
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     * @see     #sort()
+     */
+    /*[deutsch]
+     * <p>Sucht den angegebenen Zeitstempel in diesem sortierten Array. </p>
+     *
+     * @param   timestamp   local timestamp to be searched
+     * @return  index or {@code (-(insertion point) - 1)} as in {@code Arrays.binarySearch()}
+     * @see     #sort()
+     */
+    public int binarySearch(PlainTimestamp timestamp) {
+
+        return this.data.binarySearch(
+            PlainDateArray.pack(timestamp.getCalendarDate()),
+            nanoOfDay(timestamp.getWallTime()));
+
+    }
+
+    /**
+     * <p>Yields a modifiable list view which creates {@code PlainTimestamp}-objects only on
+     * access. </p>
+     *
+     * @return  list view of fixed size (writes through)
+     */
+    /*[deutsch]
+     * <p>Liefert eine ver&auml;nderbare Listensicht, die {@code PlainTimestamp}-Objekte erst
+     * beim Zugriff erzeugt. </p>
+     *
+     * @return  list view of fixed size (writes through)
+     */
+    public List<PlainTimestamp> asList() {
+
+        return new ListView();
+
+    }
+
+    private static long nanoOfDay(PlainTime time) {
+
+        long secs = time.getHour() * 3600L + time.getMinute() * 60L + time.getSecond();
+        return secs * MRD + time.getNanosecond();
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private class ListView
+        extends AbstractList<PlainTimestamp>
+        implements RandomAccess {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTimestamp get(int index) {
+
+            return PlainTimestampArray.this.get(index);
+
+        }
+
+        @Override
+        public PlainTimestamp set(
+            int index,
+            PlainTimestamp element
+        ) {
+
+            PlainTimestamp old = PlainTimestampArray.this.get(index);
+            PlainTimestampArray.this.set(index, element);
+            return old;
+
+        }
+
+        @Override
+        public int size() {
+
+            return PlainTimestampArray.this.size();
+
+        }
+
+    }
+
+}
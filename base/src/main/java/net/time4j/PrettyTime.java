@@ -38,6 +38,7 @@ import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -115,6 +116,12 @@ public final class PrettyTime {
     private static final Set<IsoUnit> SUPPORTED_UNITS;
     private static final long START_1972;
 
+    private static final TextWidth[] WIDTHS = TextWidth.values();
+    private static final int KIND_PAST = WIDTHS.length;
+    private static final int KIND_FUTURE = KIND_PAST + 1;
+    private static final int CATEGORY_COUNT = PluralCategory.values().length;
+    private static final int UNIT_COUNT = 10; // YEARS, MONTHS, WEEKS, DAYS and all clock units
+
     static {
         IsoUnit[] stdUnits = {YEARS, MONTHS, WEEKS, DAYS, HOURS, MINUTES, SECONDS};
         STD_UNITS = stdUnits;
@@ -139,6 +146,7 @@ public final class PrettyTime {
     private final boolean shortStyle;
     private final String stdListSeparator;
     private final String endListSeparator;
+    private final Template[] templates; // cache with index by kind, plural category and unit
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -162,7 +170,7 @@ public final class PrettyTime {
         }
 
         // throws NPE if language == null
-        this.rules = PluralRules.of(loc, NumberType.CARDINALS);
+        this.rules = PluralRules.ofCompiled(loc, NumberType.CARDINALS);
         this.locale = loc;
         this.refClock = refClock;
         this.zeroDigit = zeroDigit;
@@ -172,6 +180,7 @@ public final class PrettyTime {
         this.shortStyle = shortStyle;
         this.stdListSeparator = stdListSeparator;
         this.endListSeparator = endListSeparator;
+        this.templates = new Template[(KIND_FUTURE + 1) * CATEGORY_COUNT * UNIT_COUNT];
 
     }
 
@@ -810,7 +819,6 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        UnitPatterns p = UnitPatterns.of(this.locale);
         CalendarUnit u;
 
         switch (unit) {
@@ -851,8 +859,7 @@ public final class PrettyTime {
                 throw new UnsupportedOperationException(unit.name());
         }
 
-        String pattern = p.getPattern(width, this.getCategory(amount), u);
-        return this.format(pattern, amount);
+        return this.format(this.getTemplate(width.ordinal(), amount, u), amount);
 
     }
 
@@ -882,8 +889,7 @@ public final class PrettyTime {
         TextWidth width
     ) {
 
-        String pattern = UnitPatterns.of(this.locale).getPattern(width, this.getCategory(amount), unit);
-        return this.format(pattern, amount);
+        return this.format(this.getTemplate(width.ordinal(), amount, unit), amount);
 
     }
 
@@ -990,6 +996,64 @@ public final class PrettyTime {
 
     }
 
+    /**
+     * <p>Formats the total given duration and appends the result to given buffer. </p>
+     *
+     * <p>The output is the same as in {@link #print(Duration, TextWidth)}. However, a duration which
+     * consists of only one (non-zero) item will be written directly into the buffer using pre-split
+     * unit patterns without any intermediate strings. </p>
+     *
+     * @param   duration    object representing a duration which might contain several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer      the buffer to be appended to
+     * @throws  IOException if writing to the buffer fails
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert die gesamte angegebene Dauer und h&auml;ngt das Ergebnis an den angegebenen
+     * Puffer an. </p>
+     *
+     * <p>Die Ausgabe ist die gleiche wie in {@link #print(Duration, TextWidth)}. Eine Dauer, die aus nur
+     * einem (von null verschiedenen) Element besteht, wird jedoch mit Hilfe vorab zerlegter Einheitsmuster
+     * ohne Zwischenzeichenketten direkt in den Puffer geschrieben. </p>
+     *
+     * @param   duration    object representing a duration which might contain several units and quantities
+     * @param   width       text width (ABBREVIATED as synonym for SHORT)
+     * @param   buffer      the buffer to be appended to
+     * @throws  IOException if writing to the buffer fails
+     * @since   5.6
+     */
+    public void print(
+        Duration<?> duration,
+        TextWidth width,
+        Appendable buffer
+    ) throws IOException {
+
+        List<? extends TimeSpan.Item<? extends IsoUnit>> items = duration.getTotalLength();
+
+        if (items.size() == 1) {
+            TimeSpan.Item<? extends IsoUnit> item = items.get(0);
+            IsoUnit unit = item.getUnit();
+            long amount = item.getAmount();
+
+            if (
+                (amount > 0)
+                && (this.getUnitIndex(unit) != -1)
+                && !(this.weekToDays && (unit == CalendarUnit.WEEKS))
+                && (unit != MILLIS)
+                && (unit != MICROS)
+                && (unit != NANOS)
+            ) {
+                long value = (duration.isNegative() ? MathUtils.safeNegate(amount) : amount);
+                this.print(this.getTemplate(width.ordinal(), value, unit), value, buffer);
+                return;
+            }
+        }
+
+        buffer.append(this.print(duration, width, false, Integer.MAX_VALUE));
+
+    }
+
     /**
      * <p>Short-cut for {@code print(Duration.from(threeten), width)}. </p>
      *
@@ -1424,6 +1488,61 @@ public final class PrettyTime {
 
     }
 
+    /**
+     * <p>Formats given time point relative to the current time of {@link #getReferenceClock()}
+     * as duration in given precision or less and appends the result to given buffer. </p>
+     *
+     * <p>The output is the same as in {@link #printRelative(UnixTime, Timezone, TimeUnit)}, but the
+     * unit patterns are pre-split and cached per instance so the result will be written directly into
+     * the buffer without any intermediate strings. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @param   buffer      the buffer to be appended to
+     * @throws  IOException if writing to the buffer fails
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Formatiert den angegebenen Zeitpunkt relativ zur aktuellen Zeit der Referenzuhr
+     * {@link #getReferenceClock()} als Dauer in der angegebenen maximalen Genauigkeit und
+     * h&auml;ngt das Ergebnis an den angegebenen Puffer an. </p>
+     *
+     * <p>Die Ausgabe ist die gleiche wie in {@link #printRelative(UnixTime, Timezone, TimeUnit)}, aber
+     * die Einheitsmuster werden vorab zerlegt und pro Instanz zwischengespeichert, so da&szlig; das
+     * Ergebnis ohne Zwischenzeichenketten direkt in den Puffer geschrieben wird. </p>
+     *
+     * @param   moment      relative time point
+     * @param   tz          time zone for translating to a local duration
+     * @param   precision   maximum precision of relative time (not more than seconds)
+     * @param   buffer      the buffer to be appended to
+     * @throws  IOException if writing to the buffer fails
+     * @since   5.6
+     */
+    public void printRelative(
+        UnixTime moment,
+        Timezone tz,
+        TimeUnit precision,
+        Appendable buffer
+    ) throws IOException {
+
+        UnixTime ref = this.getReferenceClock().currentTime();
+        Moment t1 = Moment.from(ref);
+        Moment t2 = Moment.from(moment);
+
+        if (precision.compareTo(TimeUnit.SECONDS) <= 0) {
+            long delta = t1.until(t2, TimeUnit.SECONDS);
+
+            if (Math.abs(delta) < 60L) {
+                this.printRelativeSeconds(t1, t2, delta, buffer);
+                return;
+            }
+        }
+
+        this.printRelativeTime(t1, t2, tz, precision, null, null, buffer);
+
+    }
+
     /**
      * <p>Formats given time point relative to the current time of {@link #getReferenceClock()}
      * as duration in given precision or as absolute date-time. </p>
@@ -1596,11 +1715,8 @@ public final class PrettyTime {
             }
         }
 
-        String pattern = (
-            duration.isNegative()
-            ? this.getPastPattern(amount, unit)
-            : this.getFuturePattern(amount, unit));
-        return this.format(pattern, amount);
+        Template template = this.getTemplate((duration.isNegative() ? KIND_PAST : KIND_FUTURE), amount, unit);
+        return this.format(template, amount);
 
     }
 
@@ -1610,18 +1726,35 @@ public final class PrettyTime {
         long delta
     ) {
 
+        StringBuilder sb = new StringBuilder();
+
+        try {
+            this.printRelativeSeconds(t1, t2, delta, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return sb.toString();
+
+    }
+
+    private void printRelativeSeconds(
+        Moment t1,
+        Moment t2,
+        long delta,
+        Appendable buffer
+    ) throws IOException {
+
         if (t1.getPosixTime() >= START_1972 && t2.getPosixTime() >= START_1972) {
             delta = SI.SECONDS.between(t1, t2); // leap second correction
         }
         if (delta == 0) {
-            return UnitPatterns.of(this.locale).getNowWord();
+            buffer.append(UnitPatterns.of(this.locale).getNowWord());
+            return;
         }
         long amount = Math.abs(delta);
-        String pattern = (
-            (delta < 0)
-            ? this.getPastPattern(amount, ClockUnit.SECONDS)
-            : this.getFuturePattern(amount, ClockUnit.SECONDS));
-        return this.format(pattern, amount);
+        Template template = this.getTemplate(((delta < 0) ? KIND_PAST : KIND_FUTURE), amount, ClockUnit.SECONDS);
+        this.print(template, amount, buffer);
 
     }
 
@@ -1634,6 +1767,28 @@ public final class PrettyTime {
         TemporalFormatter<Moment> formatter
     ) {
 
+        StringBuilder sb = new StringBuilder();
+
+        try {
+            this.printRelativeTime(ref, moment, tz, precision, maxRelativeUnit, formatter, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+
+        return sb.toString();
+
+    }
+
+    private void printRelativeTime(
+        Moment ref,
+        Moment moment,
+        Timezone tz,
+        TimeUnit precision,
+        CalendarUnit maxRelativeUnit,
+        TemporalFormatter<Moment> formatter,
+        Appendable buffer
+    ) throws IOException {
+
         PlainTimestamp start =
             PlainTimestamp.from(
                 ref,
@@ -1647,7 +1802,8 @@ public final class PrettyTime {
         Duration<IsoUnit> duration = Duration.in(tz, units).between(start, end);
 
         if (duration.isEmpty()) {
-            return this.getEmptyRelativeString(precision);
+            buffer.append(this.getEmptyRelativeString(precision));
+            return;
         }
 
         TimeSpan.Item<IsoUnit> item = duration.getTotalLength().get(0);
@@ -1656,42 +1812,26 @@ public final class PrettyTime {
 
         if (unit instanceof ClockUnit) {
             if (5 - ((ClockUnit) unit).ordinal() < precision.ordinal()) {
-                return this.getEmptyRelativeString(precision);
+                buffer.append(this.getEmptyRelativeString(precision));
+                return;
             }
         } else if (
             (maxRelativeUnit != null)
             && (Double.compare(unit.getLength(), maxRelativeUnit.getLength()) > 0)
         ) {
-            return formatter.format(moment);
+            buffer.append(formatter.format(moment));
+            return;
         } else if (unit.equals(CalendarUnit.DAYS)) {
             String replacement = this.getRelativeReplacement(end.toDate(), duration.isNegative(), amount);
 
             if (!replacement.isEmpty()) {
-                return replacement;
-            }
-        }
-
-        String pattern;
-
-        if (duration.isNegative()) {
-            if (unit.isCalendrical()) {
-                assert (unit instanceof CalendarUnit);
-                pattern = this.getPastPattern(amount, (CalendarUnit) unit);
-            } else {
-                assert (unit instanceof ClockUnit);
-                pattern = this.getPastPattern(amount, (ClockUnit) unit);
-            }
-        } else {
-            if (unit.isCalendrical()) {
-                assert (unit instanceof CalendarUnit);
-                pattern = this.getFuturePattern(amount, (CalendarUnit) unit);
-            } else {
-                assert (unit instanceof ClockUnit);
-                pattern = this.getFuturePattern(amount, (ClockUnit) unit);
+                buffer.append(replacement);
+                return;
             }
         }
 
-        return this.format(pattern, amount);
+        Template template = this.getTemplate((duration.isNegative() ? KIND_PAST : KIND_FUTURE), amount, unit);
+        this.print(template, amount, buffer);
 
     }
 
@@ -1732,47 +1872,60 @@ public final class PrettyTime {
 
     }
 
-    private String getPastPattern(
+    private Template getTemplate(
+        int kind,
         long amount,
-        CalendarUnit unit
+        IsoUnit unit
     ) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
         PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInPast(category, this.shortStyle, unit);
+        int unitIndex = this.getUnitIndex(unit);
+        int index = -1;
+        Template template = null;
 
-    }
+        if (unitIndex != -1) {
+            index = (kind * CATEGORY_COUNT + category.ordinal()) * UNIT_COUNT + unitIndex;
+            template = this.templates[index];
+        }
 
-    private String getFuturePattern(
-        long amount,
-        CalendarUnit unit
-    ) {
+        if (template == null) {
+            UnitPatterns patterns = UnitPatterns.of(this.locale);
+            String pattern;
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInFuture(category, this.shortStyle, unit);
+            if (kind == KIND_PAST) {
+                pattern = patterns.getPatternInPast(category, this.shortStyle, unit);
+            } else if (kind == KIND_FUTURE) {
+                pattern = patterns.getPatternInFuture(category, this.shortStyle, unit);
+            } else {
+                pattern = patterns.getPattern(WIDTHS[kind], category, unit);
+            }
 
-    }
+            template = new Template(pattern);
 
-    private String getPastPattern(
-        long amount,
-        ClockUnit unit
-    ) {
+            if (index != -1) {
+                this.templates[index] = template; // benign race because of immutability
+            }
+        }
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInPast(category, this.shortStyle, unit);
+        return template;
 
     }
 
-    private String getFuturePattern(
-        long amount,
-        ClockUnit unit
-    ) {
+    private int getUnitIndex(IsoUnit unit) {
 
-        UnitPatterns patterns = UnitPatterns.of(this.locale);
-        PluralCategory category = this.getCategory(amount);
-        return patterns.getPatternInFuture(category, this.shortStyle, unit);
+        if (unit instanceof ClockUnit) {
+            return 4 + ((ClockUnit) unit).ordinal();
+        } else if (unit == YEARS) {
+            return 0;
+        } else if (unit == MONTHS) {
+            return 1;
+        } else if (unit == WEEKS) {
+            return 2;
+        } else if (unit == DAYS) {
+            return 3;
+        }
+
+        return -1;
 
     }
 
@@ -1946,50 +2099,96 @@ public final class PrettyTime {
     }
 
     private String format(
-        String pattern,
+        Template template,
         long amount
     ) {
 
-        for (int i = 0, n = pattern.length(); i < n; i++) {
-            if (
-                (i < n - 2)
-                && (pattern.charAt(i) == '{')
-                && (pattern.charAt(i + 1) == '0')
-                && (pattern.charAt(i + 2) == '}')
-            ) {
-                StringBuilder sb = new StringBuilder(pattern);
-                sb.replace(i, i + 3, this.format(amount));
-                return sb.toString();
-            }
+        if ((template.suffix == null) && (amount >= 0)) {
+            return template.prefix;
         }
 
-        if (amount < 0) {
-            return this.minusSign + pattern;
+        StringBuilder sb = new StringBuilder(template.prefix.length() + 24);
+
+        try {
+            this.print(template, amount, sb);
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
         }
 
-        return pattern;
+        return sb.toString();
 
     }
 
-    private String format(long amount) {
+    private void print(
+        Template template,
+        long amount,
+        Appendable buffer
+    ) throws IOException {
 
-        String num = String.valueOf(Math.abs(amount));
-        char zero = this.zeroDigit;
-        StringBuilder sb = new StringBuilder();
+        if (template.suffix == null) {
+            if (amount < 0) {
+                buffer.append(this.minusSign);
+            }
+            buffer.append(template.prefix);
+        } else {
+            buffer.append(template.prefix);
+            this.printNumber(amount, buffer);
+            buffer.append(template.suffix);
+        }
+
+    }
+
+    private void printNumber(
+        long amount,
+        Appendable buffer
+    ) throws IOException {
 
         if (amount < 0) {
-            sb.append(this.minusSign);
+            buffer.append(this.minusSign);
         }
 
-        for (int i = 0, n = num.length(); i < n; i++) {
-            char c = num.charAt(i);
-            if (zero != '0') {
-                c = (char) (c + zero - '0');
-            }
-            sb.append(c);
+        long value = ((amount < 0) ? amount : -amount); // negative to avoid overflow
+        long divisor = -1;
+
+        while (value / divisor >= 10) {
+            divisor *= 10;
         }
 
-        return sb.toString();
+        int offset = this.zeroDigit - '0';
+
+        for (; divisor != 0; divisor /= 10) {
+            int digit = (int) ((value / divisor) % 10);
+            buffer.append((char) ('0' + digit + offset));
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // Einheitsmuster, vorab am Platzhalter {0} zerlegt
+    private static final class Template {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String prefix;
+        private final String suffix; // null if there is no placeholder
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Template(String pattern) {
+            super();
+
+            int pos = pattern.indexOf("{0}");
+
+            if (pos == -1) {
+                this.prefix = pattern;
+                this.suffix = null;
+            } else {
+                this.prefix = pattern.substring(0, pos);
+                this.suffix = pattern.substring(pos + 3);
+            }
+
+        }
 
     }
 
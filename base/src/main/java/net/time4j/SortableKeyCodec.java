@@ -0,0 +1,548 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SortableKeyCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * <p>Encodes temporal values as fixed-width byte keys whose unsigned lexicographic order is the
+ * same as the natural order of the values. </p>
+ *
+ * <p>All numbers are written in big-endian order with flipped sign bit so that negative values
+ * sort before positive ones. Such keys are suitable for sorted key-value stores (B-trees or
+ * LSM-trees) where range scans can be performed directly on the encoded bytes without any
+ * decoding. Example: </p>
+ *
+ * <pre>
+ *  byte[] from = new byte[SortableKeyCodec.MOMENT.getKeyLength()];
+ *  SortableKeyCodec.MOMENT.encode(start, from, 0);
+ *  // unsigned byte comparison of keys yields the same result as start.compareTo(other)
+ * </pre>
+ *
+ * <p>The encoding methods which accept a {@code byte[]} or a {@code ByteBuffer} do not allocate
+ * any memory. Keys are designed for comparison only, not as general serialization format. All
+ * instances are immutable and thread-safe. </p>
+ *
+ * @param   <T> type of temporal value
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     net.time4j.range.IntervalKeyCodec
+ */
+/*[deutsch]
+ * <p>Kodiert Zeitwerte als Bytefolgen fester L&auml;nge, deren vorzeichenlose lexikalische
+ * Reihenfolge mit der nat&uuml;rlichen Reihenfolge der Werte &uuml;bereinstimmt. </p>
+ *
+ * <p>Alle Zahlen werden in Big-Endian-Reihenfolge mit umgekehrtem Vorzeichenbit geschrieben,
+ * so da&szlig; negative Werte vor positiven einsortiert werden. Solche Schl&uuml;ssel sind
+ * f&uuml;r sortierte Schl&uuml;ssel-Wert-Speicher (B-B&auml;ume oder LSM-B&auml;ume) geeignet,
+ * in denen Bereichsabfragen direkt auf den kodierten Bytes ohne Dekodierung ausgef&uuml;hrt
+ * werden k&ouml;nnen. Beispiel: </p>
+ *
+ * <pre>
+ *  byte[] from = new byte[SortableKeyCodec.MOMENT.getKeyLength()];
+ *  SortableKeyCodec.MOMENT.encode(start, from, 0);
+ *  // unsigned byte comparison of keys yields the same result as start.compareTo(other)
+ * </pre>
+ *
+ * <p>Die Kodiermethoden, die ein {@code byte[]} oder einen {@code ByteBuffer} annehmen,
+ * reservieren keinen Speicher. Die Schl&uuml;ssel sind nur zum Vergleichen gedacht, nicht als
+ * allgemeines Serialisierungsformat. Alle Instanzen sind unver&auml;nderlich und
+ * thread-sicher. </p>
+ *
+ * @param   <T> type of temporal value
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     net.time4j.range.IntervalKeyCodec
+ */
+public abstract class SortableKeyCodec<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * <p>Key codec for calendar dates (8 bytes: epoch days). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r Kalenderdaten (8 Bytes: Epochentage). </p>
+     */
+    public static final SortableKeyCodec<PlainDate> PLAIN_DATE =
+        new SortableKeyCodec<PlainDate>(8) {
+            @Override
+            public void encode(
+                PlainDate value,
+                byte[] key,
+                int offset
+            ) {
+                writeLong(value.getDaysSinceUTC(), key, offset);
+            }
+            @Override
+            public void encode(
+                PlainDate value,
+                ByteBuffer buffer
+            ) {
+                writeLong(value.getDaysSinceUTC(), buffer);
+            }
+        };
+
+    /**
+     * <p>Key codec for wall times (8 bytes: nanosecond of day, {@code T24} after all other times). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r Uhrzeiten (8 Bytes: Nanosekunde des Tages, {@code T24} nach
+     * allen anderen Uhrzeiten). </p>
+     */
+    public static final SortableKeyCodec<PlainTime> PLAIN_TIME =
+        new SortableKeyCodec<PlainTime>(8) {
+            @Override
+            public void encode(
+                PlainTime value,
+                byte[] key,
+                int offset
+            ) {
+                writeLong(nanoOfDay(value), key, offset);
+            }
+            @Override
+            public void encode(
+                PlainTime value,
+                ByteBuffer buffer
+            ) {
+                writeLong(nanoOfDay(value), buffer);
+            }
+        };
+
+    /**
+     * <p>Key codec for local timestamps (12 bytes: elapsed local seconds and nanosecond). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r lokale Zeitstempel (12 Bytes: verstrichene lokale Sekunden
+     * und Nanosekunde). </p>
+     */
+    public static final SortableKeyCodec<PlainTimestamp> PLAIN_TIMESTAMP =
+        new SortableKeyCodec<PlainTimestamp>(12) {
+            @Override
+            public void encode(
+                PlainTimestamp value,
+                byte[] key,
+                int offset
+            ) {
+                writeLong(localSeconds(value), key, offset);
+                writeInt(value.getNanosecond(), key, offset + 8);
+            }
+            @Override
+            public void encode(
+                PlainTimestamp value,
+                ByteBuffer buffer
+            ) {
+                writeLong(localSeconds(value), buffer);
+                writeInt(value.getNanosecond(), buffer);
+            }
+        };
+
+    /**
+     * <p>Key codec for global timestamps (12 bytes: POSIX-seconds and nanosecond including
+     * leap second position). </p>
+     *
+     * <p>A leap second shares its POSIX-second with the preceding second but is marked in the
+     * second part of the key so it sorts between the preceding and the next second exactly as
+     * {@code Moment.compareTo()} does. </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r globale Zeitstempel (12 Bytes: POSIX-Sekunden und
+     * Nanosekunde einschlie&szlig;lich Schaltsekundenposition). </p>
+     *
+     * <p>Eine Schaltsekunde teilt ihre POSIX-Sekunde mit der vorangehenden Sekunde, wird aber im
+     * zweiten Teil des Schl&uuml;ssels markiert, so da&szlig; sie genau wie mit
+     * {@code Moment.compareTo()} zwischen der vorangehenden und der n&auml;chsten Sekunde
+     * einsortiert wird. </p>
+     */
+    public static final SortableKeyCodec<Moment> MOMENT =
+        new SortableKeyCodec<Moment>(12) {
+            @Override
+            public void encode(
+                Moment value,
+                byte[] key,
+                int offset
+            ) {
+                writeLong(value.getPosixTime(), key, offset);
+                writeInt(fraction(value), key, offset + 8);
+            }
+            @Override
+            public void encode(
+                Moment value,
+                ByteBuffer buffer
+            ) {
+                writeLong(value.getPosixTime(), buffer);
+                writeInt(fraction(value), buffer);
+            }
+        };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int keyLength;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new key codec. </p>
+     *
+     * @param   keyLength   fixed count of bytes per key
+     * @throws  IllegalArgumentException if the key length is not positive
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Schl&uuml;ssel-Codec. </p>
+     *
+     * @param   keyLength   fixed count of bytes per key
+     * @throws  IllegalArgumentException if the key length is not positive
+     */
+    protected SortableKeyCodec(int keyLength) {
+        super();
+
+        if (keyLength <= 0) {
+            throw new IllegalArgumentException("Key length must be positive: " + keyLength);
+        }
+
+        this.keyLength = keyLength;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the fixed count of bytes per key. </p>
+     *
+     * @return  positive key length
+     */
+    /*[deutsch]
+     * <p>Liefert die feste Anzahl von Bytes pro Schl&uuml;ssel. </p>
+     *
+     * @return  positive key length
+     */
+    public final int getKeyLength() {
+
+        return this.keyLength;
+
+    }
+
+    /**
+     * <p>Writes the key of given value into given array. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @param   key         target array
+     * @param   offset      start index in target array
+     * @throws  IndexOutOfBoundsException if the array is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt den Schl&uuml;ssel des angegebenen Werts in das angegebene Array. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @param   key         target array
+     * @param   offset      start index in target array
+     * @throws  IndexOutOfBoundsException if the array is too small
+     */
+    public abstract void encode(
+        T value,
+        byte[] key,
+        int offset
+    );
+
+    /**
+     * <p>Writes the key of given value at the current position of given buffer. </p>
+     *
+     * <p>The byte order of the buffer is not relevant. Keys are always big-endian. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>Schreibt den Schl&uuml;ssel des angegebenen Werts an die aktuelle Position des
+     * angegebenen Puffers. </p>
+     *
+     * <p>Die Byte-Reihenfolge des Puffers ist nicht relevant. Schl&uuml;ssel sind immer
+     * big-endian. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    public abstract void encode(
+        T value,
+        ByteBuffer buffer
+    );
+
+    /**
+     * <p>Creates a new key for given value. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @return  new byte array with key length
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Schl&uuml;ssel f&uuml;r den angegebenen Wert. </p>
+     *
+     * @param   value       temporal value to be encoded
+     * @return  new byte array with key length
+     */
+    public final byte[] encode(T value) {
+
+        byte[] key = new byte[this.keyLength];
+        this.encode(value, key, 0);
+        return key;
+
+    }
+
+    /**
+     * <p>Compares two keys of this codec in unsigned lexicographic order. </p>
+     *
+     * @param   key1        first array
+     * @param   offset1     start index of first key
+     * @param   key2        second array
+     * @param   offset2     start index of second key
+     * @return  negative, zero or positive number as in {@code Comparable.compareTo()}
+     */
+    /*[deutsch]
+     * <p>Vergleicht zwei Schl&uuml;ssel dieses Codecs in vorzeichenloser lexikalischer
+     * Reihenfolge. </p>
+     *
+     * @param   key1        first array
+     * @param   offset1     start index of first key
+     * @param   key2        second array
+     * @param   offset2     start index of second key
+     * @return  negative, zero or positive number as in {@code Comparable.compareTo()}
+     */
+    public final int compare(
+        byte[] key1,
+        int offset1,
+        byte[] key2,
+        int offset2
+    ) {
+
+        for (int i = 0; i < this.keyLength; i++) {
+            int delta = (key1[offset1 + i] & 0xFF) - (key2[offset2 + i] & 0xFF);
+            if (delta != 0) {
+                return delta;
+            }
+        }
+
+        return 0;
+
+    }
+
+    /**
+     * <p>Writes a signed long in big-endian order with flipped sign bit. </p>
+     *
+     * @param   value       number to be written
+     * @param   key         target array
+     * @param   offset      start index in target array
+     */
+    /*[deutsch]
+     * <p>Schreibt eine vorzeichenbehaftete long-Zahl in Big-Endian-Reihenfolge mit umgekehrtem
+     * Vorzeichenbit. </p>
+     *
+     * @param   value       number to be written
+     * @param   key         target array
+     * @param   offset      start index in target array
+     */
+    protected static void writeLong(
+        long value,
+        byte[] key,
+        int offset
+    ) {
+
+        long v = value ^ Long.MIN_VALUE;
+
+        for (int i = offset + 7; i >= offset; i--) {
+            key[i] = (byte) v;
+            v >>>= 8;
+        }
+
+    }
+
+    /**
+     * <p>Writes a signed long in big-endian order with flipped sign bit. </p>
+     *
+     * @param   value       number to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt eine vorzeichenbehaftete long-Zahl in Big-Endian-Reihenfolge mit umgekehrtem
+     * Vorzeichenbit. </p>
+     *
+     * @param   value       number to be written
+     * @param   buffer      target buffer
+     */
+    protected static void writeLong(
+        long value,
+        ByteBuffer buffer
+    ) {
+
+        long v = value ^ Long.MIN_VALUE;
+        buffer.putLong((buffer.order() == ByteOrder.BIG_ENDIAN) ? v : Long.reverseBytes(v));
+
+    }
+
+    /**
+     * <p>Writes a signed int in big-endian order with flipped sign bit. </p>
+     *
+     * @param   value       number to be written
+     * @param   key         target array
+     * @param   offset      start index in target array
+     */
+    /*[deutsch]
+     * <p>Schreibt eine vorzeichenbehaftete int-Zahl in Big-Endian-Reihenfolge mit umgekehrtem
+     * Vorzeichenbit. </p>
+     *
+     * @param   value       number to be written
+     * @param   key         target array
+     * @param   offset      start index in target array
+     */
+    protected static void writeInt(
+        int value,
+        byte[] key,
+        int offset
+    ) {
+
+        int v = value ^ Integer.MIN_VALUE;
+
+        for (int i = offset + 3; i >= offset; i--) {
+            key[i] = (byte) v;
+            v >>>= 8;
+        }
+
+    }
+
+    /**
+     * <p>Writes a signed int in big-endian order with flipped sign bit. </p>
+     *
+     * @param   value       number to be written
+     * @param   buffer      target buffer
+     */
+    /*[deutsch]
+     * <p>Schreibt eine vorzeichenbehaftete int-Zahl in Big-Endian-Reihenfolge mit umgekehrtem
+     * Vorzeichenbit. </p>
+     *
+     * @param   value       number to be written
+     * @param   buffer      target buffer
+     */
+    protected static void writeInt(
+        int value,
+        ByteBuffer buffer
+    ) {
+
+        int v = value ^ Integer.MIN_VALUE;
+        buffer.putInt((buffer.order() == ByteOrder.BIG_ENDIAN) ? v : Integer.reverseBytes(v));
+
+    }
+
+    /**
+     * <p>Fills a key section with given byte (for example to mark infinite boundaries). </p>
+     *
+     * @param   b           byte to be written
+     * @param   length      count of bytes
+     * @param   key         target array
+     * @param   offset      start index in target array
+     */
+    /*[deutsch]
+     * <p>F&uuml;llt einen Schl&uuml;sselabschnitt mit dem angegebenen Byte (zum Beispiel, um
+     * unendliche Intervallgrenzen zu markieren). </p>
+     *
+     * @param   b           byte to be written
+     * @param   length      count of bytes
+     * @param   key         target array
+     * @param   offset      start index in target array
+     */
+    protected static void fill(
+        byte b,
+        int length,
+        byte[] key,
+        int offset
+    ) {
+
+        for (int i = offset, n = offset + length; i < n; i++) {
+            key[i] = b;
+        }
+
+    }
+
+    /**
+     * <p>Fills a key section with given byte (for example to mark infinite boundaries). </p>
+     *
+     * @param   b           byte to be written
+     * @param   length      count of bytes
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    /*[deutsch]
+     * <p>F&uuml;llt einen Schl&uuml;sselabschnitt mit dem angegebenen Byte (zum Beispiel, um
+     * unendliche Intervallgrenzen zu markieren). </p>
+     *
+     * @param   b           byte to be written
+     * @param   length      count of bytes
+     * @param   buffer      target buffer
+     * @throws  java.nio.BufferOverflowException if the buffer is too small
+     */
+    protected static void fill(
+        byte b,
+        int length,
+        ByteBuffer buffer
+    ) {
+
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        for (int i = 0; i < length; i++) {
+            buffer.put(b);
+        }
+
+    }
+
+    // Nanosekunde des Tages, T24 als 86400 Sekunden
+    private static long nanoOfDay(PlainTime time) {
+
+        long secs = time.getHour() * 3600L + time.getMinute() * 60L + time.getSecond();
+        return secs * MRD + time.getNanosecond();
+
+    }
+
+    // lokale Sekunden seit 1972-01-01 (wie PlainTimestamp.compareTo() zuerst Datum, dann Uhrzeit)
+    private static long localSeconds(PlainTimestamp tsp) {
+
+        PlainTime time = tsp.getWallTime();
+        long secs = time.getHour() * 3600L + time.getMinute() * 60L + time.getSecond();
+        return tsp.getCalendarDate().getDaysSinceUTC() * SECONDS_PER_DAY + secs;
+
+    }
+
+    // Schaltsekunden folgen allen Nanosekunden der vorangehenden Sekunde mit gleicher POSIX-Zeit
+    private static int fraction(Moment moment) {
+
+        int nano = moment.getNanosecond();
+        return (moment.isLeapSecond() ? nano + MRD : nano);
+
+    }
+
+}
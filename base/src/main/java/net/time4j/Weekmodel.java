@@ -42,6 +42,7 @@ import net.time4j.format.TextAccessor;
 import net.time4j.format.TextElement;
 import net.time4j.format.TextWidth;
 import net.time4j.format.WeekdataProvider;
+import net.time4j.format.internal.LocaleCache;
 
 import java.io.IOException;
 import java.io.InvalidObjectException;
@@ -52,9 +53,7 @@ import java.text.ParsePosition;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -108,7 +107,7 @@ public final class Weekmodel
     private static final int BOUNDED_WEEK_OF_YEAR = 2;
     private static final int BOUNDED_WEEK_OF_MONTH = 3;
 
-    private static final Map<Locale, Weekmodel> CACHE = new ConcurrentHashMap<>();
+    private static final LocaleCache<Locale, Weekmodel> CACHE = LocaleCache.of("Weekmodel", 150);
 
     /**
      * <p>Standard week rules as defined by ISO-8601. </p>
@@ -415,12 +414,7 @@ public final class Weekmodel
                 Weekday.valueOf(p.getEndOfWeekend(locale))
             );
 
-        if (CACHE.size() > 150) {
-            CACHE.clear(); // Größenbegrenzung
-        }
-
-        CACHE.put(locale, model);
-        return model;
+        return CACHE.putIfAbsent(locale, model);
 
     }
 
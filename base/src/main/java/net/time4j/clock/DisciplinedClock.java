@@ -0,0 +1,502 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DisciplinedClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+
+/**
+ * <p>Network clock which interpolates between the connections of a {@code NetTimeConnector}
+ * by compensating the frequency error of the local oscillator. </p>
+ *
+ * <p>Every synchronization yields a pair of local monotonic time ({@link System#nanoTime()})
+ * and network time. The frequency error of the local clock is estimated from the last eight
+ * samples by linear regression of the offsets as soon as at least four samples spread over at
+ * least {@code 128} seconds are available. Between synchronizations, this clock runs
+ * with the corrected frequency so the offset does not drift away. Phase errors observed
+ * at a new synchronization will be amortized by slewing the clock rate (at most by
+ * {@code 500 ppm}) so that the displayed time never jumps backwards. Only big phase
+ * errors ahead of this clock (more than {@code 128 ms}) are corrected by a forward step. </p>
+ *
+ * <pre>
+ *  DisciplinedClock clock =
+ *      new DisciplinedClock(new SntpConnector(&quot;ptbtime1.ptb.de&quot;));
+ *  clock.refreshPeriodically(scheduler, 15, TimeUnit.MINUTES);
+ *  Moment timestamp = clock.currentTime(); // no network access here
+ * </pre>
+ *
+ * <p>Before the first synchronization, this clock simply shows the time of the
+ * local monotonic clock. The first synchronization sets the time directly if the local
+ * clock is behind. Otherwise the displayed time is held (for errors bigger than {@code 128 ms})
+ * or slewed until the network time has caught up, so the time never decreases. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Netzuhr, die zwischen den Verbindungen eines {@code NetTimeConnector} interpoliert,
+ * indem sie den Frequenzfehler des lokalen Oszillators ausgleicht. </p>
+ *
+ * <p>Jede Synchronisierung liefert ein Paar aus lokaler monotoner Zeit ({@link System#nanoTime()})
+ * und Netzzeit. Der Frequenzfehler der lokalen Uhr wird aus den letzten acht Messwerten mit
+ * Hilfe einer linearen Regression der Verschiebungen gesch&auml;tzt, sobald mindestens vier
+ * Messwerte verteilt &uuml;ber mindestens {@code 128} Sekunden vorliegen. Zwischen den
+ * Synchronisierungen l&auml;uft diese Uhr mit der korrigierten Frequenz, so da&szlig; die
+ * Verschiebung nicht wegdriftet. Phasenfehler, die bei einer neuen Synchronisierung
+ * festgestellt werden, werden durch eine Anpassung der Ganggeschwindigkeit (um h&ouml;chstens
+ * {@code 500 ppm}) abgebaut, so da&szlig; die angezeigte Zeit niemals zur&uuml;ckspringt. Nur
+ * gro&szlig;e Phasenfehler, bei denen diese Uhr nachgeht (mehr als {@code 128 ms}), werden
+ * durch einen Sprung vorw&auml;rts korrigiert. </p>
+ *
+ * <pre>
+ *  DisciplinedClock clock =
+ *      new DisciplinedClock(new SntpConnector(&quot;ptbtime1.ptb.de&quot;));
+ *  clock.refreshPeriodically(scheduler, 15, TimeUnit.MINUTES);
+ *  Moment timestamp = clock.currentTime(); // no network access here
+ * </pre>
+ *
+ * <p>Vor der ersten Synchronisierung zeigt diese Uhr einfach die Zeit der lokalen monotonen
+ * Uhr an. Die erste Synchronisierung setzt die Zeit direkt, wenn die lokale Uhr nachgeht.
+ * Sonst wird die angezeigte Zeit angehalten (bei Fehlern von mehr als {@code 128 ms}) oder
+ * verlangsamt, bis die Netzzeit aufgeholt hat, so da&szlig; die Zeit niemals abnimmt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @doctags.concurrency {threadsafe}
+ */
+public final class DisciplinedClock
+    extends AbstractClock {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long MRD = 1000000000L;
+    private static final int FILTER_SIZE = 8;
+
+    // Mindestanzahl und -zeitspanne der Messwerte für eine Frequenzschätzung, damit
+    // Phasenfehler einzelner Messungen nicht als Frequenzfehler gedeutet werden
+    private static final int MIN_SAMPLES = 4;
+    private static final long MIN_SPAN = 128L * MRD;
+
+    // maximale Frequenzkorrektur und Schwenkgeschwindigkeit (wie in NTP)
+    private static final double MAX_FREQUENCY = 500.0E-6;
+    private static final double MAX_SLEW = 500.0E-6;
+
+    // Phasenfehler, ab dem vorwärts gesprungen wird (wie in NTP)
+    private static final long STEP_THRESHOLD = 128000000L;
+
+    // Zeitkonstante für den Abbau kleiner Phasenfehler
+    private static final double SLEW_TIME_CONSTANT = 16.0 * MRD;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final NetTimeConnector<?> connector;
+    private final LongSupplier ticker;
+    private final Deque<long[]> samples = new ArrayDeque<>(); // (lokale Nanos, POSIX-Nanos)
+    private final AtomicLong lastOutput = new AtomicLong(Long.MIN_VALUE);
+
+    private volatile State state;
+    private volatile double frequency = 0.0;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new clock which is disciplined by given network connector. </p>
+     *
+     * @param   connector   network connector which obtains the samples of network time
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue Uhr, die durch den angegebenen Netzkonnektor gesteuert wird. </p>
+     *
+     * @param   connector   network connector which obtains the samples of network time
+     * @since   5.6
+     */
+    public DisciplinedClock(NetTimeConnector<?> connector) {
+        this(connector, System::nanoTime);
+
+    }
+
+    // für Testzwecke mit simulierter lokaler Uhr
+    DisciplinedClock(
+        NetTimeConnector<?> connector,
+        LongSupplier ticker
+    ) {
+        super();
+
+        if (connector == null) {
+            throw new NullPointerException("Missing network connector.");
+        }
+
+        this.connector = connector;
+        this.ticker = ticker;
+
+        long now = ticker.getAsLong();
+        Moment local = SystemClock.MONOTONIC.currentTime();
+        this.state = new State(now, toNanos(local), 1.0, 0.0, 0L, false);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the current interpolated time without any network access. </p>
+     *
+     * <p>Successive calls never yield decreasing values. </p>
+     *
+     * @return  current time
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle interpolierte Zeit ohne Netzzugriff. </p>
+     *
+     * <p>Aufeinanderfolgende Aufrufe liefern niemals abnehmende Werte. </p>
+     *
+     * @return  current time
+     * @since   5.6
+     */
+    @Override
+    public Moment currentTime() {
+
+        long computed = this.state.getTime(this.ticker.getAsLong());
+        long nanos = this.lastOutput.accumulateAndGet(computed, Math::max);
+        return Moment.of(Math.floorDiv(nanos, MRD), (int) Math.floorMod(nanos, MRD), TimeScale.POSIX);
+
+    }
+
+    /**
+     * <p>Connects to the network time server and adjusts this clock. </p>
+     *
+     * @throws  IOException if connection fails or in case of any inconsistent server answer
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Verbindet sich mit dem Netzzeit-Server und stellt diese Uhr nach. </p>
+     *
+     * @throws  IOException if connection fails or in case of any inconsistent server answer
+     * @since   5.6
+     */
+    public void synchronize() throws IOException {
+
+        try {
+            this.synchronizeAsync().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw ex;
+        }
+
+    }
+
+    /**
+     * <p>Connects to the network time server in the background and adjusts this clock
+     * as soon as the server has replied. </p>
+     *
+     * @return  future which yields the obtained network time
+     * @see     NetTimeConnector#connectAsync()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Verbindet sich im Hintergrund mit dem Netzzeit-Server und stellt diese Uhr nach,
+     * sobald der Server geantwortet hat. </p>
+     *
+     * @return  future which yields the obtained network time
+     * @see     NetTimeConnector#connectAsync()
+     * @since   5.6
+     */
+    public CompletableFuture<Moment> synchronizeAsync() {
+
+        return this.connector.connectAsync().thenApply(
+            moment -> {
+                this.update(this.ticker.getAsLong(), toNanos(moment));
+                return moment;
+            }
+        );
+
+    }
+
+    /**
+     * <p>Schedules periodical synchronizations of this clock. </p>
+     *
+     * <p>Failed connections will be logged by the underlying connector and otherwise ignored. The
+     * clock continues to run with the last estimated frequency in the mean time. </p>
+     *
+     * @param   scheduler   executor service for the background connections
+     * @param   period      delay between the end of one connection and the start of next connection
+     * @param   unit        time unit of period
+     * @return  future which can be used to cancel the periodical synchronization
+     * @throws  IllegalArgumentException if the period is not positive
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Plant regelm&auml;&szlig;ige Synchronisierungen dieser Uhr. </p>
+     *
+     * <p>Fehlgeschlagene Verbindungen werden vom zugrundeliegenden Konnektor protokolliert
+     * und sonst ignoriert. Die Uhr l&auml;uft in der Zwischenzeit mit der zuletzt
+     * gesch&auml;tzten Frequenz weiter. </p>
+     *
+     * @param   scheduler   executor service for the background connections
+     * @param   period      delay between the end of one connection and the start of next connection
+     * @param   unit        time unit of period
+     * @return  future which can be used to cancel the periodical synchronization
+     * @throws  IllegalArgumentException if the period is not positive
+     * @since   5.6
+     */
+    public ScheduledFuture<?> refreshPeriodically(
+        ScheduledExecutorService scheduler,
+        long period,
+        TimeUnit unit
+    ) {
+
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+
+        return scheduler.scheduleWithFixedDelay(
+            () -> {
+                try {
+                    this.synchronizeAsync().join();
+                } catch (RuntimeException ex) { // must not stop the periodical execution
+                    Throwable cause = (((ex instanceof CompletionException) && (ex.getCause() != null)) ? ex.getCause() : ex);
+                    this.connector.log("Background synchronization failed: ", cause.toString());
+                }
+            },
+            0L,
+            period,
+            unit);
+
+    }
+
+    /**
+     * <p>Queries if this clock has been synchronized at least once. </p>
+     *
+     * @return  boolean
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Wurde diese Uhr mindestens einmal synchronisiert? </p>
+     *
+     * @return  boolean
+     * @since   5.6
+     */
+    public boolean isSynchronized() {
+
+        return this.state.synced;
+
+    }
+
+    /**
+     * <p>Yields the estimated frequency error of the local clock in parts per million. </p>
+     *
+     * <p>A positive value means that the local clock runs too slow. At least four synchronizations
+     * spread over at least {@code 128} seconds are necessary for any estimation, otherwise the value
+     * zero will be returned. </p>
+     *
+     * @return  frequency correction in ppm
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert den gesch&auml;tzten Frequenzfehler der lokalen Uhr in Millionsteln. </p>
+     *
+     * <p>Ein positiver Wert bedeutet, da&szlig; die lokale Uhr zu langsam l&auml;uft. Mindestens
+     * vier Synchronisierungen verteilt &uuml;ber mindestens {@code 128} Sekunden sind f&uuml;r eine
+     * Sch&auml;tzung erforderlich, sonst wird der Wert null zur&uuml;ckgegeben. </p>
+     *
+     * @return  frequency correction in ppm
+     * @since   5.6
+     */
+    public double getFrequencyErrorInPPM() {
+
+        return this.frequency * 1.0E6;
+
+    }
+
+    /**
+     * <p>For debugging purposes. </p>
+     *
+     * @return  description of clock state
+     */
+    /*[deutsch]
+     * <p>F&uuml;r Debugging-Zwecke. </p>
+     *
+     * @return  description of clock state
+     */
+    @Override
+    public String toString() {
+
+        return "DisciplinedClock[connector=" + this.connector.getClass().getName()
+            + ",synchronized=" + this.isSynchronized()
+            + ",frequency-error=" + this.getFrequencyErrorInPPM() + "ppm]";
+
+    }
+
+    // verarbeitet einen neuen Messwert (lokale monotone Zeit, Netzzeit in POSIX-Nanosekunden)
+    synchronized void update(
+        long localNanos,
+        long networkNanos
+    ) {
+
+        this.samples.addLast(new long[] {localNanos, networkNanos});
+
+        if (this.samples.size() > FILTER_SIZE) {
+            this.samples.removeFirst();
+        }
+
+        double freq = estimateFrequency(this.samples);
+        this.frequency = freq;
+
+        // aktuelle Zeit nach alter und neuer Schätzung
+        long now = this.ticker.getAsLong();
+        State old = this.state;
+        long current = Math.max(old.getTime(now), this.lastOutput.get());
+        long estimated = networkNanos + Math.round((now - localNanos) * (1.0 + freq));
+        long error = estimated - current;
+
+        if ((error > STEP_THRESHOLD) || (error == 0) || (!old.synced && (error > 0))) {
+            this.state = new State(now, estimated, 1.0 + freq, 0.0, 0L, true);
+        } else if ((error < -STEP_THRESHOLD) && (!old.synced || old.isHolding(now))) {
+            // erste Synchronisierung mit großem Vorlauf: Zeit anhalten, bis die Netzzeit aufgeholt hat
+            double rate = 1.0 + freq;
+            this.state = new State(now, current, rate, -rate, Math.round(-error / rate), true);
+        } else {
+            double slew = error / SLEW_TIME_CONSTANT;
+            slew = Math.max(-MAX_SLEW, Math.min(MAX_SLEW, slew));
+            long duration = Math.round(error / slew);
+            this.state = new State(now, current, 1.0 + freq, slew, duration, true);
+        }
+
+    }
+
+    // Steigung der Verschiebungen über der lokalen Zeit (Methode der kleinsten Quadrate)
+    private static double estimateFrequency(Deque<long[]> samples) {
+
+        int n = samples.size();
+
+        if ((n < MIN_SAMPLES) || (samples.getLast()[0] - samples.getFirst()[0] < MIN_SPAN)) {
+            return 0.0;
+        }
+
+        long[] first = samples.getFirst();
+        double sumX = 0.0;
+        double sumY = 0.0;
+
+        for (long[] sample : samples) {
+            sumX += (sample[0] - first[0]);
+            sumY += ((sample[1] - first[1]) - (sample[0] - first[0]));
+        }
+
+        double meanX = sumX / n;
+        double meanY = sumY / n;
+        double sxy = 0.0;
+        double sxx = 0.0;
+
+        for (long[] sample : samples) {
+            double dx = (sample[0] - first[0]) - meanX;
+            double dy = ((sample[1] - first[1]) - (sample[0] - first[0])) - meanY;
+            sxy += dx * dy;
+            sxx += dx * dx;
+        }
+
+        if (sxx == 0.0) {
+            return 0.0;
+        }
+
+        double freq = sxy / sxx;
+        return Math.max(-MAX_FREQUENCY, Math.min(MAX_FREQUENCY, freq));
+
+    }
+
+    private static long toNanos(Moment moment) {
+
+        return Math.addExact(Math.multiplyExact(moment.getPosixTime(), MRD), moment.getNanosecond());
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class State {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long localStart;
+        private final long timeStart;
+        private final double rate;
+        private final double slew;
+        private final long slewDuration;
+        private final boolean synced;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        State(
+            long localStart,
+            long timeStart,
+            double rate,
+            double slew,
+            long slewDuration,
+            boolean synced
+        ) {
+            super();
+
+            this.localStart = localStart;
+            this.timeStart = timeStart;
+            this.rate = rate;
+            this.slew = slew;
+            this.slewDuration = slewDuration;
+            this.synced = synced;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // steht die angezeigte Zeit noch still?
+        boolean isHolding(long localNanos) {
+
+            return ((this.slew == -this.rate) && (localNanos - this.localStart < this.slewDuration));
+
+        }
+
+        // lineare Interpolation mit korrigierter Frequenz und zeitlich begrenzter Schwenkung
+        long getTime(long localNanos) {
+
+            long elapsed = localNanos - this.localStart;
+            double delta = elapsed * this.rate + this.slew * Math.min(elapsed, this.slewDuration);
+            return this.timeStart + Math.round(delta);
+
+        }
+
+    }
+
+}
@@ -30,6 +30,14 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.text.ParseException;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -210,26 +218,138 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
     public final void connect() throws IOException {
 
         try {
-            Moment moment = this.doConnect();
-            long localMicros = SystemClock.MONOTONIC.realTimeInMicros();
-            final ConnectionResult cr = this.result;
-            long currentOffset = (
-                (cr == null)
-                ? Long.MIN_VALUE : cr.getActualOffset(localMicros));
-
-            this.result =
-                new ConnectionResult(
-                    moment,
-                    localMicros,
-                    currentOffset,
-                    this.getNetTimeConfiguration().getClockShiftWindow()
-                );
+            this.update(this.doConnect());
         } catch (ParseException pe) {
             throw new IOException("Cannot read server reply.", pe);
         }
 
     }
 
+    /**
+     * <p>Queries the time server(s) asynchronously without blocking the caller thread. </p>
+     *
+     * <p>When the returned future completes normally then the result is immediately visible
+     * via {@code currentTime()}. Connection failures complete the future exceptionally. The
+     * connection runs in a private pool of daemon threads, not in the common fork-join-pool,
+     * because it blocks during name resolution and while waiting for the replies. </p>
+     *
+     * @return  future which yields the moment determined by the connection
+     * @see     #connect()
+     * @see     #connectAsync(Executor)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Fragt den oder die Server asynchron ab, ohne den aufrufenden Thread zu blockieren. </p>
+     *
+     * <p>Wenn das Ergebnis normal vorliegt, ist es sofort &uuml;ber {@code currentTime()}
+     * sichtbar. Verbindungsfehler schlie&szlig;en das Ergebnis mit einer Ausnahme ab. Die
+     * Verbindung l&auml;uft in einem eigenen Pool von D&auml;mon-Threads und nicht im allgemeinen
+     * Fork-Join-Pool, weil sie bei der Namensaufl&ouml;sung und beim Warten auf die Antworten
+     * blockiert. </p>
+     *
+     * @return  future which yields the moment determined by the connection
+     * @see     #connect()
+     * @see     #connectAsync(Executor)
+     * @since   5.6
+     */
+    public final CompletableFuture<Moment> connectAsync() {
+
+        return this.connectAsync(ConnectorPool.INSTANCE);
+
+    }
+
+    /**
+     * <p>Queries the time server(s) asynchronously in given executor. </p>
+     *
+     * <p>When the returned future completes normally then the result is immediately visible
+     * via {@code currentTime()}. Connection failures complete the future exceptionally. </p>
+     *
+     * @param   executor    executor which performs the (blocking) connection
+     * @return  future which yields the moment determined by the connection
+     * @see     #connect()
+     * @see     #doConnectAsync(Executor)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Fragt den oder die Server asynchron im angegebenen {@code Executor} ab. </p>
+     *
+     * <p>Wenn das Ergebnis normal vorliegt, ist es sofort &uuml;ber {@code currentTime()}
+     * sichtbar. Verbindungsfehler schlie&szlig;en das Ergebnis mit einer Ausnahme ab. </p>
+     *
+     * @param   executor    executor which performs the (blocking) connection
+     * @return  future which yields the moment determined by the connection
+     * @see     #connect()
+     * @see     #doConnectAsync(Executor)
+     * @since   5.6
+     */
+    public final CompletableFuture<Moment> connectAsync(Executor executor) {
+
+        if (executor == null) {
+            throw new NullPointerException("Missing executor.");
+        }
+
+        return this.doConnectAsync(executor).thenApply(
+            moment -> {
+                this.update(moment);
+                return moment;
+            }
+        );
+
+    }
+
+    /**
+     * <p>Refreshes the connection periodically in the background. </p>
+     *
+     * <p>The first connection starts immediately. Failed connections are only logged so the clock
+     * keeps the last successful result. Meanwhile, the method {@code currentTime()} remains a
+     * lock-free read. The refreshing stops if the returned future is cancelled or the scheduler
+     * is shut down. </p>
+     *
+     * @param   scheduler   scheduler which triggers the connections
+     * @param   period      delay between the end of a connection and the start of next one
+     * @param   unit        time unit of period
+     * @return  handle for cancelling the refreshing
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Frischt die Verbindung im Hintergrund periodisch auf. </p>
+     *
+     * <p>Die erste Verbindung startet sofort. Fehlgeschlagene Verbindungen werden nur protokolliert,
+     * so da&szlig; die Uhr das letzte erfolgreiche Ergebnis beh&auml;lt. Die Methode {@code currentTime()}
+     * bleibt dabei ein sperrfreier Lesezugriff. Das Auffrischen endet, wenn das Ergebnis dieser Methode
+     * abgebrochen oder der Scheduler heruntergefahren wird. </p>
+     *
+     * @param   scheduler   scheduler which triggers the connections
+     * @param   period      delay between the end of a connection and the start of next one
+     * @param   unit        time unit of period
+     * @return  handle for cancelling the refreshing
+     * @since   5.6
+     */
+    public final ScheduledFuture<?> refreshPeriodically(
+        ScheduledExecutorService scheduler,
+        long period,
+        TimeUnit unit
+    ) {
+
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+
+        return scheduler.scheduleWithFixedDelay(
+            () -> {
+                try {
+                    this.connectAsync(Runnable::run).join(); // runs in the scheduler thread
+                } catch (RuntimeException ex) { // must not stop the periodic execution
+                    Throwable cause = (((ex instanceof CompletionException) && (ex.getCause() != null)) ? ex.getCause() : ex);
+                    this.log("Background connection failed: ", cause.toString());
+                }
+            },
+            0L,
+            period,
+            unit);
+
+    }
+
     /**
      * <p>Queries the configuration parameters to be used for the next
      * connection. </p>
@@ -385,6 +505,47 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
      */
     protected abstract Moment doConnect() throws IOException, ParseException;
 
+    /**
+     * <p>Asynchronous variant of {@link #doConnect()}. </p>
+     *
+     * <p>The default implementation executes {@code doConnect()} in given executor.
+     * Subclasses can override this method in order to use non-blocking network access. </p>
+     *
+     * @param   executor    executor which performs the (blocking) connection
+     * @return  future which yields the current time obtained from the server(s)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Asynchrone Variante von {@link #doConnect()}. </p>
+     *
+     * <p>Die Standardimplementierung f&uuml;hrt {@code doConnect()} im angegebenen
+     * {@code Executor} aus. Subklassen k&ouml;nnen diese Methode &uuml;berschreiben, um
+     * nicht-blockierende Netzwerkzugriffe zu nutzen. </p>
+     *
+     * @param   executor    executor which performs the (blocking) connection
+     * @return  future which yields the current time obtained from the server(s)
+     * @since   5.6
+     */
+    protected CompletableFuture<Moment> doConnectAsync(Executor executor) {
+
+        CompletableFuture<Moment> future = new CompletableFuture<>();
+
+        executor.execute(
+            () -> {
+                try {
+                    future.complete(this.doConnect());
+                } catch (ParseException pe) {
+                    future.completeExceptionally(new IOException("Cannot read server reply.", pe));
+                } catch (Throwable th) {
+                    future.completeExceptionally(th);
+                }
+            }
+        );
+
+        return future;
+
+    }
+
     /**
      * <p>Loads the configuration parameters via a {@code ServiceLoader}. </p>
      *
@@ -499,6 +660,24 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
 
     }
 
+    private void update(Moment moment) {
+
+        long localMicros = SystemClock.MONOTONIC.realTimeInMicros();
+        final ConnectionResult cr = this.result;
+        long currentOffset = (
+            (cr == null)
+            ? Long.MIN_VALUE : cr.getActualOffset(localMicros));
+
+        this.result =
+            new ConnectionResult(
+                moment,
+                localMicros,
+                currentOffset,
+                this.getNetTimeConfiguration().getClockShiftWindow()
+            );
+
+    }
+
     private static long extractMicros(Moment time) {
 
         return time.getElapsedTime(TimeScale.UTC) * MIO + time.getNanosecond(TimeScale.UTC) / 1000;
@@ -507,6 +686,22 @@ public abstract class NetTimeConnector<C extends NetTimeConfiguration>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    // verzögert erzeugter Pool von Dämon-Threads für blockierende Verbindungen
+    private static class ConnectorPool {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final ExecutorService INSTANCE =
+            Executors.newCachedThreadPool(
+                r -> {
+                    Thread t = new Thread(r, "Time4J-NetTimeConnector");
+                    t.setDaemon(true);
+                    return t;
+                }
+            );
+
+    }
+
     private static class ConnectionResult {
 
         //~ Instanzvariablen ----------------------------------------------
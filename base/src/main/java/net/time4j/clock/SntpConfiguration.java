@@ -21,6 +21,9 @@
 
 package net.time4j.clock;
 
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * <p>Represents a configuration for a connection to a NTP-Server. </p>
@@ -129,4 +132,36 @@ public interface SntpConfiguration
      */
     short getRequestCount();
 
+    /**
+     * <p>Yields all time servers which shall be queried concurrently in an asynchronous connection. </p>
+     *
+     * <p>The default implementation only yields the result of {@link #getTimeServerAddress()}. All
+     * servers use the port {@link #getTimeServerPort()} unless an address has the form
+     * &quot;host:port&quot; (or &quot;[IPv6-address]:port&quot;). The samples of several servers are
+     * combined by NTP-style clock selection which is able to detect and to discard false tickers. </p>
+     *
+     * @return  unmodifiable non-empty list of server addresses
+     * @since   5.6
+     * @see     SntpConnector#connectAsync()
+     */
+    /*[deutsch]
+     * <p>Liefert alle Zeitserver, die in einer asynchronen Verbindung gleichzeitig abgefragt
+     * werden sollen. </p>
+     *
+     * <p>Die Standardimplementierung liefert nur das Ergebnis von {@link #getTimeServerAddress()}.
+     * Alle Server verwenden den Port {@link #getTimeServerPort()}, es sei denn, eine Adresse hat die
+     * Form &quot;host:port&quot; (oder &quot;[IPv6-Adresse]:port&quot;). Die Messwerte mehrerer Server
+     * werden durch eine NTP-artige Uhrenauswahl kombiniert, die falsch gehende Server erkennen und
+     * verwerfen kann. </p>
+     *
+     * @return  unmodifiable non-empty list of server addresses
+     * @since   5.6
+     * @see     SntpConnector#connectAsync()
+     */
+    default List<String> getTimeServerAddresses() {
+
+        return Collections.singletonList(this.getTimeServerAddress());
+
+    }
+
 }
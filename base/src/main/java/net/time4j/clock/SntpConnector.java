@@ -29,7 +29,24 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -71,11 +88,16 @@ public class SntpConnector
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MIO = 1000000;
+    private static final int FILTER_SIZE = 8;
+    private static final int MAX_PACKET_SIZE = 512;
 
     //~ Instanzvariablen --------------------------------------------------
 
     private volatile SntpMessage lastReply = null;
 
+    // NTP-Uhrenfilter: die letzten Messwerte pro Server (Zugriff nur synchronisiert)
+    private final Map<String, Deque<Sample>> filters = new HashMap<>();
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -142,7 +164,49 @@ public class SntpConnector
      * @param   server  NTP4-server
      */
     public SntpConnector(String server) {
-        super(new SimpleNtpConfiguration(server));
+        super(new SimpleNtpConfiguration(Collections.singletonList(server)));
+
+    }
+
+    /**
+     * <p>Creates a new instance which uses a default configuration
+     * using the specified NTP4-servers. </p>
+     *
+     * <p>All servers will be queried concurrently by {@link #connectAsync()}
+     * while the blocking method {@link #connect()} only uses the first server. </p>
+     *
+     * <pre>
+     *  SntpConnector clock =
+     *      new SntpConnector(Arrays.asList(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;));
+     *  clock.connectAsync().join();
+     *  System.out.println(clock.currentTime());
+     * </pre>
+     *
+     * @param   servers     list of NTP4-servers
+     * @throws  IllegalArgumentException if the list is empty
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Konstruiert eine neue Instanz, die zu den angegebenen NTP-Servern
+     * verbindet. </p>
+     *
+     * <p>Alle Server werden von {@link #connectAsync()} gleichzeitig abgefragt,
+     * w&auml;hrend die blockierende Methode {@link #connect()} nur den ersten
+     * Server verwendet. </p>
+     *
+     * <pre>
+     *  SntpConnector clock =
+     *      new SntpConnector(Arrays.asList(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;));
+     *  clock.connectAsync().join();
+     *  System.out.println(clock.currentTime());
+     * </pre>
+     *
+     * @param   servers     list of NTP4-servers
+     * @throws  IllegalArgumentException if the list is empty
+     * @since   5.6
+     */
+    public SntpConnector(List<String> servers) {
+        super(new SimpleNtpConfiguration(servers));
 
     }
 
@@ -356,6 +420,58 @@ public class SntpConnector
 
     }
 
+    /**
+     * <p>Queries all configured time servers concurrently by non-blocking datagram channels. </p>
+     *
+     * <p>Every connection sends one request to every server listed in
+     * {@link SntpConfiguration#getTimeServerAddresses()} and waits at most the configured
+     * connection timeout for the replies. The best of the last eight samples per server
+     * (minimum round-trip delay) enters an NTP-style clock selection which discards
+     * false tickers outside of the majority intersection. The remaining offsets are
+     * combined as mean value weighted by their root distance. </p>
+     *
+     * @param   executor    executor which performs the (blocking) connection
+     * @return  future which yields the current time obtained from the servers
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Fragt alle konfigurierten Zeitserver gleichzeitig &uuml;ber nicht-blockierende
+     * Datagramm-Kan&auml;le ab. </p>
+     *
+     * <p>Jede Verbindung schickt eine Anfrage an jeden in
+     * {@link SntpConfiguration#getTimeServerAddresses()} aufgef&uuml;hrten Server und
+     * wartet h&ouml;chstens die konfigurierte Verbindungszeit auf die Antworten. Der
+     * beste der letzten acht Messwerte pro Server (minimale Umlaufverz&ouml;gerung) geht
+     * in eine NTP-artige Uhrenauswahl ein, die falsch gehende Server au&szlig;erhalb der
+     * Mehrheitsschnittmenge verwirft. Die verbleibenden Verschiebungen werden als mit der
+     * Wurzeldistanz gewichteter Mittelwert kombiniert. </p>
+     *
+     * @param   executor    executor which performs the (blocking) connection
+     * @return  future which yields the current time obtained from the servers
+     * @since   5.6
+     */
+    @Override
+    protected CompletableFuture<Moment> doConnectAsync(Executor executor) {
+
+        final SntpConfiguration config = this.getNetTimeConfiguration();
+
+        if (config.getRequestCount() <= 0) {
+            return CompletableFuture.completedFuture(SystemClock.MONOTONIC.currentTime());
+        }
+
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return this.queryServers(config);
+                } catch (IOException ioe) {
+                    throw new CompletionException(ioe);
+                }
+            },
+            executor
+        );
+
+    }
+
     @Override
     protected SntpConfiguration loadNetTimeConfiguration() {
 
@@ -380,6 +496,255 @@ public class SntpConnector
 
     }
 
+    // Adresse mit optionalem Port, z.B. "ptbtime1.ptb.de:123" oder "[::1]:123"
+    static InetSocketAddress resolve(
+        String server,
+        int defaultPort
+    ) throws IOException {
+
+        String host = server;
+        int port = defaultPort;
+        int colon = server.lastIndexOf(':');
+
+        if (server.startsWith("[")) {
+            int end = server.indexOf(']');
+            if (end == -1) {
+                throw new IOException("Invalid server address: " + server);
+            }
+            host = server.substring(1, end);
+            if (colon > end) {
+                port = parsePort(server, colon);
+            }
+        } else if ((colon > 0) && (server.indexOf(':') == colon)) {
+            host = server.substring(0, colon);
+            port = parsePort(server, colon);
+        }
+
+        return new InetSocketAddress(InetAddress.getByName(host), port);
+
+    }
+
+    private static int parsePort(
+        String server,
+        int colon
+    ) throws IOException {
+
+        try {
+            return Integer.parseInt(server.substring(colon + 1));
+        } catch (NumberFormatException nfe) {
+            throw new IOException("Invalid port in server address: " + server);
+        }
+
+    }
+
+    private Moment queryServers(SntpConfiguration config) throws IOException {
+
+        int port = config.getTimeServerPort();
+        int timeout = config.getConnectionTimeout();
+        boolean version4 = config.isNTP4();
+        List<DatagramChannel> channels = new ArrayList<>();
+        List<Sample> candidates = new ArrayList<>();
+
+        try (Selector selector = Selector.open()) {
+
+            // Anfragen an alle Server gleichzeitig abschicken
+            for (String server : config.getTimeServerAddresses()) {
+                try {
+                    DatagramChannel channel = DatagramChannel.open();
+                    channels.add(channel);
+                    channel.configureBlocking(false);
+                    channel.connect(resolve(server, port));
+                    SntpMessage request = new SntpMessage(version4);
+                    channel.write(ByteBuffer.wrap(request.getBytes()));
+                    channel.register(selector, SelectionKey.OP_READ, new Request(server, request));
+                } catch (IOException ioe) {
+                    this.log("NTP-Server not reachable: ", server + " (" + ioe.getMessage() + ")");
+                }
+            }
+
+            // Antworten einsammeln, bis alle Server geantwortet haben oder die Zeit abgelaufen ist
+            long deadline = System.nanoTime() + timeout * 1000000000L;
+            ByteBuffer buffer = ByteBuffer.allocate(MAX_PACKET_SIZE);
+            int pending = selector.keys().size();
+
+            while (pending > 0) {
+                long remaining = (deadline - System.nanoTime()) / 1000000L;
+
+                if ((timeout > 0) && (remaining <= 0)) {
+                    this.log(null, "NTP-Connection timed out for " + pending + " server(s).");
+                    break;
+                }
+
+                selector.select((timeout > 0) ? remaining : 0L);
+                Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
+
+                while (iter.hasNext()) {
+                    SelectionKey key = iter.next();
+                    iter.remove();
+                    Request request = (Request) key.attachment();
+
+                    try {
+                        buffer.clear();
+                        int len = ((DatagramChannel) key.channel()).read(buffer);
+                        if (len == 0) {
+                            continue; // no datagram available yet
+                        }
+                        double destinationTimestamp = SntpMessage.getLocalTimestamp();
+                        if (len < 48) {
+                            throw new IOException("NTP-reply too short: " + len);
+                        }
+                        SntpMessage reply =
+                            new SntpMessage(
+                                Arrays.copyOf(buffer.array(), len),
+                                request.message.getTransmitTimestamp(),
+                                request.message.getVersion());
+
+                        if (this.isLogEnabled()) {
+                            this.log("NTP-Server connected: ", request.server + " => " + reply);
+                        }
+
+                        if (reply.getStratum() == 0) {
+                            this.log("NTP-Server replied: ", request.server + " <kiss-o'-death>");
+                        } else if (reply.getLeapIndicator() == 3) {
+                            this.log("NTP-Server not synchronized: ", request.server);
+                        } else {
+                            candidates.add(this.filter(new Sample(request.server, reply, destinationTimestamp)));
+                        }
+                    } catch (IOException ioe) {
+                        this.log("NTP-Server failed: ", request.server + " (" + ioe.getMessage() + ")");
+                    }
+
+                    key.cancel();
+                    pending--;
+                }
+            }
+
+        } finally {
+            for (DatagramChannel channel : channels) {
+                channel.close();
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            throw new IOException("No valid reply from any NTP-server.");
+        }
+
+        double[] offsets = new double[candidates.size()];
+        double[] distances = new double[candidates.size()];
+        Sample best = null;
+
+        for (int i = 0; i < offsets.length; i++) {
+            Sample sample = candidates.get(i);
+            offsets[i] = sample.offset;
+            distances[i] = sample.getRootDistance();
+            if ((best == null) || (distances[i] < best.getRootDistance())) {
+                best = sample;
+            }
+        }
+
+        double offset = selectOffset(offsets, distances);
+        this.lastReply = best.reply;
+
+        byte leapIndicator = best.reply.getLeapIndicator();
+
+        if (leapIndicator == 1) {
+            this.log(null, "Positive leap second announced.");
+        } else if (leapIndicator == 2) {
+            this.log(null, "Negative leap second announced.");
+        }
+
+        long micros = SystemClock.MONOTONIC.currentTimeInMicros() + Math.round(offset * MIO);
+        long seconds = Math.floorDiv(micros, MIO);
+        int nanosecond = (int) (Math.floorMod(micros, MIO) * 1000);
+        return Moment.of(seconds, nanosecond, TimeScale.POSIX);
+
+    }
+
+    // Uhrenfilter: bester der letzten Messwerte eines Servers (minimale Umlaufverzögerung)
+    private Sample filter(Sample sample) {
+
+        synchronized (this.filters) {
+            Deque<Sample> history = this.filters.computeIfAbsent(sample.server, k -> new ArrayDeque<>());
+            history.addFirst(sample);
+
+            if (history.size() > FILTER_SIZE) {
+                history.removeLast();
+            }
+
+            Sample best = sample;
+            long now = System.nanoTime();
+
+            for (Sample s : history) {
+                if (s.getDelay(now) < best.getDelay(now)) {
+                    best = s;
+                }
+            }
+
+            return best;
+        }
+
+    }
+
+    /**
+     * <p>NTP-artige Uhrenauswahl nach dem Algorithmus von Marzullo. </p>
+     *
+     * <p>Jeder Messwert definiert ein Korrektheitsintervall {@code [offset - distance, offset + distance]}.
+     * Gesucht wird die Schnittmenge, die von den meisten Intervallen geteilt wird. Nur Messwerte, deren
+     * Intervall diese Schnittmenge ber&uuml;hrt, gehen in den gewichteten Mittelwert ein. </p>
+     *
+     * @param   offsets     local clock offsets in seconds
+     * @param   distances   root distances in seconds (not negative)
+     * @return  combined offset in seconds
+     * @throws  IOException if there is no majority of samples with overlapping intervals
+     */
+    static double selectOffset(
+        double[] offsets,
+        double[] distances
+    ) throws IOException {
+
+        int n = offsets.length;
+        double[][] edges = new double[2 * n][];
+
+        for (int i = 0; i < n; i++) {
+            edges[2 * i] = new double[] {offsets[i] - distances[i], -1}; // Anfang
+            edges[2 * i + 1] = new double[] {offsets[i] + distances[i], +1}; // Ende
+        }
+
+        Arrays.sort(edges, (e1, e2) -> (e1[0] == e2[0]) ? Double.compare(e1[1], e2[1]) : Double.compare(e1[0], e2[0]));
+
+        int count = 0;
+        int best = 0;
+        double low = 0.0;
+        double high = 0.0;
+
+        for (int i = 0; i < edges.length; i++) {
+            count -= (int) edges[i][1];
+            if (count > best) {
+                best = count;
+                low = edges[i][0];
+                high = edges[i + 1][0]; // ein Ende folgt immer
+            }
+        }
+
+        if (best <= n / 2) {
+            throw new IOException("No majority of NTP-servers with consistent time: " + best + " of " + n);
+        }
+
+        double sum = 0.0;
+        double weights = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            if ((offsets[i] + distances[i] >= low) && (offsets[i] - distances[i] <= high)) {
+                double weight = 1.0 / Math.max(distances[i], 1.0E-6);
+                sum += offsets[i] * weight;
+                weights += weight;
+            }
+        }
+
+        return sum / weights;
+
+    }
+
     private static SntpConfiguration initConfiguration() {
 
         ServiceLoader<SntpConfiguration> sl =
@@ -402,18 +767,24 @@ public class SntpConnector
 
         //~ Instanzvariablen ----------------------------------------------
 
-        private final String server;
+        private final List<String> servers;
 
         //~ Konstruktoren -------------------------------------------------
 
-        SimpleNtpConfiguration(String server) {
+        SimpleNtpConfiguration(List<String> servers) {
             super();
 
-            if (server == null) {
-                throw new NullPointerException("Missing time server address.");
+            if (servers.isEmpty()) {
+                throw new IllegalArgumentException("Missing time server address.");
             }
 
-            this.server = server;
+            for (String server : servers) {
+                if (server == null) {
+                    throw new NullPointerException("Missing time server address.");
+                }
+            }
+
+            this.servers = Collections.unmodifiableList(new ArrayList<>(servers));
 
         }
 
@@ -422,7 +793,14 @@ public class SntpConnector
         @Override
         public String getTimeServerAddress() {
 
-            return this.server;
+            return this.servers.get(0);
+
+        }
+
+        @Override
+        public List<String> getTimeServerAddresses() {
+
+            return this.servers;
 
         }
 
@@ -473,7 +851,7 @@ public class SntpConnector
 
             StringBuilder sb = new StringBuilder();
             sb.append("SimpleNtpConfiguration:[server=");
-            sb.append(this.server);
+            sb.append((this.servers.size() == 1) ? this.servers.get(0) : this.servers.toString());
             sb.append(",port=");
             sb.append(this.getTimeServerPort());
             sb.append(']');
@@ -483,4 +861,82 @@ public class SntpConnector
 
     }
 
+    private static class Request {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String server;
+        private final SntpMessage message;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Request(
+            String server,
+            SntpMessage message
+        ) {
+            super();
+
+            this.server = server;
+            this.message = message;
+
+        }
+
+    }
+
+    private static class Sample {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final double PHI = 15.0E-6; // maximale Frequenzabweichung in s/s (wie in NTP)
+        private static final double MINDISP = 0.01; // minimale Verzögerung in Sekunden (wie in NTP)
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String server;
+        private final SntpMessage reply;
+        private final double offset;
+        private final double delay;
+        private final long localNanos;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Sample(
+            String server,
+            SntpMessage reply,
+            double destinationTimestamp
+        ) {
+            super();
+
+            // offset = ((T2 - T1) + (T3 - T4)) / 2, delay = (T4 - T1) - (T3 - T2)
+            double t1 = reply.getOriginateTimestamp();
+            double t2 = reply.getReceiveTimestamp();
+            double t3 = reply.getTransmitTimestamp();
+
+            this.server = server;
+            this.reply = reply;
+            this.offset = ((t2 - t1) + (t3 - destinationTimestamp)) / 2.0;
+            this.delay = Math.max(0.0, (destinationTimestamp - t1) - (t3 - t2));
+            this.localNanos = System.nanoTime();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // Umlaufverzögerung, gealtert um die mögliche Frequenzabweichung seit der Messung
+        double getDelay(long now) {
+
+            return this.delay + 2 * PHI * Math.max(0L, now - this.localNanos) / 1.0E9;
+
+        }
+
+        // Wurzeldistanz als halbe Breite des Korrektheitsintervalls
+        double getRootDistance() {
+
+            return Math.max(MINDISP, this.delay + this.reply.getRootDelay()) / 2.0 + this.reply.getRootDispersion();
+
+        }
+
+    }
+
+
 }
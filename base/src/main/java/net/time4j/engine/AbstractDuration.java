@@ -398,12 +398,14 @@ public abstract class AbstractDuration<U extends ChronoUnit>
 
         sb.append('P');
 
+        List<Item<U>> items = this.getTotalLength();
+
         for (
-            int index = 0, limit = this.getTotalLength().size();
+            int index = 0, limit = items.size();
             index < limit;
             index++
         ) {
-            Item<U> item = this.getTotalLength().get(index);
+            Item<U> item = items.get(index);
 
             if (index > 0) {
                 sb.append(',');
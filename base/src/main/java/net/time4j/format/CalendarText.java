@@ -28,6 +28,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.Chronology;
 import net.time4j.format.internal.ExtendedPatterns;
 import net.time4j.format.internal.FormatUtils;
+import net.time4j.format.internal.LocaleCache;
 import net.time4j.format.internal.PropertyBundle;
 import net.time4j.format.internal.IsoTextProviderSPI;
 
@@ -52,8 +53,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -209,7 +208,7 @@ public final class CalendarText {
     private static final TextProvider JDK_PROVIDER = new JDKTextProvider();
     private static final TextProvider ROOT_PROVIDER = new FallbackProvider();
 
-    private static final ConcurrentMap<String, CalendarText> CACHE = new ConcurrentHashMap<>();
+    private static final LocaleCache<String, CalendarText> CACHE = LocaleCache.of("CalendarText", 200);
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -452,12 +451,7 @@ public final class CalendarText {
                 }
             }
 
-            instance = new CalendarText(calendarType, locale, p);
-            CalendarText old = CACHE.putIfAbsent(key, instance);
-
-            if (old != null) {
-                instance = old;
-            }
+            instance = CACHE.putIfAbsent(key, new CalendarText(calendarType, locale, p));
         }
 
         return instance;
@@ -0,0 +1,117 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledPluralRules.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format;
+
+
+/**
+ * <p>Vorkompilierte Pluralregeln. </p>
+ *
+ * <p>Die Kategorien f&uuml;r die Zahlen {@code 0 - 999} werden einmalig in einer Tabelle abgelegt,
+ * so da&szlig; die Bestimmung der Pluralkategorie nur ein Array-Zugriff ist. Alle anderen Zahlen
+ * werden an die urspr&uuml;nglichen Regeln delegiert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class CompiledPluralRules
+    extends PluralRules {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int TABLE_SIZE = 1000;
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final PluralRules delegate;
+    private final byte[] table;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledPluralRules(
+        PluralRules delegate,
+        byte[] table
+    ) {
+        super();
+
+        this.delegate = delegate;
+        this.table = table;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Kompiliert die angegebenen Regeln. </p>
+     *
+     * @param   rules   plural rules to be compiled
+     * @return  compiled plural rules
+     */
+    static CompiledPluralRules compile(PluralRules rules) {
+
+        if (rules instanceof CompiledPluralRules) {
+            return (CompiledPluralRules) rules;
+        }
+
+        byte[] table = new byte[TABLE_SIZE];
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            table[i] = (byte) rules.getCategory(i).ordinal();
+        }
+
+        return new CompiledPluralRules(rules, table);
+
+    }
+
+    @Override
+    public PluralCategory getCategory(long count) {
+
+        if ((count >= 0) && (count < TABLE_SIZE)) {
+            return CATEGORIES[this.table[(int) count]];
+        }
+
+        return this.delegate.getCategory(count);
+
+    }
+
+    @Override
+    public NumberType getNumberType() {
+
+        return this.delegate.getNumberType();
+
+    }
+
+    @Override
+    public PluralRules compile() {
+
+        return this;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "CompiledPluralRules[" + this.delegate + "]";
+
+    }
+
+}
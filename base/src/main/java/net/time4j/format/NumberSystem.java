@@ -22,6 +22,7 @@
 package net.time4j.format;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Locale;
 
 
@@ -792,6 +793,29 @@ public enum NumberSystem {
 
     private static final int[] D_FACTORS = {1, 12, 144, 1728, 20736};
 
+    // Ziffertabellen pro Zahlsystem (Index = Ordinalzahl), einmalig aus getDigits() abgeleitet
+    private static final char[] ZERO_DIGITS; // nur Dezimalsysteme, sonst '\u0000'
+    private static final char[][] SORTED_DIGITS;
+
+    static {
+        NumberSystem[] systems = NumberSystem.values();
+        char[] zeroDigits = new char[systems.length];
+        char[][] sortedDigits = new char[systems.length][];
+
+        for (NumberSystem numsys : systems) {
+            int index = numsys.ordinal();
+            char[] digits = numsys.getDigits().toCharArray();
+            if (numsys.isDecimal()) {
+                zeroDigits[index] = digits[0];
+            }
+            Arrays.sort(digits);
+            sortedDigits[index] = digits;
+        }
+
+        ZERO_DIGITS = zeroDigits;
+        SORTED_DIGITS = sortedDigits;
+    }
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final String code;
@@ -823,14 +847,15 @@ public enum NumberSystem {
     public String toNumeral(int number) {
 
         if (this.isDecimal() && (number >= 0)) {
-            int delta = this.getDigits().charAt(0) - '0';
-            String standard = Integer.toString(number);
-            StringBuilder numeral = new StringBuilder();
-            for (int i = 0, n = standard.length(); i < n; i++) {
-                int codepoint = standard.charAt(i) + delta;
-                numeral.append((char) codepoint);
-            }
-            return numeral.toString();
+            char zero = ZERO_DIGITS[this.ordinal()];
+            char[] numeral = new char[10];
+            int pos = numeral.length;
+            do {
+                int q = number / 10;
+                numeral[--pos] = (char) (number - q * 10 + zero);
+                number = q;
+            } while (number > 0);
+            return new String(numeral, pos, numeral.length - pos);
         } else {
             throw new IllegalArgumentException("Cannot convert: " + number);
         }
@@ -864,6 +889,24 @@ public enum NumberSystem {
         Appendable buffer
     ) throws IOException {
 
+        if (this.isDecimal() && (number >= 0)) {
+            // Ziffern direkt in den Puffer schreiben, ohne Zwischen-String
+            char zero = ZERO_DIGITS[this.ordinal()];
+            int count = 1;
+            int divisor = 1;
+            while ((count < 10) && (number >= divisor * 10)) {
+                divisor *= 10;
+                count++;
+            }
+            for (int i = 0; i < count; i++) {
+                int d = number / divisor;
+                buffer.append((char) (d + zero));
+                number -= d * divisor;
+                divisor /= 10;
+            }
+            return count;
+        }
+
         String digits = this.toNumeral(number);
         buffer.append(digits);
         return digits.length();
@@ -927,7 +970,24 @@ public enum NumberSystem {
     ) {
 
         if (this.isDecimal()) {
-            int delta = this.getDigits().charAt(0) - '0';
+            char zero = ZERO_DIGITS[this.ordinal()];
+            int len = numeral.length();
+            if ((len > 0) && (len <= 10)) {
+                long total = 0;
+                for (int i = 0; i < len; i++) {
+                    int digit = numeral.charAt(i) - zero;
+                    if ((digit < 0) || (digit > 9)) {
+                        total = -1;
+                        break;
+                    }
+                    total = total * 10 + digit;
+                }
+                if ((total >= 0) && (total <= Integer.MAX_VALUE)) {
+                    return (int) total;
+                }
+            }
+            // Sonderfälle (Vorzeichen, Überlauf, ungültige Zeichen) wie bisher behandeln
+            int delta = zero - '0';
             StringBuilder standard = new StringBuilder();
             for (int i = 0, n = numeral.length(); i < n; i++) {
                 int codepoint = numeral.charAt(i) - delta;
@@ -960,15 +1020,15 @@ public enum NumberSystem {
      */
     public boolean contains(char digit) {
 
-        String digits = this.getDigits();
+        int index = this.ordinal();
+        char zero = ZERO_DIGITS[index];
 
-        for (int i = 0, n = digits.length(); i < n; i++) {
-            if (digits.charAt(i) == digit) {
-                return true;
-            }
+        if (zero != '\u0000') {
+            int value = digit - zero;
+            return ((value >= 0) && (value <= 9));
         }
 
-        return false;
+        return (Arrays.binarySearch(SORTED_DIGITS[index], digit) >= 0);
 
     }
 
@@ -23,6 +23,7 @@ package net.time4j.format;
 
 import net.time4j.base.ResourceLoader;
 import net.time4j.format.internal.FormatUtils;
+import net.time4j.format.internal.LocaleCache;
 
 import java.util.Locale;
 import java.util.Map;
@@ -65,6 +66,11 @@ public abstract class PluralRules {
 
     private static final Map<String, PluralRules> CARDINAL_MAP = new ConcurrentHashMap<>();
     private static final Map<String, PluralRules> ORDINAL_MAP = new ConcurrentHashMap<>();
+    private static final LocaleCache<Locale, PluralRules> COMPILED_CARDINALS =
+        LocaleCache.of("PluralRules.Cardinals", 100);
+    private static final LocaleCache<Locale, PluralRules> COMPILED_ORDINALS =
+        LocaleCache.of("PluralRules.Ordinals", 100);
+    private static final Object LOCK = new Object();
 
     //~ Methoden ----------------------------------------------------------
 
@@ -121,10 +127,60 @@ public abstract class PluralRules {
 
     }
 
+    /**
+     * <p>Gets the compiled plural rules for given language or country. </p>
+     *
+     * <p>The result is equivalent to {@code of(locale, numType).compile()}, but cached per locale such that
+     * formatters can resolve the rules once and then determine the plural category of small numbers by a
+     * single array access. The cache is size-bounded, and any registration of new rules will reset it. </p>
+     *
+     * @param   locale      locale which specifies the suitable plural rules
+     * @param   numType     number type
+     * @return  compiled localized plural rules
+     * @see     #compile()
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Ermittelt die vorkompilierten Pluralregeln f&uuml;r die angegebene Sprache oder das Land. </p>
+     *
+     * <p>Das Ergebnis ist &auml;quivalent zu {@code of(locale, numType).compile()}, wird aber pro
+     * {@code Locale} zwischengespeichert, so da&szlig; Formatierer die Regeln einmal ermitteln und
+     * dann die Pluralkategorie kleiner Zahlen mit einem einzigen Array-Zugriff bestimmen k&ouml;nnen.
+     * Der Cache ist gr&ouml;&szlig;enbegrenzt, und jede Registrierung neuer Regeln setzt ihn
+     * zur&uuml;ck. </p>
+     *
+     * @param   locale      locale which specifies the suitable plural rules
+     * @param   numType     number type
+     * @return  compiled localized plural rules
+     * @see     #compile()
+     * @since   5.6
+     */
+    public static PluralRules ofCompiled(
+        Locale locale,
+        NumberType numType
+    ) {
+
+        LocaleCache<Locale, PluralRules> cache = getCompiledCache(numType);
+        PluralRules rules = cache.get(locale);
+
+        if (rules == null) {
+            synchronized (LOCK) { // no stale rules after concurrent registration
+                rules = cache.putIfAbsent(locale, of(locale, numType).compile());
+            }
+        }
+
+        return rules;
+
+    }
+
     /**
      * <p>Registers given plural rules for a language, possibly overriding
      * CLDR-default setting. </p>
      *
+     * <p>Formatters which have already resolved their compiled rules keep them, so
+     * registrations should take place before such formatters are created, usually
+     * during start-up. </p>
+     *
      * @param   locale  language or country which the rules shall be assigned to
      * @param   rules   localized plural rules
      * @since   1.2
@@ -133,6 +189,10 @@ public abstract class PluralRules {
      * <p>Registriert die angegebenen Pluralregeln f&uuml;r eine Sprache,
      * wobei die CLDR-Vorgabe &uuml;berschrieben werden kann. </p>
      *
+     * <p>Formatierer, die ihre vorkompilierten Regeln schon ermittelt haben, behalten
+     * diese, so da&szlig; Registrierungen vor der Erzeugung solcher Formatierer stattfinden
+     * sollten, in der Regel w&auml;hrend des Starts. </p>
+     *
      * @param   locale  language or country which the rules shall be assigned to
      * @param   rules   localized plural rules
      * @since   1.2
@@ -150,7 +210,10 @@ public abstract class PluralRules {
             key = toKey(key, region);
         }
 
-        map.put(key, rules);
+        synchronized (LOCK) {
+            map.put(key, rules);
+            getCompiledCache(rules.getNumberType()).clear();
+        }
 
     }
 
@@ -185,6 +248,35 @@ public abstract class PluralRules {
      */
     public abstract NumberType getNumberType();
 
+    /**
+     * <p>Compiles these rules to a form which determines the plural category of the numbers
+     * {@code 0 - 999} by table lookup. </p>
+     *
+     * <p>All other numbers are delegated to these rules so the compiled rules always yield the
+     * same results. Subclasses may override this method if they have a better representation. </p>
+     *
+     * @return  compiled plural rules
+     * @see     #ofCompiled(Locale, NumberType)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Kompiliert diese Regeln in eine Form, die die Pluralkategorie der Zahlen {@code 0 - 999}
+     * mit Hilfe einer Tabelle bestimmt. </p>
+     *
+     * <p>Alle anderen Zahlen werden an diese Regeln delegiert, so da&szlig; die kompilierten Regeln
+     * immer die gleichen Ergebnisse liefern. Subklassen k&ouml;nnen diese Methode &uuml;berschreiben,
+     * wenn sie eine bessere Darstellung haben. </p>
+     *
+     * @return  compiled plural rules
+     * @see     #ofCompiled(Locale, NumberType)
+     * @since   5.6
+     */
+    public PluralRules compile() {
+
+        return CompiledPluralRules.compile(this);
+
+    }
+
     private static Map<String, PluralRules> getRuleMap(NumberType numType) {
 
         switch (numType) {
@@ -198,6 +290,19 @@ public abstract class PluralRules {
 
     }
 
+    private static LocaleCache<Locale, PluralRules> getCompiledCache(NumberType numType) {
+
+        switch (numType) {
+            case CARDINALS:
+                return COMPILED_CARDINALS;
+            case ORDINALS:
+                return COMPILED_ORDINALS;
+            default:
+                throw new UnsupportedOperationException(numType.name());
+        }
+
+    }
+
     private static String toKey(String language, String region) {
 
         StringBuilder kb = new StringBuilder();
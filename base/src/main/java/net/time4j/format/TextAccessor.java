@@ -56,6 +56,8 @@ public final class TextAccessor {
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private final boolean trieCapable;
+    private final Node[] tries; // benign race (immutable nodes)
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -69,6 +71,18 @@ public final class TextAccessor {
 
         this.textForms = Collections.unmodifiableList(Arrays.asList(textForms));
 
+        boolean capable = true;
+
+        for (String s : textForms) {
+            if (s.length() <= 1) {
+                capable = false; // single chars need special handling of ambivalent matches
+                break;
+            }
+        }
+
+        this.trieCapable = capable;
+        this.tries = new Node[4];
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -107,7 +121,8 @@ public final class TextAccessor {
      * <p>Interpretes given text form as enum-based element value. </p>
      *
      * <p>Parsing is case-insensitive. No partial compare is performed,
-     * instead the whole element text will be evaluated. </p>
+     * instead the whole element text will be evaluated. If several text
+     * forms match then the longest one wins. </p>
      *
      * @param   <V> generic value type of element
      * @param   parseable       text to be parsed
@@ -120,7 +135,8 @@ public final class TextAccessor {
      * <p>Interpretiert die angegebene Textform als Enum-Elementwert. </p>
      *
      * <p>Die Gro&szlig;- und Kleinschreibung ist nicht relevant. Es
-     * wird immer jeweils der ganze Text verglichen. </p>
+     * wird immer jeweils der ganze Text verglichen. Passen mehrere
+     * Textformen, gewinnt die l&auml;ngste. </p>
      *
      * @param   <V> generic value type of element
      * @param   parseable       text to be parsed
@@ -298,6 +314,11 @@ public final class TextAccessor {
         int len = this.textForms.size();
         int start = status.getIndex();
         int end = parseable.length();
+
+        if (!partialCompare && this.trieCapable && (enums.length <= len)) {
+            return this.parseByTrie(parseable, status, enums, caseInsensitive, smart);
+        }
+
         String alt = "";
 
         int maxEq = 0;
@@ -379,6 +400,93 @@ public final class TextAccessor {
 
     }
 
+    // Suche im ternären Suchbaum nach der längsten passenden Textform in O(Textlänge)
+    private <V extends Enum<V>> V parseByTrie(
+        CharSequence parseable,
+        ParsePosition status,
+        V[] enums,
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        int variant = (caseInsensitive ? 1 : 0) + (smart ? 2 : 0);
+        Node node = this.tries[variant];
+
+        if (node == null) {
+            node = this.buildTrie(caseInsensitive, smart);
+            this.tries[variant] = node;
+        }
+
+        int start = status.getIndex();
+        int end = parseable.length();
+        int pos = start;
+        int best = -1;
+        int bestEnd = start;
+
+        while ((node != null) && (pos < end)) {
+            char c = normalize(parseable.charAt(pos), caseInsensitive, smart);
+
+            if (c < node.c) {
+                node = node.left;
+            } else if (c > node.c) {
+                node = node.right;
+            } else {
+                pos++;
+                if ((node.index >= 0) && (node.index < enums.length)) { // longest match wins
+                    best = node.index;
+                    bestEnd = pos;
+                }
+                node = node.mid;
+            }
+        }
+
+        if (best == -1) {
+            status.setErrorIndex(start);
+            return null;
+        }
+
+        status.setIndex(bestEnd);
+        return enums[best];
+
+    }
+
+    private Node buildTrie(
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        Node root = null;
+
+        for (int i = 0, n = this.textForms.size(); i < n; i++) {
+            String s = this.textForms.get(i);
+            root = Node.insert(root, s, i, caseInsensitive, smart);
+
+            // special smart procedure for handling "Sept." versus "Sep." in German
+            if (smart && (s.length() == 5) && (s.charAt(4) == '.')) {
+                root = Node.insert(root, s.substring(0, 3) + ".", i, caseInsensitive, smart);
+            }
+        }
+
+        return root;
+
+    }
+
+    private static char normalize(
+        char c,
+        boolean caseInsensitive,
+        boolean smart
+    ) {
+
+        if (smart && (c == PROTECTED_SPACE)) {
+            return ' ';
+        } else if (caseInsensitive) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        } else {
+            return c;
+        }
+
+    }
+
     private boolean compareIgnoreCase(char c1, char c2) {
 
         if (c1 >= 'a' && c1 <= 'z') {
@@ -401,4 +509,84 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // unveränderlicher Knoten eines ternären Suchbaums (analog zu ZoneLabels)
+    private static class Node {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final char c;
+        private final Node left;
+        private final Node mid;
+        private final Node right;
+        private final int index; // -1 if not an end node
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Node(
+            char c,
+            Node left,
+            Node mid,
+            Node right,
+            int index
+        ) {
+            super();
+
+            this.c = c;
+            this.left = left;
+            this.mid = mid;
+            this.right = right;
+            this.index = index;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static Node insert(
+            Node node,
+            String key,
+            int index,
+            boolean caseInsensitive,
+            boolean smart
+        ) {
+
+            return insert(node, key, index, caseInsensitive, smart, 0);
+
+        }
+
+        private static Node insert(
+            Node node,
+            String key,
+            int index,
+            boolean caseInsensitive,
+            boolean smart,
+            int pos
+        ) {
+
+            char c = normalize(key.charAt(pos), caseInsensitive, smart);
+
+            if (node == null) {
+                node = new Node(c, null, null, null, -1);
+            }
+
+            if (c < node.c) {
+                Node left = insert(node.left, key, index, caseInsensitive, smart, pos);
+                return new Node(node.c, left, node.mid, node.right, node.index);
+            } else if (c > node.c) {
+                Node right = insert(node.right, key, index, caseInsensitive, smart, pos);
+                return new Node(node.c, node.left, node.mid, right, node.index);
+            } else if (pos < key.length() - 1) {
+                Node mid = insert(node.mid, key, index, caseInsensitive, smart, pos + 1);
+                return new Node(node.c, node.left, mid, node.right, node.index);
+            } else if (node.index == -1) { // end node, first text form wins
+                return new Node(node.c, node.left, node.mid, node.right, index);
+            } else {
+                return node;
+            }
+
+        }
+
+    }
+
 }
@@ -516,7 +516,7 @@ public abstract class TimeSpanFormatter<U, S extends TimeSpan<U>> {
         }
 
         Map<PluralCategory, String> pluralForms = new EnumMap<>(PluralCategory.class);
-        PluralRules rules = PluralRules.of(loc, NumberType.CARDINALS);
+        PluralRules rules = PluralRules.ofCompiled(loc, NumberType.CARDINALS);
 
         for (int i = 3; i < parts.length; i++) {
             String[] formInfo = parts[i].split("=");
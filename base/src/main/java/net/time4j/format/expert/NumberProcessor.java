@@ -277,11 +277,8 @@ class NumberProcessor<V>
             }
 
             if (decimal) {
-                if (zeroChar != defaultZeroChar) { // rare case
+                if ((digits != null) && (zeroChar != defaultZeroChar)) { // rare case
                     int diff = zeroChar - defaultZeroChar;
-                    if (digits == null) {
-                        digits = numsys.toNumeral(x);
-                    }
                     char[] characters = digits.toCharArray();
                     for (int i = 0; i < characters.length; i++) {
                         characters[i] = (char) (characters[i] + diff);
@@ -290,7 +287,9 @@ class NumberProcessor<V>
                 }
                 if (count > this.maxDigits) {
                     if (digits == null) {
-                        digits = numsys.toNumeral(x);
+                        StringBuilder sb = new StringBuilder(count);
+                        appendDigits(x, count, sb, zeroChar);
+                        digits = sb.toString();
                     }
                     throw new IllegalArgumentException(
                         "Element " + this.element.name()
@@ -346,7 +345,7 @@ class NumberProcessor<V>
                         buffer.append((char) (9 + zeroChar));
                         appendTwoDigits(x - 1900, buffer, zeroChar);
                     } else {
-                        buffer.append(numsys.toNumeral(x));
+                        appendDigits(x, count, buffer, zeroChar);
                     }
                 } else {
                     count = numsys.toNumeral(x, buffer);
@@ -827,6 +826,25 @@ class NumberProcessor<V>
 
     }
 
+    private static void appendDigits(
+        int x, // not negative
+        int count, // = length(x)
+        Appendable buffer,
+        char zeroDigit
+    ) throws IOException {
+
+        // Ziffern direkt mit der gewünschten Null-Ziffer schreiben, ohne Zwischen-String
+        int divisor = ((count == 1) ? 1 : THRESHOLDS[count - 2] + 1);
+
+        while (divisor > 0) {
+            int d = x / divisor;
+            buffer.append((char) (d + zeroDigit));
+            x -= d * divisor;
+            divisor /= 10;
+        }
+
+    }
+
     @SuppressWarnings("unchecked")
     private static <V extends Enum<V>> int enumToInt(
         ChronoElement<?> element,
@@ -71,6 +71,7 @@ final class OrdinalProcessor
     private final char zeroDigit;
     private final Leniency lenientMode;
     private final Locale locale;
+    private final PluralRules ordinalRules; // einmal aufgelöste Regeln des quick path
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -108,6 +109,7 @@ final class OrdinalProcessor
         this.zeroDigit = '0';
         this.lenientMode = Leniency.SMART;
         this.locale = Locale.ROOT;
+        this.ordinalRules = this.resolveRules(Locale.ROOT);
 
     }
 
@@ -131,6 +133,7 @@ final class OrdinalProcessor
         this.zeroDigit = zeroDigit;
         this.lenientMode = lenientMode;
         this.locale = locale;
+        this.ordinalRules = this.resolveRules(locale);
 
     }
 
@@ -356,16 +359,15 @@ final class OrdinalProcessor
         int value
     ) {
 
-        Locale lang;
+        PluralRules rules;
 
-        if (this.isEnglish()) {
-            lang = Locale.ENGLISH;
+        if (this.isEnglish() || quickPath) {
+            rules = this.ordinalRules;
         } else {
-            lang = (quickPath ? this.locale : attributes.get(Attributes.LANGUAGE, Locale.ROOT));
+            rules = this.resolveRules(attributes.get(Attributes.LANGUAGE, Locale.ROOT));
         }
 
-        PluralCategory category =
-            PluralRules.of(lang, NumberType.ORDINALS).getCategory(value);
+        PluralCategory category = rules.getCategory(value);
 
         if (!this.getIndicators().containsKey(category)) {
             category = PluralCategory.OTHER;
@@ -375,6 +377,12 @@ final class OrdinalProcessor
 
     }
 
+    private PluralRules resolveRules(Locale lang) {
+
+        return PluralRules.ofCompiled((this.isEnglish() ? Locale.ENGLISH : lang), NumberType.ORDINALS);
+
+    }
+
     private boolean isEnglish() {
 
         return (this.indicators == null);
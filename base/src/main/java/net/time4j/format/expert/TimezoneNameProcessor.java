@@ -28,6 +28,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.FlagElement;
 import net.time4j.format.Attributes;
 import net.time4j.format.Leniency;
+import net.time4j.format.internal.LocaleCache;
 import net.time4j.tz.NameStyle;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
@@ -42,8 +43,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -57,9 +56,8 @@ final class TimezoneNameProcessor
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ABBREVIATIONS = new ConcurrentHashMap<>();
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ZONENAMES = new ConcurrentHashMap<>();
-    private static final int MAX = 25; // maximum size of cache
+    private static final LocaleCache<Locale, TZNames> CACHE_ABBREVIATIONS = LocaleCache.of("TimezoneAbbreviations", 25);
+    private static final LocaleCache<Locale, TZNames> CACHE_ZONENAMES = LocaleCache.of("TimezoneNames", 25);
     private static final String DEFAULT_PROVIDER = "DEFAULT";
 
     //~ Instanzvariablen --------------------------------------------------
@@ -234,21 +232,13 @@ final class TimezoneNameProcessor
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, TZNames> cache = (this.abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
+        LocaleCache<Locale, TZNames> cache = (this.abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
         TZNames tzNames = cache.get(lang);
 
         if (tzNames == null) {
             ZoneLabels stdNames = this.createZoneNames(lang, false);
             ZoneLabels dstNames = this.createZoneNames(lang, true);
-            tzNames = new TZNames(stdNames, dstNames);
-
-            if (cache.size() < MAX) {
-                TZNames tmp = cache.putIfAbsent(lang, tzNames);
-
-                if (tmp != null) {
-                    tzNames = tmp;
-                }
-            }
+            tzNames = cache.putIfAbsent(lang, new TZNames(stdNames, dstNames));
         }
 
         // prefix-matching of tz names
@@ -0,0 +1,323 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (WarmUp.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.PrettyTime;
+import net.time4j.SystemClock;
+import net.time4j.Weekmodel;
+import net.time4j.engine.Chronology;
+import net.time4j.format.CalendarText;
+import net.time4j.format.DisplayMode;
+import net.time4j.format.LocalizedPatternSupport;
+import net.time4j.format.NumberType;
+import net.time4j.format.PluralRules;
+import net.time4j.format.TextWidth;
+import net.time4j.format.internal.LocaleCache;
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * <p>Preloads and pins the lazily initialized caches of Time4J so that the first formatting or
+ * timezone request of an application is served with steady-state latency. </p>
+ *
+ * <p>The warm-up loads for every given locale the calendar texts, week models, plural rules, unit
+ * patterns and the localized style patterns of the standard types, for every given timezone the zone
+ * model and the localized zone names, and for every given chronology the chronology itself together
+ * with its calendar texts. All loaded objects are strongly referenced and pinned in the internal
+ * size-bounded caches until {@link #release()} is called so that they cannot be evicted. Example: </p>
+ *
+ * <pre>
+ *  WarmUp.preload(
+ *      Collections.singleton(Locale.GERMANY),
+ *      Collections.singleton(EUROPE.BERLIN),
+ *      Collections.singleton(HijriCalendar.class));
+ * </pre>
+ *
+ * <p><strong>Class data sharing:</strong> The main method of this class performs the same warm-up
+ * and can hence be used to record a class list for application class data sharing (Java 10 or later).
+ * The arguments have the form &quot;locale:&lt;language tag&gt;&quot;, &quot;zone:&lt;timezone id&gt;&quot;
+ * or &quot;chronology:&lt;class name&gt;&quot;: </p>
+ *
+ * <pre>
+ *  java -XX:DumpLoadedClassList=time4j.classlist -cp &lt;classpath&gt; net.time4j.format.expert.WarmUp
+ *      locale:de-DE zone:Europe/Berlin chronology:net.time4j.calendar.HijriCalendar
+ *  java -Xshare:dump -XX:SharedClassListFile=time4j.classlist -XX:SharedArchiveFile=time4j.jsa
+ *      -cp &lt;classpath&gt;
+ *  java -XX:SharedArchiveFile=time4j.jsa -cp &lt;classpath&gt; &lt;main-class&gt;
+ * </pre>
+ *
+ * <p>Applications should then still call {@code preload(...)} at startup because class data sharing
+ * only avoids the cost of class loading but not the cost of loading the resources. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>L&auml;dt und fixiert die verz&ouml;gert initialisierten Caches von Time4J im voraus, so da&szlig;
+ * schon die erste Formatierungs- oder Zeitzonenanfrage einer Anwendung mit der Latenz des eingeschwungenen
+ * Zustands bedient wird. </p>
+ *
+ * <p>Das Vorladen l&auml;dt f&uuml;r jede angegebene Sprache die Kalendertexte, Wochenmodelle, Pluralregeln,
+ * Einheitsmuster und die lokalisierten Stilformatmuster der Standardtypen, f&uuml;r jede angegebene Zeitzone
+ * das Zonenmodell und die lokalisierten Zonennamen und f&uuml;r jede angegebene Chronologie die Chronologie
+ * selbst zusammen mit ihren Kalendertexten. Alle geladenen Objekte werden bis zum Aufruf von
+ * {@link #release()} stark referenziert und in den internen gr&ouml;&szlig;enbegrenzten Caches fixiert,
+ * so da&szlig; sie nicht entfernt werden k&ouml;nnen. Beispiel: </p>
+ *
+ * <pre>
+ *  WarmUp.preload(
+ *      Collections.singleton(Locale.GERMANY),
+ *      Collections.singleton(EUROPE.BERLIN),
+ *      Collections.singleton(HijriCalendar.class));
+ * </pre>
+ *
+ * <p><strong>Class Data Sharing:</strong> Die main-Methode dieser Klasse f&uuml;hrt das gleiche Vorladen
+ * durch und kann deshalb verwendet werden, um eine Klassenliste f&uuml;r <i>Application Class Data
+ * Sharing</i> aufzuzeichnen (Java 10 oder sp&auml;ter). Die Argumente haben die Form
+ * &quot;locale:&lt;language tag&gt;&quot;, &quot;zone:&lt;timezone id&gt;&quot; oder
+ * &quot;chronology:&lt;class name&gt;&quot;: </p>
+ *
+ * <pre>
+ *  java -XX:DumpLoadedClassList=time4j.classlist -cp &lt;classpath&gt; net.time4j.format.expert.WarmUp
+ *      locale:de-DE zone:Europe/Berlin chronology:net.time4j.calendar.HijriCalendar
+ *  java -Xshare:dump -XX:SharedClassListFile=time4j.classlist -XX:SharedArchiveFile=time4j.jsa
+ *      -cp &lt;classpath&gt;
+ *  java -XX:SharedArchiveFile=time4j.jsa -cp &lt;classpath&gt; &lt;main-class&gt;
+ * </pre>
+ *
+ * <p>Anwendungen sollten dann trotzdem {@code preload(...)} beim Start aufrufen, weil <i>Class Data
+ * Sharing</i> nur die Kosten des Ladens der Klassen, aber nicht die Kosten des Ladens der Ressourcen
+ * vermeidet. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class WarmUp {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final List<Object> PINNED = new CopyOnWriteArrayList<>();
+    private static final List<Runnable> RELEASES = new CopyOnWriteArrayList<>();
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private WarmUp() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Preloads and pins all localized resources, timezone data and chronologies for given arguments. </p>
+     *
+     * @param   locales         languages or countries to be used in formatting
+     * @param   zones           timezone identifiers to be used
+     * @param   chronologies    chronological types whose chronologies and calendar texts shall be loaded
+     * @throws  IllegalArgumentException if any chronological type has no chronology
+     * @throws  IllegalArgumentException if any timezone cannot be loaded
+     */
+    /*[deutsch]
+     * <p>L&auml;dt und fixiert alle lokalisierten Ressourcen, Zeitzonendaten und Chronologien zu den
+     * angegebenen Argumenten im voraus. </p>
+     *
+     * @param   locales         languages or countries to be used in formatting
+     * @param   zones           timezone identifiers to be used
+     * @param   chronologies    chronological types whose chronologies and calendar texts shall be loaded
+     * @throws  IllegalArgumentException if any chronological type has no chronology
+     * @throws  IllegalArgumentException if any timezone cannot be loaded
+     */
+    public static void preload(
+        Set<Locale> locales,
+        Set<? extends TZID> zones,
+        Set<? extends Class<?>> chronologies
+    ) {
+
+        List<Object> pinned = new ArrayList<>();
+        List<Chronology<?>> chronos = new ArrayList<>();
+        Moment now = SystemClock.currentMoment();
+
+        for (Class<?> chronoType : chronologies) {
+            Chronology<?> chronology = Chronology.lookup(chronoType);
+            if (chronology == null) {
+                throw new IllegalArgumentException("No chronology found: " + chronoType.getName());
+            }
+            chronos.add(chronology);
+        }
+
+        for (TZID tzid : zones) {
+            Timezone tz = Timezone.of(tzid);
+            tz.getOffset(now);
+            pinned.add(tz);
+        }
+
+        RELEASES.add(LocaleCache.pinDuring(() -> preload(locales, zones, chronos, now, pinned)));
+        pinned.addAll(chronos);
+        PINNED.addAll(pinned);
+
+    }
+
+    /**
+     * <p>Releases all objects pinned by previous warm-ups so they become eligible for cache eviction
+     * again. </p>
+     *
+     * <p>Cache entries pinned by other parts of the application remain pinned. </p>
+     */
+    /*[deutsch]
+     * <p>Gibt alle durch vorherige Aufrufe fixierten Objekte frei, so da&szlig; sie wieder aus den
+     * Caches entfernt werden k&ouml;nnen. </p>
+     *
+     * <p>Cache-Eintr&auml;ge, die von anderen Teilen der Anwendung fixiert wurden, bleiben fixiert. </p>
+     */
+    public static void release() {
+
+        PINNED.clear();
+
+        for (Runnable release : RELEASES) {
+            if (RELEASES.remove(release)) { // nur die eigenen Fixierungen freigeben, jede genau einmal
+                release.run();
+            }
+        }
+
+    }
+
+    /**
+     * <p>Performs a warm-up for given arguments, mainly for recording a class list of all loaded
+     * classes. </p>
+     *
+     * @param   args    list of &quot;locale:&lt;language tag&gt;&quot;, &quot;zone:&lt;timezone id&gt;&quot;
+     *                  or &quot;chronology:&lt;class name&gt;&quot;
+     * @throws  ClassNotFoundException if any chronological type cannot be found
+     */
+    /*[deutsch]
+     * <p>F&uuml;hrt ein Vorladen zu den angegebenen Argumenten durch, haupts&auml;chlich zum Zweck der
+     * Aufzeichnung einer Liste aller geladenen Klassen. </p>
+     *
+     * @param   args    list of &quot;locale:&lt;language tag&gt;&quot;, &quot;zone:&lt;timezone id&gt;&quot;
+     *                  or &quot;chronology:&lt;class name&gt;&quot;
+     * @throws  ClassNotFoundException if any chronological type cannot be found
+     */
+    public static void main(String[] args) throws ClassNotFoundException {
+
+        Set<Locale> locales = new LinkedHashSet<>();
+        Set<TZID> zones = new LinkedHashSet<>();
+        Set<Class<?>> chronologies = new LinkedHashSet<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("locale:")) {
+                locales.add(Locale.forLanguageTag(arg.substring(7)));
+            } else if (arg.startsWith("zone:")) {
+                zones.add(Timezone.of(arg.substring(5)).getID());
+            } else if (arg.startsWith("chronology:")) {
+                chronologies.add(Class.forName(arg.substring(11)));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        if (locales.isEmpty()) {
+            locales.add(Locale.getDefault(Locale.Category.FORMAT));
+        }
+
+        preload(locales, zones, chronologies);
+
+    }
+
+    // lädt alle sprachabhängigen Ressourcen (innerhalb von LocaleCache.pinDuring() aufzurufen)
+    private static void preload(
+        Set<Locale> locales,
+        Set<? extends TZID> zones,
+        List<Chronology<?>> chronos,
+        Moment now,
+        List<Object> pinned
+    ) {
+
+        for (Locale locale : locales) {
+            pinned.add(CalendarText.getIsoInstance(locale));
+            pinned.add(Weekmodel.of(locale));
+            pinned.add(PluralRules.ofCompiled(locale, NumberType.CARDINALS));
+            pinned.add(PluralRules.ofCompiled(locale, NumberType.ORDINALS));
+
+            PrettyTime pt = PrettyTime.of(locale);
+            pt.print(1, CalendarUnit.DAYS, TextWidth.WIDE);
+            pt.print(1, ClockUnit.HOURS, TextWidth.ABBREVIATED);
+            pinned.add(pt);
+
+            PlainTimestamp tsp = now.toZonalTimestamp(ZonalOffset.UTC);
+            pinned.add(roundTrip(ChronoFormatter.ofDateStyle(DisplayMode.MEDIUM, locale), tsp.getCalendarDate()));
+            pinned.add(roundTrip(ChronoFormatter.ofTimestampStyle(DisplayMode.MEDIUM, DisplayMode.SHORT, locale), tsp));
+
+            for (TZID tzid : zones) {
+                Timezone.getDisplayName(tzid, NameStyle.LONG_STANDARD_TIME, locale);
+                Timezone.getDisplayName(tzid, NameStyle.SHORT_STANDARD_TIME, locale);
+                pinned.add(
+                    roundTrip(ChronoFormatter.ofMomentStyle(DisplayMode.FULL, DisplayMode.FULL, locale, tzid), now));
+            }
+
+            for (Chronology<?> chronology : chronos) {
+                pinned.add(CalendarText.getInstance(chronology, locale));
+                if (LocalizedPatternSupport.class.isAssignableFrom(chronology.getChronoType())) {
+                    pinned.add(ChronoFormatter.ofStyle(DisplayMode.MEDIUM, locale, cast(chronology)));
+                }
+            }
+        }
+
+    }
+
+    private static <T> ChronoFormatter<T> roundTrip(
+        ChronoFormatter<T> formatter,
+        T value
+    ) {
+
+        try {
+            formatter.parse(formatter.format(value));
+        } catch (ParseException pe) {
+            // some localized styles are not parseable, this is irrelevant for warming up
+        }
+
+        return formatter;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends LocalizedPatternSupport> Chronology<T> cast(Chronology<?> chronology) {
+
+        return (Chronology<T>) chronology;
+
+    }
+
+}
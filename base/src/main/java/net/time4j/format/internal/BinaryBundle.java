@@ -0,0 +1,378 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BinaryBundle.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+
+/**
+ * <p>Vorkompiliertes bin&auml;res B&uuml;ndel aller <i>property</i>-Ressourcen. </p>
+ *
+ * <p>Aufbau (big endian): </p>
+ *
+ * <pre>
+ *  int     magic number
+ *  int     version
+ *  int     count of strings (n)
+ *  int[]   n + 1 offsets into the UTF-8-block
+ *  byte[]  UTF-8-block
+ *  int     count of directories, followed by their string indices
+ *  int     count of resources, followed by triples (name index, first entry, count of entries)
+ *  int     count of entries, followed by pairs (key index, value index) sorted by key per resource
+ * </pre>
+ *
+ * <p>Alle Zeichenketten werden erst bei Bedarf dekodiert und dann zwischengespeichert. Die Schl&uuml;ssel
+ * und Werte sind &uuml;ber alle Ressourcen hinweg dedupliziert. </p>
+ *
+ * @author  Meno Hochschild
+ * @see     PropertyBundleCompiler
+ * @since   5.6
+ */
+final class BinaryBundle {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Name der bin&auml;ren Ressource relativ zum Wurzelverzeichnis der Ressourcen.
+     */
+    static final String RESOURCE_NAME = "data/propertybundle.data";
+
+    static final int MAGIC = 0x54344A42; // T4JB
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 12;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int blockPos;
+    private final int dirPos;
+    private final int resourcePos;
+    private final int resourceCount;
+    private final int entryPos;
+    private final String[] strings;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BinaryBundle(ByteBuffer buffer) throws IOException {
+        super();
+
+        if ((buffer.getInt(0) != MAGIC) || (buffer.getInt(4) != VERSION)) {
+            throw new IOException("Unsupported format of property bundle.");
+        }
+
+        this.buffer = buffer;
+        this.stringCount = buffer.getInt(8);
+        this.blockPos = HEADER_SIZE + 4 * (this.stringCount + 1);
+        this.dirPos = this.blockPos + buffer.getInt(HEADER_SIZE + 4 * this.stringCount);
+        this.resourcePos = this.dirPos + 4 + 4 * buffer.getInt(this.dirPos);
+        this.resourceCount = buffer.getInt(this.resourcePos);
+        this.entryPos = this.resourcePos + 4 + 12 * this.resourceCount;
+        this.strings = new String[this.stringCount];
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert das bin&auml;re B&uuml;ndel, wenn es zur Laufzeit vorhanden ist. </p>
+     *
+     * @return  binary bundle or {@code null} if not available
+     */
+    static BinaryBundle getInstance() {
+
+        return Holder.INSTANCE;
+
+    }
+
+    /**
+     * <p>Interpretiert den angegebenen Puffer als bin&auml;res B&uuml;ndel. </p>
+     *
+     * @param   buffer  buffer containing the whole binary bundle
+     * @return  new instance
+     * @throws  IOException if the buffer does not contain a binary bundle
+     */
+    static BinaryBundle of(ByteBuffer buffer) throws IOException {
+
+        return new BinaryBundle(buffer);
+
+    }
+
+    /**
+     * <p>Ermittelt, ob das Verzeichnis der angegebenen Ressource vollst&auml;ndig in diesem
+     * B&uuml;ndel enthalten ist. </p>
+     *
+     * @param   resourceName    name of properties resource like &quot;names/iso8601_de.properties&quot;
+     * @return  {@code true} if the resource is either contained or known to be absent else {@code false}
+     */
+    boolean covers(String resourceName) {
+
+        int slash = resourceName.lastIndexOf('/');
+        String dir = ((slash == -1) ? "" : resourceName.substring(0, slash));
+
+        for (int i = 0, n = this.buffer.getInt(this.dirPos); i < n; i++) {
+            if (this.getString(this.buffer.getInt(this.dirPos + 4 + 4 * i)).equals(dir)) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    /**
+     * <p>Liefert die Eigenschaften der angegebenen Ressource. </p>
+     *
+     * @param   resourceName    name of properties resource like &quot;names/iso8601_de.properties&quot;
+     * @return  unmodifiable map of lazily decoded properties or {@code null} if not found
+     */
+    Map<String, String> getProperties(String resourceName) {
+
+        int low = 0;
+        int high = this.resourceCount - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int pos = this.resourcePos + 4 + 12 * mid;
+            int cmp = this.getString(this.buffer.getInt(pos)).compareTo(resourceName);
+
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return new Properties(this.buffer.getInt(pos + 4), this.buffer.getInt(pos + 8));
+            }
+        }
+
+        return null;
+
+    }
+
+    private String getString(int index) {
+
+        String s = this.strings[index]; // benign race
+
+        if (s == null) {
+            int offset = this.buffer.getInt(HEADER_SIZE + 4 * index);
+            int end = this.buffer.getInt(HEADER_SIZE + 4 * index + 4);
+            byte[] utf8 = new byte[end - offset];
+            ByteBuffer view = this.buffer.duplicate();
+            view.position(this.blockPos + offset);
+            view.get(utf8);
+            s = new String(utf8, StandardCharsets.UTF_8);
+            this.strings[index] = s;
+        }
+
+        return s;
+
+    }
+
+    private String getKey(int entry) {
+
+        return this.getString(this.buffer.getInt(this.entryPos + 4 + 8 * entry));
+
+    }
+
+    private String getValue(int entry) {
+
+        return this.getString(this.buffer.getInt(this.entryPos + 8 + 8 * entry));
+
+    }
+
+    private static BinaryBundle load() {
+
+        try {
+            ResourceLoader loader = ResourceLoader.getInstance();
+            URI uri = loader.locate("base", BinaryBundle.class, RESOURCE_NAME);
+
+            if ((uri != null) && "file".equals(uri.getScheme())) {
+                File file = new File(uri);
+                if (file.isFile()) {
+                    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                        FileChannel channel = raf.getChannel();
+                        return new BinaryBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                    }
+                }
+            }
+
+            InputStream stream = loader.load(uri, true);
+
+            if (stream == null) {
+                try {
+                    stream = loader.load(BinaryBundle.class, RESOURCE_NAME, true);
+                } catch (IOException ioe) {
+                    return null; // the binary bundle has not been compiled
+                }
+            }
+
+            try (InputStream is = stream) {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream(1 << 16);
+                byte[] chunk = new byte[8192];
+                int n;
+                while ((n = is.read(chunk)) != -1) {
+                    baos.write(chunk, 0, n);
+                }
+                return new BinaryBundle(ByteBuffer.wrap(baos.toByteArray()));
+            }
+        } catch (IOException | IllegalArgumentException | SecurityException ex) {
+            System.err.println("Warning: Cannot read binary property bundle (" + ex.getMessage() + ").");
+            return null;
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Holder {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final BinaryBundle INSTANCE = load();
+
+    }
+
+    private class Properties
+        extends AbstractMap<String, String> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int start;
+        private final int count;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Properties(
+            int start,
+            int count
+        ) {
+            super();
+
+            this.start = start;
+            this.count = count;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public String get(Object key) {
+
+            int entry = this.indexOf(key);
+            return ((entry == -1) ? null : BinaryBundle.this.getValue(entry));
+
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+
+            return (this.indexOf(key) != -1);
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.count;
+
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int index = 0;
+                        @Override
+                        public boolean hasNext() {
+                            return (this.index < Properties.this.count);
+                        }
+                        @Override
+                        public Entry<String, String> next() {
+                            if (this.index >= Properties.this.count) {
+                                throw new NoSuchElementException();
+                            }
+                            int entry = Properties.this.start + this.index;
+                            this.index++;
+                            return new SimpleImmutableEntry<>(
+                                BinaryBundle.this.getKey(entry),
+                                BinaryBundle.this.getValue(entry));
+                        }
+                    };
+                }
+                @Override
+                public int size() {
+                    return Properties.this.count;
+                }
+            };
+
+        }
+
+        private int indexOf(Object key) {
+
+            if (!(key instanceof String)) {
+                return -1;
+            }
+
+            String s = (String) key;
+            int low = this.start;
+            int high = this.start + this.count - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = BinaryBundle.this.getKey(mid).compareTo(s);
+
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -1;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CacheStatisticsMXBean.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+
+/**
+ * <p>Management interface of a {@link LocaleCache}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Management-Schnittstelle eines {@link LocaleCache}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public interface CacheStatisticsMXBean {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the name of the cache. </p>
+     *
+     * @return  String
+     */
+    /*[deutsch]
+     * <p>Liefert den Namen des Cache. </p>
+     *
+     * @return  String
+     */
+    String getName();
+
+    /**
+     * <p>Yields the current count of cached entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die aktuelle Anzahl der Cache-Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    int getSize();
+
+    /**
+     * <p>Yields the maximum count of cached entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale Anzahl der Cache-Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    int getCapacity();
+
+    /**
+     * <p>Changes the maximum count of cached entries and evicts the least recently used
+     * entries if necessary. </p>
+     *
+     * @param   capacity    new maximum count of cached entries (zero disables the cache)
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    /*[deutsch]
+     * <p>&Auml;ndert die maximale Anzahl der Cache-Eintr&auml;ge und entfernt bei Bedarf die
+     * am l&auml;ngsten nicht benutzten Eintr&auml;ge. </p>
+     *
+     * @param   capacity    new maximum count of cached entries (zero disables the cache)
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    void setCapacity(int capacity);
+
+    /**
+     * <p>Yields the count of successful cache lookups. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der erfolgreichen Cache-Abfragen. </p>
+     *
+     * @return  long
+     */
+    long getHitCount();
+
+    /**
+     * <p>Yields the count of failed cache lookups. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der erfolglosen Cache-Abfragen. </p>
+     *
+     * @return  long
+     */
+    long getMissCount();
+
+    /**
+     * <p>Yields the count of entries removed due to the capacity limit. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der wegen der Gr&ouml;&szlig;enbegrenzung entfernten Eintr&auml;ge. </p>
+     *
+     * @return  long
+     */
+    long getEvictionCount();
+
+    /**
+     * <p>Removes all entries from the cache. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Eintr&auml;ge aus dem Cache. </p>
+     */
+    void clear();
+
+}
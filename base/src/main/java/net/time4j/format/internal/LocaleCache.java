@@ -0,0 +1,536 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LocaleCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+/**
+ * <p>Size-bounded cache with approximate least-recently-used eviction for localized resources. </p>
+ *
+ * <p>Reading is lock-free. Every entry carries a reference bit which is set on access, and only
+ * writes which exceed the capacity evict entries by the second-chance algorithm (entries not
+ * accessed since the last sweep are removed first). Entries can be pinned so that they are never
+ * evicted, see {@link #pinDuring(Runnable)}. </p>
+ *
+ * <p>The capacity of a cache with given name can be configured by the system property
+ * &quot;net.time4j.cache.{name}.size&quot; or at runtime. The statistics of all caches can be
+ * exposed as MXBeans under the object name &quot;net.time4j:type=LocaleCache,name={name}&quot;
+ * either by calling {@link #registerMBeans()} or by setting the system property
+ * &quot;net.time4j.cache.jmx&quot; to {@code true}. </p>
+ *
+ * @param   <K> generic key type
+ * @param   <V> generic value type
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Gr&ouml;&szlig;enbegrenzter Cache f&uuml;r lokalisierte Ressourcen, der ann&auml;hernd die am
+ * l&auml;ngsten nicht benutzten Eintr&auml;ge entfernt. </p>
+ *
+ * <p>Das Lesen kommt ohne Sperren aus. Jeder Eintrag hat ein Referenzbit, das beim Zugriff gesetzt
+ * wird, und nur Schreibvorg&auml;nge, die die Kapazit&auml;t &uuml;berschreiten, entfernen
+ * Eintr&auml;ge nach dem Second-Chance-Algorithmus (Eintr&auml;ge ohne Zugriff seit dem letzten
+ * Durchlauf werden zuerst entfernt). Eintr&auml;ge k&ouml;nnen fixiert werden, so da&szlig; sie nie
+ * entfernt werden, siehe {@link #pinDuring(Runnable)}. </p>
+ *
+ * <p>Die Kapazit&auml;t eines Cache mit dem angegebenen Namen kann mit Hilfe der System-Property
+ * &quot;net.time4j.cache.{name}.size&quot; oder zur Laufzeit konfiguriert werden. Die Statistiken
+ * aller Caches k&ouml;nnen als MXBeans unter dem Objektnamen
+ * &quot;net.time4j:type=LocaleCache,name={name}&quot; ver&ouml;ffentlicht werden, entweder durch
+ * Aufruf von {@link #registerMBeans()} oder durch Setzen der System-Property
+ * &quot;net.time4j.cache.jmx&quot; auf {@code true}. </p>
+ *
+ * @param   <K> generic key type
+ * @param   <V> generic value type
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class LocaleCache<K, V>
+    implements CacheStatisticsMXBean {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final List<LocaleCache<?, ?>> INSTANCES = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Set<Node<?>>> PINNING = new ThreadLocal<>();
+    private static volatile boolean jmx = Boolean.getBoolean("net.time4j.cache.jmx");
+    private static volatile int pinningThreads = 0;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String name;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    private volatile int capacity;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private LocaleCache(
+        String name,
+        int capacity
+    ) {
+        super();
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative cache capacity: " + capacity);
+        }
+
+        this.name = name;
+        this.capacity = capacity;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.map = new ConcurrentHashMap<>();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new cache with given name and default capacity. </p>
+     *
+     * @param   <K> generic key type
+     * @param   <V> generic value type
+     * @param   name                name of cache (also used for configuration)
+     * @param   defaultCapacity     maximum count of entries if not configured otherwise
+     * @return  new cache
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Cache mit dem angegebenen Namen und der Standardkapazit&auml;t. </p>
+     *
+     * @param   <K> generic key type
+     * @param   <V> generic value type
+     * @param   name                name of cache (also used for configuration)
+     * @param   defaultCapacity     maximum count of entries if not configured otherwise
+     * @return  new cache
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    public static <K, V> LocaleCache<K, V> of(
+        String name,
+        int defaultCapacity
+    ) {
+
+        int capacity = defaultCapacity;
+
+        try {
+            capacity = Integer.getInteger("net.time4j.cache." + name + ".size", defaultCapacity);
+        } catch (SecurityException se) {
+            // use default capacity
+        }
+
+        LocaleCache<K, V> cache = new LocaleCache<>(name, capacity);
+        INSTANCES.add(cache);
+
+        if (jmx) {
+            cache.register();
+        }
+
+        return cache;
+
+    }
+
+    /**
+     * <p>Registers all existing and future caches as MXBeans in the platform MBean server. </p>
+     *
+     * <p>This method has no effect on platforms without JMX support. </p>
+     */
+    /*[deutsch]
+     * <p>Registriert alle existierenden und zuk&uuml;nftigen Caches als MXBeans im MBean-Server
+     * der Plattform. </p>
+     *
+     * <p>Diese Methode hat keine Wirkung auf Plattformen ohne JMX-Unterst&uuml;tzung. </p>
+     */
+    public static void registerMBeans() {
+
+        jmx = true;
+
+        for (LocaleCache<?, ?> cache : INSTANCES) {
+            cache.register();
+        }
+
+    }
+
+    /**
+     * <p>Runs given action and pins all cache entries which are read or stored by the current
+     * thread during the action in any cache. </p>
+     *
+     * <p>Pinned entries are never evicted, even if the capacity is exceeded, until the returned
+     * release action is run for every call which has pinned them, or until {@link #unpinAll()}
+     * is called or the cache is cleared. Nested calls in the same thread contribute to the
+     * outermost call and return a release action without effect. </p>
+     *
+     * @param   action      action which accesses cached resources
+     * @return  action which releases exactly the entries pinned by this call
+     */
+    /*[deutsch]
+     * <p>F&uuml;hrt die angegebene Aktion aus und fixiert alle Cache-Eintr&auml;ge, die dabei vom
+     * aktuellen {@code Thread} in irgendeinem Cache gelesen oder gespeichert werden. </p>
+     *
+     * <p>Fixierte Eintr&auml;ge werden nie entfernt, auch nicht bei &Uuml;berschreiten der
+     * Kapazit&auml;t, bis die zur&uuml;ckgegebene Freigabeaktion f&uuml;r jeden Aufruf, der sie
+     * fixiert hat, ausgef&uuml;hrt wird, oder bis {@link #unpinAll()} aufgerufen oder der Cache
+     * geleert wird. Verschachtelte Aufrufe im selben {@code Thread} tragen zum &auml;u&szlig;ersten
+     * Aufruf bei und liefern eine Freigabeaktion ohne Wirkung. </p>
+     *
+     * @param   action      action which accesses cached resources
+     * @return  action which releases exactly the entries pinned by this call
+     */
+    public static Runnable pinDuring(Runnable action) {
+
+        if (PINNING.get() != null) {
+            action.run();
+            return () -> {};
+        }
+
+        Set<Node<?>> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        synchronized (LocaleCache.class) {
+            pinningThreads++;
+        }
+
+        PINNING.set(nodes);
+
+        try {
+            action.run();
+        } finally {
+            PINNING.remove();
+            synchronized (LocaleCache.class) {
+                pinningThreads--;
+            }
+        }
+
+        return () -> unpin(nodes);
+
+    }
+
+    /**
+     * <p>Releases all pinned entries in all caches so they become eligible for eviction again. </p>
+     */
+    /*[deutsch]
+     * <p>Gibt alle fixierten Eintr&auml;ge in allen Caches frei, so da&szlig; sie wieder entfernt
+     * werden k&ouml;nnen. </p>
+     */
+    public static void unpinAll() {
+
+        synchronized (LocaleCache.class) {
+            for (LocaleCache<?, ?> cache : INSTANCES) {
+                for (Node<?> node : cache.map.values()) {
+                    node.pins = 0;
+                }
+            }
+        }
+
+        for (LocaleCache<?, ?> cache : INSTANCES) {
+            cache.evict(null);
+        }
+
+    }
+
+    /**
+     * <p>Looks up the value for given key. </p>
+     *
+     * @param   key     cache key
+     * @return  cached value or {@code null}
+     */
+    /*[deutsch]
+     * <p>Sucht den Wert zum angegebenen Schl&uuml;ssel. </p>
+     *
+     * @param   key     cache key
+     * @return  cached value or {@code null}
+     */
+    public V get(K key) {
+
+        Node<V> node = this.map.get(key);
+
+        if (node == null) {
+            this.misses.increment();
+            return null;
+        }
+
+        touch(node);
+        this.hits.increment();
+        return node.value;
+
+    }
+
+    /**
+     * <p>Stores given value if there is no value for given key yet. </p>
+     *
+     * @param   key     cache key
+     * @param   value   new value
+     * @return  the value now associated with given key (either the old value or the new one)
+     */
+    /*[deutsch]
+     * <p>Speichert den angegebenen Wert, wenn es noch keinen Wert zum Schl&uuml;ssel gibt. </p>
+     *
+     * @param   key     cache key
+     * @param   value   new value
+     * @return  the value now associated with given key (either the old value or the new one)
+     */
+    public V putIfAbsent(
+        K key,
+        V value
+    ) {
+
+        boolean pinning = isPinning();
+
+        if ((this.capacity == 0) && !pinning) {
+            return value;
+        }
+
+        Node<V> node = new Node<>(value);
+
+        if (pinning) {
+            pin(node); // vor dem Einfügen, damit der Eintrag nie ungeschützt sichtbar ist
+        }
+
+        Node<V> old = this.map.putIfAbsent(key, node);
+
+        if (old != null) {
+            touch(old);
+            return old.value;
+        } else if (this.map.size() > this.capacity) {
+            this.evict(node);
+        }
+
+        return value;
+
+    }
+
+    /**
+     * <p>Removes the entry of given key if present (even if pinned). </p>
+     *
+     * @param   key     cache key
+     */
+    /*[deutsch]
+     * <p>Entfernt den Eintrag zum angegebenen Schl&uuml;ssel, falls vorhanden (auch wenn
+     * fixiert). </p>
+     *
+     * @param   key     cache key
+     */
+    public void remove(K key) {
+
+        this.map.remove(key);
+
+    }
+
+    @Override
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    @Override
+    public int getSize() {
+
+        return this.map.size();
+
+    }
+
+    @Override
+    public int getCapacity() {
+
+        return this.capacity;
+
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative cache capacity: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.evict(null);
+
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return this.hits.sum();
+
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return this.misses.sum();
+
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return this.evictions.sum();
+
+    }
+
+    @Override
+    public void clear() {
+
+        this.map.clear();
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "LocaleCache[name=" + this.name
+            + ",size=" + this.getSize()
+            + ",capacity=" + this.getCapacity()
+            + ",hits=" + this.getHitCount()
+            + ",misses=" + this.getMissCount()
+            + ",evictions=" + this.getEvictionCount()
+            + "]";
+
+    }
+
+    private static boolean isPinning() {
+
+        return ((pinningThreads > 0) && (PINNING.get() != null));
+
+    }
+
+    private static void touch(Node<?> node) {
+
+        if (!node.referenced) {
+            node.referenced = true; // nur schreiben, wenn nötig (vermeidet Cache-Line-Konflikte)
+        }
+
+        if (isPinning()) {
+            pin(node);
+        }
+
+    }
+
+    // zählt jeden Eintrag höchstens einmal pro äußerem Aufruf von pinDuring()
+    private static void pin(Node<?> node) {
+
+        if (PINNING.get().add(node)) {
+            synchronized (LocaleCache.class) {
+                node.pins++;
+            }
+        }
+
+    }
+
+    // Freigabe der von einem Aufruf von pinDuring() fixierten Einträge, wiederholte Aufrufe ohne Wirkung
+    private static void unpin(Set<Node<?>> nodes) {
+
+        synchronized (LocaleCache.class) {
+            for (Node<?> node : nodes) {
+                if (node.pins > 0) {
+                    node.pins--;
+                }
+            }
+            nodes.clear();
+        }
+
+        for (LocaleCache<?, ?> cache : INSTANCES) {
+            cache.evict(null);
+        }
+
+    }
+
+    // Second-Chance-Verfahren, nur für Schreibvorgänge, daher genügt eine einfache Sperre
+    // (der gerade eingefügte Eintrag bleibt verschont)
+    private synchronized void evict(Node<V> inserted) {
+
+        boolean referencesCleared = true;
+
+        while ((this.map.size() > this.capacity) && referencesCleared) {
+            referencesCleared = false;
+            Iterator<Map.Entry<K, Node<V>>> iter = this.map.entrySet().iterator();
+
+            while ((this.map.size() > this.capacity) && iter.hasNext()) {
+                Node<V> node = iter.next().getValue();
+
+                if ((node.pins > 0) || (node == inserted)) {
+                    continue;
+                } else if (node.referenced) {
+                    node.referenced = false;
+                    referencesCleared = true;
+                } else {
+                    iter.remove();
+                    this.evictions.increment();
+                }
+            }
+        }
+
+    }
+
+    private void register() {
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("net.time4j:type=LocaleCache,name=" + this.name);
+
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(this, objectName);
+            }
+        } catch (JMException | SecurityException | LinkageError ex) {
+            // no JMX support (for example on Android)
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Node<V> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final V value;
+        private volatile boolean referenced = false;
+        private volatile int pins = 0; // Anzahl der Aufrufe von pinDuring(), die den Eintrag fixiert haben
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Node(V value) {
+            super();
+
+            this.value = value;
+
+        }
+
+    }
+
+}
@@ -48,6 +48,9 @@ import java.util.concurrent.ConcurrentMap;
  * <p>Background: Java 9 or later does not permit the usage of {@code java.util.ResourceBundle.Control}
  * on the module path to define specific search strategies. </p>
  *
+ * <p>If the resources have been precompiled by {@link PropertyBundleCompiler} then this class
+ * will read the properties from the binary bundle and decode single keys and values on demand. </p>
+ *
  * @author  Meno Hochschild
  * @since   5.0
  */
@@ -58,6 +61,10 @@ import java.util.concurrent.ConcurrentMap;
  * <p>Hintergrund: Java 9 oder sp&auml;ter gestattet nicht den Gebrauch von {@code java.util.ResourceBundle.Control}
  * auf dem Modulpfad, um spezifische Suchstrategien zu definieren. </p>
  *
+ * <p>Wenn die Ressourcen mit {@link PropertyBundleCompiler} vorkompiliert wurden, liest diese Klasse
+ * die Eigenschaften aus dem bin&auml;ren B&uuml;ndel und dekodiert einzelne Schl&uuml;ssel und Werte
+ * erst bei Bedarf. </p>
+ *
  * @author  Meno Hochschild
  * @since   5.0
  */
@@ -78,34 +85,16 @@ public final class PropertyBundle {
     //~ Konstruktoren -----------------------------------------------------
 
     private PropertyBundle(
-        UTF8ResourceReader reader,
+        Map<String, String> key2values,
         String baseName,
         Locale bundleLocale
-    ) throws IOException {
+    ) {
         super();
 
         this.parent = null;
         this.baseName = baseName;
         this.bundleLocale = bundleLocale;
-
-        Map<String, String> map = new HashMap<>();
-        String line;
-
-        while ((line = reader.readLine()) != null) {
-            line = line.trim();
-            if (line.isEmpty() || (line.charAt(0) == '#')) {
-                continue; // ignore white space or comment
-            }
-            for (int i = 0, n = line.length(); i < n; i++) {
-                char c = line.charAt(i);
-                if ((c == '=') && (i + 1 < n)) {
-                    map.put(line.substring(0, i), line.substring(i + 1));
-                    break;
-                }
-            }
-        }
-
-        this.key2values = Collections.unmodifiableMap(map);
+        this.key2values = key2values;
 
     }
 
@@ -380,6 +369,36 @@ public final class PropertyBundle {
 
     }
 
+    /**
+     * <p>Liest die Eigenschaften einer <i>property</i>-Datei ein. </p>
+     *
+     * @param   reader  reader of properties resource
+     * @return  unmodifiable map of properties
+     * @throws  IOException in case of any I/O-error
+     */
+    static Map<String, String> parse(UTF8ResourceReader reader) throws IOException {
+
+        Map<String, String> map = new HashMap<>();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || (line.charAt(0) == '#')) {
+                continue; // ignore white space or comment
+            }
+            for (int i = 0, n = line.length(); i < n; i++) {
+                char c = line.charAt(i);
+                if ((c == '=') && (i + 1 < n)) {
+                    map.put(line.substring(0, i), line.substring(i + 1));
+                    break;
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(map);
+
+    }
+
     private PropertyBundle withParent(PropertyBundle parent) {
 
         if (parent == null) {
@@ -397,6 +416,12 @@ public final class PropertyBundle {
 
         PropertyBundle bundle = null;
         String resourceName = toResourceName(baseName, locale);
+        BinaryBundle binary = BinaryBundle.getInstance();
+
+        if ((binary != null) && binary.covers(resourceName)) {
+            Map<String, String> properties = binary.getProperties(resourceName);
+            return ((properties == null) ? null : new PropertyBundle(properties, baseName, locale));
+        }
 
         URI uri = ResourceLoader.getInstance().locate("base", PropertyBundle.class, resourceName);
         InputStream stream = ResourceLoader.getInstance().load(uri, true);
@@ -415,7 +440,7 @@ public final class PropertyBundle {
 
             try {
                 reader = new UTF8ResourceReader(stream);
-                bundle = new PropertyBundle(reader, baseName, locale);
+                bundle = new PropertyBundle(parse(reader), baseName, locale);
             } finally {
                 if (reader != null) {
                     reader.close();
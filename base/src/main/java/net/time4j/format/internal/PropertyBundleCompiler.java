@@ -0,0 +1,232 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (PropertyBundleCompiler.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+
+/**
+ * <p>Build tool which compiles all property resources of Time4J to one binary bundle. </p>
+ *
+ * <p>The binary bundle consists of a deduplicated string table and an index per resource
+ * and is read by {@link PropertyBundle} instead of the single property files if it is present
+ * at runtime. It can be produced by the Maven profile {@code binary-bundle} or manually by
+ * calling the main method with the directory of compiled resources as first argument. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Werkzeug, das alle <i>property</i>-Ressourcen von Time4J zu einem bin&auml;ren B&uuml;ndel
+ * kompiliert. </p>
+ *
+ * <p>Das bin&auml;re B&uuml;ndel besteht aus einer deduplizierten Tabelle von Zeichenketten und
+ * einem Index pro Ressource und wird von {@link PropertyBundle} anstelle der einzelnen Dateien
+ * gelesen, wenn es zur Laufzeit vorhanden ist. Es kann mit dem Maven-Profil {@code binary-bundle}
+ * oder manuell durch Aufruf der main-Methode mit dem Verzeichnis der kompilierten Ressourcen als
+ * erstem Argument erzeugt werden. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class PropertyBundleCompiler {
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PropertyBundleCompiler() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles all property files in the subdirectories of given resource directory
+     * and writes the binary bundle into the same resource directory. </p>
+     *
+     * @param   args    resource directory as first argument
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>Kompiliert alle <i>property</i>-Dateien in den Unterverzeichnissen des angegebenen
+     * Ressourcenverzeichnisses und schreibt das bin&auml;re B&uuml;ndel in das gleiche
+     * Ressourcenverzeichnis. </p>
+     *
+     * @param   args    resource directory as first argument
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: PropertyBundleCompiler <resource-directory>");
+        }
+
+        File root = new File(args[0]);
+        File target = new File(root, BinaryBundle.RESOURCE_NAME);
+        File parent = target.getParentFile();
+
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory: " + parent);
+        }
+
+        try (OutputStream os = new FileOutputStream(target)) {
+            compile(root, os);
+        }
+
+    }
+
+    /**
+     * <p>Compiles all property files in the subdirectories of given resource directory. </p>
+     *
+     * @param   root    resource directory
+     * @param   out     output stream the binary bundle will be written to (not closed)
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>Kompiliert alle <i>property</i>-Dateien in den Unterverzeichnissen des angegebenen
+     * Ressourcenverzeichnisses. </p>
+     *
+     * @param   root    resource directory
+     * @param   out     output stream the binary bundle will be written to (not closed)
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void compile(
+        File root,
+        OutputStream out
+    ) throws IOException {
+
+        SortedMap<String, SortedMap<String, String>> resources = new TreeMap<>();
+        SortedSet<String> dirs = new TreeSet<>();
+        File[] subdirs = root.listFiles();
+
+        if (subdirs == null) {
+            throw new IOException("Not a directory: " + root);
+        }
+
+        for (File dir : subdirs) {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                continue;
+            }
+            for (File file : files) {
+                if (file.isFile() && file.getName().endsWith(".properties")) {
+                    try (UTF8ResourceReader reader = new UTF8ResourceReader(new FileInputStream(file))) {
+                        resources.put(
+                            dir.getName() + "/" + file.getName(),
+                            new TreeMap<>(PropertyBundle.parse(reader)));
+                    }
+                    dirs.add(dir.getName());
+                }
+            }
+        }
+
+        Map<String, Integer> index = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+
+        for (String dir : dirs) {
+            register(dir, index, strings);
+        }
+
+        for (Map.Entry<String, SortedMap<String, String>> resource : resources.entrySet()) {
+            register(resource.getKey(), index, strings);
+            for (Map.Entry<String, String> entry : resource.getValue().entrySet()) {
+                register(entry.getKey(), index, strings);
+                register(entry.getValue(), index, strings);
+            }
+        }
+
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(BinaryBundle.MAGIC);
+        dos.writeInt(BinaryBundle.VERSION);
+        dos.writeInt(strings.size());
+
+        int offset = 0;
+
+        for (byte[] utf8 : strings) {
+            dos.writeInt(offset);
+            offset += utf8.length;
+        }
+
+        dos.writeInt(offset);
+
+        for (byte[] utf8 : strings) {
+            dos.write(utf8);
+        }
+
+        dos.writeInt(dirs.size());
+
+        for (String dir : dirs) {
+            dos.writeInt(index.get(dir));
+        }
+
+        dos.writeInt(resources.size());
+        int entries = 0;
+
+        for (Map.Entry<String, SortedMap<String, String>> resource : resources.entrySet()) {
+            int count = resource.getValue().size();
+            dos.writeInt(index.get(resource.getKey()));
+            dos.writeInt(entries);
+            dos.writeInt(count);
+            entries += count;
+        }
+
+        dos.writeInt(entries);
+
+        for (SortedMap<String, String> properties : resources.values()) {
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                dos.writeInt(index.get(entry.getKey()));
+                dos.writeInt(index.get(entry.getValue()));
+            }
+        }
+
+        dos.flush();
+
+    }
+
+    private static void register(
+        String s,
+        Map<String, Integer> index,
+        List<byte[]> strings
+    ) {
+
+        if (!index.containsKey(s)) {
+            index.put(s, strings.size());
+            strings.add(s.getBytes(StandardCharsets.UTF_8));
+        }
+
+    }
+
+}
@@ -0,0 +1,283 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (BitSetHolidayModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.EpochDays;
+
+import java.util.function.Predicate;
+
+
+/**
+ * <p>Holiday model backed by a bit set with one bit per day within a finite date range. </p>
+ *
+ * <p>Any predicate can be converted into this form for a given date range. Afterwards the query if a date
+ * is a non-business day is just a single memory read as long as the date is within the range. Dates outside
+ * of the range are delegated to the original predicate. Two bit set models can be combined by bit
+ * operations. Example: </p>
+ *
+ * <pre>
+ *     DateInterval range = DateInterval.between(PlainDate.of(2017, 1, 1), PlainDate.of(2027, 12, 31));
+ *     BitSetHolidayModel weekend = BitSetHolidayModel.of(HolidayModel.ofWeekend(Locale.GERMANY), range);
+ *     BitSetHolidayModel holidays = BitSetHolidayModel.of(myHolidayPredicate, range);
+ *     HolidayModel hm = weekend.or(holidays);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Feiertagsmodell, das auf einer Bitmenge mit einem Bit pro Tag innerhalb eines endlichen
+ * Datumsbereichs beruht. </p>
+ *
+ * <p>Jedes Pr&auml;dikat kann f&uuml;r einen gegebenen Datumsbereich in diese Form umgewandelt werden.
+ * Danach ist die Abfrage, ob ein Datum ein arbeitsfreier Tag ist, nur ein einziger Speicherzugriff,
+ * solange das Datum im Bereich liegt. Datumsangaben au&szlig;erhalb des Bereichs werden an das
+ * urspr&uuml;ngliche Pr&auml;dikat delegiert. Zwei Bitmengenmodelle k&ouml;nnen durch Bitoperationen
+ * kombiniert werden. Beispiel: </p>
+ *
+ * <pre>
+ *     DateInterval range = DateInterval.between(PlainDate.of(2017, 1, 1), PlainDate.of(2027, 12, 31));
+ *     BitSetHolidayModel weekend = BitSetHolidayModel.of(HolidayModel.ofWeekend(Locale.GERMANY), range);
+ *     BitSetHolidayModel holidays = BitSetHolidayModel.of(myHolidayPredicate, range);
+ *     HolidayModel hm = weekend.or(holidays);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class BitSetHolidayModel
+    implements HolidayModel {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Predicate<? super PlainDate> fallback;
+    private final long min; // inclusive (days since UTC epoch)
+    private final long max; // inclusive (days since UTC epoch)
+    private final long[] words;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private BitSetHolidayModel(
+        Predicate<? super PlainDate> fallback,
+        long min,
+        long max,
+        long[] words
+    ) {
+        super();
+
+        this.fallback = fallback;
+        this.min = min;
+        this.max = max;
+        this.words = words;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Evaluates given predicate for every day of given date range and stores the results as bits. </p>
+     *
+     * @param   predicate   the predicate which determines non-business days
+     * @param   range       finite date range to be covered by the bit set
+     * @return  new bit set holiday model
+     * @throws  ChronoException if given range is infinite or empty
+     * @throws  ArithmeticException if given range is too long
+     */
+    /*[deutsch]
+     * <p>Wertet das angegebene Pr&auml;dikat f&uuml;r jeden Tag des angegebenen Datumsbereichs aus
+     * und speichert die Ergebnisse als Bits. </p>
+     *
+     * @param   predicate   the predicate which determines non-business days
+     * @param   range       finite date range to be covered by the bit set
+     * @return  new bit set holiday model
+     * @throws  ChronoException if given range is infinite or empty
+     * @throws  ArithmeticException if given range is too long
+     */
+    public static BitSetHolidayModel of(
+        Predicate<? super PlainDate> predicate,
+        ChronoInterval<PlainDate> range
+    ) {
+
+        if (predicate == null) {
+            throw new NullPointerException("Missing predicate.");
+        } else if (!range.isFinite()) {
+            throw new ChronoException("Cannot query infinite intervals.");
+        } else if (range.isEmpty()) {
+            throw new ChronoException("Cannot query empty intervals.");
+        }
+
+        DateInterval di = DateInterval.from(range);
+        long min = di.getClosedFiniteStart().getDaysSinceEpochUTC();
+        long max = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+        int n = Math.toIntExact(max - min + 1);
+        long[] words = new long[(n + 63) >>> 6];
+        PlainDate date = di.getClosedFiniteStart();
+
+        for (int i = 0; i < n; i++) {
+            if (predicate.test(date)) {
+                words[i >>> 6] |= (1L << i);
+            }
+            if (i < n - 1) {
+                date = date.plus(1, CalendarUnit.DAYS);
+            }
+        }
+
+        return new BitSetHolidayModel(predicate, min, max, words);
+
+    }
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        long utcDays = date.getDaysSinceEpochUTC();
+
+        if ((utcDays >= this.min) && (utcDays <= this.max)) {
+            int index = (int) (utcDays - this.min);
+            return ((this.words[index >>> 6] & (1L << index)) != 0);
+        }
+
+        return this.fallback.test(date);
+
+    }
+
+    /**
+     * <p>Obtains the date range covered by the bit set. </p>
+     *
+     * @return  closed date interval
+     */
+    /*[deutsch]
+     * <p>Liefert den von der Bitmenge abgedeckten Datumsbereich. </p>
+     *
+     * @return  closed date interval
+     */
+    public DateInterval getRange() {
+
+        return DateInterval.between(PlainDate.of(this.min, EpochDays.UTC), PlainDate.of(this.max, EpochDays.UTC));
+
+    }
+
+    /**
+     * <p>Combines this model with given model such that a day is only a non-business day
+     * if both models say so. </p>
+     *
+     * <p>The range of the result is the intersection of both ranges. </p>
+     *
+     * @param   other   another bit set model
+     * @return  combined model (bitwise AND)
+     * @throws  ChronoException if the ranges of both models do not overlap
+     */
+    /*[deutsch]
+     * <p>Kombiniert dieses Modell mit dem angegebenen Modell so, da&szlig; ein Tag nur dann arbeitsfrei
+     * ist, wenn beide Modelle das so sehen. </p>
+     *
+     * <p>Der Bereich des Ergebnisses ist die Schnittmenge beider Bereiche. </p>
+     *
+     * @param   other   another bit set model
+     * @return  combined model (bitwise AND)
+     * @throws  ChronoException if the ranges of both models do not overlap
+     */
+    public BitSetHolidayModel and(BitSetHolidayModel other) {
+
+        Predicate<PlainDate> p1 = this.fallback::test;
+        return this.combine(other, p1.and(other.fallback), true);
+
+    }
+
+    /**
+     * <p>Combines this model with given model such that a day is a non-business day
+     * if any of both models says so. </p>
+     *
+     * <p>The range of the result is the intersection of both ranges. </p>
+     *
+     * @param   other   another bit set model
+     * @return  combined model (bitwise OR)
+     * @throws  ChronoException if the ranges of both models do not overlap
+     */
+    /*[deutsch]
+     * <p>Kombiniert dieses Modell mit dem angegebenen Modell so, da&szlig; ein Tag arbeitsfrei ist,
+     * wenn irgendeines der beiden Modelle das so sieht. </p>
+     *
+     * <p>Der Bereich des Ergebnisses ist die Schnittmenge beider Bereiche. </p>
+     *
+     * @param   other   another bit set model
+     * @return  combined model (bitwise OR)
+     * @throws  ChronoException if the ranges of both models do not overlap
+     */
+    public BitSetHolidayModel or(BitSetHolidayModel other) {
+
+        Predicate<PlainDate> p1 = this.fallback::test;
+        return this.combine(other, p1.or(other.fallback), false);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "BitSetHolidayModel" + this.getRange();
+
+    }
+
+    private BitSetHolidayModel combine(
+        BitSetHolidayModel other,
+        Predicate<? super PlainDate> fallback,
+        boolean and
+    ) {
+
+        long lo = Math.max(this.min, other.min);
+        long hi = Math.min(this.max, other.max);
+
+        if (lo > hi) {
+            throw new ChronoException("Ranges of bit sets do not overlap.");
+        }
+
+        int n = (int) (hi - lo + 1);
+        long[] result = new long[(n + 63) >>> 6];
+
+        if ((this.min == other.min) && (this.max == other.max)) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (and ? (this.words[i] & other.words[i]) : (this.words[i] | other.words[i]));
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                boolean b1 = this.get(lo + i);
+                boolean b2 = other.get(lo + i);
+                if (and ? (b1 && b2) : (b1 || b2)) {
+                    result[i >>> 6] |= (1L << i);
+                }
+            }
+        }
+
+        return new BitSetHolidayModel(fallback, lo, hi, result);
+
+    }
+
+    private boolean get(long utcDays) {
+
+        int index = (int) (utcDays - this.min);
+        return ((this.words[index >>> 6] & (1L << index)) != 0);
+
+    }
+
+}
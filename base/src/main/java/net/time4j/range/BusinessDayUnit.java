@@ -50,6 +50,9 @@ class BusinessDayUnit
     BusinessDayUnit(final HolidayModel model) {
         super();
 
+        final CompiledHolidayModel compiled =
+            ((model instanceof CompiledHolidayModel) ? (CompiledHolidayModel) model : null);
+
         this.dateRule =
             new UnitRule<PlainDate>() {
                 @Override
@@ -57,6 +60,12 @@ class BusinessDayUnit
                     PlainDate date,
                     long amount
                 ) {
+                    if (compiled != null) {
+                        PlainDate fast = compiled.plusBusinessDays(date, amount);
+                        if (fast != null) {
+                            return fast;
+                        }
+                    }
                     PlainDate shifted = date;
                     if (amount > 0) {
                         for (int i = 0; i < amount; i++) {
@@ -77,6 +86,17 @@ class BusinessDayUnit
                     if (start.isSimultaneous(end)) {
                         return 0L;
                     }
+                    if (compiled != null) {
+                        long s = start.getDaysSinceEpochUTC();
+                        long e = end.getDaysSinceEpochUTC();
+                        if (compiled.covers(s) && compiled.covers(e)) {
+                            if (s < e) {
+                                return (e - s) - compiled.countNonBusinessDays(s + 1, e);
+                            } else {
+                                return -((s - e) - compiled.countNonBusinessDays(e + 1, s));
+                            }
+                        }
+                    }
                     long count = 0;
                     boolean negative = start.isAfter(end);
                     if (negative) {
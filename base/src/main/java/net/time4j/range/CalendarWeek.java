@@ -192,6 +192,9 @@ public final class CalendarWeek
 
     private static final long serialVersionUID = -3948942660009645060L;
 
+    // zuletzt aufgelöste Ordinalregeln, damit das Formatieren vieler Wochen die Regeln nur einmal ermittelt
+    private static volatile OrdinalRules lastOrdinalRules = null;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private transient final int year;
@@ -756,7 +759,14 @@ public final class CalendarWeek
         Locale locale
     ) {
 
-        PluralCategory pc = PluralRules.of(locale, NumberType.ORDINALS).getCategory(this.week);
+        OrdinalRules ordinals = lastOrdinalRules;
+
+        if ((ordinals == null) || !ordinals.locale.equals(locale)) {
+            ordinals = new OrdinalRules(locale);
+            lastOrdinalRules = ordinals;
+        }
+
+        PluralCategory pc = ordinals.rules.getCategory(this.week);
         Map<String, String> textForms = CalendarText.getIsoInstance(locale).getTextForms();
         String ywKey = "F_yw";
         String pattern = textForms.get(ywKey + "_" + pc.name().toLowerCase());
@@ -852,6 +862,25 @@ public final class CalendarWeek
 
     //~ Innere Klassen ----------------------------------------------------
 
+    private static class OrdinalRules {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Locale locale;
+        private final PluralRules rules;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        OrdinalRules(Locale locale) {
+            super();
+
+            this.locale = locale;
+            this.rules = PluralRules.ofCompiled(locale, NumberType.ORDINALS);
+
+        }
+
+    }
+
     private static class Merger
         implements ChronoMerger<CalendarWeek> {
 
@@ -0,0 +1,221 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledDayPartitionRule.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.engine.ChronoException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * <p>Vorkompilierte Tagesabschnittsregel innerhalb eines endlichen Datumsbereichs. </p>
+ *
+ * <p>Besteht aus einer Wochenvorlage (die h&auml;ufigsten Tagesabschnitte je Wochentag) und nach
+ * Epochentagen (UTC) sortierten Ausnahmen. Alle Listen von Tagesabschnitten werden geteilt, so
+ * da&szlig; eine Abfrage weder Objekte erzeugt noch Hash-Tabellen durchsucht. Au&szlig;erhalb des
+ * kompilierten Bereichs wird an die urspr&uuml;ngliche Regel delegiert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class CompiledDayPartitionRule
+    implements DayPartitionRule {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final DayPartitionRule delegate;
+    private final long min; // inclusive (days since UTC epoch)
+    private final long max; // inclusive (days since UTC epoch)
+    private final List<List<ChronoInterval<PlainTime>>> weekly; // index = ISO-weekday - 1
+    private final long[] exceptionDays; // sorted
+    private final List<List<ChronoInterval<PlainTime>>> exceptionPartitions;
+    private final long[] excludedDays; // sorted
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledDayPartitionRule(
+        DayPartitionRule delegate,
+        long min,
+        long max,
+        List<List<ChronoInterval<PlainTime>>> weekly,
+        long[] exceptionDays,
+        List<List<ChronoInterval<PlainTime>>> exceptionPartitions,
+        long[] excludedDays
+    ) {
+        super();
+
+        this.delegate = delegate;
+        this.min = min;
+        this.max = max;
+        this.weekly = weekly;
+        this.exceptionDays = exceptionDays;
+        this.exceptionPartitions = exceptionPartitions;
+        this.excludedDays = excludedDays;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Kompiliert die angegebene Regel f&uuml;r den angegebenen Datumsbereich. </p>
+     *
+     * @param   rule        day partition rule to be compiled
+     * @param   range       finite date range to be covered
+     * @return  compiled rule
+     * @throws  ChronoException if given range is infinite or empty
+     */
+    static CompiledDayPartitionRule compile(
+        DayPartitionRule rule,
+        ChronoInterval<PlainDate> range
+    ) {
+
+        if (rule instanceof CompiledDayPartitionRule) {
+            rule = ((CompiledDayPartitionRule) rule).delegate;
+        }
+
+        if (!range.isFinite()) {
+            throw new ChronoException("Cannot compile infinite intervals.");
+        } else if (range.isEmpty()) {
+            throw new ChronoException("Cannot compile empty intervals.");
+        }
+
+        DateInterval di = DateInterval.from(range);
+        PlainDate start = di.getClosedFiniteStart();
+        long min = start.getDaysSinceEpochUTC();
+        long max = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+        int n = Math.toIntExact(max - min + 1);
+
+        // collect all partitions and share equal lists
+        Map<List<ChronoInterval<PlainTime>>, List<ChronoInterval<PlainTime>>> shared = new HashMap<>();
+        List<List<ChronoInterval<PlainTime>>> partitions = new ArrayList<>(n);
+        long[] excluded = new long[n];
+        int e = 0;
+        List<Map<List<ChronoInterval<PlainTime>>, Integer>> frequencies = new ArrayList<>(7);
+
+        for (int i = 0; i < 7; i++) {
+            frequencies.add(new HashMap<>());
+        }
+
+        PlainDate date = start;
+
+        for (int i = 0; i < n; i++) {
+            List<ChronoInterval<PlainTime>> p = rule.getPartitions(date);
+            List<ChronoInterval<PlainTime>> s = shared.get(p);
+            if (s == null) {
+                s = Collections.unmodifiableList(new ArrayList<>(p));
+                shared.put(s, s);
+            }
+            partitions.add(s);
+            frequencies.get(date.getDayOfWeek().getValue() - 1).merge(s, 1, Integer::sum);
+            if (rule.isExcluded(date)) {
+                excluded[e++] = min + i;
+            }
+            if (i < n - 1) {
+                date = date.plus(1, CalendarUnit.DAYS);
+            }
+        }
+
+        // weekly template = most frequent partitions per day of week
+        List<List<ChronoInterval<PlainTime>>> weekly = new ArrayList<>(7);
+
+        for (int i = 0; i < 7; i++) {
+            List<ChronoInterval<PlainTime>> best = Collections.emptyList();
+            int count = -1;
+            for (Map.Entry<List<ChronoInterval<PlainTime>>, Integer> entry : frequencies.get(i).entrySet()) {
+                if (entry.getValue().intValue() > count) {
+                    best = entry.getKey();
+                    count = entry.getValue().intValue();
+                }
+            }
+            weekly.add(best);
+        }
+
+        // exceptions
+        long[] exceptionDays = new long[n];
+        List<List<ChronoInterval<PlainTime>>> exceptionPartitions = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            long utcDays = min + i;
+            List<ChronoInterval<PlainTime>> p = partitions.get(i);
+            if (p != weekly.get(dayOfWeek(utcDays) - 1)) {
+                exceptionDays[exceptionPartitions.size()] = utcDays;
+                exceptionPartitions.add(p);
+            }
+        }
+
+        return new CompiledDayPartitionRule(
+            rule,
+            min,
+            max,
+            weekly,
+            Arrays.copyOf(exceptionDays, exceptionPartitions.size()),
+            exceptionPartitions,
+            Arrays.copyOf(excluded, e));
+
+    }
+
+    @Override
+    public List<ChronoInterval<PlainTime>> getPartitions(PlainDate date) {
+
+        long utcDays = date.getDaysSinceEpochUTC();
+
+        if ((utcDays >= this.min) && (utcDays <= this.max)) {
+            int index = Arrays.binarySearch(this.exceptionDays, utcDays);
+            if (index >= 0) {
+                return this.exceptionPartitions.get(index);
+            }
+            return this.weekly.get(dayOfWeek(utcDays) - 1);
+        }
+
+        return this.delegate.getPartitions(date);
+
+    }
+
+    @Override
+    public boolean isExcluded(PlainDate date) {
+
+        long utcDays = date.getDaysSinceEpochUTC();
+
+        if ((utcDays >= this.min) && (utcDays <= this.max)) {
+            return (Arrays.binarySearch(this.excludedDays, utcDays) >= 0);
+        }
+
+        return this.delegate.isExcluded(date);
+
+    }
+
+    // ISO-weekday number (Monday = 1, Sunday = 7)
+    private static int dayOfWeek(long utcDays) {
+
+        return (int) Math.floorMod(utcDays + 5, 7L) + 1; // UTC epoch 1972-01-01 is a Saturday
+
+    }
+
+}
@@ -0,0 +1,351 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledHolidayModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.ChronoException;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.engine.EpochDays;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Vorkompilierter Feiertagskalender innerhalb eines endlichen Datumsbereichs. </p>
+ *
+ * <p>Besteht aus einer Wochenendmaske und zwei sortierten Arrays von Epochentagen (UTC), n&auml;mlich
+ * den Feiertagen au&szlig;erhalb des Wochenendes und den Arbeitstagen innerhalb des Wochenendes. So
+ * lassen sich Arbeitstage mit ganzen Wochen und bin&auml;rer Suche z&auml;hlen statt Tag f&uuml;r Tag.
+ * Au&szlig;erhalb des kompilierten Bereichs wird an das urspr&uuml;ngliche Modell delegiert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class CompiledHolidayModel
+    implements HolidayModel {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final HolidayModel delegate;
+    private final long min; // inclusive (days since UTC epoch)
+    private final long max; // inclusive (days since UTC epoch)
+    private final int weekendMask; // bit (n - 1) set if ISO weekday n belongs to weekend
+    private final int weekendSize;
+    private final long[] holidays; // sorted non-business days outside of weekend
+    private final long[] workdays; // sorted business days inside of weekend
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledHolidayModel(
+        HolidayModel delegate,
+        long min,
+        long max,
+        int weekendMask,
+        long[] holidays,
+        long[] workdays
+    ) {
+        super();
+
+        this.delegate = delegate;
+        this.min = min;
+        this.max = max;
+        this.weekendMask = weekendMask;
+        this.weekendSize = Integer.bitCount(weekendMask);
+        this.holidays = holidays;
+        this.workdays = workdays;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Kompiliert das angegebene Modell f&uuml;r den angegebenen Datumsbereich. </p>
+     *
+     * <p>Ein Wochentag gilt als Teil des Wochenendes, wenn das Modell ihn im Bereich mehrheitlich als
+     * arbeitsfrei ansieht. Abweichungen werden exakt als Ausnahmen gespeichert. </p>
+     *
+     * @param   model       holiday model to be compiled
+     * @param   range       finite date range to be covered
+     * @return  compiled holiday model
+     * @throws  ChronoException if given range is infinite or empty
+     */
+    static CompiledHolidayModel compile(
+        HolidayModel model,
+        ChronoInterval<PlainDate> range
+    ) {
+
+        if (model instanceof CompiledHolidayModel) {
+            model = ((CompiledHolidayModel) model).delegate;
+        }
+
+        if (!range.isFinite()) {
+            throw new ChronoException("Cannot compile infinite intervals.");
+        } else if (range.isEmpty()) {
+            throw new ChronoException("Cannot compile empty intervals.");
+        }
+
+        DateInterval di = DateInterval.from(range);
+        long min = di.getClosedFiniteStart().getDaysSinceEpochUTC();
+        long max = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+        int n = Math.toIntExact(max - min + 1);
+        boolean[] free = new boolean[n];
+        int[] freeCount = new int[7];
+        int[] totalCount = new int[7];
+
+        for (int i = 0; i < n; i++) {
+            long utcDays = min + i;
+            int dow = dayOfWeek(utcDays);
+            free[i] = model.test(PlainDate.of(utcDays, EpochDays.UTC));
+            totalCount[dow - 1]++;
+            if (free[i]) {
+                freeCount[dow - 1]++;
+            }
+        }
+
+        int mask = 0;
+
+        for (int i = 0; i < 7; i++) {
+            if (freeCount[i] * 2 > totalCount[i]) {
+                mask |= (1 << i);
+            }
+        }
+
+        long[] holidays = new long[n];
+        long[] workdays = new long[n];
+        int h = 0;
+        int w = 0;
+
+        for (int i = 0; i < n; i++) {
+            long utcDays = min + i;
+            boolean weekend = ((mask & (1 << (dayOfWeek(utcDays) - 1))) != 0);
+            if (free[i] && !weekend) {
+                holidays[h++] = utcDays;
+            } else if (!free[i] && weekend) {
+                workdays[w++] = utcDays;
+            }
+        }
+
+        return new CompiledHolidayModel(model, min, max, mask, Arrays.copyOf(holidays, h), Arrays.copyOf(workdays, w));
+
+    }
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        long utcDays = date.getDaysSinceEpochUTC();
+
+        if (this.covers(utcDays)) {
+            if (this.isWeekend(utcDays)) {
+                return (Arrays.binarySearch(this.workdays, utcDays) < 0);
+            } else {
+                return (Arrays.binarySearch(this.holidays, utcDays) >= 0);
+            }
+        }
+
+        return this.delegate.test(date);
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfBusinessDays() {
+
+        ChronoFunction<ChronoInterval<PlainDate>, Integer> standard = HolidayModel.super.countOfBusinessDays();
+
+        return interval -> {
+            if (interval.isFinite() && !interval.isEmpty()) {
+                DateInterval di = DateInterval.from(interval);
+                long s = di.getClosedFiniteStart().getDaysSinceEpochUTC();
+                long e = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+                if (this.covers(s) && this.covers(e)) {
+                    return Integer.valueOf(Math.toIntExact(e - s + 1 - this.countNonBusinessDays(s, e)));
+                }
+            }
+            return standard.apply(interval);
+        };
+
+    }
+
+    @Override
+    public ChronoFunction<ChronoInterval<PlainDate>, Integer> countOfHolidays() {
+
+        ChronoFunction<ChronoInterval<PlainDate>, Integer> standard = HolidayModel.super.countOfHolidays();
+
+        return interval -> {
+            if (interval.isFinite() && !interval.isEmpty()) {
+                DateInterval di = DateInterval.from(interval);
+                long s = di.getClosedFiniteStart().getDaysSinceEpochUTC();
+                long e = di.getClosedFiniteEnd().getDaysSinceEpochUTC();
+                if (this.covers(s) && this.covers(e)) {
+                    return Integer.valueOf(Math.toIntExact(this.countNonBusinessDays(s, e)));
+                }
+            }
+            return standard.apply(interval);
+        };
+
+    }
+
+    /**
+     * <p>Liegt der angegebene Epochentag im kompilierten Bereich? </p>
+     *
+     * @param   utcDays     days since UTC epoch
+     * @return  boolean
+     */
+    boolean covers(long utcDays) {
+
+        return ((utcDays >= this.min) && (utcDays <= this.max));
+
+    }
+
+    /**
+     * <p>Z&auml;hlt die arbeitsfreien Tage im angegebenen geschlossenen Bereich. </p>
+     *
+     * <p>Beide Grenzen m&uuml;ssen im kompilierten Bereich liegen. Ist {@code from > to}, dann
+     * wird {@code 0} geliefert. </p>
+     *
+     * @param   from        first day since UTC epoch (inclusive)
+     * @param   to          last day since UTC epoch (inclusive)
+     * @return  count of non-business days
+     */
+    long countNonBusinessDays(
+        long from,
+        long to
+    ) {
+
+        if (from > to) {
+            return 0L;
+        }
+
+        long days = to - from + 1;
+        long count = (days / 7) * this.weekendSize;
+        int dow = dayOfWeek(from);
+
+        for (int i = (int) (days % 7); i > 0; i--) {
+            if ((this.weekendMask & (1 << (dow - 1))) != 0) {
+                count++;
+            }
+            dow = ((dow == 7) ? 1 : dow + 1);
+        }
+
+        count += countInRange(this.holidays, from, to);
+        count -= countInRange(this.workdays, from, to);
+        return count;
+
+    }
+
+    /**
+     * <p>Verschiebt das angegebene Datum um die angegebene Anzahl von Arbeitstagen. </p>
+     *
+     * @param   date        starting date
+     * @param   amount      count of business days to be added (maybe negative)
+     * @return  shifted date or {@code null} if the result is not within the compiled range
+     */
+    PlainDate plusBusinessDays(
+        PlainDate date,
+        long amount
+    ) {
+
+        long start = date.getDaysSinceEpochUTC();
+
+        if ((amount == 0) || !this.covers(start)) {
+            return null;
+        }
+
+        if (amount > 0) {
+            // smallest d in (start, max] with count of business days in (start, d] >= amount
+            long low = start + 1;
+            long high = this.max;
+            if ((low > high) || (this.countBusinessDays(low, high) < amount)) {
+                return null;
+            }
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (this.countBusinessDays(start + 1, mid) >= amount) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return PlainDate.of(low, EpochDays.UTC);
+        } else {
+            // greatest d in [min, start) with count of business days in [d, start) >= -amount
+            long low = this.min;
+            long high = start - 1;
+            if ((low > high) || (this.countBusinessDays(low, high) < -amount)) {
+                return null;
+            }
+            while (low < high) {
+                long mid = (low + high + 1) >>> 1;
+                if (this.countBusinessDays(mid, start - 1) >= -amount) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return PlainDate.of(low, EpochDays.UTC);
+        }
+
+    }
+
+    private long countBusinessDays(
+        long from,
+        long to
+    ) {
+
+        return ((from > to) ? 0L : (to - from + 1 - this.countNonBusinessDays(from, to)));
+
+    }
+
+    private boolean isWeekend(long utcDays) {
+
+        return ((this.weekendMask & (1 << (dayOfWeek(utcDays) - 1))) != 0);
+
+    }
+
+    // ISO-weekday number (Monday = 1, Sunday = 7)
+    private static int dayOfWeek(long utcDays) {
+
+        return (int) Math.floorMod(utcDays + 5, 7L) + 1; // UTC epoch 1972-01-01 is a Saturday
+
+    }
+
+    private static int countInRange(
+        long[] sorted,
+        long from,
+        long to
+    ) {
+
+        return (insertionPoint(sorted, to + 1) - insertionPoint(sorted, from));
+
+    }
+
+    // index of first element greater than or equal to given key
+    private static int insertionPoint(
+        long[] sorted,
+        long key
+    ) {
+
+        int index = Arrays.binarySearch(sorted, key);
+        return ((index < 0) ? -(index + 1) : index);
+
+    }
+
+}
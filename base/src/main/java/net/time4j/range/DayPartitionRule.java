@@ -126,6 +126,41 @@ public interface DayPartitionRule {
         return this.getPartitions(date).isEmpty();
     }
 
+    /**
+     * <p>Compiles this rule for given date range into a lookup-optimized form. </p>
+     *
+     * <p>The compiled rule consists of a weekly template of partitions and exceptions indexed by
+     * epoch days. Queries within given range neither create any objects nor search any hash tables.
+     * Outside of given range, the compiled rule delegates to this rule. Recommended if the same rule
+     * is applied to long date ranges again and again, for example for generating opening hours for
+     * many years. </p>
+     *
+     * @param   range   finite date range to be covered by the compiled rule
+     * @return  compiled rule equivalent to this rule
+     * @throws  net.time4j.engine.ChronoException if given range is infinite or empty
+     * @see     DateInterval#forEachPartition(DayPartitionRule, net.time4j.tz.TZID, DateInterval.PartitionConsumer)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Kompiliert diese Regel f&uuml;r den angegebenen Datumsbereich in eine nachschlageoptimierte
+     * Form. </p>
+     *
+     * <p>Die kompilierte Regel besteht aus einer Wochenvorlage von Tagesabschnitten und nach Epochentagen
+     * indizierten Ausnahmen. Abfragen innerhalb des angegebenen Bereichs erzeugen weder Objekte noch
+     * durchsuchen sie Hash-Tabellen. Au&szlig;erhalb des Bereichs delegiert die kompilierte Regel an diese
+     * Regel. Empfohlen, wenn die gleiche Regel immer wieder auf lange Datumsbereiche angewandt wird, zum
+     * Beispiel, um &Ouml;ffnungszeiten f&uuml;r viele Jahre zu erzeugen. </p>
+     *
+     * @param   range   finite date range to be covered by the compiled rule
+     * @return  compiled rule equivalent to this rule
+     * @throws  net.time4j.engine.ChronoException if given range is infinite or empty
+     * @see     DateInterval#forEachPartition(DayPartitionRule, net.time4j.tz.TZID, DateInterval.PartitionConsumer)
+     * @since   5.6
+     */
+    default DayPartitionRule compile(ChronoInterval<PlainDate> range) {
+        return CompiledDayPartitionRule.compile(this, range);
+    }
+
     /**
      * <p>Does this rule match given timestamp such that any rule interval contains it? </p>
      *
@@ -122,7 +122,7 @@ public interface HolidayModel
      * @see     Weekmodel#weekend()
      */
     static HolidayModel ofWeekend(Locale country) {
-        return date -> date.matches(Weekmodel.of(country).weekend());
+        return WeekendModel.of(country);
     }
 
     /**
@@ -457,6 +457,56 @@ public interface HolidayModel
         return date -> !test(date) && (date.with(nextBusinessDay()).getMonth() != date.getMonth());
     }
 
+    /**
+     * <p>Compiles this holiday model for given date range into a lookup-optimized form. </p>
+     *
+     * <p>The compiled model consists of a weekend mask and sorted arrays of epoch days for the exceptions
+     * (holidays outside of the weekend and business days inside of the weekend). Within given range,
+     * business day arithmetic via {@link #businessDays()} and the methods {@link #countOfBusinessDays()}
+     * and {@link #countOfHolidays()} work with full weeks and binary search instead of testing every
+     * single day. Outside of given range, the compiled model delegates to this model. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *     HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile(CalendarYear.of(2017));
+     *     System.out.println(PlainDate.of(2017, 1, 2).plus(250, hm.businessDays()));
+     *     // 2017-12-18
+     * </pre>
+     *
+     * @param   range   finite date range to be covered by the compiled model
+     * @return  compiled HolidayModel equivalent to this model
+     * @throws  ChronoException if given range is infinite or empty
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Kompiliert dieses Feiertagsmodell f&uuml;r den angegebenen Datumsbereich in eine
+     * nachschlageoptimierte Form. </p>
+     *
+     * <p>Das kompilierte Modell besteht aus einer Wochenendmaske und sortierten Arrays von Epochentagen
+     * f&uuml;r die Ausnahmen (Feiertage au&szlig;erhalb des Wochenendes und Arbeitstage innerhalb des
+     * Wochenendes). Innerhalb des angegebenen Bereichs arbeiten die Arbeitstagsarithmetik mittels
+     * {@link #businessDays()} und die Methoden {@link #countOfBusinessDays()} und {@link #countOfHolidays()}
+     * mit ganzen Wochen und bin&auml;rer Suche, statt jeden einzelnen Tag zu pr&uuml;fen. Au&szlig;erhalb
+     * des Bereichs delegiert das kompilierte Modell an dieses Modell. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *     HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile(CalendarYear.of(2017));
+     *     System.out.println(PlainDate.of(2017, 1, 2).plus(250, hm.businessDays()));
+     *     // 2017-12-18
+     * </pre>
+     *
+     * @param   range   finite date range to be covered by the compiled model
+     * @return  compiled HolidayModel equivalent to this model
+     * @throws  ChronoException if given range is infinite or empty
+     * @since   5.6
+     */
+    default HolidayModel compile(ChronoInterval<PlainDate> range) {
+        return CompiledHolidayModel.compile(this, range);
+    }
+
     /**
      * <p>Creates a special time unit for the counting of business days. </p>
      *
@@ -0,0 +1,234 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.BinaryCodec;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.Temporal;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Binary codec for intervals based on the codecs of their boundary values. </p>
+ *
+ * <p>The payload consists of one flag byte describing the kind of both boundaries followed by
+ * the finite boundary values encoded with the codec of the element type. Infinite boundaries
+ * do not consume any further bytes. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     BinaryCodec
+ */
+/*[deutsch]
+ * <p>Bin&auml;rer Codec f&uuml;r Intervalle auf der Basis der Codecs ihrer Grenzwerte. </p>
+ *
+ * <p>Die Nutzdaten bestehen aus einem Kennungsbyte, das die Art beider Intervallgrenzen
+ * beschreibt, gefolgt von den endlichen Grenzwerten, die mit dem Codec des Elementtyps
+ * kodiert werden. Unendliche Intervallgrenzen belegen keine weiteren Bytes. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   5.6
+ * @see     BinaryCodec
+ */
+public abstract class IntervalCodec<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
+    extends BinaryCodec<I> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int START_INFINITE = 1;
+    private static final int START_OPEN = 2;
+    private static final int END_INFINITE = 4;
+    private static final int END_OPEN = 8;
+
+    /**
+     * <p>Codec for date intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Datumsintervalle. </p>
+     */
+    public static final IntervalCodec<PlainDate, DateInterval> DATE_INTERVAL =
+        new IntervalCodec<PlainDate, DateInterval>(32, DateInterval.class, BinaryCodec.PLAIN_DATE) {
+            @Override
+            DateInterval create(
+                Boundary<PlainDate> start,
+                Boundary<PlainDate> end
+            ) {
+                return new DateInterval(start, end);
+            }
+        };
+
+    /**
+     * <p>Codec for clock intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Uhrzeitintervalle. </p>
+     */
+    public static final IntervalCodec<PlainTime, ClockInterval> CLOCK_INTERVAL =
+        new IntervalCodec<PlainTime, ClockInterval>(33, ClockInterval.class, BinaryCodec.PLAIN_TIME) {
+            @Override
+            ClockInterval create(
+                Boundary<PlainTime> start,
+                Boundary<PlainTime> end
+            ) {
+                return new ClockInterval(start, end);
+            }
+        };
+
+    /**
+     * <p>Codec for timestamp intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Zeitstempelintervalle. </p>
+     */
+    public static final IntervalCodec<PlainTimestamp, TimestampInterval> TIMESTAMP_INTERVAL =
+        new IntervalCodec<PlainTimestamp, TimestampInterval>(
+            34, TimestampInterval.class, BinaryCodec.PLAIN_TIMESTAMP) {
+            @Override
+            TimestampInterval create(
+                Boundary<PlainTimestamp> start,
+                Boundary<PlainTimestamp> end
+            ) {
+                return new TimestampInterval(start, end);
+            }
+        };
+
+    /**
+     * <p>Codec for moment intervals. </p>
+     */
+    /*[deutsch]
+     * <p>Codec f&uuml;r Momentintervalle. </p>
+     */
+    public static final IntervalCodec<Moment, MomentInterval> MOMENT_INTERVAL =
+        new IntervalCodec<Moment, MomentInterval>(35, MomentInterval.class, BinaryCodec.MOMENT) {
+            @Override
+            MomentInterval create(
+                Boundary<Moment> start,
+                Boundary<Moment> end
+            ) {
+                return new MomentInterval(start, end);
+            }
+        };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final BinaryCodec<T> elementCodec;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    // nur intern, weil die Intervallkonstruktoren paket-privat sind
+    private IntervalCodec(
+        int tag,
+        Class<I> type,
+        BinaryCodec<T> elementCodec
+    ) {
+        super(tag, type);
+
+        this.elementCodec = elementCodec;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public void write(
+        I value,
+        ByteBuffer buffer
+    ) {
+
+        Boundary<T> start = value.getStart();
+        Boundary<T> end = value.getEnd();
+        int flags = 0;
+
+        if (start.isInfinite()) {
+            flags |= START_INFINITE;
+        } else if (start.isOpen()) {
+            flags |= START_OPEN;
+        }
+
+        if (end.isInfinite()) {
+            flags |= END_INFINITE;
+        } else if (end.isOpen()) {
+            flags |= END_OPEN;
+        }
+
+        buffer.put((byte) flags);
+
+        if (!start.isInfinite()) {
+            this.elementCodec.write(start.getTemporal(), buffer);
+        }
+
+        if (!end.isInfinite()) {
+            this.elementCodec.write(end.getTemporal(), buffer);
+        }
+
+    }
+
+    @Override
+    public I read(ByteBuffer buffer) {
+
+        int flags = buffer.get();
+
+        if ((flags & ~0x0F) != 0) {
+            throw new IllegalArgumentException("Invalid boundary flags: " + flags);
+        }
+
+        Boundary<T> start = this.readBoundary(flags, START_INFINITE, START_OPEN, true, buffer);
+        Boundary<T> end = this.readBoundary(flags, END_INFINITE, END_OPEN, false, buffer);
+        return this.create(start, end);
+
+    }
+
+    // erzeugt das Intervall aus den dekodierten Grenzen
+    abstract I create(
+        Boundary<T> start,
+        Boundary<T> end
+    );
+
+    private Boundary<T> readBoundary(
+        int flags,
+        int infinite,
+        int open,
+        boolean past,
+        ByteBuffer buffer
+    ) {
+
+        if ((flags & infinite) != 0) {
+            if ((flags & open) != 0) {
+                throw new IllegalArgumentException("Invalid boundary flags: " + flags);
+            }
+            return (past ? Boundary.<T>infinitePast() : Boundary.<T>infiniteFuture());
+        }
+
+        T temporal = this.elementCodec.read(buffer);
+        return (((flags & open) != 0) ? Boundary.ofOpen(temporal) : Boundary.ofClosed(temporal));
+
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalKeyCodec.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SortableKeyCodec;
+import net.time4j.engine.Temporal;
+import net.time4j.engine.TimeLine;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Sortable fixed-width byte keys for intervals. </p>
+ *
+ * <p>A key consists of the key of the start boundary followed by the key of the end boundary,
+ * both in the format of the {@link SortableKeyCodec} of the element type. The unsigned
+ * lexicographic order of keys is the same as defined by the comparators of the interval
+ * classes (for example {@link DateInterval#comparator()}), that is first by start and then by
+ * length. Open and closed boundaries are normalized in the same way so equivalent intervals
+ * have equal keys, an infinite start consists of zero-bytes only and an infinite end of
+ * {@code 0xFF}-bytes only. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Sortierbare Schl&uuml;ssel fester L&auml;nge f&uuml;r Intervalle. </p>
+ *
+ * <p>Ein Schl&uuml;ssel besteht aus dem Schl&uuml;ssel der Startgrenze gefolgt vom
+ * Schl&uuml;ssel der Endgrenze, beide im Format des {@link SortableKeyCodec} des Elementtyps.
+ * Die vorzeichenlose lexikalische Reihenfolge der Schl&uuml;ssel ist dieselbe wie die von den
+ * Vergleichsobjekten der Intervallklassen (zum Beispiel {@link DateInterval#comparator()})
+ * definierte, also zuerst nach dem Start und dann nach der L&auml;nge. Offene und geschlossene
+ * Intervallgrenzen werden auf die gleiche Weise normalisiert, so da&szlig; gleichwertige
+ * Intervalle gleiche Schl&uuml;ssel haben, ein unendlicher Start besteht nur aus Null-Bytes und
+ * ein unendliches Ende nur aus {@code 0xFF}-Bytes. </p>
+ *
+ * @param   <T> temporal type of interval boundaries
+ * @param   <I> interval type
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class IntervalKeyCodec<T extends Temporal<? super T>, I extends IsoInterval<T, I>>
+    extends SortableKeyCodec<I> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final byte MIN_BYTE = 0;
+    private static final byte MAX_BYTE = (byte) 0xFF;
+
+    /**
+     * <p>Key codec for date intervals (16 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r Datumsintervalle (16 Bytes). </p>
+     */
+    public static final IntervalKeyCodec<PlainDate, DateInterval> DATE_INTERVAL =
+        new IntervalKeyCodec<>(SortableKeyCodec.PLAIN_DATE, PlainDate.axis());
+
+    /**
+     * <p>Key codec for clock intervals (16 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r Uhrzeitintervalle (16 Bytes). </p>
+     */
+    public static final IntervalKeyCodec<PlainTime, ClockInterval> CLOCK_INTERVAL =
+        new IntervalKeyCodec<>(SortableKeyCodec.PLAIN_TIME, PlainTime.axis());
+
+    /**
+     * <p>Key codec for timestamp intervals (24 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r Zeitstempelintervalle (24 Bytes). </p>
+     */
+    public static final IntervalKeyCodec<PlainTimestamp, TimestampInterval> TIMESTAMP_INTERVAL =
+        new IntervalKeyCodec<>(SortableKeyCodec.PLAIN_TIMESTAMP, PlainTimestamp.axis());
+
+    /**
+     * <p>Key codec for moment intervals (24 bytes). </p>
+     */
+    /*[deutsch]
+     * <p>Schl&uuml;ssel-Codec f&uuml;r Momentintervalle (24 Bytes). </p>
+     */
+    public static final IntervalKeyCodec<Moment, MomentInterval> MOMENT_INTERVAL =
+        new IntervalKeyCodec<>(SortableKeyCodec.MOMENT, Moment.axis());
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final SortableKeyCodec<T> elementCodec;
+    private final TimeLine<T> axis;
+    private final boolean calendrical;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalKeyCodec(
+        SortableKeyCodec<T> elementCodec,
+        TimeLine<T> axis
+    ) {
+        super(elementCodec.getKeyLength() * 2);
+
+        this.elementCodec = elementCodec;
+        this.axis = axis;
+        this.calendrical = axis.isCalendrical();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public void encode(
+        I value,
+        byte[] key,
+        int offset
+    ) {
+
+        int len = this.elementCodec.getKeyLength();
+        T start = this.normalizedStart(value.getStart());
+        T end = this.normalizedEnd(value.getEnd());
+
+        if (start != null) {
+            this.elementCodec.encode(start, key, offset);
+        } else {
+            fill(value.getStart().isInfinite() ? MIN_BYTE : MAX_BYTE, len, key, offset);
+        }
+
+        if (end != null) {
+            this.elementCodec.encode(end, key, offset + len);
+        } else if (value.getEnd().isInfinite() || this.calendrical) {
+            fill(value.getEnd().isInfinite() ? MAX_BYTE : MIN_BYTE, len, key, offset + len);
+        } else {
+            fill(MAX_BYTE, len - 1, key, offset + len);
+            key[offset + len + len - 1] = (byte) 0xFE;
+        }
+
+    }
+
+    @Override
+    public void encode(
+        I value,
+        ByteBuffer buffer
+    ) {
+
+        int len = this.elementCodec.getKeyLength();
+        T start = this.normalizedStart(value.getStart());
+        T end = this.normalizedEnd(value.getEnd());
+
+        if (start != null) {
+            this.elementCodec.encode(start, buffer);
+        } else {
+            fill(value.getStart().isInfinite() ? MIN_BYTE : MAX_BYTE, len, buffer);
+        }
+
+        if (end != null) {
+            this.elementCodec.encode(end, buffer);
+        } else if (value.getEnd().isInfinite() || this.calendrical) {
+            fill(value.getEnd().isInfinite() ? MAX_BYTE : MIN_BYTE, len, buffer);
+        } else {
+            fill(MAX_BYTE, len - 1, buffer);
+            buffer.put((byte) 0xFE);
+        }
+
+    }
+
+    // wie IntervalComparator: offener Start wird geschlossen, null bei unendlich oder Überlauf
+    private T normalizedStart(Boundary<T> start) {
+
+        if (start.isInfinite()) {
+            return null;
+        }
+
+        T temporal = start.getTemporal();
+        return (start.isOpen() ? this.axis.stepForward(temporal) : temporal);
+
+    }
+
+    // wie IntervalComparator: kalendarisch geschlossen, sonst halboffen; null bei unendlich oder Überlauf
+    private T normalizedEnd(Boundary<T> end) {
+
+        if (end.isInfinite()) {
+            return null;
+        }
+
+        T temporal = end.getTemporal();
+
+        if (this.calendrical) {
+            return (end.isOpen() ? this.axis.stepBackwards(temporal) : temporal);
+        } else {
+            return (end.isClosed() ? this.axis.stepForward(temporal) : temporal);
+        }
+
+    }
+
+}
@@ -35,6 +35,9 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
 
 
 /**
@@ -66,6 +69,10 @@ import java.util.List;
 public class IntervalTree<T, I extends ChronoInterval<T>>
     extends AbstractCollection<I> {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_BATCH_CHUNK = 1024;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final Node<T, I> root;
@@ -330,16 +337,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     @Override
     public Iterator<I> iterator() {
 
-        List<I> i = this.intervals;
-
-        if (i == null) {
-            Collector collector = new Collector();
-            this.accept(collector);
-            i = Collections.unmodifiableList(collector.visited);
-            this.intervals = i;
-        }
-
-        return i.iterator();
+        return this.getSortedIntervals().iterator();
 
     }
 
@@ -419,6 +417,143 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    /**
+     * <p>Finds all stored intervals which contain any of given ascendingly sorted points in time
+     * and reports every match to given consumer. </p>
+     *
+     * <p>This batch query is much faster than calling {@link #findIntersections(Object)} for every
+     * single time point because the tree is not searched again from the root for every time point.
+     * Instead, a moving frontier of active intervals is swept along the sorted time points so that
+     * every stored interval is touched only a few times. The consumer is called in ascending order
+     * of time points and - for the same time point - in ascending order of interval start. </p>
+     *
+     * <p>Example: </p>
+     *
+     * <pre>
+     *     DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+     *     DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+     *     IntervalTree&lt;PlainDate, DateInterval&gt; tree = IntervalTree.onDateAxis(Arrays.asList(i1, i2));
+     *
+     *     tree.findIntersections(
+     *       Arrays.asList(PlainDate.of(2014, 3, 1), PlainDate.of(2014, 5, 31)),
+     *       (date, interval) -&gt; System.out.println(date + &quot;: &quot; + interval)
+     *     );
+     *
+     *     // output:
+     *     2014-03-01: [2014-02-28/2014-05-31]
+     *     2014-05-31: [2014-02-28/2014-05-31]
+     *     2014-05-31: [2014-05-31/2014-06-01]
+     * </pre>
+     *
+     * @param   timepoints  ascendingly sorted points in time to be checked (duplicates are permitted)
+     * @param   consumer    callback receiving every pair of time point and matching interval
+     * @throws  IllegalArgumentException if given time points are not sorted
+     * @see     #findIntersectionsInParallel(List, BiConsumer, ForkJoinPool)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Findet alle gespeicherten Intervalle, die irgendeinen der angegebenen aufsteigend sortierten
+     * Suchzeitpunkte enthalten, und meldet jeden Treffer an den angegebenen Verbraucher. </p>
+     *
+     * <p>Diese Stapelabfrage ist viel schneller als der Aufruf von {@link #findIntersections(Object)}
+     * f&uuml;r jeden einzelnen Zeitpunkt, weil der Baum nicht f&uuml;r jeden Zeitpunkt erneut von der
+     * Wurzel an durchsucht wird. Stattdessen wird eine Front von aktiven Intervallen entlang der sortierten
+     * Zeitpunkte bewegt, so da&szlig; jedes gespeicherte Intervall nur wenige Male ber&uuml;hrt wird. Der
+     * Verbraucher wird in aufsteigender Reihenfolge der Zeitpunkte und - f&uuml;r den gleichen Zeitpunkt -
+     * in aufsteigender Reihenfolge der Intervallanf&auml;nge aufgerufen. </p>
+     *
+     * <p>Beispiel: </p>
+     *
+     * <pre>
+     *     DateInterval i1 = DateInterval.between(PlainDate.of(2014, 2, 28), PlainDate.of(2014, 5, 31));
+     *     DateInterval i2 = DateInterval.between(PlainDate.of(2014, 5, 31), PlainDate.of(2014, 6, 1));
+     *     IntervalTree&lt;PlainDate, DateInterval&gt; tree = IntervalTree.onDateAxis(Arrays.asList(i1, i2));
+     *
+     *     tree.findIntersections(
+     *       Arrays.asList(PlainDate.of(2014, 3, 1), PlainDate.of(2014, 5, 31)),
+     *       (date, interval) -&gt; System.out.println(date + &quot;: &quot; + interval)
+     *     );
+     *
+     *     // Ausgabe:
+     *     2014-03-01: [2014-02-28/2014-05-31]
+     *     2014-05-31: [2014-02-28/2014-05-31]
+     *     2014-05-31: [2014-05-31/2014-06-01]
+     * </pre>
+     *
+     * @param   timepoints  ascendingly sorted points in time to be checked (duplicates are permitted)
+     * @param   consumer    callback receiving every pair of time point and matching interval
+     * @throws  IllegalArgumentException if given time points are not sorted
+     * @see     #findIntersectionsInParallel(List, BiConsumer, ForkJoinPool)
+     * @since   5.6
+     */
+    public void findIntersections(
+        List<T> timepoints,
+        BiConsumer<? super T, ? super I> consumer
+    ) {
+
+        if (consumer == null) {
+            throw new NullPointerException("Missing consumer.");
+        }
+
+        this.sweep(timepoints, 0, timepoints.size(), consumer);
+
+    }
+
+    /**
+     * <p>Like {@link #findIntersections(List, BiConsumer)} but splits the sorted time points into
+     * chunks which are processed in parallel by given fork-join-pool. </p>
+     *
+     * <p>Every chunk initializes its own frontier by one single tree search for its first time point.
+     * The consumer must be thread-safe because it will be called concurrently. The order of calls is
+     * only preserved within every chunk, that is ascending by time points and then by interval start.
+     * This method blocks until all chunks have been processed. </p>
+     *
+     * @param   timepoints  ascendingly sorted points in time to be checked (duplicates are permitted)
+     * @param   consumer    thread-safe callback receiving every pair of time point and matching interval
+     * @param   pool        fork-join-pool executing the chunks
+     * @throws  IllegalArgumentException if given time points are not sorted
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Wie {@link #findIntersections(List, BiConsumer)}, teilt aber die sortierten Zeitpunkte in
+     * St&uuml;cke auf, die parallel vom angegebenen Fork-Join-Pool verarbeitet werden. </p>
+     *
+     * <p>Jedes St&uuml;ck initialisiert seine eigene Front mit einer einzigen Baumsuche f&uuml;r seinen
+     * ersten Zeitpunkt. Der Verbraucher mu&szlig; thread-sicher sein, weil er nebenl&auml;ufig aufgerufen
+     * wird. Die Reihenfolge der Aufrufe bleibt nur innerhalb eines St&uuml;cks erhalten, also aufsteigend
+     * nach Zeitpunkten und dann nach Intervallanf&auml;ngen. Diese Methode blockiert, bis alle
+     * St&uuml;cke verarbeitet sind. </p>
+     *
+     * @param   timepoints  ascendingly sorted points in time to be checked (duplicates are permitted)
+     * @param   consumer    thread-safe callback receiving every pair of time point and matching interval
+     * @param   pool        fork-join-pool executing the chunks
+     * @throws  IllegalArgumentException if given time points are not sorted
+     * @since   5.6
+     */
+    public void findIntersectionsInParallel(
+        List<T> timepoints,
+        BiConsumer<? super T, ? super I> consumer,
+        ForkJoinPool pool
+    ) {
+
+        if (consumer == null) {
+            throw new NullPointerException("Missing consumer.");
+        } else if (pool == null) {
+            throw new NullPointerException("Missing fork-join-pool.");
+        }
+
+        int n = timepoints.size();
+
+        if (n == 0) {
+            return;
+        }
+
+        int chunk = Math.max(MIN_BATCH_CHUNK, n / (pool.getParallelism() * 4));
+        this.getSortedIntervals(); // avoids concurrent initialization
+        pool.invoke(new BatchTask(timepoints, 0, n, chunk, consumer));
+
+    }
+
     /**
      * <p>Queries if given interval is stored in this tree. </p>
      *
@@ -513,6 +648,91 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    // in-order list of all stored intervals (sorted by start)
+    private List<I> getSortedIntervals() {
+
+        List<I> i = this.intervals;
+
+        if (i == null) {
+            Collector collector = new Collector();
+            this.accept(collector);
+            i = Collections.unmodifiableList(collector.visited);
+            this.intervals = i;
+        }
+
+        return i;
+
+    }
+
+    private void sweep(
+        List<T> timepoints,
+        int from, // inclusive
+        int to, // exclusive
+        BiConsumer<? super T, ? super I> consumer
+    ) {
+
+        if (from >= to) {
+            return;
+        }
+
+        List<I> sorted = this.getSortedIntervals();
+        int n = sorted.size();
+        T first = timepoints.get(from);
+        List<I> active = new ArrayList<>();
+        int next; // index of first stored interval not yet entered into the frontier
+
+        if (from == 0) {
+            next = 0;
+        } else {
+            // initialize the frontier by a single tree search, sorted by start like the sequential sweep
+            findIntersections(first, this.timeLine.stepForward(first), this.root, active);
+            active.sort((a, b) -> compareAtStart(a.getStart(), b.getStart(), this.timeLine));
+            int low = 0;
+            int high = n;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted.get(mid).isAfter(first)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            next = low;
+        }
+
+        T previous = null;
+
+        for (int index = from; index < to; index++) {
+            T t = timepoints.get(index);
+
+            if ((previous != null) && (this.timeLine.compare(previous, t) > 0)) {
+                throw new IllegalArgumentException("Time points are not sorted: " + previous + " > " + t);
+            }
+
+            // enter all intervals starting at or before t
+            while ((next < n) && !sorted.get(next).isAfter(t)) {
+                active.add(sorted.get(next));
+                next++;
+            }
+
+            // report matches and remove expired intervals in one pass (keeping the start order)
+            int kept = 0;
+
+            for (int i = 0, size = active.size(); i < size; i++) {
+                I interval = active.get(i);
+                if (!interval.isBefore(t)) {
+                    active.set(kept++, interval);
+                    consumer.accept(t, interval);
+                }
+            }
+
+            active.subList(kept, active.size()).clear();
+
+            previous = t;
+        }
+
+    }
+
     private static <T, I extends ChronoInterval<T>> Node<T, I> insert(
         Node<T, I> node,
         I interval,
@@ -849,6 +1069,62 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    private class BatchTask
+        extends RecursiveAction {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<T> timepoints;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final BiConsumer<? super T, ? super I> consumer;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BatchTask(
+            List<T> timepoints,
+            int from,
+            int to,
+            int chunk,
+            BiConsumer<? super T, ? super I> consumer
+        ) {
+            super();
+
+            this.timepoints = timepoints;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.consumer = consumer;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from <= this.chunk) {
+                if (this.from > 0) {
+                    T last = this.timepoints.get(this.from - 1);
+                    T first = this.timepoints.get(this.from);
+                    if (IntervalTree.this.timeLine.compare(last, first) > 0) {
+                        throw new IllegalArgumentException("Time points are not sorted: " + last + " > " + first);
+                    }
+                }
+                IntervalTree.this.sweep(this.timepoints, this.from, this.to, this.consumer);
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(
+                    new BatchTask(this.timepoints, this.from, mid, this.chunk, this.consumer),
+                    new BatchTask(this.timepoints, mid, this.to, this.chunk, this.consumer)
+                );
+            }
+
+        }
+
+    }
+
     private static class Node<T, I extends ChronoInterval<T>> {
 
         //~ Instanzvariablen ----------------------------------------------
@@ -21,12 +21,15 @@
 
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
 import net.time4j.Duration;
 import net.time4j.IsoDateUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.ZonalDateTime;
+import net.time4j.engine.TimeSpan;
 import net.time4j.format.expert.ChronoFormatter;
 import net.time4j.format.expert.Iso8601Format;
 import net.time4j.tz.ZonalOffset;
@@ -34,8 +37,11 @@ import net.time4j.tz.ZonalOffset;
 import java.text.ParseException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -834,24 +840,571 @@ public class IsoRecurrence<I>
     public Stream<I> intervalStream() {
 
         long size = (this.isInfinite() ? Long.MAX_VALUE : this.getCount());
+
+        if (this.isArithmetic()) {
+            return LongStream.range(0, size).mapToObj(this::getArithmetically);
+        }
+
         int characteristics = DISTINCT | IMMUTABLE | NONNULL | ORDERED | SIZED | SUBSIZED;
         Spliterator<I> spliterator = Spliterators.spliterator(this.iterator(), size, characteristics);
         return StreamSupport.stream(spliterator, false);
 
     }
 
+    /**
+     * <p>Obtains the recurrent interval with given index. </p>
+     *
+     * <p>If the duration of this recurrence is either a fixed amount of days, weeks and clock units or
+     * a pure amount of months and years (when starting on the day of month 28 or earlier) then the
+     * interval will be directly calculated in constant time. Otherwise this method has to iterate
+     * over all preceding intervals. </p>
+     *
+     * @param   index   zero-based index of recurrent interval in the order of iteration
+     * @return  recurrent interval
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Liefert das wiederkehrende Intervall mit dem angegebenen Index. </p>
+     *
+     * <p>Wenn die Dauer dieser Wiederholung entweder eine feste Anzahl von Tagen, Wochen und Uhrzeiteinheiten
+     * oder eine reine Anzahl von Monaten und Jahren ist (mit einem Start am Tag 28 des Monats oder
+     * fr&uuml;her), dann wird das Intervall direkt in konstanter Zeit berechnet. Sonst mu&szlig; diese
+     * Methode &uuml;ber alle vorangehenden Intervalle iterieren. </p>
+     *
+     * @param   index   zero-based index of recurrent interval in the order of iteration
+     * @return  recurrent interval
+     * @throws  IndexOutOfBoundsException if the index is negative or not smaller than the count
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.6
+     */
+    public I get(long index) {
+
+        if ((index < 0) || (!this.isInfinite() && (index >= this.count))) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        if (this.isArithmetic()) {
+            return this.getArithmetically(index);
+        }
+
+        Iterator<I> iter = this.iterator();
+
+        for (long i = 0; i < index; i++) {
+            iter.next();
+        }
+
+        return iter.next();
+
+    }
+
+    /**
+     * <p>Finds the recurrent interval which contains given time point. </p>
+     *
+     * <p>The time point must be of the type {@code PlainDate} for date intervals, of the type
+     * {@code PlainTimestamp} for timestamp intervals and of the type {@code Moment} for moment
+     * intervals. If the index of the interval can be calculated (see {@link #get(long)}) then a
+     * galloping search is applied so that the effort only grows logarithmically with the index.
+     * Otherwise, that is for durations mixing months or years with other units or for durations
+     * in months or years starting after the day 28 of month, the intervals are iterated one by one
+     * from the first interval on because repeated addition does not correspond to multiplication. </p>
+     *
+     * @param   timepoint   the time point to be searched for
+     * @return  the interval containing given time point, maybe empty
+     * @throws  IllegalArgumentException if the type of time point does not match the type of intervals
+     * @see     #get(long)
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Findet das wiederkehrende Intervall, das den angegebenen Zeitpunkt enth&auml;lt. </p>
+     *
+     * <p>Der Zeitpunkt mu&szlig; f&uuml;r Datumsintervalle vom Typ {@code PlainDate}, f&uuml;r
+     * Zeitstempelintervalle vom Typ {@code PlainTimestamp} und f&uuml;r Momentintervalle vom Typ
+     * {@code Moment} sein. Wenn der Index des Intervalls berechnet werden kann (siehe {@link #get(long)}),
+     * wird eine galoppierende Suche angewandt, so da&szlig; der Aufwand nur logarithmisch mit dem Index
+     * w&auml;chst. Sonst, n&auml;mlich f&uuml;r Dauern, die Monate oder Jahre mit anderen Einheiten
+     * mischen, oder f&uuml;r Dauern in Monaten oder Jahren mit einem Start nach dem Tag 28 des Monats,
+     * werden die Intervalle einzeln ab dem ersten Intervall durchlaufen, weil die wiederholte Addition
+     * dann nicht der Multiplikation entspricht. </p>
+     *
+     * @param   timepoint   the time point to be searched for
+     * @return  the interval containing given time point, maybe empty
+     * @throws  IllegalArgumentException if the type of time point does not match the type of intervals
+     * @see     #get(long)
+     * @since   5.6
+     */
+    public Optional<I> occurrenceAt(Object timepoint) {
+
+        this.checkTimepoint(timepoint);
+
+        if (this.isArithmetic()) {
+            long index = this.search(timepoint, this.isBackwards());
+            if (index != -1) {
+                I interval = this.getArithmetically(index);
+                if (contains(interval, timepoint)) {
+                    return Optional.of(interval);
+                }
+            }
+        } else {
+            Iterator<I> iter = this.iterator();
+            while (iter.hasNext()) {
+                I interval = iter.next();
+                if (!passed(interval, timepoint, this.isBackwards())) {
+                    return (contains(interval, timepoint) ? Optional.of(interval) : Optional.empty());
+                }
+            }
+        }
+
+        return Optional.empty();
+
+    }
+
+    /**
+     * <p>Obtains an ordered stream of all recurrent intervals which intersect the closed window
+     * between given time points. </p>
+     *
+     * <p>The order of intervals is the same as in {@link #intervalStream()}. If the index of the interval
+     * can be calculated then the start of the window will be found by a galloping search, and the
+     * resulting stream is sized and efficiently splittable for parallel processing of windows even in
+     * infinite recurrences. Otherwise the intervals are iterated one by one from the first interval on
+     * as described in {@link #occurrenceAt(Object)}, and the stream is neither sized nor efficiently
+     * splittable. The types of time points are the same as in {@link #occurrenceAt(Object)}. </p>
+     *
+     * @param   from    start of window (inclusive)
+     * @param   to      end of window (inclusive)
+     * @return  Stream
+     * @throws  IllegalArgumentException if the type of time points does not match the type of intervals
+     *          or if {@code from} is after {@code to}
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen geordneten {@code Stream} aller wiederkehrenden Intervalle, die sich mit dem
+     * geschlossenen Fenster zwischen den angegebenen Zeitpunkten &uuml;berschneiden. </p>
+     *
+     * <p>Die Reihenfolge der Intervalle ist die gleiche wie in {@link #intervalStream()}. Wenn der Index
+     * eines Intervalls berechnet werden kann, wird der Start des Fensters durch eine galoppierende Suche
+     * gefunden, und der resultierende {@code Stream} hat eine bekannte Gr&ouml;&szlig;e und kann f&uuml;r
+     * die parallele Verarbeitung von Fenstern auch in unendlichen Wiederholungen effizient aufgeteilt
+     * werden. Sonst werden die Intervalle wie in {@link #occurrenceAt(Object)} beschrieben einzeln ab
+     * dem ersten Intervall durchlaufen, und der {@code Stream} hat weder eine bekannte Gr&ouml;&szlig;e
+     * noch kann er effizient aufgeteilt werden. Die Typen der Zeitpunkte sind die gleichen wie in
+     * {@link #occurrenceAt(Object)}. </p>
+     *
+     * @param   from    start of window (inclusive)
+     * @param   to      end of window (inclusive)
+     * @return  Stream
+     * @throws  IllegalArgumentException if the type of time points does not match the type of intervals
+     *          or if {@code from} is after {@code to}
+     * @since   5.6
+     */
+    public Stream<I> stream(
+        Object from,
+        Object to
+    ) {
+
+        this.checkTimepoint(from);
+        this.checkTimepoint(to);
+
+        if (isAfter(from, to)) {
+            throw new IllegalArgumentException("Start of window is after end: " + from + " > " + to);
+        }
+
+        boolean backwards = this.isBackwards();
+        Object first = (backwards ? to : from);
+        Object last = (backwards ? from : to);
+
+        if (this.isArithmetic()) {
+            long start = this.search(first, backwards);
+            if (start == -1) {
+                return Stream.empty();
+            }
+            long end = this.search(start, interval -> passed(interval, last, !backwards));
+            return LongStream.range(start, end).mapToObj(this::getArithmetically);
+        }
+
+        Iterator<I> iter = this.iterator();
+        Iterator<I> window =
+            new Iterator<I>() {
+                private I next = null;
+                private boolean done = false;
+                {
+                    while (iter.hasNext()) {
+                        I interval = iter.next();
+                        if (!passed(interval, first, backwards)) {
+                            this.next = interval;
+                            break;
+                        }
+                    }
+                    this.check();
+                }
+                @Override
+                public boolean hasNext() {
+                    return !this.done;
+                }
+                @Override
+                public I next() {
+                    if (this.done) {
+                        throw new NoSuchElementException();
+                    }
+                    I result = this.next;
+                    this.next = (iter.hasNext() ? iter.next() : null);
+                    this.check();
+                    return result;
+                }
+                private void check() {
+                    this.done = ((this.next == null) || passed(this.next, last, !backwards));
+                }
+            };
+        Spliterator<I> spliterator = Spliterators.spliteratorUnknownSize(window, DISTINCT | IMMUTABLE | NONNULL | ORDERED);
+        return StreamSupport.stream(spliterator, false);
+
+    }
+
     IsoRecurrence<I> copyWithCount(int count) {
 
         throw new AbstractMethodError();
 
     }
 
+    /**
+     * <p>K&ouml;nnen die Intervalle direkt aus ihrem Index berechnet werden? </p>
+     *
+     * @return  boolean
+     */
+    boolean isArithmetic() {
+
+        return false;
+
+    }
+
+    /**
+     * <p>Berechnet das Intervall mit dem angegebenen Index in konstanter Zeit. </p>
+     *
+     * @param   index   non-negative index
+     * @return  interval
+     * @throws  ArithmeticException in case of numerical overflow
+     */
+    I getArithmetically(long index) {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Indizes, deren Intervalle vollst&auml;ndig innerhalb der Zeitachse
+     * liegen, wenn die Intervalle direkt berechnet werden k&ouml;nnen. </p>
+     *
+     * @return  exclusive upper limit of index for {@link #getArithmetically(long)}
+     */
+    long getRangeLimit() {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Liefert den Typ der Zeitpunkte in den Intervallen. </p>
+     *
+     * @return  Class
+     */
+    Class<?> getTimepointType() {
+
+        throw new AbstractMethodError();
+
+    }
+
+    /**
+     * <p>Zerlegt die angegebene Dauer in lineare Anteile, wenn m&ouml;glich. </p>
+     *
+     * <p>Das Ergebnis-Array enth&auml;lt die Anteile in Tagen, Monaten, Sekunden und Nanosekunden. Monate
+     * d&uuml;rfen nicht mit anderen Einheiten gemischt werden und sind nur zul&auml;ssig, wenn der Tag
+     * des Monats der Referenz nicht gr&ouml;&szlig;er als 28 ist, weil sonst die wiederholte Addition
+     * nicht der Multiplikation entspricht. </p>
+     *
+     * @param   duration    positive duration
+     * @param   dayOfMonth  day of month of reference date
+     * @return  array of days, months, seconds and nanoseconds or {@code null} if not linear
+     */
+    static long[] linearize(
+        Duration<?> duration,
+        int dayOfMonth
+    ) {
+
+        long days = 0;
+        long months = 0;
+        long seconds = 0;
+        long nanos = 0;
+
+        try {
+            for (TimeSpan.Item<?> item : duration.getTotalLength()) {
+                Object unit = item.getUnit();
+                long amount = item.getAmount();
+                if (unit instanceof CalendarUnit) {
+                    switch ((CalendarUnit) unit) {
+                        case MILLENNIA:
+                            months = Math.addExact(months, Math.multiplyExact(amount, 12000));
+                            break;
+                        case CENTURIES:
+                            months = Math.addExact(months, Math.multiplyExact(amount, 1200));
+                            break;
+                        case DECADES:
+                            months = Math.addExact(months, Math.multiplyExact(amount, 120));
+                            break;
+                        case YEARS:
+                            months = Math.addExact(months, Math.multiplyExact(amount, 12));
+                            break;
+                        case QUARTERS:
+                            months = Math.addExact(months, Math.multiplyExact(amount, 3));
+                            break;
+                        case MONTHS:
+                            months = Math.addExact(months, amount);
+                            break;
+                        case WEEKS:
+                            days = Math.addExact(days, Math.multiplyExact(amount, 7));
+                            break;
+                        case DAYS:
+                            days = Math.addExact(days, amount);
+                            break;
+                        default:
+                            return null;
+                    }
+                } else if (unit instanceof ClockUnit) {
+                    switch ((ClockUnit) unit) {
+                        case HOURS:
+                            seconds = Math.addExact(seconds, Math.multiplyExact(amount, 3600));
+                            break;
+                        case MINUTES:
+                            seconds = Math.addExact(seconds, Math.multiplyExact(amount, 60));
+                            break;
+                        case SECONDS:
+                            seconds = Math.addExact(seconds, amount);
+                            break;
+                        case MILLIS:
+                            nanos = Math.addExact(nanos, Math.multiplyExact(amount, 1_000_000));
+                            break;
+                        case MICROS:
+                            nanos = Math.addExact(nanos, Math.multiplyExact(amount, 1_000));
+                            break;
+                        default:
+                            nanos = Math.addExact(nanos, amount);
+                    }
+                } else {
+                    return null;
+                }
+            }
+        } catch (ArithmeticException ae) {
+            return null;
+        }
+
+        seconds += nanos / 1_000_000_000L;
+        nanos = nanos % 1_000_000_000L;
+
+        if ((months != 0) && ((days != 0) || (seconds != 0) || (nanos != 0) || (dayOfMonth > 28))) {
+            return null;
+        }
+
+        return new long[] {days, months, seconds, nanos};
+
+    }
+
+    /**
+     * <p>Verschiebt den angegebenen Zeitstempel um das Vielfache einer linearisierten Dauer. </p>
+     *
+     * @param   ref         reference timestamp
+     * @param   linear      linearized duration
+     * @param   factor      non-negative multiple
+     * @param   backwards   shall the duration be subtracted?
+     * @return  shifted timestamp
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #linearize(Duration, int)
+     */
+    static PlainTimestamp shift(
+        PlainTimestamp ref,
+        long[] linear,
+        long factor,
+        boolean backwards
+    ) {
+
+        PlainTimestamp result = ref;
+
+        if (linear[1] != 0) {
+            long months = Math.multiplyExact(linear[1], factor);
+            result = (backwards ? result.minus(months, MONTHS) : result.plus(months, MONTHS));
+        } else {
+            long days = Math.multiplyExact(linear[0], factor);
+            long seconds = Math.multiplyExact(linear[2], factor);
+            // Nanosekunden ohne Überlauf: factor = q * 10^9 + r
+            long q = factor / 1_000_000_000L;
+            long nanos = linear[3] * (factor % 1_000_000_000L);
+            seconds = Math.addExact(seconds, Math.addExact(Math.multiplyExact(linear[3], q), nanos / 1_000_000_000L));
+            nanos = nanos % 1_000_000_000L;
+            if (backwards) {
+                result = result.minus(days, DAYS).minus(seconds, SECONDS).minus(nanos, NANOS);
+            } else {
+                result = result.plus(days, DAYS).plus(seconds, SECONDS).plus(nanos, NANOS);
+            }
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Bestimmt die Anzahl der Vielfachen einer linearisierten Dauer, die von der Referenz bis zur
+     * angegebenen Grenze der Zeitachse passen. </p>
+     *
+     * @param   ref         reference timestamp
+     * @param   bound       minimum or maximum of supported range
+     * @param   linear      linearized duration
+     * @param   backwards   shall the duration be subtracted?
+     * @return  maximum factor for {@link #shift(PlainTimestamp, long[], long, boolean)}
+     * @see     #linearize(Duration, int)
+     */
+    static long getRangeLimit(
+        PlainTimestamp ref,
+        PlainTimestamp bound,
+        long[] linear,
+        boolean backwards
+    ) {
+
+        PlainTimestamp start = (backwards ? bound : ref);
+        PlainTimestamp end = (backwards ? ref : bound);
+
+        if (linear[1] != 0) {
+            return Math.max(0, start.until(end, MONTHS)) / linear[1];
+        }
+
+        long remaining = Math.max(0, start.until(end, SECONDS));
+
+        if (linear[0] > (Long.MAX_VALUE - linear[2] - 1) / 86400) {
+            return 0;
+        }
+
+        long step = linear[0] * 86400 + linear[2] + ((linear[3] > 0) ? 1 : 0); // aufgerundet
+        return remaining / step;
+
+    }
+
     int getType() {
 
         return this.type;
 
     }
 
+    private void checkTimepoint(Object timepoint) {
+
+        if (!this.getTimepointType().isInstance(timepoint)) {
+            throw new IllegalArgumentException(
+                "Expected time point of type " + this.getTimepointType().getName() + ": " + timepoint);
+        }
+
+    }
+
+    // index of first interval which has not yet passed given time point or -1 if there is no such interval
+    private long search(
+        Object timepoint,
+        boolean backwards
+    ) {
+
+        long result = this.search(0, interval -> !passed(interval, timepoint, backwards));
+        return ((result == this.getSearchLimit()) ? -1 : result);
+
+    }
+
+    // index of first interval not before start which satisfies given monotone condition (else limit)
+    private long search(
+        long start,
+        Predicate<I> condition
+    ) {
+
+        long limit = this.getSearchLimit();
+
+        if ((start >= limit) || this.test(start, condition)) {
+            return start;
+        }
+
+        // galloping: condition(low) is always false, condition(high) true or high == limit
+        long low = start;
+        long step = 1;
+        long high;
+
+        while (true) {
+            high = ((limit - low > step) ? low + step : limit);
+            if ((high == limit) || this.test(high, condition)) {
+                break;
+            }
+            low = high;
+            step = ((step > Long.MAX_VALUE / 2) ? Long.MAX_VALUE : step * 2);
+        }
+
+        // binary search
+        while (high - low > 1) {
+            long mid = low + (high - low) / 2;
+            if (this.test(mid, condition)) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+
+        return high;
+
+    }
+
+    private boolean test(
+        long index,
+        Predicate<I> condition
+    ) {
+
+        return condition.test(this.getArithmetically(index));
+
+    }
+
+    // Intervalle jenseits der Grenzen der Zeitachse können keinen Zeitpunkt enthalten
+    private long getSearchLimit() {
+
+        long limit = this.getRangeLimit();
+        return (this.isInfinite() ? limit : Math.min(limit, this.count));
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean passed(
+        Object interval,
+        Object timepoint,
+        boolean backwards
+    ) {
+
+        ChronoInterval<Object> ci = (ChronoInterval<Object>) interval;
+        return (backwards ? ci.isAfter(timepoint) : ci.isBefore(timepoint));
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean contains(
+        Object interval,
+        Object timepoint
+    ) {
+
+        return ((ChronoInterval<Object>) interval).contains(timepoint);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isAfter(
+        Object t1,
+        Object t2
+    ) {
+
+        if (t1 instanceof Moment) {
+            return ((Moment) t1).isAfter((Moment) t2);
+        }
+
+        return (((Comparable<Object>) t1).compareTo(t2) > 0);
+
+    }
+
     private static void check(int count) {
 
         if (count < 0) {
@@ -990,6 +1543,7 @@ public class IsoRecurrence<I>
 
         private final PlainDate ref;
         private final Duration<? extends IsoDateUnit> duration;
+        private final long[] linear;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1008,6 +1562,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
             }
 
+            this.linear = linearize(duration, ref.getDayOfMonth());
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1095,6 +1651,61 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        boolean isArithmetic() {
+
+            return (this.linear != null);
+
+        }
+
+        @Override
+        DateInterval getArithmetically(long index) {
+
+            PlainDate current = this.boundary(index);
+            PlainDate next = this.boundary(Math.addExact(index, 1));
+            Boundary<PlainDate> s;
+            Boundary<PlainDate> e;
+
+            if (this.isBackwards()) {
+                s = Boundary.ofClosed(next.plus(1, DAYS));
+                e = Boundary.ofClosed(current);
+            } else {
+                s = Boundary.ofClosed(current);
+                e = Boundary.ofClosed(next.minus(1, DAYS));
+            }
+
+            return DateIntervalFactory.INSTANCE.between(s, e);
+
+        }
+
+        @Override
+        long getRangeLimit() {
+
+            boolean months = (this.linear[1] != 0);
+            long remaining =
+                (this.isBackwards()
+                    ? PlainDate.axis().getMinimum().until(this.ref, months ? MONTHS : DAYS)
+                    : this.ref.until(PlainDate.axis().getMaximum(), months ? MONTHS : DAYS));
+            return remaining / this.linear[months ? 1 : 0];
+
+        }
+
+        @Override
+        Class<?> getTimepointType() {
+
+            return PlainDate.class;
+
+        }
+
+        private PlainDate boundary(long index) {
+
+            boolean months = (this.linear[1] != 0);
+            long amount = Math.multiplyExact(this.linear[months ? 1 : 0], index);
+            CalendarUnit unit = (months ? MONTHS : DAYS);
+            return (this.isBackwards() ? this.ref.minus(amount, unit) : this.ref.plus(amount, unit));
+
+        }
+
     }
 
     private static class RecurrentTimestampIntervals
@@ -1106,6 +1717,7 @@ public class IsoRecurrence<I>
 
         private final PlainTimestamp ref;
         private final Duration<?> duration;
+        private final long[] linear;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1124,6 +1736,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Duration must be positive: " + duration);
             }
 
+            this.linear = linearize(duration, ref.getCalendarDate().getDayOfMonth());
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1211,6 +1825,44 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        boolean isArithmetic() {
+
+            return (this.linear != null);
+
+        }
+
+        @Override
+        TimestampInterval getArithmetically(long index) {
+
+            boolean backwards = this.isBackwards();
+            PlainTimestamp current = shift(this.ref, this.linear, index, backwards);
+            PlainTimestamp next = shift(this.ref, this.linear, Math.addExact(index, 1), backwards);
+
+            if (backwards) {
+                return TimestampIntervalFactory.INSTANCE.between(Boundary.ofClosed(next), Boundary.ofOpen(current));
+            } else {
+                return TimestampIntervalFactory.INSTANCE.between(Boundary.ofClosed(current), Boundary.ofOpen(next));
+            }
+
+        }
+
+        @Override
+        long getRangeLimit() {
+
+            PlainTimestamp bound =
+                (this.isBackwards() ? PlainTimestamp.axis().getMinimum() : PlainTimestamp.axis().getMaximum());
+            return IsoRecurrence.getRangeLimit(this.ref, bound, this.linear, this.isBackwards());
+
+        }
+
+        @Override
+        Class<?> getTimepointType() {
+
+            return PlainTimestamp.class;
+
+        }
+
     }
 
     private static class RecurrentMomentIntervals
@@ -1223,6 +1875,7 @@ public class IsoRecurrence<I>
         private final PlainTimestamp ref;
         private final ZonalOffset offset;
         private final Duration<?> duration;
+        private final long[] linear;
 
         //~ Konstruktoren -------------------------------------------------
 
@@ -1245,6 +1898,8 @@ public class IsoRecurrence<I>
                 throw new IllegalArgumentException("Offset with seconds is invalid in ISO-8601: " + offset);
             }
 
+            this.linear = linearize(duration, ref.getCalendarDate().getDayOfMonth());
+
         }
 
         //~ Methoden ----------------------------------------------------------
@@ -1343,6 +1998,47 @@ public class IsoRecurrence<I>
 
         }
 
+        @Override
+        boolean isArithmetic() {
+
+            return (this.linear != null);
+
+        }
+
+        @Override
+        MomentInterval getArithmetically(long index) {
+
+            boolean backwards = this.isBackwards();
+            Moment current = shift(this.ref, this.linear, index, backwards).at(this.offset);
+            Moment next = shift(this.ref, this.linear, Math.addExact(index, 1), backwards).at(this.offset);
+
+            if (backwards) {
+                return MomentIntervalFactory.INSTANCE.between(Boundary.ofClosed(next), Boundary.ofOpen(current));
+            } else {
+                return MomentIntervalFactory.INSTANCE.between(Boundary.ofClosed(current), Boundary.ofOpen(next));
+            }
+
+        }
+
+        @Override
+        long getRangeLimit() {
+
+            // ein Tag Abstand deckt jede Verschiebung zwischen lokaler Zeit und UTC ab
+            PlainTimestamp bound =
+                (this.isBackwards()
+                    ? PlainTimestamp.axis().getMinimum().plus(1, DAYS)
+                    : PlainTimestamp.axis().getMaximum().minus(1, DAYS));
+            return IsoRecurrence.getRangeLimit(this.ref, bound, this.linear, this.isBackwards());
+
+        }
+
+        @Override
+        Class<?> getTimepointType() {
+
+            return Moment.class;
+
+        }
+
         private String getOffsetAsString() {
 
             if ((this.offset.getIntegralAmount() == 0) && (this.offset.getFractionalAmount() == 0)) {
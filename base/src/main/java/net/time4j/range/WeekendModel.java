@@ -0,0 +1,99 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (WeekendModel.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.PlainDate;
+import net.time4j.Weekday;
+import net.time4j.Weekmodel;
+import net.time4j.format.internal.LocaleCache;
+
+import java.util.Locale;
+
+
+/**
+ * <p>L&auml;nderspezifisches Wochenende als Bitmaske der Wochentage. </p>
+ *
+ * <p>Die Wochendaten werden nur einmal pro {@code Locale} aufgel&ouml;st und gecacht, so da&szlig;
+ * die Abfrage eines Datums kein Nachschlagen im {@code Weekmodel}-Cache mehr erfordert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+final class WeekendModel
+    implements HolidayModel {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final LocaleCache<Locale, WeekendModel> CACHE = LocaleCache.of("WeekendModel", 150);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int mask; // bit (n - 1) set if ISO weekday n belongs to weekend
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private WeekendModel(Weekmodel model) {
+        super();
+
+        int m = 0;
+        Weekday wd = model.getStartOfWeekend();
+
+        while (true) {
+            m |= (1 << (wd.getValue() - 1));
+            if (wd == model.getEndOfWeekend()) {
+                break;
+            }
+            wd = wd.next();
+        }
+
+        this.mask = m;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert das gecachte Wochenendmodell f&uuml;r das angegebene Land. </p>
+     *
+     * @param   country     locale with country information
+     * @return  cached weekend model
+     */
+    static WeekendModel of(Locale country) {
+
+        WeekendModel wm = CACHE.get(country);
+
+        if (wm != null) {
+            return wm;
+        }
+
+        return CACHE.putIfAbsent(country, new WeekendModel(Weekmodel.of(country)));
+
+    }
+
+    @Override
+    public boolean test(PlainDate date) {
+
+        return ((this.mask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0);
+
+    }
+
+}
@@ -179,126 +179,31 @@ public abstract class Timezone
     private static final String NAME_TZDB = "TZDB";
     private static final String NAME_DEFAULT = "DEFAULT";
 
-    private static final Map<String, TZID> PREDEFINED;
+    private static final Map<String, TZID> UTC_ALIASES;
     private static final Map<String, TZID> ETCETERA;
-    private static final ZoneModelProvider PLATFORM_PROVIDER;
-    private static final ZoneModelProvider DEFAULT_PROVIDER;
     private static final ConcurrentMap<String, NamedReference> CACHE;
     private static final ReferenceQueue<Timezone> QUEUE;
     private static final LinkedList<Timezone> LAST_USED;
-    private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
-
-    /**
-     * Default provider for tz-name-repository.
-     */
-    static final ZoneNameProvider NAME_PROVIDER;
-
-    private static final Timezone SYSTEM_TZ_ORIGINAL;
 
     static {
         CACHE = new ConcurrentHashMap<>();
-        PROVIDERS = new ConcurrentHashMap<>();
         QUEUE = new ReferenceQueue<>();
         LAST_USED = new LinkedList<>(); // strong references
 
-        List<Class<? extends TZID>> areas;
-
-        try {
-            areas =
-                loadPredefined(
-                    Timezone.class.getClassLoader(),
-                    "AFRICA",
-                    "AMERICA",
-                    "AMERICA$ARGENTINA",
-                    "AMERICA$INDIANA",
-                    "AMERICA$KENTUCKY",
-                    "AMERICA$NORTH_DAKOTA",
-                    "ANTARCTICA",
-                    "ASIA",
-                    "ATLANTIC",
-                    "AUSTRALIA",
-                    "EUROPE",
-                    "INDIAN",
-                    "PACIFIC");
-        } catch (ClassNotFoundException cnfe) {
-            // olson-package not available
-            areas = Collections.emptyList();
-        }
-
-        Map<String, TZID> temp1 = new HashMap<>();
-        temp1.put("Z", ZonalOffset.UTC);
-        temp1.put("UT", ZonalOffset.UTC);
-        temp1.put("UTC", ZonalOffset.UTC);
-        temp1.put("GMT", ZonalOffset.UTC);
-        temp1.put("UTC0", ZonalOffset.UTC);
-        temp1.put("GMT0", ZonalOffset.UTC);
-
-        for (Class<? extends TZID> area : areas) {
-            for (TZID tzid : area.getEnumConstants()) {
-                temp1.put(tzid.canonical(), tzid);
-            }
-        }
-
-        PREDEFINED = Collections.unmodifiableMap(temp1);
+        Map<String, TZID> temp = new HashMap<>();
+        temp.put("Z", ZonalOffset.UTC);
+        temp.put("UT", ZonalOffset.UTC);
+        temp.put("UTC", ZonalOffset.UTC);
+        temp.put("GMT", ZonalOffset.UTC);
+        temp.put("UTC0", ZonalOffset.UTC);
+        temp.put("GMT0", ZonalOffset.UTC);
+        UTC_ALIASES = Collections.unmodifiableMap(temp);
 
         Map<String, TZID> etcetera = new HashMap<>();
         fillEtcetera(etcetera);
         ETCETERA = Collections.unmodifiableMap(etcetera);
 
-        ZoneModelProvider zp = null;
-        ZoneNameProvider np = null;
-
-        for (ZoneModelProvider provider : ResourceLoader.getInstance().services(ZoneModelProvider.class)) {
-            String name = provider.getName();
-
-            if (name.equals(NAME_TZDB)) {
-                zp = compareTZDB(provider, zp);
-            } else if (!name.isEmpty() && !name.equals(NAME_DEFAULT)) {
-                PROVIDERS.put(name, provider);
-            }
-        }
-
-        for (ZoneNameProvider provider : ResourceLoader.getInstance().services(ZoneNameProvider.class)) {
-            np = provider;
-        }
-
-        PLATFORM_PROVIDER = new PlatformZoneProvider();
-        NAME_PROVIDER = ((np == null) ? PLATFORM_PROVIDER.getSpecificZoneNameRepository() : np);
-        PROVIDERS.put(NAME_JUT, PLATFORM_PROVIDER);
-
-        if (zp == null) {
-            DEFAULT_PROVIDER = PLATFORM_PROVIDER;
-        } else {
-            PROVIDERS.put(NAME_TZDB, zp);
-            DEFAULT_PROVIDER = zp;
-        }
-
-        Timezone systemTZ = null;
-
-        try {
-            String zoneID = System.getProperty("user.timezone");
-
-            if ("Z".equals(zoneID) || "UTC".equals(zoneID)) {
-                systemTZ = ZonalOffset.UTC.getModel();
-            } else if (zoneID != null) {
-                systemTZ = Timezone.getTZ(resolve(zoneID), zoneID, false);
-            }
-        } catch (SecurityException se) {
-            // OK, dann Zugriff auf j.u.TimeZone.getDefault()
-        }
-
-        if (systemTZ == null) {
-            SYSTEM_TZ_ORIGINAL = Timezone.getDefaultTZ();
-        } else {
-            SYSTEM_TZ_ORIGINAL = systemTZ;
-        }
-
-        if (ALLOW_SYSTEM_TZ_OVERRIDE) {
-            currentSystemTZ = SYSTEM_TZ_ORIGINAL;
-        }
-
-        // Cache für Available-IDs
-        zonalKeys = new ZonalKeys();
+        // Olson-IDs, Provider und System-Zeitzone werden erst bei Bedarf in Holder-Klassen geladen
     }
 
     //~ Konstruktoren -----------------------------------------------------
@@ -325,7 +230,7 @@ public abstract class Timezone
      */
     public static List<TZID> getAvailableIDs() {
 
-        return zonalKeys.availables;
+        return getZonalKeys().availables;
 
     }
 
@@ -363,7 +268,7 @@ public abstract class Timezone
     public static List<TZID> getAvailableIDs(String provider) {
 
         if (provider.equals("INCLUDE_ALIAS")) {
-            return zonalKeys.availablesAndAliases;
+            return getZonalKeys().availablesAndAliases;
         }
 
         ZoneModelProvider zp = getProvider(provider);
@@ -437,7 +342,7 @@ public abstract class Timezone
         ZoneNameProvider np = zp.getSpecificZoneNameRepository();
 
         if (np == null) {
-            np = NAME_PROVIDER;
+            np = Providers.NAMES;
         }
 
         Set<TZID> p = new HashSet<>();
@@ -504,8 +409,8 @@ public abstract class Timezone
             return currentSystemTZ;
         } else {
             // detect premature class initialization
-            assert (SYSTEM_TZ_ORIGINAL != null);
-            return SYSTEM_TZ_ORIGINAL;
+            assert (SystemZone.ORIGINAL != null);
+            return SystemZone.ORIGINAL;
         }
 
     }
@@ -760,11 +665,11 @@ public abstract class Timezone
             throw new IllegalArgumentException("Empty zone identifier: " + tzid);
         }
 
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = Providers.DEFAULT;
         boolean useDefault = (providerName.isEmpty() || providerName.equals(NAME_DEFAULT));
 
         if (!useDefault && !providerName.equals("WINDOWS") && !providerName.equals("MILITARY")) {
-            provider = PROVIDERS.get(providerName);
+            provider = Providers.REGISTERED.get(providerName);
 
             if (provider == null) {
                 String msg;
@@ -1110,11 +1015,11 @@ public abstract class Timezone
         StringBuilder sb = new StringBuilder(128);
         sb.append(Timezone.class.getName());
         sb.append(":[default-provider=");
-        sb.append(DEFAULT_PROVIDER.getName());
+        sb.append(Providers.DEFAULT.getName());
         sb.append(", registered={");
 
-        for (String key : PROVIDERS.keySet()) {
-            ZoneModelProvider provider = PROVIDERS.get(key);
+        for (String key : Providers.REGISTERED.keySet()) {
+            ZoneModelProvider provider = Providers.REGISTERED.get(key);
             if (provider != null) { // defensive against parallel threads
                 sb.append("(name=");
                 sb.append(provider.getName());
@@ -1184,7 +1089,7 @@ public abstract class Timezone
      */
     public static Set<String> getRegisteredProviders() {
 
-        return Collections.unmodifiableSet(PROVIDERS.keySet());
+        return Collections.unmodifiableSet(Providers.REGISTERED.keySet());
 
     }
 
@@ -1313,13 +1218,13 @@ public abstract class Timezone
 
         String canonical = tzid.canonical();
         int index = canonical.indexOf('~');
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
+        ZoneModelProvider provider = Providers.DEFAULT;
         String zoneID = canonical;
 
         if (index >= 0) {
             String pname = canonical.substring(0, index);
             if (!pname.equals(NAME_DEFAULT)) {
-                provider = PROVIDERS.get(pname);
+                provider = Providers.REGISTERED.get(pname);
                 if (provider == null) {
                     return canonical;
                 }
@@ -1330,14 +1235,14 @@ public abstract class Timezone
         ZoneNameProvider np = provider.getSpecificZoneNameRepository();
 
         if (np == null) {
-            np = NAME_PROVIDER;
+            np = Providers.NAMES;
         }
 
         String name = np.getDisplayName(zoneID, style, locale);
 
         if (name.isEmpty()) {
-            if (np != NAME_PROVIDER) {
-                name = NAME_PROVIDER.getDisplayName(zoneID, style, locale);
+            if (np != Providers.NAMES) {
+                name = Providers.NAMES.getDisplayName(zoneID, style, locale);
             }
             name = (name.isEmpty() ? canonical : name);
         }
@@ -1387,10 +1292,10 @@ public abstract class Timezone
                 "Default zone model provider cannot be overridden.");
         }
 
-        boolean inserted = (PROVIDERS.putIfAbsent(name, provider) == null);
+        boolean inserted = (Providers.REGISTERED.putIfAbsent(name, provider) == null);
 
         if (inserted) {
-            zonalKeys = new ZonalKeys();
+            zonalKeys = null;
         }
 
         return inserted;
@@ -1442,6 +1347,30 @@ public abstract class Timezone
 
     }
 
+    private static ZonalKeys getZonalKeys() {
+
+        ZonalKeys keys = zonalKeys;
+
+        if (keys == null) {
+            keys = new ZonalKeys();
+            zonalKeys = keys;
+        }
+
+        return keys;
+
+    }
+
+    /**
+     * <p>Liefert das Standard-Repositorium f&uuml;r Zeitzonennamen. </p>
+     *
+     * @return  default provider for tz-name-repository
+     */
+    static ZoneNameProvider getNameProvider() {
+
+        return Providers.NAMES;
+
+    }
+
     private static Timezone getDefaultTZ() {
 
         String zoneID = java.util.TimeZone.getDefault().getID();
@@ -1510,14 +1439,24 @@ public abstract class Timezone
             }
         }
 
-        ZoneModelProvider provider = DEFAULT_PROVIDER;
-
         boolean useDefault = (
             providerName.isEmpty()
             || providerName.equals(NAME_DEFAULT));
 
+        // enums bevorzugen
+        TZID resolved = tzid;
+
+        if ((resolved == null) && useDefault) {
+            resolved = resolve(zoneKey);
+            if (resolved instanceof ZonalOffset) {
+                return ((ZonalOffset) resolved).getModel(); // ohne Laden der Provider
+            }
+        }
+
+        ZoneModelProvider provider = Providers.DEFAULT;
+
         if (!useDefault) {
-            provider = PROVIDERS.get(providerName);
+            provider = Providers.REGISTERED.get(providerName);
 
             if (provider == null) {
                 if (wantsException) {
@@ -1534,24 +1473,12 @@ public abstract class Timezone
             }
         }
 
-        // enums bevorzugen
-        TZID resolved = tzid;
-
         if (resolved == null) {
-            if (useDefault) {
-                TZID result = resolve(zoneKey);
-                if (result instanceof ZonalOffset) {
-                    return ((ZonalOffset) result).getModel();
-                } else {
-                    resolved = result;
-                }
-            } else {
-                resolved = new NamedID(zoneID);
-            }
+            resolved = new NamedID(zoneID);
         }
 
         // java.util.TimeZone hat keine öffentliche Historie
-        if (provider == PLATFORM_PROVIDER) {
+        if (provider == Providers.PLATFORM) {
             PlatformTimezone test = new PlatformTimezone(resolved, zoneKey);
 
             // JDK-Fallback verhindern => tz == null
@@ -1663,8 +1590,11 @@ public abstract class Timezone
 
     private static TZID resolve(String zoneKey) {
 
-        // enums bevorzugen
-        TZID resolved = PREDEFINED.get(zoneKey);
+        // enums bevorzugen (alle Olson-IDs enthalten einen Schrägstrich)
+        TZID resolved = (
+            (zoneKey.indexOf('/') == -1)
+            ? UTC_ALIASES.get(zoneKey)
+            : Olson.PREDEFINED.get(zoneKey));
 
         if (resolved == null) {
             if (zoneKey.startsWith("GMT")) {
@@ -1749,8 +1679,8 @@ public abstract class Timezone
 
         return (
             provider.equals(NAME_DEFAULT)
-            ? DEFAULT_PROVIDER
-            : PROVIDERS.get(provider));
+            ? Providers.DEFAULT
+            : Providers.REGISTERED.get(provider));
 
     }
 
@@ -1824,7 +1754,7 @@ public abstract class Timezone
                 LAST_USED.clear();
             }
 
-            zonalKeys = new ZonalKeys();
+            zonalKeys = null;
             CACHE.clear();
 
             if (ALLOW_SYSTEM_TZ_OVERRIDE) {
@@ -1935,12 +1865,12 @@ public abstract class Timezone
             List<TZID> listAndAliases = new ArrayList<>(1024);
             list.add(ZonalOffset.UTC);
 
-            for (Map.Entry<String, ZoneModelProvider> e : PROVIDERS.entrySet()) {
+            for (Map.Entry<String, ZoneModelProvider> e : Providers.REGISTERED.entrySet()) {
                 ZoneModelProvider zp = e.getValue();
 
                 if (
-                    (zp == PLATFORM_PROVIDER)
-                    && (DEFAULT_PROVIDER != PLATFORM_PROVIDER)
+                    (zp == Providers.PLATFORM)
+                    && (Providers.DEFAULT != Providers.PLATFORM)
                 ) {
                     continue;
                 }
@@ -2072,4 +2002,124 @@ public abstract class Timezone
 
     }
 
+    // Holder für Olson-Enums, erst geladen, wenn eine Zonenkennung mit Schrägstrich aufgelöst wird
+    private static class Olson {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Map<String, TZID> PREDEFINED;
+
+        static {
+            List<Class<? extends TZID>> areas;
+
+            try {
+                areas =
+                    loadPredefined(
+                        Timezone.class.getClassLoader(),
+                        "AFRICA",
+                        "AMERICA",
+                        "AMERICA$ARGENTINA",
+                        "AMERICA$INDIANA",
+                        "AMERICA$KENTUCKY",
+                        "AMERICA$NORTH_DAKOTA",
+                        "ANTARCTICA",
+                        "ASIA",
+                        "ATLANTIC",
+                        "AUSTRALIA",
+                        "EUROPE",
+                        "INDIAN",
+                        "PACIFIC");
+            } catch (ClassNotFoundException cnfe) {
+                // olson-package not available
+                areas = Collections.emptyList();
+            }
+
+            Map<String, TZID> temp = new HashMap<>();
+
+            for (Class<? extends TZID> area : areas) {
+                for (TZID tzid : area.getEnumConstants()) {
+                    temp.put(tzid.canonical(), tzid);
+                }
+            }
+
+            PREDEFINED = Collections.unmodifiableMap(temp);
+        }
+
+    }
+
+    // Holder für Zonenmodell- und Zonennamen-Provider, für feste Verschiebungen nicht benötigt
+    private static class Providers {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final ConcurrentMap<String, ZoneModelProvider> REGISTERED;
+        private static final ZoneModelProvider PLATFORM;
+        private static final ZoneModelProvider DEFAULT;
+        private static final ZoneNameProvider NAMES;
+
+        static {
+            REGISTERED = new ConcurrentHashMap<>();
+
+            ZoneModelProvider zp = null;
+            ZoneNameProvider np = null;
+
+            for (ZoneModelProvider provider : ResourceLoader.getInstance().services(ZoneModelProvider.class)) {
+                String name = provider.getName();
+
+                if (name.equals(NAME_TZDB)) {
+                    zp = compareTZDB(provider, zp);
+                } else if (!name.isEmpty() && !name.equals(NAME_DEFAULT)) {
+                    REGISTERED.put(name, provider);
+                }
+            }
+
+            for (ZoneNameProvider provider : ResourceLoader.getInstance().services(ZoneNameProvider.class)) {
+                np = provider;
+            }
+
+            PLATFORM = new PlatformZoneProvider();
+            NAMES = ((np == null) ? PLATFORM.getSpecificZoneNameRepository() : np);
+            REGISTERED.put(NAME_JUT, PLATFORM);
+
+            if (zp == null) {
+                DEFAULT = PLATFORM;
+            } else {
+                REGISTERED.put(NAME_TZDB, zp);
+                DEFAULT = zp;
+            }
+        }
+
+    }
+
+    // Holder für die beim ersten Zugriff ermittelte System-Zeitzone
+    private static class SystemZone {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Timezone ORIGINAL;
+
+        static {
+            Timezone systemTZ = null;
+
+            try {
+                String zoneID = System.getProperty("user.timezone");
+
+                if ("Z".equals(zoneID) || "UTC".equals(zoneID)) {
+                    systemTZ = ZonalOffset.UTC.getModel();
+                } else if (zoneID != null) {
+                    systemTZ = Timezone.getTZ(resolve(zoneID), zoneID, false);
+                }
+            } catch (SecurityException se) {
+                // OK, dann Zugriff auf j.u.TimeZone.getDefault()
+            }
+
+            if (systemTZ == null) {
+                ORIGINAL = Timezone.getDefaultTZ();
+            } else {
+                ORIGINAL = systemTZ;
+            }
+        }
+
+    }
+
 }
@@ -883,7 +883,7 @@ public final class ZonalOffset
      */
     public String getStdFormatPattern(Locale locale) {
 
-        return Timezone.NAME_PROVIDER.getStdFormatPattern((this.total == 0) && (this.fraction == 0), locale);
+        return Timezone.getNameProvider().getStdFormatPattern((this.total == 0) && (this.fraction == 0), locale);
 
     }
 
@@ -57,11 +57,17 @@ final class ArrayTransitionModel
 
     //~ Instanzvariablen --------------------------------------------------
 
-    private transient final ZonalTransition[] transitions;
+    // Struct-of-arrays: die Suche greift nur auf primitive Arrays zu,
+    // ZonalTransition-Objekte werden erst bei Bedarf erzeugt
+    private transient final long[] posix; // POSIX-Zeitpunkte der Übergänge
+    private transient final long[] localStart; // POSIX-Zeit + max(vorherige, neue Gesamtverschiebung)
+    private transient final int[] offsets; // paarweise: [2 * i] = vorherige, [2 * i + 1] = neue Gesamtverschiebung
+    private transient final int[] dst; // Extra-Verschiebungen
     private transient final boolean negativeDST;
 
     // Cache
-    private transient final List<ZonalTransition> stdTransitions;
+    private transient final ZonalTransition[] materialized; // bei Einzelabfragen erzeugte Übergänge
+    private transient volatile List<ZonalTransition> stdTransitions = null;
     private transient int hash = 0;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -102,11 +108,22 @@ final class ArrayTransitionModel
             checkSanity(tmp, transitions);
         }
 
-        this.transitions = tmp;
-
-        // fill standard transition cache
-        long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.posix = new long[n];
+        this.localStart = new long[n];
+        this.offsets = new int[n * 2];
+        this.dst = new int[n];
+        this.materialized = new ZonalTransition[n];
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = tmp[i];
+            int previous = zt.getPreviousOffset();
+            int total = zt.getTotalOffset();
+            this.posix[i] = zt.getPosixTime();
+            this.localStart[i] = zt.getPosixTime() + Math.max(previous, total);
+            this.offsets[2 * i] = previous;
+            this.offsets[2 * i + 1] = total;
+            this.dst[i] = zt.getExtraOffset();
+        }
 
     }
 
@@ -115,20 +132,19 @@ final class ArrayTransitionModel
     @Override
     public ZonalOffset getInitialOffset() {
 
-        return ZonalOffset.ofTotalSeconds(
-            this.transitions[0].getPreviousOffset());
+        return ZonalOffset.ofTotalSeconds(this.offsets[0]);
 
     }
 
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posix);
 
         return (
             (index == 0)
             ? null
-            : this.transitions[index - 1]);
+            : this.getTransition(index - 1));
 
     }
 
@@ -145,12 +161,12 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posix);
 
         return (
-            (index == this.transitions.length)
+            (index == this.posix.length)
                 ? Optional.empty()
-                : Optional.of(this.transitions[index]));
+                : Optional.of(this.getTransition(index)));
 
     }
 
@@ -167,7 +183,15 @@ final class ArrayTransitionModel
     @Override
     public List<ZonalTransition> getStdTransitions() {
 
-        return this.stdTransitions;
+        List<ZonalTransition> result = this.stdTransitions;
+
+        if (result == null) {
+            long end = TransitionModel.getFutureMoment(1);
+            result = this.getTransitions(0L, end);
+            this.stdTransitions = result;
+        }
+
+        return result;
 
     }
 
@@ -177,8 +201,7 @@ final class ArrayTransitionModel
         UnixTime endExclusive
     ) {
 
-        return getTransitions(
-            this.transitions,
+        return this.getTransitions(
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -187,7 +210,7 @@ final class ArrayTransitionModel
     @Override
     public void dump(Appendable buffer) throws IOException {
 
-        this.dump(this.transitions.length, buffer);
+        this.dump(this.posix.length, buffer);
 
     }
 
@@ -205,7 +228,7 @@ final class ArrayTransitionModel
             return true;
         } else if (obj instanceof ArrayTransitionModel) {
             ArrayTransitionModel that = (ArrayTransitionModel) obj;
-            return Arrays.equals(this.transitions, that.transitions);
+            return this.equals(that, this.posix.length, that.posix.length);
         } else {
             return false;
         }
@@ -218,7 +241,7 @@ final class ArrayTransitionModel
         int h = this.hash;
 
         if (h == 0) {
-            h = Arrays.hashCode(this.transitions);
+            h = this.hashCode(this.posix.length);
             this.hash = h;
         }
 
@@ -232,7 +255,7 @@ final class ArrayTransitionModel
         StringBuilder sb = new StringBuilder(32);
         sb.append(this.getClass().getName());
         sb.append("[transition-count=");
-        sb.append(this.transitions.length);
+        sb.append(this.posix.length);
         sb.append(",hash=");
         sb.append(this.hashCode());
         sb.append(']');
@@ -257,26 +280,28 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = searchLocal(localSecs, this.localStart);
 
-        if (index == this.transitions.length) {
+        if (index == this.posix.length) {
             return (
                 (ruleModel == null)
                 ? null
                 : ruleModel.getConflictTransition(localDate, localSecs));
         }
 
-        ZonalTransition test = this.transitions[index];
+        long time = this.posix[index];
+        int previous = this.offsets[2 * index];
+        int total = this.offsets[2 * index + 1];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
-                return test;
+        if (total > previous) { // gap
+            assert (time + total > localSecs);
+            if (time + previous <= localSecs) {
+                return this.getTransition(index);
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return test;
+        } else if (total < previous) { // overlap
+            assert (time + previous > localSecs);
+            if (time + total <= localSecs) {
+                return this.getTransition(index);
             }
         }
 
@@ -300,35 +325,33 @@ final class ArrayTransitionModel
     ) {
 
         long localSecs = TransitionModel.toLocalSecs(localDate, localTime);
-        int index = searchLocal(localSecs, this.transitions);
+        int index = searchLocal(localSecs, this.localStart);
 
-        if (index == this.transitions.length) {
+        if (index == this.posix.length) {
             if (ruleModel == null) {
-                ZonalTransition last =
-                    this.transitions[this.transitions.length - 1];
-                return TransitionModel.toList(last.getTotalOffset());
+                return TransitionModel.toList(this.offsets[this.offsets.length - 1]);
             } else {
                 return ruleModel.getValidOffsets(localDate, localSecs);
             }
         }
 
-        ZonalTransition test = this.transitions[index];
+        long time = this.posix[index];
+        int previous = this.offsets[2 * index];
+        int total = this.offsets[2 * index + 1];
 
-        if (test.isGap()) {
-            assert (test.getPosixTime() + test.getTotalOffset() > localSecs);
-            if (test.getPosixTime() + test.getPreviousOffset() <= localSecs) {
+        if (total > previous) { // gap
+            assert (time + total > localSecs);
+            if (time + previous <= localSecs) {
                 return Collections.emptyList();
             }
-        } else if (test.isOverlap()) {
-            assert (test.getPosixTime() + test.getPreviousOffset() > localSecs);
-            if (test.getPosixTime() + test.getTotalOffset() <= localSecs) {
-                return TransitionModel.toList(
-                    test.getTotalOffset(),
-                    test.getPreviousOffset());
+        } else if (total < previous) { // overlap
+            assert (time + previous > localSecs);
+            if (time + total <= localSecs) {
+                return TransitionModel.toList(total, previous);
             }
         }
 
-        return TransitionModel.toList(test.getPreviousOffset());
+        return TransitionModel.toList(previous);
 
     }
 
@@ -338,9 +361,8 @@ final class ArrayTransitionModel
         Appendable buffer
     ) throws IOException {
 
-        for (int i = 0; i < size; i++) {
-            ZonalTransition transition = this.transitions[i];
-            TransitionModel.dump(transition, buffer);
+        for (int i = 0, n = Math.min(size, this.posix.length); i < n; i++) {
+            TransitionModel.dump(this.createTransition(i), buffer);
         }
 
     }
@@ -348,7 +370,7 @@ final class ArrayTransitionModel
     // Called by CompositeTransitionModel
     ZonalTransition getLastTransition() {
 
-        return this.transitions[this.transitions.length - 1];
+        return this.getTransition(this.posix.length - 1);
 
     }
 
@@ -359,15 +381,20 @@ final class ArrayTransitionModel
         int s2
     ) {
 
-        int n1 = Math.min(s1, this.transitions.length);
-        int n2 = Math.min(s2, other.transitions.length);
+        int n1 = Math.min(s1, this.posix.length);
+        int n2 = Math.min(s2, other.posix.length);
 
         if (n1 != n2) {
             return false;
         }
 
         for (int i = 0; i < n1; i++) {
-            if (!this.transitions[i].equals(other.transitions[i])) {
+            if (
+                (this.posix[i] != other.posix[i])
+                || (this.offsets[2 * i] != other.offsets[2 * i])
+                || (this.offsets[2 * i + 1] != other.offsets[2 * i + 1])
+                || (this.dst[i] != other.dst[i])
+            ) {
                 return false;
             }
         }
@@ -379,10 +406,30 @@ final class ArrayTransitionModel
     // Called by CompositeTransitionModel
     int hashCode(int size) {
 
-        int n = Math.min(size, this.transitions.length);
-        ZonalTransition[] tmp = new ZonalTransition[n];
-        System.arraycopy(this.transitions, 0, tmp, 0, n);
-        return Arrays.hashCode(tmp);
+        // same algorithm as Arrays.hashCode(ZonalTransition[]) because transitions are hashed by posix time
+        int n = Math.min(size, this.posix.length);
+        int h = 1;
+
+        for (int i = 0; i < n; i++) {
+            long t = this.posix[i];
+            h = 31 * h + (int) (t ^ (t >>> 32));
+        }
+
+        return h;
+
+    }
+
+    // Called by CompositeTransitionModel and CompiledZoneRepository
+    List<ZonalTransition> getTransitions(int size) {
+
+        int n = Math.min(size, this.posix.length);
+        List<ZonalTransition> result = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            result.add(this.createTransition(i));
+        }
+
+        return result;
 
     }
 
@@ -393,7 +440,7 @@ final class ArrayTransitionModel
      */
     void writeTransitions(ObjectOutput out) throws IOException {
 
-        this.writeTransitions(this.transitions.length, out);
+        this.writeTransitions(this.posix.length, out);
 
     }
 
@@ -408,7 +455,14 @@ final class ArrayTransitionModel
         ObjectOutput out
     ) throws IOException {
 
-        SPX.writeTransitions(this.transitions, size, out);
+        int n = Math.min(size, this.posix.length);
+        ZonalTransition[] transitions = new ZonalTransition[n];
+
+        for (int i = 0; i < n; i++) {
+            transitions[i] = this.createTransition(i);
+        }
+
+        SPX.writeTransitions(transitions, n, out);
 
     }
 
@@ -434,8 +488,32 @@ final class ArrayTransitionModel
 
     }
 
-    private static List<ZonalTransition> getTransitions(
-        ZonalTransition[] transitions,
+    // liefert den Übergang mit dem angegebenen Index, der bei der ersten Einzelabfrage materialisiert wird
+    private ZonalTransition getTransition(int index) {
+
+        ZonalTransition zt = this.materialized[index];
+
+        if (zt == null) {
+            zt = this.createTransition(index);
+            this.materialized[index] = zt; // harmloses Rennen, weil ZonalTransition unveränderlich ist
+        }
+
+        return zt;
+
+    }
+
+    // materialisiert den Übergang mit dem angegebenen Index
+    private ZonalTransition createTransition(int index) {
+
+        return new ZonalTransition(
+            this.posix[index],
+            this.offsets[2 * index],
+            this.offsets[2 * index + 1],
+            this.dst[index]);
+
+    }
+
+    private List<ZonalTransition> getTransitions(
         long startInclusive,
         long endExclusive
     ) {
@@ -444,18 +522,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = search(startInclusive, this.posix);
+        int i2 = search(endExclusive, this.posix);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (this.posix[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (this.posix[i2] == endExclusive) {
             i2--;
         }
 
@@ -464,7 +542,7 @@ final class ArrayTransitionModel
         } else {
             List<ZonalTransition> result = new ArrayList<>(i2 - i1 + 1);
             for (int i = i1; i <= i2; i++) {
-                result.add(transitions[i]);
+                result.add(this.createTransition(i));
             }
             return Collections.unmodifiableList(result);
         }
@@ -474,16 +552,16 @@ final class ArrayTransitionModel
     // returns index of first transition after posixTime
     private static int search(
         long posixTime,
-        ZonalTransition[] transitions
+        long[] posix
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = posix.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
+            int middle = (low + high) >>> 1;
 
-            if (transitions[middle].getPosixTime() <= posixTime) {
+            if (posix[middle] <= posixTime) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -497,18 +575,16 @@ final class ArrayTransitionModel
     // returns index of first transition after local date and time
     private static int searchLocal(
         long localSecs,
-        ZonalTransition[] transitions
+        long[] localStart
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = localStart.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
-            ZonalTransition zt = transitions[middle];
-            int offset = Math.max(zt.getTotalOffset(), zt.getPreviousOffset());
+            int middle = (low + high) >>> 1;
 
-            if (zt.getPosixTime() + offset <= localSecs) {
+            if (localStart[middle] <= localSecs) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
@@ -0,0 +1,700 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledZoneRepository.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.spi.LazyHistory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * <p>Zone model provider based on a compact compiled repository file which is memory-mapped
+ * and decoded lazily. </p>
+ *
+ * <p>The repository consists of a header with the provider meta data, an index of all zone
+ * identifiers with the offsets of their records and a list of aliases. Every zone record
+ * stores the transitions with delta-encoded POSIX times and offsets as variable-length
+ * integers followed by the daylight saving rules for the future. A zone is only decoded
+ * when it is loaded for the first time, so even hundreds of zones occupy almost no heap. </p>
+ *
+ * <p>Example for compiling and registering a repository under a new provider name (the names of the
+ * standard providers like &quot;TZDB&quot; cannot be registered): </p>
+ *
+ * <pre>
+ *  try (OutputStream out = new FileOutputStream(file)) {
+ *      CompiledZoneRepository.compile(provider, &quot;COMPILED&quot;, out);
+ *  }
+ *  Timezone.registerProvider(CompiledZoneRepository.open(file));
+ *  Timezone tz = Timezone.of(&quot;COMPILED~Europe/Berlin&quot;);
+ * </pre>
+ *
+ * <p>Note: Histories which are neither created by the methods of {@link TransitionModel} nor
+ * loaded lazily from the platform provider {@code net.time4j.tz.threeten.JdkZoneProviderSPI} do
+ * not expose their daylight saving rules. Such histories are compiled as a list of transitions up
+ * to the end of the year 2100. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Zonenmodellprovider, der auf einer kompakten kompilierten Repository-Datei beruht, die
+ * in den Speicher abgebildet und bei Bedarf dekodiert wird. </p>
+ *
+ * <p>Das Repository besteht aus einem Kopf mit den Metadaten des Providers, einem Index aller
+ * Zonenkennungen mit den Positionen ihrer Datens&auml;tze und einer Liste von Aliasnamen. Jeder
+ * Zonendatensatz speichert die &Uuml;berg&auml;nge mit delta-kodierten POSIX-Zeiten und Verschiebungen
+ * als Ganzzahlen variabler L&auml;nge, gefolgt von den Sommerzeitregeln f&uuml;r die Zukunft. Eine Zone
+ * wird erst beim ersten Laden dekodiert, so da&szlig; selbst hunderte von Zonen fast keinen Heap
+ * belegen. </p>
+ *
+ * <p>Beispiel f&uuml;r das Kompilieren und Registrieren eines Repository unter einem neuen
+ * Provider-Namen (die Namen der Standard-Provider wie &quot;TZDB&quot; k&ouml;nnen nicht registriert
+ * werden): </p>
+ *
+ * <pre>
+ *  try (OutputStream out = new FileOutputStream(file)) {
+ *      CompiledZoneRepository.compile(provider, &quot;COMPILED&quot;, out);
+ *  }
+ *  Timezone.registerProvider(CompiledZoneRepository.open(file));
+ *  Timezone tz = Timezone.of(&quot;COMPILED~Europe/Berlin&quot;);
+ * </pre>
+ *
+ * <p>Hinweis: Historien, die weder mit den Methoden von {@link TransitionModel} erzeugt noch
+ * verz&ouml;gert vom Plattform-Provider {@code net.time4j.tz.threeten.JdkZoneProviderSPI} geladen
+ * wurden, legen ihre Sommerzeitregeln nicht offen. Solche Historien werden als Liste von &Uuml;berg&auml;ngen bis zum
+ * Ende des Jahres 2100 kompiliert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class CompiledZoneRepository
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x545A4352; // "TZCR"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int EMPTY_MODEL = 0;
+    private static final int ARRAY_MODEL = 1;
+    private static final int RULE_BASED_MODEL = 2;
+    private static final int COMPOSITE_MODEL = 3;
+
+    private static final int CUSTOM_RULE = 0xFF;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer buffer;
+    private final String location;
+    private final String name;
+    private final String version;
+    private final String fallback;
+    private final Map<String, Integer> index; // Zonen-ID => Position des Datensatzes
+    private final Map<String, String> aliases;
+    private final int dataStart;
+    private final Map<String, TransitionHistory> decoded; // Cache der bereits dekodierten Zonen
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledZoneRepository(
+        ByteBuffer buffer,
+        String location
+    ) throws IOException {
+        super();
+
+        BufferStream stream = new BufferStream(buffer, 0);
+        DataInputStream in = new DataInputStream(stream);
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a compiled zone repository: " + location);
+        } else if (in.readShort() != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version of compiled zone repository: " + location);
+        }
+
+        this.name = in.readUTF();
+        this.version = in.readUTF();
+        this.fallback = in.readUTF();
+
+        int zoneCount = in.readInt();
+        Map<String, Integer> idx = new HashMap<>(zoneCount * 2);
+
+        for (int i = 0; i < zoneCount; i++) {
+            String id = in.readUTF();
+            idx.put(id, in.readInt());
+        }
+
+        int aliasCount = in.readInt();
+        Map<String, String> map = new HashMap<>(aliasCount * 2);
+
+        for (int i = 0; i < aliasCount; i++) {
+            String alias = in.readUTF();
+            map.put(alias, in.readUTF());
+        }
+
+        int dataLength = in.readInt();
+        this.dataStart = stream.getPosition();
+
+        if (this.dataStart + dataLength != buffer.limit()) {
+            throw new IOException("Unexpected length of compiled zone repository: " + location);
+        }
+
+        this.buffer = buffer;
+        this.location = location;
+        this.index = Collections.unmodifiableMap(idx);
+        this.aliases = Collections.unmodifiableMap(map);
+        this.decoded = new ConcurrentHashMap<>();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Opens given compiled repository file by memory-mapping. </p>
+     *
+     * @param   file    compiled repository file
+     * @return  new zone model provider
+     * @throws  IOException if the file cannot be read or has a wrong format
+     * @see     #compile(ZoneModelProvider, String, OutputStream)
+     */
+    /*[deutsch]
+     * <p>&Ouml;ffnet die angegebene kompilierte Repository-Datei per Speicherabbildung. </p>
+     *
+     * @param   file    compiled repository file
+     * @return  new zone model provider
+     * @throws  IOException if the file cannot be read or has a wrong format
+     * @see     #compile(ZoneModelProvider, String, OutputStream)
+     */
+    public static CompiledZoneRepository open(File file) throws IOException {
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            FileChannel channel = raf.getChannel();
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CompiledZoneRepository(mapped, file.getAbsolutePath());
+        }
+
+    }
+
+    /**
+     * <p>Interpretes given buffer as compiled repository. </p>
+     *
+     * @param   buffer      compiled repository data (will not be modified)
+     * @return  new zone model provider
+     * @throws  IOException if the buffer has a wrong format
+     * @see     #compile(ZoneModelProvider, String, OutputStream)
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Puffer als kompiliertes Repository. </p>
+     *
+     * @param   buffer      compiled repository data (will not be modified)
+     * @return  new zone model provider
+     * @throws  IOException if the buffer has a wrong format
+     * @see     #compile(ZoneModelProvider, String, OutputStream)
+     */
+    public static CompiledZoneRepository of(ByteBuffer buffer) throws IOException {
+
+        return new CompiledZoneRepository(buffer.duplicate(), "memory");
+
+    }
+
+    /**
+     * <p>Converts all zones and aliases of given provider into a compiled repository. </p>
+     *
+     * <p>The new repository gets its own name because the names of the standard providers
+     * (for example &quot;TZDB&quot; of the platform provider) cannot be used for a registration
+     * via {@code Timezone.registerProvider(ZoneModelProvider)}. </p>
+     *
+     * @param   provider    zone model provider whose histories shall be converted
+     * @param   name        name of repository used as provider name
+     * @param   out         output stream for the compiled repository (will not be closed)
+     * @throws  IllegalArgumentException if the name is empty
+     * @throws  IOException if writing fails
+     */
+    /*[deutsch]
+     * <p>Konvertiert alle Zonen und Aliasnamen des angegebenen Providers in ein kompiliertes
+     * Repository. </p>
+     *
+     * <p>Das neue Repository erh&auml;lt einen eigenen Namen, weil die Namen der Standard-Provider
+     * (zum Beispiel &quot;TZDB&quot; des Plattform-Providers) nicht f&uuml;r eine Registrierung mittels
+     * {@code Timezone.registerProvider(ZoneModelProvider)} verwendet werden k&ouml;nnen. </p>
+     *
+     * @param   provider    zone model provider whose histories shall be converted
+     * @param   name        name of repository used as provider name
+     * @param   out         output stream for the compiled repository (will not be closed)
+     * @throws  IllegalArgumentException if the name is empty
+     * @throws  IOException if writing fails
+     */
+    public static void compile(
+        ZoneModelProvider provider,
+        String name,
+        OutputStream out
+    ) throws IOException {
+
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Missing name of compiled zone repository.");
+        }
+
+        Map<String, TransitionHistory> histories = new HashMap<>();
+
+        for (String id : provider.getAvailableIDs()) {
+            TransitionHistory history = provider.load(id);
+            if (history != null) {
+                histories.put(id, history);
+            }
+        }
+
+        compile(
+            name,
+            provider.getVersion(),
+            provider.getFallback(),
+            histories,
+            provider.getAliases(),
+            out);
+
+    }
+
+    /**
+     * <p>Converts given transition histories into a compiled repository. </p>
+     *
+     * @param   name        name of repository
+     * @param   version     version of repository
+     * @param   fallback    name of fallback provider (maybe empty)
+     * @param   histories   map of zone identifiers and transition histories
+     * @param   aliases     map of alias names and zone identifiers
+     * @param   out         output stream for the compiled repository (will not be closed)
+     * @throws  IOException if writing fails
+     */
+    /*[deutsch]
+     * <p>Konvertiert die angegebenen &Uuml;bergangshistorien in ein kompiliertes Repository. </p>
+     *
+     * @param   name        name of repository
+     * @param   version     version of repository
+     * @param   fallback    name of fallback provider (maybe empty)
+     * @param   histories   map of zone identifiers and transition histories
+     * @param   aliases     map of alias names and zone identifiers
+     * @param   out         output stream for the compiled repository (will not be closed)
+     * @throws  IOException if writing fails
+     */
+    public static void compile(
+        String name,
+        String version,
+        String fallback,
+        Map<String, TransitionHistory> histories,
+        Map<String, String> aliases,
+        OutputStream out
+    ) throws IOException {
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(records);
+        Map<String, Integer> positions = new TreeMap<>();
+
+        for (Map.Entry<String, TransitionHistory> entry : new TreeMap<>(histories).entrySet()) {
+            positions.put(entry.getKey(), recordOut.size());
+            writeHistory(entry.getValue(), recordOut);
+        }
+
+        recordOut.flush();
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(MAGIC);
+        headerOut.writeShort(FORMAT_VERSION);
+        headerOut.writeUTF(name);
+        headerOut.writeUTF(version);
+        headerOut.writeUTF(fallback);
+        headerOut.writeInt(positions.size());
+
+        for (Map.Entry<String, Integer> entry : positions.entrySet()) {
+            headerOut.writeUTF(entry.getKey());
+            headerOut.writeInt(entry.getValue().intValue());
+        }
+
+        Map<String, String> sortedAliases = new TreeMap<>(aliases);
+        headerOut.writeInt(sortedAliases.size());
+
+        for (Map.Entry<String, String> entry : sortedAliases.entrySet()) {
+            headerOut.writeUTF(entry.getKey());
+            headerOut.writeUTF(entry.getValue());
+        }
+
+        headerOut.writeInt(records.size());
+        headerOut.flush();
+        header.writeTo(out);
+        records.writeTo(out);
+        out.flush();
+
+    }
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return this.index.keySet();
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return this.aliases;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        TransitionHistory history = this.decoded.get(zoneID);
+
+        if (history != null) {
+            return history;
+        }
+
+        Integer pos = this.index.get(zoneID);
+
+        if (pos == null) {
+            return null;
+        }
+
+        try {
+            history = readHistory(new DataInputStream(new BufferStream(this.buffer, this.dataStart + pos)));
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new IllegalStateException("Broken compiled zone repository: " + this.location, ex);
+        }
+
+        TransitionHistory old = this.decoded.putIfAbsent(zoneID, history);
+        return ((old == null) ? history : old);
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return this.fallback;
+
+    }
+
+    @Override
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    private static void writeHistory(
+        TransitionHistory history,
+        DataOutput out
+    ) throws IOException {
+
+        if (history.isEmpty()) {
+            out.writeByte(EMPTY_MODEL);
+            writeVarInt(out, history.getInitialOffset().getIntegralAmount());
+        } else if (history instanceof CompositeTransitionModel) {
+            CompositeTransitionModel model = (CompositeTransitionModel) history;
+            out.writeByte(COMPOSITE_MODEL);
+            writeTransitions(model.getHistoricalTransitions(), out);
+            writeRules(model.getRules(), out);
+        } else if (history instanceof RuleBasedTransitionModel) {
+            RuleBasedTransitionModel model = (RuleBasedTransitionModel) history;
+            out.writeByte(RULE_BASED_MODEL);
+            writeTransitions(Collections.singletonList(model.getInitialTransition()), out);
+            writeRules(model.getRules(), out);
+        } else if (history instanceof ArrayTransitionModel) {
+            ArrayTransitionModel model = (ArrayTransitionModel) history;
+            out.writeByte(ARRAY_MODEL);
+            writeTransitions(model.getTransitions(Integer.MAX_VALUE), out);
+        } else if (history instanceof LazyHistory) {
+            writeHistory(((LazyHistory) history).getFullHistory(), out);
+        } else {
+            Moment start = Moment.axis().getMinimum();
+            Moment end = PlainDate.of(2101, 1, 1).atStartOfDay().atUTC();
+            List<ZonalTransition> transitions = history.getTransitions(start, end);
+            if (transitions.isEmpty()) {
+                out.writeByte(EMPTY_MODEL);
+                writeVarInt(out, history.getInitialOffset().getIntegralAmount());
+            } else {
+                out.writeByte(ARRAY_MODEL);
+                writeTransitions(transitions, out);
+            }
+        }
+
+    }
+
+    private static void writeTransitions(
+        List<ZonalTransition> transitions,
+        DataOutput out
+    ) throws IOException {
+
+        int n = transitions.size();
+        writeVarInt(out, n);
+
+        long posix = 0;
+        int previous = transitions.get(0).getPreviousOffset();
+        writeVarInt(out, previous);
+
+        for (ZonalTransition transition : transitions) {
+            writeVarLong(out, transition.getPosixTime() - posix); // delta-encoded
+            writeVarInt(out, transition.getTotalOffset() - previous);
+            writeVarInt(out, transition.getExtraOffset());
+            posix = transition.getPosixTime();
+            previous = transition.getTotalOffset();
+        }
+
+    }
+
+    private static List<ZonalTransition> readTransitions(DataInput in) throws IOException {
+
+        int n = readVarInt(in);
+        List<ZonalTransition> transitions = new ArrayList<>(n);
+
+        long posix = 0;
+        int previous = readVarInt(in);
+
+        for (int i = 0; i < n; i++) {
+            posix += readVarLong(in);
+            int total = previous + readVarInt(in);
+            int dst = readVarInt(in);
+            transitions.add(new ZonalTransition(posix, previous, total, dst));
+            previous = total;
+        }
+
+        return transitions;
+
+    }
+
+    private static void writeRules(
+        List<DaylightSavingRule> rules,
+        DataOutput out
+    ) throws IOException {
+
+        out.writeByte(rules.size());
+
+        for (DaylightSavingRule rule : rules) {
+            if (!SPX.writeRule(rule, out)) {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                    oos.writeObject(rule);
+                }
+                out.writeByte(CUSTOM_RULE);
+                writeVarInt(out, baos.size());
+                out.write(baos.toByteArray());
+            }
+        }
+
+    }
+
+    private static List<DaylightSavingRule> readRules(DataInput in)
+        throws IOException, ClassNotFoundException {
+
+        int n = in.readByte();
+        List<DaylightSavingRule> rules = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            int ruleType = in.readByte() & 0xFF;
+
+            if (ruleType == CUSTOM_RULE) {
+                byte[] data = new byte[readVarInt(in)];
+                in.readFully(data);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+                    rules.add((DaylightSavingRule) ois.readObject());
+                }
+            } else {
+                DaylightSavingRule rule = SPX.readRule(ruleType, in);
+                if (rule == null) {
+                    throw new IOException("Unknown rule type: " + ruleType);
+                }
+                rules.add(rule);
+            }
+        }
+
+        return rules;
+
+    }
+
+    private static TransitionHistory readHistory(DataInput in)
+        throws IOException, ClassNotFoundException {
+
+        int modelType = in.readByte();
+
+        switch (modelType) {
+            case EMPTY_MODEL:
+                return TransitionModel.of(
+                    ZonalOffset.ofTotalSeconds(readVarInt(in)),
+                    Collections.emptyList());
+            case ARRAY_MODEL:
+                return new ArrayTransitionModel(readTransitions(in), false, false);
+            case RULE_BASED_MODEL:
+                ZonalTransition initial = readTransitions(in).get(0);
+                return new RuleBasedTransitionModel(initial, readRules(in), false);
+            case COMPOSITE_MODEL:
+                List<ZonalTransition> transitions = readTransitions(in);
+                return TransitionModel.of(
+                    ZonalOffset.ofTotalSeconds(transitions.get(0).getPreviousOffset()),
+                    transitions,
+                    readRules(in),
+                    false,
+                    false);
+            default:
+                throw new IOException("Unknown model type: " + modelType);
+        }
+
+    }
+
+    // zigzag-kodierte Ganzzahl variabler Länge
+    private static void writeVarInt(
+        DataOutput out,
+        int value
+    ) throws IOException {
+
+        writeVarLong(out, value);
+
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+
+        long value = readVarLong(in);
+
+        if ((value < Integer.MIN_VALUE) || (value > Integer.MAX_VALUE)) {
+            throw new IOException("Integer out of range: " + value);
+        }
+
+        return (int) value;
+
+    }
+
+    private static void writeVarLong(
+        DataOutput out,
+        long value
+    ) throws IOException {
+
+        long v = (value << 1) ^ (value >> 63);
+
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+
+        out.writeByte((int) v);
+
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+
+        long v = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readByte() & 0xFF;
+            v |= ((long) (b & 0x7F)) << shift;
+            if ((b & 0x80) == 0) {
+                return (v >>> 1) ^ -(v & 1);
+            }
+        }
+
+        throw new IOException("Malformed variable-length integer.");
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    // liest ab einer absoluten Position, ohne den gemeinsamen Puffer zu verändern
+    private static class BufferStream
+        extends InputStream {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ByteBuffer buffer;
+        private int position;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        BufferStream(
+            ByteBuffer buffer,
+            int position
+        ) {
+            super();
+
+            this.buffer = buffer;
+            this.position = position;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int read() {
+
+            if (this.position >= this.buffer.limit()) {
+                return -1;
+            }
+
+            return this.buffer.get(this.position++) & 0xFF;
+
+        }
+
+        int getPosition() {
+
+            return this.position;
+
+        }
+
+    }
+
+}
@@ -249,6 +249,13 @@ final class CompositeTransitionModel
 
     }
 
+    // Called by CompiledZoneRepository
+    List<ZonalTransition> getHistoricalTransitions() {
+
+        return this.arrayModel.getTransitions(this.size);
+
+    }
+
     /**
      * @serialData  Uses a specialized serialisation form as proxy. The format
      *              is bit-compressed. The first byte contains the type id
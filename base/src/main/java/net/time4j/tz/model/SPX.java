@@ -380,6 +380,52 @@ final class SPX
 
     }
 
+    // called by CompiledZoneRepository, false if the rule is not a standard rule
+    static boolean writeRule(
+        DaylightSavingRule rule,
+        DataOutput out
+    ) throws IOException {
+
+        int ruleType = rule.getType();
+
+        switch (ruleType) {
+            case FIXED_DAY_PATTERN_TYPE:
+                out.writeByte(ruleType);
+                writeFixedDayPattern(rule, out);
+                return true;
+            case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
+                out.writeByte(ruleType);
+                writeDayOfWeekInMonthPattern(rule, out);
+                return true;
+            case LAST_WEEKDAY_PATTERN_TYPE:
+                out.writeByte(ruleType);
+                writeLastDayOfWeekPattern(rule, out);
+                return true;
+            default:
+                return false;
+        }
+
+    }
+
+    // called by CompiledZoneRepository, null if the type is not a standard rule type
+    static DaylightSavingRule readRule(
+        int ruleType,
+        DataInput in
+    ) throws IOException {
+
+        switch (ruleType) {
+            case FIXED_DAY_PATTERN_TYPE:
+                return readFixedDayPattern(in);
+            case DAY_OF_WEEK_IN_MONTH_PATTERN_TYPE:
+                return readDayOfWeekInMonthPattern(in);
+            case LAST_WEEKDAY_PATTERN_TYPE:
+                return readLastDayOfWeekPattern(in);
+            default:
+                return null;
+        }
+
+    }
+
     private static void writeOffset(
         DataOutput out,
         int offset
@@ -0,0 +1,60 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LazyHistory.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.spi;
+
+import net.time4j.tz.TransitionHistory;
+
+
+/**
+ * <p>Marks a transition history which converts its data lazily. </p>
+ *
+ * <p>For internal use by the compiler of zone repositories only. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Markiert eine &Uuml;bergangshistorie, die ihre Daten verz&ouml;gert konvertiert. </p>
+ *
+ * <p>Nur f&uuml;r die interne Verwendung durch den Compiler von Zonen-Repositories. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public interface LazyHistory {
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the equivalent completely converted model including the daylight saving rules. </p>
+     *
+     * @return  TransitionHistory created by the methods of {@code net.time4j.tz.model.TransitionModel}
+     */
+    /*[deutsch]
+     * <p>Liefert das &auml;quivalente vollst&auml;ndig konvertierte Modell einschlie&szlig;lich der
+     * Sommerzeitregeln. </p>
+     *
+     * @return  TransitionHistory created by the methods of {@code net.time4j.tz.model.TransitionModel}
+     */
+    TransitionHistory getFullHistory();
+
+}
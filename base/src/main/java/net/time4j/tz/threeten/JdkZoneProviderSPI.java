@@ -25,6 +25,7 @@ import net.time4j.Month;
 import net.time4j.PlainTime;
 import net.time4j.TemporalType;
 import net.time4j.Weekday;
+import net.time4j.format.internal.LocaleCache;
 import net.time4j.tz.TransitionHistory;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
@@ -59,6 +60,11 @@ import java.util.Set;
 public class JdkZoneProviderSPI
     implements ZoneModelProvider {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    // size-bounded, keyed by rule identity because ZoneRules.hashCode() is expensive
+    private static final LocaleCache<RulesKey, TransitionHistory> CACHE = LocaleCache.of("JdkZoneRules", 1000);
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final String version;
@@ -130,6 +136,11 @@ public class JdkZoneProviderSPI
     /**
      * The real implementation using a wrapper around {@code ZoneRules} derived from given {@code ZoneId}.
      *
+     * <p>Since version v5.6, the conversion results are cached by the identity of the underlying
+     * {@code ZoneRules} so that repeated queries for the same rules object share the same history.
+     * Historical transitions are only converted if a query is made before the last historical
+     * transition. </p>
+     *
      * @param   zoneId      threeten-zone-identifier
      * @return  timezone history
      * @throws  IllegalArgumentException if given id is wrong
@@ -138,70 +149,199 @@ public class JdkZoneProviderSPI
     public static TransitionHistory load(ZoneId zoneId) {
 
         try {
-            ZoneRules zoneRules = zoneId.getRules();
-            ZonalOffset initialOffset = ZonalOffset.ofTotalSeconds(zoneRules.getOffset(Instant.MIN).getTotalSeconds());
-            List<ZonalTransition> transitions = new ArrayList<>();
-            List<DaylightSavingRule> rules = new ArrayList<>();
-
-            for (ZoneOffsetTransition zot : zoneRules.getTransitions()) {
-                Instant instant = zot.getInstant();
-                long posixTime = instant.getEpochSecond();
-                int previousOffset = zot.getOffsetBefore().getTotalSeconds();
-                int totalOffset = zot.getOffsetAfter().getTotalSeconds();
-                int dst = Math.toIntExact(zoneRules.getDaylightSavings(instant).getSeconds());
-                transitions.add(new ZonalTransition(posixTime, previousOffset, totalOffset, dst));
+            return load(zoneId.getRules());
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+
+    }
+
+    /**
+     * <p>Converts the rules of all available zones and caches the results. </p>
+     *
+     * <p>Useful for applications which will query many zones so the conversion costs can be
+     * paid in advance, for example during start-up. The conversion runs in the calling thread,
+     * so applications which prefer a background thread can submit this method to their own
+     * executor. </p>
+     *
+     * @param   withHistory     shall the historical transitions also be converted?
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Konvertiert die Regeln aller verf&uuml;gbaren Zeitzonen und legt die Ergebnisse
+     * im Cache ab. </p>
+     *
+     * <p>N&uuml;tzlich f&uuml;r Anwendungen, die viele Zeitzonen abfragen werden, so da&szlig; die
+     * Konversionskosten im voraus, zum Beispiel w&auml;hrend des Starts, anfallen. Die Konversion
+     * l&auml;uft im aufrufenden {@code Thread}, so da&szlig; Anwendungen, die einen Hintergrund-Thread
+     * bevorzugen, diese Methode an ihren eigenen {@code Executor} &uuml;bergeben k&ouml;nnen. </p>
+     *
+     * @param   withHistory     shall the historical transitions also be converted?
+     * @since   5.6
+     */
+    public static void preloadAll(boolean withHistory) {
+
+        for (String zoneID : ZoneRulesProvider.getAvailableZoneIds()) {
+            TransitionHistory history = load(ZoneId.of(zoneID));
+            if (withHistory && (history instanceof LazyTransitionHistory)) {
+                LazyTransitionHistory.class.cast(history).getFullHistory();
             }
+        }
 
-            for (ZoneOffsetTransitionRule zotr : zoneRules.getTransitionRules()) {
-                DaylightSavingRule rule;
-
-                int dom = zotr.getDayOfMonthIndicator(); // -28 bis +31 (ohne 0)
-                DayOfWeek dayOfWeek = zotr.getDayOfWeek();
-
-                Month month = Month.valueOf(zotr.getMonth().getValue());
-
-                PlainTime timeOfDay = (
-                    zotr.isMidnightEndOfDay()
-                        ? PlainTime.midnightAtEndOfDay()
-                        : TemporalType.LOCAL_TIME.translate(zotr.getLocalTime()));
-
-                OffsetIndicator indicator;
-                switch (zotr.getTimeDefinition()) {
-                    case STANDARD:
-                        indicator = OffsetIndicator.STANDARD_TIME;
-                        break;
-                    case UTC:
-                        indicator = OffsetIndicator.UTC_TIME;
-                        break;
-                    case WALL:
-                        indicator = OffsetIndicator.WALL_TIME;
-                        break;
-                    default:
-                        throw new UnsupportedOperationException(zotr.getTimeDefinition().name());
-                }
+    }
+
+    // benutzt den Cache, Schlüssel = Identität der ZoneRules
+    static TransitionHistory load(ZoneRules zoneRules) {
+
+        try {
+            if (zoneRules.getTransitions().isEmpty()) {
+                return convert(getInitialOffset(zoneRules), zoneRules, convertRules(zoneRules)); // cheap
+            }
+
+            RulesKey key = new RulesKey(zoneRules);
+            TransitionHistory history = CACHE.get(key);
+
+            if (history == null) {
+                history = CACHE.putIfAbsent(key, new LazyTransitionHistory(zoneRules));
+            }
+
+            return history;
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+
+    }
+
+    // vollständige Konversion
+    static TransitionHistory convert(
+        ZonalOffset initialOffset,
+        ZoneRules zoneRules,
+        List<DaylightSavingRule> rules
+    ) {
+
+        List<ZoneOffsetTransition> zots = zoneRules.getTransitions();
+        List<ZonalTransition> transitions = new ArrayList<>(zots.size());
+
+        for (ZoneOffsetTransition zot : zots) {
+            transitions.add(convert(zot, zoneRules));
+        }
+
+        return TransitionModel.of(initialOffset, transitions, rules);
+
+    }
+
+    static ZonalTransition convert(
+        ZoneOffsetTransition zot,
+        ZoneRules zoneRules
+    ) {
+
+        Instant instant = zot.getInstant();
+        long posixTime = instant.getEpochSecond();
+        int previousOffset = zot.getOffsetBefore().getTotalSeconds();
+        int totalOffset = zot.getOffsetAfter().getTotalSeconds();
+        int dst = Math.toIntExact(zoneRules.getDaylightSavings(instant).getSeconds());
+        return new ZonalTransition(posixTime, previousOffset, totalOffset, dst);
+
+    }
+
+    static List<DaylightSavingRule> convertRules(ZoneRules zoneRules) {
+
+        List<DaylightSavingRule> rules = new ArrayList<>();
+
+        for (ZoneOffsetTransitionRule zotr : zoneRules.getTransitionRules()) {
+            DaylightSavingRule rule;
+
+            int dom = zotr.getDayOfMonthIndicator(); // -28 bis +31 (ohne 0)
+            DayOfWeek dayOfWeek = zotr.getDayOfWeek();
+
+            Month month = Month.valueOf(zotr.getMonth().getValue());
 
-                int dst = (zotr.getOffsetAfter().getTotalSeconds() - zotr.getStandardOffset().getTotalSeconds());
+            PlainTime timeOfDay = (
+                zotr.isMidnightEndOfDay()
+                    ? PlainTime.midnightAtEndOfDay()
+                    : TemporalType.LOCAL_TIME.translate(zotr.getLocalTime()));
 
-                if (dayOfWeek == null) {
-                    rule = GregorianTimezoneRule.ofFixedDay(month, dom, timeOfDay, indicator, dst);
+            OffsetIndicator indicator;
+            switch (zotr.getTimeDefinition()) {
+                case STANDARD:
+                    indicator = OffsetIndicator.STANDARD_TIME;
+                    break;
+                case UTC:
+                    indicator = OffsetIndicator.UTC_TIME;
+                    break;
+                case WALL:
+                    indicator = OffsetIndicator.WALL_TIME;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(zotr.getTimeDefinition().name());
+            }
+
+            int dst = (zotr.getOffsetAfter().getTotalSeconds() - zotr.getStandardOffset().getTotalSeconds());
+
+            if (dayOfWeek == null) {
+                rule = GregorianTimezoneRule.ofFixedDay(month, dom, timeOfDay, indicator, dst);
+            } else {
+                Weekday wd = Weekday.valueOf(dayOfWeek.getValue());
+                if (dom == -1) {
+                    rule = GregorianTimezoneRule.ofLastWeekday(month, wd, timeOfDay, indicator, dst);
+                } else if (dom < 0) {
+                    rule = new NegativeDayOfMonthPattern(month, dom, wd, timeOfDay, indicator, dst);
                 } else {
-                    Weekday wd = Weekday.valueOf(dayOfWeek.getValue());
-                    if (dom == -1) {
-                        rule = GregorianTimezoneRule.ofLastWeekday(month, wd, timeOfDay, indicator, dst);
-                    } else if (dom < 0) {
-                        rule = new NegativeDayOfMonthPattern(month, dom, wd, timeOfDay, indicator, dst);
-                    } else {
-                        rule = GregorianTimezoneRule.ofWeekdayAfterDate(month, dom, wd, timeOfDay, indicator, dst);
-                    }
+                    rule = GregorianTimezoneRule.ofWeekdayAfterDate(month, dom, wd, timeOfDay, indicator, dst);
                 }
+            }
+
+            rules.add(rule);
+        }
+
+        return rules;
+
+    }
+
+    static ZonalOffset getInitialOffset(ZoneRules zoneRules) {
 
-                rules.add(rule);
+        return ZonalOffset.ofTotalSeconds(zoneRules.getOffset(Instant.MIN).getTotalSeconds());
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class RulesKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ZoneRules zoneRules;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        RulesKey(ZoneRules zoneRules) {
+            super();
+
+            this.zoneRules = zoneRules;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof RulesKey) {
+                RulesKey that = (RulesKey) obj;
+                return (this.zoneRules == that.zoneRules);
+            } else {
+                return false;
             }
 
-            return TransitionModel.of(initialOffset, transitions, rules);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return System.identityHashCode(this.zoneRules);
 
-        } catch (DateTimeException ex) {
-            throw new IllegalArgumentException(ex);
         }
 
     }
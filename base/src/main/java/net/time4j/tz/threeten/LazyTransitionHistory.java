@@ -0,0 +1,263 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (LazyTransitionHistory.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
+import net.time4j.base.WallTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.model.DaylightSavingRule;
+import net.time4j.tz.model.TransitionModel;
+import net.time4j.tz.spi.LazyHistory;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * <p>&Uuml;bergangshistorie, die die historischen &Uuml;berg&auml;nge von {@code ZoneRules} erst dann
+ * konvertiert, wenn eine Abfrage vor dem letzten historischen &Uuml;bergang liegt. </p>
+ *
+ * <p>Abfragen ab dem letzten historischen &Uuml;bergang werden von einem kleinen Modell beantwortet,
+ * das nur aus diesem letzten &Uuml;bergang und den DST-Regeln besteht und deshalb dieselben
+ * Ergebnisse wie das vollst&auml;ndige Modell liefert. </p>
+ *
+ * @author      Meno Hochschild
+ * @since       5.6
+ * @serial      include
+ * @doctags.concurrency {immutable}
+ */
+final class LazyTransitionHistory
+    implements TransitionHistory, LazyHistory, Serializable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final long serialVersionUID = -3380311543726431562L;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    /**
+     * @serial  original rules of threeten-API
+     */
+    private final ZoneRules zoneRules;
+
+    private transient final ZonalOffset initialOffset;
+    private transient final long historyEnd; // POSIX-Zeit des letzten historischen Übergangs
+    private transient final long localHistoryEnd; // lokale Zeit, ab der das Endmodell gültig ist
+    private transient final List<DaylightSavingRule> rules;
+    private transient final TransitionHistory tail;
+
+    // Cache
+    private transient volatile TransitionHistory full = null;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine neue Instanz. </p>
+     *
+     * @param   zoneRules   threeten-rules with at least one historical transition
+     */
+    LazyTransitionHistory(ZoneRules zoneRules) {
+        super();
+
+        List<ZoneOffsetTransition> transitions = zoneRules.getTransitions();
+        ZonalTransition last = JdkZoneProviderSPI.convert(transitions.get(transitions.size() - 1), zoneRules);
+
+        this.zoneRules = zoneRules;
+        this.initialOffset = JdkZoneProviderSPI.getInitialOffset(zoneRules);
+        this.historyEnd = last.getPosixTime();
+        this.localHistoryEnd = last.getPosixTime() + Math.max(last.getPreviousOffset(), last.getTotalOffset());
+        this.rules = JdkZoneProviderSPI.convertRules(zoneRules);
+        this.tail =
+            TransitionModel.of(
+                ZonalOffset.ofTotalSeconds(last.getPreviousOffset()),
+                Collections.singletonList(last),
+                this.rules);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public ZonalOffset getInitialOffset() {
+
+        return this.initialOffset;
+
+    }
+
+    @Override
+    public ZonalTransition getStartTransition(UnixTime ut) {
+
+        return this.select(ut).getStartTransition(ut);
+
+    }
+
+    @Override
+    public ZonalTransition getConflictTransition(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        return this.select(localDate, localTime).getConflictTransition(localDate, localTime);
+
+    }
+
+    @Override
+    public List<ZonalOffset> getValidOffsets(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        return this.select(localDate, localTime).getValidOffsets(localDate, localTime);
+
+    }
+
+    @Override
+    public List<ZonalTransition> getStdTransitions() {
+
+        return this.getFullHistory().getStdTransitions();
+
+    }
+
+    @Override
+    public List<ZonalTransition> getTransitions(
+        UnixTime startInclusive,
+        UnixTime endExclusive
+    ) {
+
+        return this.getFullHistory().getTransitions(startInclusive, endExclusive);
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return false;
+
+    }
+
+    @Override
+    public void dump(Appendable buffer) throws IOException {
+
+        this.getFullHistory().dump(buffer);
+
+    }
+
+    @Override
+    public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
+
+        return this.select(ut).findNextTransition(ut);
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof LazyTransitionHistory) {
+            LazyTransitionHistory that = (LazyTransitionHistory) obj;
+            return this.zoneRules.equals(that.zoneRules);
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.zoneRules.hashCode();
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append(this.getClass().getName());
+        sb.append("[history-end=");
+        sb.append(this.historyEnd);
+        sb.append(",converted=");
+        sb.append(this.full != null);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    @Override
+    public TransitionHistory getFullHistory() {
+
+        TransitionHistory h = this.full;
+
+        if (h == null) {
+            h = JdkZoneProviderSPI.convert(this.initialOffset, this.zoneRules, this.rules);
+            this.full = h;
+        }
+
+        return h;
+
+    }
+
+    private TransitionHistory select(UnixTime ut) {
+
+        return ((ut.getPosixTime() >= this.historyEnd) ? this.tail : this.getFullHistory());
+
+    }
+
+    private TransitionHistory select(
+        GregorianDate localDate,
+        WallTime localTime
+    ) {
+
+        long mjd = GregorianMath.toMJD(localDate.getYear(), localDate.getMonth(), localDate.getDayOfMonth());
+        long localSecs = MathUtils.safeMultiply(EpochDays.UNIX.transform(mjd, EpochDays.MODIFIED_JULIAN_DATE), 86400);
+        localSecs += localTime.getHour() * 3600;
+        localSecs += localTime.getMinute() * 60;
+        localSecs += localTime.getSecond();
+        return ((localSecs >= this.localHistoryEnd) ? this.tail : this.getFullHistory());
+
+    }
+
+    /**
+     * @serialData  Resolves to a new instance based on the deserialized threeten-rules.
+     * @return      resolved transition history
+     * @throws      ObjectStreamException (never)
+     */
+    private Object readResolve() throws ObjectStreamException {
+
+        return JdkZoneProviderSPI.load(this.zoneRules);
+
+    }
+
+}
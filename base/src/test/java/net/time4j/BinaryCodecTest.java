@@ -0,0 +1,205 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BinaryCodecTest {
+
+    @Test
+    public void plainDate() {
+        roundTrip(BinaryCodec.PLAIN_DATE, PlainDate.of(2019, 3, 17));
+        roundTrip(BinaryCodec.PLAIN_DATE, PlainDate.of(1972, 1, 1));
+        roundTrip(BinaryCodec.PLAIN_DATE, PlainDate.of(-999999999, 1, 1));
+        roundTrip(BinaryCodec.PLAIN_DATE, PlainDate.of(999999999, 12, 31));
+        assertThat(BinaryCodec.PLAIN_DATE.encode(PlainDate.of(1972, 1, 2)).length, is(3));
+    }
+
+    @Test
+    public void plainTime() {
+        roundTrip(BinaryCodec.PLAIN_TIME, PlainTime.midnightAtStartOfDay());
+        roundTrip(BinaryCodec.PLAIN_TIME, PlainTime.midnightAtEndOfDay());
+        roundTrip(BinaryCodec.PLAIN_TIME, PlainTime.of(17, 45, 30));
+        roundTrip(BinaryCodec.PLAIN_TIME, PlainTime.of(23, 59, 59, 999999999));
+        assertThat(BinaryCodec.PLAIN_TIME.encode(PlainTime.of(17, 45, 30)).length, is(5));
+    }
+
+    @Test
+    public void plainTimestamp() {
+        roundTrip(BinaryCodec.PLAIN_TIMESTAMP, PlainTimestamp.of(2019, 3, 17, 10, 15, 0));
+        roundTrip(BinaryCodec.PLAIN_TIMESTAMP, PlainTimestamp.of(1969, 12, 31, 23, 59, 59).plus(1, ClockUnit.NANOS));
+    }
+
+    @Test
+    public void moment() {
+        roundTrip(BinaryCodec.MOMENT, Moment.UNIX_EPOCH);
+        roundTrip(BinaryCodec.MOMENT, Moment.of(1552816800L, 123456789, TimeScale.POSIX));
+        roundTrip(BinaryCodec.MOMENT, Moment.of(-1552816800L, 1, TimeScale.POSIX));
+        roundTrip(BinaryCodec.MOMENT, Moment.axis().getMinimum());
+        roundTrip(BinaryCodec.MOMENT, Moment.axis().getMaximum());
+    }
+
+    @Test
+    public void leapSecond() {
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        assertThat(ls.isLeapSecond(), is(true));
+        roundTrip(BinaryCodec.MOMENT, ls);
+        roundTrip(BinaryCodec.MOMENT, ls.plus(500000000, SI.NANOSECONDS));
+    }
+
+    @Test
+    public void zonalOffset() {
+        roundTrip(BinaryCodec.ZONAL_OFFSET, ZonalOffset.UTC);
+        roundTrip(BinaryCodec.ZONAL_OFFSET, ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 5, 30));
+        roundTrip(BinaryCodec.ZONAL_OFFSET, ZonalOffset.ofTotalSeconds(18 * 3600));
+        roundTrip(BinaryCodec.ZONAL_OFFSET, ZonalOffset.ofTotalSeconds(-3600, -500000000));
+    }
+
+    @Test
+    public void duration() {
+        roundTrip(BinaryCodec.DURATION, Duration.<IsoUnit>ofZero());
+        roundTrip(BinaryCodec.DURATION, Duration.ofPositive().years(2).days(5).minutes(3).nanos(7).build());
+        roundTrip(BinaryCodec.DURATION, Duration.<IsoUnit>ofZero().plus(1, CalendarUnit.MILLENNIA).plus(3, CalendarUnit.WEEKS).inverse());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void durationWithUnsupportedUnit() {
+        BinaryCodec.DURATION.encode(Duration.<IsoUnit>ofZero().plus(1, CalendarUnit.weekBasedYears()));
+    }
+
+    @Test
+    public void durationUnitCodes() {
+        byte[] days = BinaryCodec.DURATION.encode(Duration.of(1, CalendarUnit.DAYS));
+        assertThat(days[2], is((byte) 2));
+        assertThat(days[3], is((byte) 7));
+        byte[] nanos = BinaryCodec.DURATION.encode(Duration.of(1, ClockUnit.NANOS));
+        assertThat(nanos[3], is((byte) 13));
+        assertThat(
+            BinaryCodec.DURATION.decode(new byte[] {6, (byte) BinaryCodec.FORMAT_VERSION, 2, 8, 5}),
+            is(Duration.<IsoUnit>of(5, ClockUnit.HOURS)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void durationWithUnknownUnitCode() {
+        BinaryCodec.DURATION.decode(new byte[] {6, (byte) BinaryCodec.FORMAT_VERSION, 2, 14, 5});
+    }
+
+    @Test
+    public void machineTime() {
+        roundTrip(BinaryCodec.MACHINE_TIME, MachineTime.of(0, TimeUnit.SECONDS));
+        roundTrip(BinaryCodec.MACHINE_TIME, MachineTime.ofPosixUnits(-123, -456));
+        roundTrip(BinaryCodec.MACHINE_TIME, MachineTime.ofSIUnits(86401, 999999999));
+    }
+
+    @Test
+    public void directBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        Moment m = Moment.of(1552816800L, 123456789, TimeScale.POSIX);
+        BinaryCodec.MOMENT.encode(m, buffer);
+        BinaryCodec.PLAIN_DATE.write(PlainDate.of(2019, 3, 17), buffer);
+        buffer.flip();
+        assertThat(BinaryCodec.MOMENT.decode(buffer), is(m));
+        assertThat(BinaryCodec.PLAIN_DATE.read(buffer), is(PlainDate.of(2019, 3, 17)));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void momentArray() {
+        Moment start = Moment.of(1483228790L, TimeScale.POSIX);
+        Moment[] moments = new Moment[30];
+        for (int i = 0; i < moments.length; i++) {
+            moments[i] = start.plus(i, SI.SECONDS);
+        }
+        byte[] data = BinaryCodec.MOMENT.encodeArray(moments);
+        assertThat(data.length < moments.length + 12, is(true));
+        Moment[] copy = BinaryCodec.MOMENT.decodeArray(data);
+        assertThat(copy.length, is(moments.length));
+        for (int i = 0; i < moments.length; i++) {
+            assertThat(copy[i], is(moments[i]));
+        }
+        assertThat(copy[10].isLeapSecond(), is(true));
+    }
+
+    @Test
+    public void dateArrayInDirectBuffer() {
+        PlainDate[] dates = {PlainDate.of(2019, 1, 1), PlainDate.of(2019, 1, 2), PlainDate.of(2018, 5, 31)};
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        BinaryCodec.PLAIN_DATE.encodeArray(dates, buffer);
+        buffer.flip();
+        PlainDate[] copy = BinaryCodec.PLAIN_DATE.decodeArray(buffer);
+        assertThat(copy.length, is(3));
+        assertThat(copy[0], is(dates[0]));
+        assertThat(copy[1], is(dates[1]));
+        assertThat(copy[2], is(dates[2]));
+    }
+
+    @Test
+    public void emptyArray() {
+        assertThat(BinaryCodec.PLAIN_TIMESTAMP.decodeArray(
+            BinaryCodec.PLAIN_TIMESTAMP.encodeArray(new PlainTimestamp[0])).length, is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrongTag() {
+        BinaryCodec.PLAIN_TIME.decode(BinaryCodec.PLAIN_DATE.encode(PlainDate.of(2019, 3, 17)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void arrayTagForSingleValue() {
+        BinaryCodec.PLAIN_DATE.decode(BinaryCodec.PLAIN_DATE.encodeArray(new PlainDate[0]));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void newerVersion() {
+        byte[] data = BinaryCodec.PLAIN_DATE.encode(PlainDate.of(2019, 3, 17));
+        data[1] = (byte) (BinaryCodec.FORMAT_VERSION + 1);
+        BinaryCodec.PLAIN_DATE.decode(data);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidTime() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 2).put((byte) 1);
+        buffer.put((byte) 0x81).put((byte) 0xC6).put((byte) 0x0A); // 86400 * 2 + 1 = T24 mit Bruchteil
+        buffer.put((byte) 1);
+        BinaryCodec.PLAIN_TIME.decode(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void truncatedValue() {
+        byte[] data = BinaryCodec.MOMENT.encode(Moment.UNIX_EPOCH);
+        BinaryCodec.MOMENT.decode(Arrays.copyOf(data, data.length - 1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void truncatedHeader() {
+        BinaryCodec.PLAIN_DATE.decode(new byte[] {1});
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void truncatedArray() {
+        PlainDate date = PlainDate.of(2019, 3, 17);
+        byte[] data = BinaryCodec.PLAIN_DATE.encodeArray(new PlainDate[] {date, date});
+        BinaryCodec.PLAIN_DATE.decodeArray(Arrays.copyOf(data, data.length - 1));
+    }
+
+    private static <T> void roundTrip(
+        BinaryCodec<T> codec,
+        T value
+    ) {
+        assertThat(codec.decode(codec.encode(value)), is(value));
+    }
+
+}
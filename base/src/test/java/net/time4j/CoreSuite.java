@@ -15,6 +15,7 @@ import org.junit.runners.Suite.SuiteClasses;
         TestInitialization.class,
         AnnualDateTest.class,
         AxisElementTest.class,
+        BinaryCodecTest.class,
         CompareZonalDateTimeTest.class,
         ComponentElementTest.class,
         DateSuite.class,
@@ -25,7 +26,9 @@ import org.junit.runners.Suite.SuiteClasses;
         OperatorSuite.class,
         ScaleSuite.class,
         SerializationTest.class,
+        SortableKeyCodecTest.class,
         SystemClockTest.class,
+        TemporalArrayTest.class,
         TemporalTypeTest.class,
         TimeLineTest.class,
         TimeSuite.class,
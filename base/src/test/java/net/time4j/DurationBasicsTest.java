@@ -1514,4 +1514,121 @@ public class DurationBasicsTest {
             is(expected));
     }
 
+    @Test
+    public void compactRepresentation() {
+        Duration<IsoUnit> built = Duration.ofPositive().years(1).months(2).days(3).hours(4).minutes(5).build();
+        Duration<IsoUnit> summed =
+            Duration.<IsoUnit>of(4, HOURS).plus(3, DAYS).plus(5, MINUTES).plus(2, MONTHS).plus(1, YEARS);
+        List<Item<IsoUnit>> expected = new ArrayList<>();
+        expected.add(Item.<IsoUnit>of(1, YEARS));
+        expected.add(Item.<IsoUnit>of(2, MONTHS));
+        expected.add(Item.<IsoUnit>of(3, DAYS));
+        expected.add(Item.<IsoUnit>of(4, HOURS));
+        expected.add(Item.<IsoUnit>of(5, MINUTES));
+        assertThat(built.getTotalLength(), is(expected));
+        assertThat(summed.getTotalLength(), is(expected));
+        assertThat(summed, is(built));
+        assertThat(summed.hashCode(), is(expected.hashCode()));
+        assertThat(summed.toString(), is("P1Y2M3DT4H5M"));
+        assertThat(summed.getPartialAmount(DAYS), is(3L));
+        assertThat(summed.getPartialAmount(SECONDS), is(0L));
+        assertThat(summed.contains(MINUTES), is(true));
+        assertThat(summed.contains(WEEKS), is(false));
+        assertThat(summed.multipliedBy(-3).toString(), is("-P3Y6M9DT12H15M"));
+        assertThat(summed.inverse().plus(-1, DAYS).getPartialAmount(DAYS), is(4L));
+        assertThat(Duration.of(1, DAYS).plus(-1, DAYS).isEmpty(), is(true));
+        assertThat(Duration.of(2, MILLIS).getPartialAmount(MICROS), is(2000L));
+        assertThat(Duration.ofCalendarUnits(0, 0, 0), is(Duration.ofZero()));
+        assertThat(Duration.ofClockUnits(0, 15, 0), is(Duration.of(15, MINUTES)));
+    }
+
+    @Test
+    public void compactAndMixedRepresentation() {
+        Duration<IsoUnit> mixed = Duration.<IsoUnit>of(2, CalendarUnit.weekBasedYears()).plus(3, WEEKS);
+        assertThat(mixed.getPartialAmount(WEEKS), is(3L));
+        assertThat(mixed.getPartialAmount(CalendarUnit.weekBasedYears()), is(2L));
+        assertThat(mixed.getTotalLength().size(), is(2));
+        assertThat(mixed.equals(Duration.<IsoUnit>of(3, WEEKS).plus(2, CalendarUnit.weekBasedYears())), is(true));
+        assertThat(mixed.equals(Duration.<IsoUnit>of(3, WEEKS)), is(false));
+        assertThat(Duration.<IsoUnit>of(3, WEEKS).equals(mixed), is(false));
+        assertThat(Duration.ofZero().equals(Duration.of(3, WEEKS).plus(-3, WEEKS)), is(true));
+    }
+
+    @Test
+    public void compactRepresentationExpandedOnlyOnce() {
+        Duration<IsoUnit> duration = Duration.ofPositive().years(1).days(3).minutes(5).build();
+        assertThat(duration.getTotalLength() == duration.getTotalLength(), is(true));
+        assertThat(duration.inverse().getTotalLength(), is(duration.getTotalLength()));
+    }
+
+    @Test
+    public void parsePeriodFromCharSequence() throws ParseException {
+        String[] periods = {
+            "P1Y2M3DT4H5M6,789S", "-P2W", "PT0.5S", "P0D", "PT1.1234567891S", "P3Q", "P1I2C3E",
+            "P2018-04-30", "PT10:15", "P1Y14M", "-PT36H", "P1Y0M3DT0H5M", "PT5,0S", "PT0,000S"
+        };
+        for (String period : periods) {
+            String text = "<d>" + period + "</d>";
+            Duration<IsoUnit> expected = Duration.parsePeriod(period);
+            Duration<IsoUnit> parsed = Duration.parsePeriod(text, 3, 3 + period.length());
+            assertThat(parsed, is(expected));
+            assertThat(parsed.hashCode(), is(expected.hashCode()));
+            assertThat(parsed.getTotalLength(), is(expected.getTotalLength()));
+        }
+        assertThat(
+            Duration.parsePeriod("P1Y2M3DT4H5M6,789S"),
+            is(Duration.ofPositive().years(1).months(2).days(3).hours(4).minutes(5).seconds(6).millis(789).build()));
+        assertThat(Duration.parseClockPeriod("PT2H").getPartialAmount(HOURS), is(2L));
+        assertThat(Duration.parseCalendarPeriod("P2W").getPartialAmount(WEEKS), is(2L));
+    }
+
+    @Test
+    public void parsePeriodFromCharSequenceWithError() {
+        String[] invalid = {"P", "PT", "P1DT", "P1H", "PT1D", "P1D1Y", "P1M1M", "PT1.S", "PT.5S", "P99999999999999999999Y"};
+        for (String period : invalid) {
+            try {
+                Duration.parsePeriod("xx" + period, 2, 2 + period.length());
+                fail("Expected failure: " + period);
+            } catch (ParseException pe) {
+                assertThat(pe.getErrorOffset() >= 2, is(true));
+            }
+        }
+    }
+
+    @Test(expected=ParseException.class)
+    public void parseClockPeriodWithDateComponent() throws ParseException {
+        Duration.parseClockPeriod("P1DT2H");
+    }
+
+    @Test
+    public void printISO() {
+        StringBuilder buffer = new StringBuilder("duration=");
+        Duration.ofPositive().years(1).months(2).days(3).hours(4).minutes(5).seconds(6).millis(789).build()
+            .printISO(buffer);
+        assertThat(buffer.toString(), is("duration=P1Y2M3DT4H5M6,789000000S"));
+        buffer.setLength(0);
+        Duration.of(2, WEEKS).printISO(buffer);
+        assertThat(buffer.toString(), is("P2W"));
+        buffer.setLength(0);
+        Duration.ofZero().printISO(buffer);
+        assertThat(buffer.toString(), is("PT0S"));
+        buffer.setLength(0);
+        Duration<IsoUnit> dur = Duration.<IsoUnit>of(1, WEEKS).plus(2, DAYS).plus(1, YEARS);
+        dur.printISO(buffer);
+        assertThat(buffer.toString(), is(dur.toStringISO()));
+        buffer.setLength(0);
+        buffer.append("x");
+        try {
+            Duration.of(-2, DAYS).printISO(buffer);
+            fail("Negative duration not allowed in ISO.");
+        } catch (ChronoException ex) {
+            assertThat(buffer.toString(), is("x"));
+        }
+        buffer.setLength(0);
+        buffer.append("P");
+        Duration<IsoDateUnit> weekBased = Duration.<IsoDateUnit>of(1, CalendarUnit.weekBasedYears()).plus(2, DAYS);
+        weekBased.printISO(buffer);
+        assertThat(buffer.toString(), is("P" + weekBased.toStringISO()));
+    }
+
 }
@@ -0,0 +1,108 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SortableKeyCodecTest {
+
+    @Test
+    public void momentOrder() {
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        List<Moment> moments = new ArrayList<>();
+        moments.add(Moment.axis().getMinimum());
+        moments.add(Moment.axis().getMaximum());
+        moments.add(Moment.UNIX_EPOCH);
+        moments.add(Moment.of(-1, 999999999, TimeScale.POSIX));
+        moments.add(ls);
+        moments.add(ls.minus(1, SI.NANOSECONDS));
+        moments.add(ls.plus(999999999, SI.NANOSECONDS));
+        moments.add(ls.plus(1, SI.SECONDS));
+        moments.add(ls.minus(1, SI.SECONDS).plus(999999999, SI.NANOSECONDS));
+        Random random = new Random(12345L);
+        for (int i = 0; i < 200; i++) {
+            moments.add(Moment.of(random.nextInt() * 10L, random.nextInt(1000000000), TimeScale.POSIX));
+        }
+        assertOrder(SortableKeyCodec.MOMENT, moments);
+    }
+
+    @Test
+    public void timestampOrder() {
+        List<PlainTimestamp> timestamps = new ArrayList<>();
+        timestamps.add(PlainTimestamp.axis().getMinimum());
+        timestamps.add(PlainTimestamp.axis().getMaximum());
+        timestamps.add(PlainTimestamp.of(1972, 1, 1, 0, 0));
+        timestamps.add(PlainTimestamp.of(1971, 12, 31, 23, 59, 59).plus(999999999, ClockUnit.NANOS));
+        Random random = new Random(54321L);
+        for (int i = 0; i < 200; i++) {
+            timestamps.add(
+                PlainTimestamp.of(
+                    PlainDate.of(random.nextInt(4000) - 1000, 1 + random.nextInt(365)),
+                    PlainTime.midnightAtStartOfDay().plus(random.nextLong() & 0xFFFFFFFFFFFFL, ClockUnit.NANOS)));
+        }
+        assertOrder(SortableKeyCodec.PLAIN_TIMESTAMP, timestamps);
+    }
+
+    @Test
+    public void dateAndTimeOrder() {
+        assertOrder(
+            SortableKeyCodec.PLAIN_DATE,
+            Arrays.asList(
+                PlainDate.axis().getMinimum(), PlainDate.of(-1, 12, 31), PlainDate.of(1972, 1, 1),
+                PlainDate.of(1971, 12, 31), PlainDate.axis().getMaximum()));
+        assertOrder(
+            SortableKeyCodec.PLAIN_TIME,
+            Arrays.asList(
+                PlainTime.midnightAtStartOfDay(), PlainTime.of(0, 0, 0, 1), PlainTime.of(12, 30),
+                PlainTime.of(23, 59, 59, 999999999), PlainTime.midnightAtEndOfDay()));
+    }
+
+    @Test
+    public void bufferIndependentOfByteOrder() {
+        Moment m = Moment.of(1552816800L, 123456789, TimeScale.POSIX);
+        byte[] expected = SortableKeyCodec.MOMENT.encode(m);
+        ByteBuffer little = ByteBuffer.allocateDirect(20).order(ByteOrder.LITTLE_ENDIAN);
+        little.position(3);
+        SortableKeyCodec.MOMENT.encode(m, little);
+        assertThat(little.position(), is(15));
+        byte[] actual = new byte[12];
+        little.position(3);
+        little.get(actual);
+        assertThat(Arrays.equals(actual, expected), is(true));
+        byte[] array = new byte[14];
+        SortableKeyCodec.MOMENT.encode(m, array, 2);
+        assertThat(SortableKeyCodec.MOMENT.compare(array, 2, expected, 0), is(0));
+    }
+
+    private static <T extends Comparable<T>> void assertOrder(
+        SortableKeyCodec<T> codec,
+        List<T> values
+    ) {
+        int len = codec.getKeyLength();
+        byte[] keys = new byte[values.size() * len];
+        for (int i = 0; i < values.size(); i++) {
+            codec.encode(values.get(i), keys, i * len);
+        }
+        for (int i = 0; i < values.size(); i++) {
+            for (int j = 0; j < values.size(); j++) {
+                int expected = Integer.signum(values.get(i).compareTo(values.get(j)));
+                int actual = Integer.signum(codec.compare(keys, i * len, keys, j * len));
+                assertThat(values.get(i) + " vs " + values.get(j), actual, is(expected));
+            }
+        }
+    }
+
+}
@@ -59,6 +59,25 @@ public class SystemClockTest {
             is(unix));
     }
 
+    @Test
+    public void monotonicFractionOfSecond() {
+        SystemClock clock = SystemClock.MONOTONIC;
+        long start = System.nanoTime();
+        long micros = clock.currentTimeInMicros();
+        long millis = clock.currentTimeInMillis();
+        long elapsed = (System.nanoTime() - start) / 1000000 + 1; // independent of wall clock adjustments
+        long delta = millis - micros / 1000;
+        assertThat(
+            "Observed delta: " + delta,
+            (delta >= 0) && (delta <= elapsed),
+            is(true));
+        for (int i = 0; i < 1000; i++) {
+            long next = clock.currentTimeInMicros();
+            assertThat(next >= micros, is(true));
+            micros = next;
+        }
+    }
+
     @Test
     public void recalibrate() {
         assertThat(SystemClock.INSTANCE.recalibrated() != SystemClock.INSTANCE, is(true));
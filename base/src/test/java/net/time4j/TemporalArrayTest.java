@@ -0,0 +1,117 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TemporalArrayTest {
+
+    @Test
+    public void plainDateArray() {
+        PlainDate d1 = PlainDate.of(-500, 2, 28);
+        PlainDate d2 = PlainDate.of(1970, 1, 1);
+        PlainDate d3 = PlainDate.of(2019, 12, 31);
+        PlainDateArray array = PlainDateArray.of(d3, d1, d2);
+        assertThat(array.size(), is(3));
+        assertThat(array.isDirect(), is(false));
+        assertThat(array.get(0), is(d3));
+        assertThat(array.getYear(1), is(-500));
+        assertThat(array.getMonth(1), is(2));
+        assertThat(array.getDayOfMonth(1), is(28));
+        array.sort();
+        assertThat(array.asList().toString(), is("[-0500-02-28, 1970-01-01, 2019-12-31]"));
+        assertThat(array.binarySearch(d2), is(1));
+        assertThat(array.binarySearch(PlainDate.of(2000, 1, 1)), is(-3));
+    }
+
+    @Test
+    public void plainDateArrayDirect() {
+        PlainDateArray array = PlainDateArray.allocateDirect(2);
+        assertThat(array.isDirect(), is(true));
+        assertThat(array.get(1), is(PlainDate.of(1970, 1, 1)));
+        array.asList().set(0, PlainDate.of(2019, 3, 17));
+        assertThat(array.get(0), is(PlainDate.of(2019, 3, 17)));
+        array.sort();
+        assertThat(array.get(1), is(PlainDate.of(2019, 3, 17)));
+    }
+
+    @Test
+    public void plainTimestampArray() {
+        Random random = new Random(4711L);
+        List<PlainTimestamp> expected = new ArrayList<>();
+        PlainTimestampArray array = PlainTimestampArray.allocateDirect(500);
+        for (int i = 0; i < array.size(); i++) {
+            PlainTimestamp tsp =
+                PlainTimestamp.of(
+                    PlainDate.of(1900 + random.nextInt(200), 1 + random.nextInt(365)),
+                    PlainTime.midnightAtStartOfDay().plus(random.nextLong() & 0xFFFFFFFFFFFL, ClockUnit.NANOS));
+            expected.add(tsp);
+            array.set(i, tsp);
+        }
+        array.sort();
+        Collections.sort(expected);
+        assertThat(array.asList(), is(expected));
+        assertThat(array.getYear(0), is(expected.get(0).getYear()));
+        assertThat(array.getNanoOfDay(0), is(expected.get(0).getWallTime().get(PlainTime.NANO_OF_DAY)));
+        for (int i = 0; i < expected.size(); i += 50) {
+            assertThat(array.binarySearch(expected.get(i)) >= 0, is(true));
+        }
+        assertThat(
+            array.binarySearch(PlainTimestamp.of(2200, 1, 1, 0, 0)),
+            is(-array.size() - 1));
+    }
+
+    @Test
+    public void momentArrayWithLeapSecond() {
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        Moment before = ls.minus(1, SI.NANOSECONDS);
+        Moment after = ls.plus(1, SI.SECONDS);
+        MomentArray array = MomentArray.of(after, ls, Moment.UNIX_EPOCH, before);
+        array.sort();
+        assertThat(array.get(0), is(Moment.UNIX_EPOCH));
+        assertThat(array.get(1), is(before));
+        assertThat(array.get(2), is(ls));
+        assertThat(array.get(3), is(after));
+        assertThat(array.isLeapSecond(2), is(true));
+        assertThat(array.getPosixTime(2), is(before.getPosixTime()));
+        assertThat(array.getNanosecond(1), is(999999999));
+        assertThat(array.binarySearch(ls), is(2));
+    }
+
+    @Test
+    public void momentArrayOrder() {
+        Random random = new Random(815L);
+        MomentArray array = MomentArray.allocate(300);
+        List<Moment> expected = new ArrayList<>();
+        for (int i = 0; i < array.size(); i++) {
+            Moment m = Moment.of(random.nextInt(), random.nextInt(1000000000), TimeScale.POSIX);
+            array.set(i, m);
+            expected.add(m);
+        }
+        array.sort();
+        Collections.sort(expected);
+        assertThat(array.asList(), is(expected));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void indexOutOfRange() {
+        MomentArray.allocate(2).get(2);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeSize() {
+        PlainDateArray.allocate(-1);
+    }
+
+}
@@ -0,0 +1,187 @@
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.scale.TimeScale;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DisciplinedClockTest {
+
+    private static final long MRD = 1000000000L;
+    private static final long START = 4000000000L * MRD; // POSIX-Nanosekunden (lokale Uhr geht nach)
+
+    private AtomicLong ticker;
+    private DisciplinedClock clock;
+
+    @Before
+    public void setUp() {
+        this.ticker = new AtomicLong(123456789L);
+        this.clock = new DisciplinedClock(new SntpConnector("localhost"), this.ticker::get);
+    }
+
+    @Test
+    public void notSynchronized() {
+        assertThat(this.clock.isSynchronized(), is(false));
+        assertThat(this.clock.getFrequencyErrorInPPM(), is(0.0));
+    }
+
+    @Test
+    public void firstSynchronizationSetsTime() {
+        this.clock.update(this.ticker.get(), START);
+        assertThat(this.clock.isSynchronized(), is(true));
+        assertThat(this.clock.currentTime(), is(Moment.of(4000000000L, TimeScale.POSIX)));
+        this.ticker.addAndGet(2500L);
+        assertThat(this.clock.currentTime(), is(Moment.of(4000000000L, 2500, TimeScale.POSIX)));
+    }
+
+    @Test
+    public void firstSynchronizationHoldsTime() {
+        long before = nanos(this.clock.currentTime());
+        long network = before - 10 * MRD; // lokale Uhr geht 10 Sekunden vor
+        this.clock.update(this.ticker.get(), network);
+        assertThat(this.clock.isSynchronized(), is(true));
+        assertThat(nanos(this.clock.currentTime()), is(before));
+        this.ticker.addAndGet(5 * MRD);
+        assertThat(nanos(this.clock.currentTime()), is(before));
+        this.clock.update(this.ticker.get(), network + 5 * MRD); // Haltephase wird fortgesetzt
+        assertThat(nanos(this.clock.currentTime()), is(before));
+        this.ticker.addAndGet(6 * MRD);
+        assertThat(nanos(this.clock.currentTime()), is(network + 11 * MRD));
+    }
+
+    @Test
+    public void firstSynchronizationSlewsSmallError() {
+        long before = nanos(this.clock.currentTime());
+        long local = this.ticker.get();
+        long network = before - 50000000L; // lokale Uhr geht 50 ms vor
+        this.clock.update(local, network);
+        long previous = nanos(this.clock.currentTime());
+        assertThat(previous, is(before));
+        for (int i = 0; i < 2000; i++) {
+            this.ticker.addAndGet(100000000L);
+            long current = nanos(this.clock.currentTime());
+            assertThat(current > previous, is(true));
+            previous = current;
+        }
+        assertThat(Math.abs(previous - (network + this.ticker.get() - local)) < 1000, is(true));
+    }
+
+    @Test
+    public void noFrequencyEstimationWithTooFewSamples() {
+        long origin = this.ticker.get();
+        for (int i = 0; i < 3; i++) {
+            this.clock.update(this.ticker.get(), truth(origin, 100.0E-6));
+            this.ticker.addAndGet(1000 * MRD);
+        }
+        assertThat(this.clock.getFrequencyErrorInPPM(), is(0.0));
+    }
+
+    @Test
+    public void noFrequencyEstimationWithinShortTimeSpan() {
+        long origin = this.ticker.get();
+        for (int i = 0; i < 8; i++) {
+            this.clock.update(this.ticker.get(), truth(origin, 100.0E-6));
+            this.ticker.addAndGet(10 * MRD);
+        }
+        assertThat(this.clock.getFrequencyErrorInPPM(), is(0.0));
+    }
+
+    @Test
+    public void frequencyCompensation() {
+        // lokale Uhr geht um 100 ppm zu langsam
+        long origin = this.ticker.get();
+        for (int i = 0; i < 4; i++) {
+            this.clock.update(this.ticker.get(), truth(origin, 100.0E-6));
+            this.ticker.addAndGet(64 * MRD);
+        }
+        assertThat(Math.abs(this.clock.getFrequencyErrorInPPM() - 100.0) < 0.001, is(true));
+        this.ticker.addAndGet(1000 * MRD); // lange keine Verbindung
+        long error = nanos(this.clock.currentTime()) - truth(origin, 100.0E-6);
+        assertThat("Observed error: " + error, Math.abs(error) < 1000, is(true));
+    }
+
+    @Test
+    public void frequencyErrorIsLimited() {
+        long origin = this.ticker.get();
+        for (int i = 0; i < 4; i++) {
+            this.clock.update(this.ticker.get(), truth(origin, 0.01));
+            this.ticker.addAndGet(64 * MRD);
+        }
+        assertThat(this.clock.getFrequencyErrorInPPM(), is(500.0));
+    }
+
+    @Test
+    public void slewBackwardsWithoutJump() {
+        this.clock.update(this.ticker.get(), START);
+        this.ticker.addAndGet(1000 * MRD);
+        long before = nanos(this.clock.currentTime());
+        long local = this.ticker.get();
+        long network = START + 1000 * MRD - 50000000L; // diese Uhr geht 50 ms vor
+        this.clock.update(local, network);
+        assertThat(this.clock.getFrequencyErrorInPPM(), is(0.0)); // Phasenfehler, kein Frequenzfehler
+        long previous = before;
+        for (int i = 0; i < 2000; i++) {
+            this.ticker.addAndGet(100000000L);
+            long current = nanos(this.clock.currentTime());
+            assertThat(current > previous, is(true));
+            previous = current;
+        }
+        // nach 200 Sekunden ist der Phasenfehler abgebaut (höchstens 500 ppm => 100 s)
+        long expected = network + this.ticker.get() - local;
+        assertThat(Math.abs(previous - expected) < 1000, is(true));
+    }
+
+    @Test
+    public void slewForward() {
+        this.clock.update(this.ticker.get(), START);
+        this.ticker.addAndGet(1000 * MRD);
+        long network = START + 1000 * MRD + 10000000L; // 10 ms nachgehend
+        this.clock.update(this.ticker.get(), network);
+        long local = this.ticker.get();
+        assertThat(nanos(this.clock.currentTime()), is(START + 1000 * MRD));
+        assertThat(this.clock.getFrequencyErrorInPPM(), is(0.0));
+        this.ticker.addAndGet(100 * MRD); // Phasenfehler nach 20 Sekunden abgebaut (höchstens 500 ppm)
+        long expected = network + this.ticker.get() - local;
+        assertThat(Math.abs(nanos(this.clock.currentTime()) - expected) < 1000, is(true));
+    }
+
+    @Test
+    public void stepForward() {
+        this.clock.update(this.ticker.get(), START);
+        this.ticker.addAndGet(MRD);
+        this.clock.update(this.ticker.get(), START + 3 * MRD);
+        assertThat(nanos(this.clock.currentTime()), is(START + 3 * MRD));
+    }
+
+    @Test
+    public void monotonicAfterTickerGoesBack() {
+        this.clock.update(this.ticker.get(), START);
+        this.ticker.addAndGet(MRD);
+        Moment m1 = this.clock.currentTime();
+        this.ticker.addAndGet(-MRD / 2);
+        Moment m2 = this.clock.currentTime();
+        assertThat(m2, is(m1));
+    }
+
+    private long truth(
+        long origin,
+        double frequencyError
+    ) {
+        long elapsed = this.ticker.get() - origin;
+        return START + elapsed + Math.round(elapsed * frequencyError);
+    }
+
+    private static long nanos(Moment moment) {
+        return moment.getPosixTime() * MRD + moment.getNanosecond();
+    }
+
+}
@@ -0,0 +1,338 @@
+package net.time4j.clock;
+
+import net.time4j.SystemClock;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class SntpConnectorTest {
+
+    private static final long TOLERANCE = 200000L; // 200 ms
+
+    private final List<FakeServer> servers = new ArrayList<>();
+
+    @After
+    public void stopServers() {
+        for (FakeServer server : this.servers) {
+            server.close();
+        }
+        this.servers.clear();
+    }
+
+    @Test
+    public void connectAsyncWithSingleServer() throws Exception {
+        FakeServer server = this.start(10.0);
+        SntpConnector clock = new SntpConnector(new TestConfiguration(server.getPort(), "127.0.0.1"));
+        clock.connectAsync().join();
+        assertThat(clock.isRunning(), is(true));
+        assertOffset(clock.getLastOffsetInMicros(), 10000000L);
+    }
+
+    @Test
+    public void connectAsyncWithExecutor() throws Exception {
+        FakeServer server = this.start(3.0);
+        SntpConnector clock = new SntpConnector(new TestConfiguration(server.getPort(), "127.0.0.1"));
+        AtomicInteger count = new AtomicInteger();
+        Executor executor =
+            task -> {
+                count.incrementAndGet();
+                task.run();
+            };
+        clock.connectAsync(executor).join();
+        assertThat(count.get(), is(1));
+        assertOffset(clock.getLastOffsetInMicros(), 3000000L);
+    }
+
+    @Test
+    public void falseTickerDiscarded() throws Exception {
+        SntpConnector clock =
+            new SntpConnector(
+                new TestConfiguration(
+                    123,
+                    address(this.start(5.0)),
+                    address(this.start(5.0)),
+                    address(this.start(300.0))));
+        clock.connectAsync().join();
+        assertOffset(clock.getLastOffsetInMicros(), 5000000L);
+    }
+
+    @Test
+    public void noMajority() throws Exception {
+        SntpConnector clock =
+            new SntpConnector(new TestConfiguration(123, address(this.start(5.0)), address(this.start(300.0))));
+        try {
+            clock.connectAsync().join();
+            fail("Missing majority of time servers not detected.");
+        } catch (CompletionException ex) {
+            assertThat(ex.getCause(), instanceOf(IOException.class));
+        }
+        assertThat(clock.isRunning(), is(false));
+    }
+
+    @Test
+    public void unreachableServerSkipped() throws Exception {
+        FakeServer server = this.start(-2.0);
+        DatagramSocket silent = new DatagramSocket(0, InetAddress.getByName("127.0.0.1"));
+        try {
+            SntpConnector clock =
+                new SntpConnector(
+                    new TestConfiguration(123, address(server), "127.0.0.1:" + silent.getLocalPort()));
+            clock.connectAsync().join();
+            assertOffset(clock.getLastOffsetInMicros(), -2000000L);
+        } finally {
+            silent.close();
+        }
+    }
+
+    @Test
+    public void refreshPeriodically() throws Exception {
+        FakeServer server = this.start(1.0);
+        SntpConnector clock = new SntpConnector(new TestConfiguration(server.getPort(), "127.0.0.1"));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ScheduledFuture<?> future = clock.refreshPeriodically(scheduler, 20, TimeUnit.MILLISECONDS);
+            long deadline = System.currentTimeMillis() + 5000;
+            while ((server.getRequestCount() < 3) && (System.currentTimeMillis() < deadline)) {
+                Thread.sleep(10);
+            }
+            future.cancel(false);
+            assertThat(server.getRequestCount() >= 3, is(true));
+            assertThat(clock.isRunning(), is(true));
+            assertOffset(clock.getLastOffsetInMicros(), 1000000L);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void selectOffsetWeighted() throws IOException {
+        double offset = SntpConnector.selectOffset(new double[] {1.0, 1.2}, new double[] {0.5, 0.5});
+        assertThat(Math.abs(offset - 1.1) < 1.0E-9, is(true));
+        offset = SntpConnector.selectOffset(new double[] {1.0, 2.0}, new double[] {0.1, 0.9});
+        assertThat(Math.abs(offset - 1.1) < 1.0E-9, is(true));
+    }
+
+    @Test
+    public void selectOffsetIntersection() throws IOException {
+        double offset =
+            SntpConnector.selectOffset(new double[] {1.0, 1.1, 0.9, 7.0}, new double[] {0.2, 0.2, 0.2, 0.2});
+        assertThat(Math.abs(offset - 1.0) < 1.0E-9, is(true));
+    }
+
+    @Test(expected=IOException.class)
+    public void selectOffsetWithoutMajority() throws IOException {
+        SntpConnector.selectOffset(new double[] {1.0, 3.0, 5.0}, new double[] {0.1, 0.1, 0.1});
+    }
+
+    @Test
+    public void resolveServerAddress() throws IOException {
+        assertThat(
+            SntpConnector.resolve("127.0.0.1", 123),
+            is(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 123)));
+        assertThat(
+            SntpConnector.resolve("127.0.0.1:1234", 123),
+            is(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 1234)));
+        assertThat(
+            SntpConnector.resolve("[::1]:1234", 123),
+            is(new InetSocketAddress(InetAddress.getByName("::1"), 1234)));
+        assertThat(
+            SntpConnector.resolve("::1", 123),
+            is(new InetSocketAddress(InetAddress.getByName("::1"), 123)));
+    }
+
+    @Test(expected=IOException.class)
+    public void resolveServerAddressWithInvalidPort() throws IOException {
+        SntpConnector.resolve("127.0.0.1:xyz", 123);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void emptyServerList() {
+        new SntpConnector(Collections.<String>emptyList());
+    }
+
+    private static void assertOffset(
+        long actual,
+        long expected
+    ) {
+        assertThat(
+            "Unexpected offset: " + actual,
+            Math.abs(actual - expected) < TOLERANCE,
+            is(true));
+    }
+
+    private static String address(FakeServer server) {
+        return "127.0.0.1:" + server.getPort();
+    }
+
+    private FakeServer start(double offset) throws IOException {
+        FakeServer server = new FakeServer(new DatagramSocket(0, InetAddress.getByName("127.0.0.1")), offset);
+        this.servers.add(server);
+        server.start();
+        return server;
+    }
+
+    private static class TestConfiguration
+        implements SntpConfiguration {
+
+        private final int port;
+        private final List<String> addresses;
+
+        TestConfiguration(
+            int port,
+            String... addresses
+        ) {
+            super();
+
+            this.port = port;
+            this.addresses = Arrays.asList(addresses);
+        }
+
+        @Override
+        public boolean isNTP4() {
+            return true;
+        }
+
+        @Override
+        public int getRequestInterval() {
+            return 0;
+        }
+
+        @Override
+        public short getRequestCount() {
+            return 1;
+        }
+
+        @Override
+        public String getTimeServerAddress() {
+            return this.addresses.get(0);
+        }
+
+        @Override
+        public List<String> getTimeServerAddresses() {
+            return this.addresses;
+        }
+
+        @Override
+        public int getTimeServerPort() {
+            return this.port;
+        }
+
+        @Override
+        public int getConnectionTimeout() {
+            return 2;
+        }
+
+        @Override
+        public int getClockShiftWindow() {
+            return 0;
+        }
+
+    }
+
+    // lokaler Ersatz für einen NTP-Server mit simulierter Zeitverschiebung
+    private static class FakeServer
+        extends Thread {
+
+        private static final long OFFSET_1900 = 2208988800L;
+
+        private final DatagramSocket socket;
+        private final double offset;
+        private volatile int requestCount = 0;
+
+        FakeServer(
+            DatagramSocket socket,
+            double offset
+        ) {
+            super("FakeNtpServer");
+
+            this.socket = socket;
+            this.offset = offset;
+            this.setDaemon(true);
+        }
+
+        int getPort() {
+            return this.socket.getLocalPort();
+        }
+
+        int getRequestCount() {
+            return this.requestCount;
+        }
+
+        void close() {
+            this.socket.close();
+        }
+
+        @Override
+        public void run() {
+            byte[] buffer = new byte[48];
+
+            try {
+                while (true) {
+                    DatagramPacket request = new DatagramPacket(buffer, buffer.length);
+                    this.socket.receive(request);
+                    byte[] reply = new byte[48];
+                    reply[0] = (byte) ((4 << 3) | 4);
+                    reply[1] = 1;
+                    reply[12] = 'T';
+                    reply[13] = 'E';
+                    reply[14] = 'S';
+                    reply[15] = 'T';
+                    double now = SystemClock.MONOTONIC.currentTimeInMicros() / 1000000.0 + OFFSET_1900 + this.offset;
+                    encode(reply, 16, now);
+                    System.arraycopy(buffer, 40, reply, 24, 8);
+                    encode(reply, 32, now);
+                    encode(reply, 40, now);
+                    this.socket.send(new DatagramPacket(reply, reply.length, request.getSocketAddress()));
+                    this.requestCount++;
+                }
+            } catch (SocketException se) {
+                // closed
+            } catch (IOException ioe) {
+                throw new IllegalStateException(ioe);
+            }
+        }
+
+        private static void encode(
+            byte[] data,
+            int pointer,
+            double timestamp
+        ) {
+            long seconds = (long) Math.floor(timestamp);
+            long fraction = (long) ((timestamp - seconds) * 4294967296.0);
+            long value = (seconds << 32) | fraction;
+
+            for (int i = 7; i >= 0; i--) {
+                data[pointer + i] = (byte) (value & 0xFF);
+                value >>>= 8;
+            }
+        }
+
+    }
+
+}
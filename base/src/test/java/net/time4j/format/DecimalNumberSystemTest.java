@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -82,4 +84,42 @@ public class DecimalNumberSystemTest {
         NumberSystem.ARABIC_INDIC.toInteger("-١٢٣٤٥٦٧٨٩٠");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void numeralToAppendable() throws IOException {
+        for (NumberSystem numsys : NumberSystem.values()) {
+            if (numsys.isDecimal()) {
+                for (int i : new int[] {0, 7, 10, 99, 1000, 65535, 999999999, Integer.MAX_VALUE}) {
+                    StringBuilder buffer = new StringBuilder();
+                    int count = numsys.toNumeral(i, buffer);
+                    assertThat(buffer.toString(), is(numsys.toNumeral(i)));
+                    assertThat(count, is(Integer.toString(i).length()));
+                    assertThat(numsys.toInteger(buffer.toString()), is(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void containsDigits() {
+        for (NumberSystem numsys : NumberSystem.values()) {
+            if (!numsys.isDecimal() && (numsys != NumberSystem.JAPANESE)) {
+                continue; // with own implementation of contains()
+            }
+            String digits = numsys.getDigits();
+            for (char c = 0; c < 0x3000; c++) {
+                assertThat(numsys.contains(c), is(digits.indexOf(c) >= 0));
+            }
+        }
+    }
+
+    @Test(expected=NumberFormatException.class)
+    public void integerOverflow() {
+        NumberSystem.THAI.toInteger(NumberSystem.THAI.toNumeral(Integer.MAX_VALUE) + "0");
+    }
+
+    @Test(expected=NumberFormatException.class)
+    public void integerOverflowWithTenDigits() {
+        NumberSystem.DEVANAGARI.toInteger("\u096F\u096F\u096F\u096F\u096F\u096F\u096F\u096F\u096F\u096F");
+    }
+
+}
@@ -8,10 +8,12 @@ import net.time4j.SI;
 import net.time4j.Weekday;
 import net.time4j.Weekmodel;
 import net.time4j.ZonalDateTime;
+import net.time4j.calendar.HijriCalendar;
 import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
 import net.time4j.engine.ChronoException;
 import net.time4j.format.Attributes;
+import net.time4j.format.CalendarText;
 import net.time4j.format.DisplayMode;
 import net.time4j.format.Leniency;
 import net.time4j.format.NumberSystem;
@@ -19,12 +21,15 @@ import net.time4j.format.PluralCategory;
 import net.time4j.format.TemporalFormatter;
 import net.time4j.format.TextElement;
 import net.time4j.format.TextWidth;
+import net.time4j.format.internal.LocaleCache;
 import net.time4j.history.ChronoHistory;
 import net.time4j.history.HistoricEra;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.olson.EUROPE;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -44,6 +49,7 @@ import java.util.Set;
 import static net.time4j.tz.OffsetSign.AHEAD_OF_UTC;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -945,4 +951,51 @@ public class MiscellaneousTest {
             .with(Attributes.TEXT_WIDTH, TextWidth.ABBREVIATED);
     }
 
+    @Test
+    public void warmUp() throws ClassNotFoundException {
+        try {
+            WarmUp.preload(
+                Collections.singleton(Locale.GERMANY),
+                Collections.singleton(EUROPE.BERLIN),
+                Collections.singleton(HijriCalendar.class));
+            CalendarText texts = CalendarText.getIsoInstance(Locale.GERMANY);
+            Weekmodel model = Weekmodel.of(Locale.GERMANY);
+            for (int i = 0; i < 300; i++) { // exceeds the capacity of both caches
+                Locale locale = new Locale("de", "X" + i);
+                CalendarText.getIsoInstance(locale);
+                Weekmodel.of(locale);
+            }
+            assertThat(CalendarText.getIsoInstance(Locale.GERMANY), sameInstance(texts));
+            assertThat(Weekmodel.of(Locale.GERMANY), sameInstance(model));
+            WarmUp.main(new String[] {"locale:fr-FR", "zone:America/New_York", "chronology:net.time4j.PlainTime"});
+        } finally {
+            WarmUp.release();
+        }
+    }
+
+    @Test
+    public void warmUpReleaseKeepsForeignPins() {
+        Locale own = new Locale("de", "YY");
+        Runnable unpin = LocaleCache.pinDuring(() -> Weekmodel.of(own));
+        try {
+            Weekmodel model = Weekmodel.of(own);
+            WarmUp.preload(
+                Collections.singleton(Locale.GERMANY),
+                Collections.<TZID>emptySet(),
+                Collections.<Class<?>>emptySet());
+            WarmUp.release();
+            for (int i = 0; i < 300; i++) { // exceeds the capacity of the cache
+                Weekmodel.of(new Locale("de", "Y" + i));
+            }
+            assertThat(Weekmodel.of(own), sameInstance(model));
+        } finally {
+            unpin.run();
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void warmUpWithUnknownArgument() throws ClassNotFoundException {
+        WarmUp.main(new String[] {"xyz"});
+    }
+
 }
@@ -0,0 +1,83 @@
+package net.time4j.format.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BinaryBundleTest {
+
+    private static final File ROOT = new File("src/main/resources");
+
+    private static BinaryBundle bundle;
+
+    @BeforeClass
+    public static void compile() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PropertyBundleCompiler.compile(ROOT, baos);
+        bundle = BinaryBundle.of(ByteBuffer.wrap(baos.toByteArray()));
+    }
+
+    @Test
+    public void allResourcesEqualToPropertyFiles() throws IOException {
+        int count = 0;
+        for (File dir : ROOT.listFiles()) {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                continue;
+            }
+            for (File file : files) {
+                if (file.getName().endsWith(".properties")) {
+                    String resourceName = dir.getName() + "/" + file.getName();
+                    Map<String, String> expected;
+                    try (UTF8ResourceReader reader = new UTF8ResourceReader(new FileInputStream(file))) {
+                        expected = PropertyBundle.parse(reader);
+                    }
+                    Map<String, String> properties = bundle.getProperties(resourceName);
+                    assertThat(resourceName, properties, is(expected));
+                    for (String key : expected.keySet()) {
+                        assertThat(properties.get(key), is(expected.get(key)));
+                    }
+                    assertThat(bundle.covers(resourceName), is(true));
+                    count++;
+                }
+            }
+        }
+        assertThat(count > 0, is(true));
+    }
+
+    @Test
+    public void lookupOfSingleKey() {
+        Map<String, String> properties = bundle.getProperties("names/iso8601_de.properties");
+        assertThat(properties.get("M(a)_1"), is("Jan."));
+        assertThat(properties.containsKey("M(a)_1"), is(true));
+        assertThat(properties.get("unknown-key"), nullValue());
+        assertThat(properties.containsKey("unknown-key"), is(false));
+    }
+
+    @Test
+    public void missingResource() {
+        assertThat(bundle.getProperties("names/iso8601_xyz.properties"), nullValue());
+        assertThat(bundle.covers("names/iso8601_xyz.properties"), is(true));
+        assertThat(bundle.covers("other/xyz.properties"), is(false));
+    }
+
+    @Test(expected=IOException.class)
+    public void invalidFormat() throws IOException {
+        BinaryBundle.of(ByteBuffer.wrap(new byte[12]));
+    }
+
+}
@@ -0,0 +1,137 @@
+package net.time4j.format.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import javax.management.ObjectName;
+
+import net.time4j.format.CalendarText;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class LocaleCacheTest {
+
+    @Test
+    public void leastRecentlyUsedEviction() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-lru", 2);
+        assertThat(cache.putIfAbsent("a", 1), is(1));
+        assertThat(cache.putIfAbsent("b", 2), is(2));
+        assertThat(cache.get("a"), is(1)); // b becomes eldest
+        assertThat(cache.putIfAbsent("c", 3), is(3));
+        assertThat(cache.get("b"), nullValue());
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("c"), is(3));
+        assertThat(cache.getSize(), is(2));
+        assertThat(cache.getHitCount(), is(3L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void putIfAbsentKeepsOldValue() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-put", 5);
+        assertThat(cache.putIfAbsent("a", 1), is(1));
+        assertThat(cache.putIfAbsent("a", 2), is(1));
+        assertThat(cache.get("a"), is(1));
+    }
+
+    @Test
+    public void shrinkCapacity() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-shrink", 5);
+        for (int i = 0; i < 5; i++) {
+            cache.putIfAbsent(String.valueOf(i), i);
+        }
+        cache.setCapacity(2);
+        assertThat(cache.getCapacity(), is(2));
+        assertThat(cache.getSize(), is(2));
+        assertThat(cache.getEvictionCount(), is(3L));
+        assertThat(cache.get("3"), is(3));
+        assertThat(cache.get("4"), is(4));
+        cache.clear();
+        assertThat(cache.getSize(), is(0));
+    }
+
+    @Test
+    public void zeroCapacityDisablesCache() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-zero", 0);
+        assertThat(cache.putIfAbsent("a", 1), is(1));
+        assertThat(cache.get("a"), nullValue());
+        assertThat(cache.getSize(), is(0));
+    }
+
+    @Test
+    public void insertedEntrySurvivesEviction() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-inserted", 1);
+        for (int i = 0; i < 20; i++) {
+            assertThat(cache.putIfAbsent(String.valueOf(i), i), is(i));
+            assertThat(cache.get(String.valueOf(i)), is(i));
+            assertThat(cache.getSize(), is(1));
+        }
+    }
+
+    @Test
+    public void pinnedEntriesAreNotEvicted() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-pinned", 1);
+        cache.putIfAbsent("a", 1);
+        LocaleCache.pinDuring(() -> {
+            cache.get("a");
+            cache.putIfAbsent("b", 2);
+        });
+        cache.putIfAbsent("c", 3);
+        cache.putIfAbsent("d", 4);
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("b"), is(2));
+        assertThat(cache.get("c"), nullValue());
+        LocaleCache.unpinAll();
+        assertThat(cache.getSize(), is(1));
+    }
+
+    @Test
+    public void releaseOnlyOwnPins() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-release", 1);
+        Runnable first = LocaleCache.pinDuring(() -> cache.putIfAbsent("a", 1));
+        Runnable second = LocaleCache.pinDuring(() -> {
+            cache.get("a");
+            cache.putIfAbsent("b", 2);
+        });
+        first.run();
+        first.run();
+        cache.putIfAbsent("c", 3);
+        assertThat(cache.get("a"), is(1));
+        assertThat(cache.get("b"), is(2));
+        second.run();
+        assertThat(cache.getSize(), is(1));
+    }
+
+    @Test
+    public void pinningWithZeroCapacity() {
+        LocaleCache<String, Integer> cache = LocaleCache.of("test-pinned-zero", 0);
+        LocaleCache.pinDuring(() -> cache.putIfAbsent("a", 1));
+        assertThat(cache.get("a"), is(1));
+        LocaleCache.unpinAll();
+        assertThat(cache.getSize(), is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeCapacity() {
+        LocaleCache.of("test-negative", 5).setCapacity(-1);
+    }
+
+    @Test
+    public void registerMBeans() throws Exception {
+        CalendarText.getInstance("iso8601", Locale.GERMAN);
+        LocaleCache.registerMBeans();
+        ObjectName name = new ObjectName("net.time4j:type=LocaleCache,name=CalendarText");
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name), is(true));
+        assertThat(
+            ((Integer) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Size")) > 0,
+            is(true));
+    }
+
+}
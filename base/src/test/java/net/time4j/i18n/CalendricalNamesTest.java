@@ -13,6 +13,7 @@ import net.time4j.format.Attributes;
 import net.time4j.format.CalendarText;
 import net.time4j.format.Leniency;
 import net.time4j.format.OutputContext;
+import net.time4j.format.TextAccessor;
 import net.time4j.format.TextProvider;
 import net.time4j.format.TextWidth;
 import net.time4j.format.expert.ChronoFormatter;
@@ -26,6 +27,7 @@ import java.text.DateFormatSymbols;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
@@ -629,6 +631,48 @@ public class CalendricalNamesTest {
 
     }
 
+    @Test
+    public void parseMonthsAtOffset() {
+        TextAccessor accessor =
+            CalendarText.getInstance("iso8601", Locale.GERMAN).getStdMonths(TextWidth.ABBREVIATED, OutputContext.FORMAT);
+        ParsePosition status = new ParsePosition(3);
+        assertThat(accessor.parse("12 Sep. 2019", status, Month.class), is(Month.SEPTEMBER));
+        assertThat(status.getIndex(), is(7));
+        status = new ParsePosition(3);
+        assertThat(accessor.parse("12 sept. 2019", status, Month.class), is(Month.SEPTEMBER));
+        assertThat(status.getIndex(), is(8));
+        status = new ParsePosition(3);
+        assertThat(accessor.parse("12 sept. 2019", status, Month.class, Leniency.STRICT), nullValue());
+        assertThat(status.getErrorIndex(), is(3));
+        status = new ParsePosition(3);
+        assertThat(accessor.parse("12 xyz", status, Month.class), nullValue());
+        assertThat(status.getErrorIndex(), is(3));
+    }
+
+    @Test
+    public void parseAllTextForms() {
+        for (String language : new String[] {"en", "de", "fr", "ru", "ar", "ja", "vi"}) {
+            CalendarText instance = CalendarText.getInstance("iso8601", new Locale(language));
+            for (TextWidth width : TextWidth.values()) {
+                for (OutputContext oc : OutputContext.values()) {
+                    TextAccessor accessor = instance.getStdMonths(width, oc);
+                    for (Month month : Month.values()) {
+                        String text = accessor.print(month);
+                        for (Leniency leniency : new Leniency[] {Leniency.STRICT, Leniency.SMART}) {
+                            ParsePosition status = new ParsePosition(1);
+                            Month parsed = accessor.parse("_" + text + "_", status, Month.class, leniency);
+                            List<String> forms = accessor.getTextForms();
+                            if ((text.length() > 1) && (forms.indexOf(text) == forms.lastIndexOf(text))) {
+                                assertThat(language + "/" + width + "/" + oc, parsed, is(month));
+                                assertThat(status.getIndex(), is(text.length() + 1));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private static AttributeQuery toAttributes(
         boolean caseInsensitive,
         boolean partialCompare
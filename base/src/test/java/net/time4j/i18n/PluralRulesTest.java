@@ -133,4 +133,91 @@ public class PluralRulesTest {
         assertThat(rules.getCategory(77), is(PluralCategory.OTHER));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void compiledRulesEqualToOriginal() {
+        String[] languages = {"en", "de", "fr", "ru", "pl", "ar", "cy", "ga", "sl", "zh"};
+        for (String language : languages) {
+            Locale locale = new Locale(language);
+            for (NumberType numType : NumberType.values()) {
+                PluralRules rules = PluralRules.of(locale, numType);
+                PluralRules compiled = PluralRules.ofCompiled(locale, numType);
+                assertThat(compiled.getNumberType(), is(numType));
+                for (long i = -10; i <= 2000; i++) {
+                    assertThat(compiled.getCategory(i), is(rules.getCategory(i)));
+                }
+                assertThat(compiled.getCategory(Long.MAX_VALUE), is(rules.getCategory(Long.MAX_VALUE)));
+            }
+        }
+    }
+
+    @Test
+    public void compiledRulesAreCached() {
+        PluralRules compiled = PluralRules.ofCompiled(Locale.FRENCH, NumberType.CARDINALS);
+        assertThat(PluralRules.ofCompiled(Locale.FRENCH, NumberType.CARDINALS) == compiled, is(true));
+        assertThat(compiled.compile() == compiled, is(true));
+    }
+
+    @Test
+    public void registerResetsCompiledRules() {
+        Locale locale = new Locale("xx", "YY");
+        PluralRules before = PluralRules.ofCompiled(locale, NumberType.ORDINALS);
+        PluralRules.register(
+            locale,
+            new PluralRules() {
+                @Override
+                public PluralCategory getCategory(long count) {
+                    return ((count == 7) ? PluralCategory.FEW : PluralCategory.OTHER);
+                }
+                @Override
+                public NumberType getNumberType() {
+                    return NumberType.ORDINALS;
+                }
+            }
+        );
+        PluralRules after = PluralRules.ofCompiled(locale, NumberType.ORDINALS);
+        assertThat(after == before, is(false));
+        assertThat(after.getCategory(7), is(PluralCategory.FEW));
+        assertThat(after.getCategory(1007), is(PluralCategory.OTHER));
+    }
+
+    @Test
+    public void registerConcurrentlyWithCompiledLookup() throws InterruptedException {
+        Locale locale = new Locale("xx", "ZZ");
+        Thread reader =
+            new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    PluralRules.ofCompiled(locale, NumberType.CARDINALS);
+                }
+            });
+        reader.start();
+        for (int i = 0; i < 200; i++) {
+            PluralRules.register(locale, new FixedRules(PluralCategory.OTHER));
+        }
+        PluralRules.register(locale, new FixedRules(PluralCategory.MANY));
+        reader.join();
+        assertThat(PluralRules.ofCompiled(locale, NumberType.CARDINALS).getCategory(5), is(PluralCategory.MANY));
+    }
+
+    private static class FixedRules
+        extends PluralRules {
+
+        private final PluralCategory category;
+
+        FixedRules(PluralCategory category) {
+            super();
+            this.category = category;
+        }
+
+        @Override
+        public PluralCategory getCategory(long count) {
+            return this.category;
+        }
+
+        @Override
+        public NumberType getNumberType() {
+            return NumberType.CARDINALS;
+        }
+
+    }
+
+}
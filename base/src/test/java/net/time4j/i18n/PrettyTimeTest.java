@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.IOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Locale;
@@ -1130,4 +1131,61 @@ public class PrettyTimeTest {
 
     }
 
+    @Test
+    public void printRelativeToAppendable() throws IOException {
+        TimeSource<?> clock = () -> PlainTimestamp.of(2014, 9, 4, 14, 40).atUTC();
+        PrettyTime pt = PrettyTime.of(Locale.ENGLISH).withReferenceClock(clock);
+        StringBuilder buffer = new StringBuilder();
+        PlainTimestamp[] timestamps = {
+            PlainTimestamp.of(2014, 9, 4, 14, 35),
+            PlainTimestamp.of(2014, 9, 4, 14, 40),
+            PlainTimestamp.of(2014, 9, 4, 14, 40, 30),
+            PlainTimestamp.of(2014, 9, 4, 13, 40),
+            PlainTimestamp.of(2014, 9, 3, 14, 40),
+            PlainTimestamp.of(2012, 9, 4, 14, 40),
+            PlainTimestamp.of(2014, 9, 5, 15, 40)
+        };
+        for (PlainTimestamp tsp : timestamps) {
+            buffer.setLength(0);
+            pt.printRelative(tsp.atUTC(), Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS, buffer);
+            assertThat(buffer.toString(), is(pt.printRelative(tsp.atUTC(), ZonalOffset.UTC)));
+        }
+        buffer.setLength(0);
+        pt.printRelative(PlainTimestamp.of(2014, 9, 4, 14, 35).atUTC(), Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS, buffer);
+        assertThat(buffer.toString(), is("5 minutes ago"));
+        buffer.setLength(0);
+        pt.withZeroDigit(NumberSystem.ARABIC_INDIC).printRelative(
+            PlainTimestamp.of(2014, 9, 4, 14, 28).atUTC(), Timezone.of(ZonalOffset.UTC), TimeUnit.SECONDS, buffer);
+        assertThat(buffer.toString(), is("\u0661\u0662 minutes ago"));
+    }
+
+    @Test
+    public void printDurationToAppendable() throws IOException {
+        PrettyTime pt = PrettyTime.of(Locale.GERMAN);
+        StringBuilder buffer = new StringBuilder();
+        Duration<?>[] durations = {
+            Duration.of(1, DAYS),
+            Duration.of(-15, MINUTES),
+            Duration.of(3, WEEKS),
+            Duration.of(2, CENTURIES),
+            Duration.of(250, MILLIS),
+            Duration.ofZero(),
+            Duration.ofCalendarUnits(1, 2, 3)
+        };
+        for (Duration<?> dur : durations) {
+            for (TextWidth width : TextWidth.values()) {
+                buffer.setLength(0);
+                pt.print(dur, width, buffer);
+                assertThat(buffer.toString(), is(pt.print(dur, width)));
+                buffer.setLength(0);
+                pt.withWeeksToDays().withMinusSign("~").print(dur, width, buffer);
+                assertThat(buffer.toString(), is(pt.withWeeksToDays().withMinusSign("~").print(dur, width)));
+            }
+        }
+        buffer.setLength(0);
+        buffer.append("Dauer: ");
+        pt.print(Duration.of(-15, MINUTES), TextWidth.WIDE, buffer);
+        assertThat(buffer.toString(), is("Dauer: -15 Minuten"));
+    }
+
 }
\ No newline at end of file
@@ -320,6 +320,26 @@ public class CalendarWeekTest {
             is(CalendarWeek.of(2016, 4)));
     }
 
+    @Test
+    public void styledFormatWithAlternatingLocales() {
+        ChronoFormatter<CalendarWeek> fil =
+            ChronoFormatter.ofStyle(DisplayMode.MEDIUM, Locale.forLanguageTag("fil"), CalendarWeek.chronology());
+        ChronoFormatter<CalendarWeek> en =
+            ChronoFormatter.ofStyle(DisplayMode.MEDIUM, Locale.ENGLISH, CalendarWeek.chronology());
+        assertThat(
+            fil.format(CalendarWeek.of(2016, 1)),
+            is("ika-1 linggo ng 2016"));
+        assertThat(
+            en.format(CalendarWeek.of(2016, 1)),
+            is("week 1 of 2016"));
+        assertThat(
+            fil.format(CalendarWeek.of(2016, 1)),
+            is("ika-1 linggo ng 2016"));
+        assertThat(
+            fil.format(CalendarWeek.of(2016, 4)),
+            is("linggo 4 ng 2016"));
+    }
+
     @Test
     public void withLastWeekOfYear() {
         assertThat(
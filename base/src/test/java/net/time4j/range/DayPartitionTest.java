@@ -6,6 +6,8 @@ import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.Weekday;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.olson.EUROPE;
 import net.time4j.tz.olson.PACIFIC;
 import org.junit.Test;
@@ -13,6 +15,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +23,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static net.time4j.Weekday.*;
+import static net.time4j.tz.OffsetSign.AHEAD_OF_UTC;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -403,4 +407,67 @@ public class DayPartitionTest {
         //        Event: 3 => 2:00
     }
 
+    @Test
+    public void compiledRule() {
+        DayPartitionRule rule = createComplexRule();
+        DateInterval range = DateInterval.between(PlainDate.of(2016, 1, 1), PlainDate.of(2017, 12, 31));
+        DayPartitionRule compiled = rule.compile(range);
+        DateInterval test = DateInterval.between(PlainDate.of(2015, 12, 1), PlainDate.of(2018, 1, 31));
+
+        assertThat(
+            test.streamPartitioned(compiled).collect(Collectors.toList()),
+            is(test.streamPartitioned(rule).collect(Collectors.toList())));
+        test.streamDaily().forEach(
+            date -> assertThat(compiled.isExcluded(date), is(rule.isExcluded(date))));
+    }
+
+    @Test
+    public void forEachPartitionInTimezone() {
+        DayPartitionRule rule =
+            new DayPartitionBuilder()
+                .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(1, 10), PlainTime.of(2, 20)))
+                .addWeekdayRule(SUNDAY, ClockInterval.between(PlainTime.of(2, 30), PlainTime.of(3, 15)))
+                .addWeekdayRule(SATURDAY, ClockInterval.between(PlainTime.of(10, 0), PlainTime.of(12, 0)))
+                .addDailyRule(ClockInterval.between(PlainTime.of(22, 0), PlainTime.of(24)))
+                .build();
+        DateInterval range = DateInterval.between(PlainDate.of(2011, 1, 1), PlainDate.of(2016, 12, 31));
+        DayPartitionRule compiled = rule.compile(range);
+
+        for (TZID tzid : Arrays.asList(EUROPE.BERLIN, PACIFIC.APIA, ZonalOffset.UTC, ZonalOffset.ofHours(AHEAD_OF_UTC, 5))) {
+            List<Long> expected = new ArrayList<>();
+            range.streamPartitioned(rule, tzid).forEach(
+                interval -> {
+                    expected.add(interval.getStartAsMoment().getPosixTime() * 1000);
+                    expected.add(interval.getEndAsMoment().getPosixTime() * 1000);
+                });
+            List<Long> actual = new ArrayList<>();
+            range.forEachPartition(
+                compiled,
+                tzid,
+                (start, end) -> {
+                    actual.add(start);
+                    actual.add(end);
+                });
+            assertThat(actual, is(expected));
+        }
+    }
+
+    private static DayPartitionRule createComplexRule() {
+        return new DayPartitionBuilder((date) -> !date.equals(PlainDate.of(2016, 9, 2)))
+            .addExclusion(Collections.singleton(PlainDate.of(2016, 8, 27)))
+            .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+            .addWeekdayRule(MONDAY, ClockInterval.between(PlainTime.of(14, 0), PlainTime.of(16, 0)))
+            .addWeekdayRule(TUESDAY, ClockInterval.between(PlainTime.of(9, 0), PlainTime.of(12, 30)))
+            .addWeekdayRule(THURSDAY, ClockInterval.between(PlainTime.of(14, 0), PlainTime.of(19, 0)))
+            .addWeekdayRule(SATURDAY, ClockInterval.between(PlainTime.of(10, 0), PlainTime.of(12, 0)))
+            .addSpecialRule(
+                PlainDate.of(2016, 9, 6),
+                ClockInterval.between(PlainTime.of(9, 15), PlainTime.of(12, 45)))
+            .addSpecialRule(
+                PlainDate.of(2017, 12, 24),
+                ClockInterval.between(PlainTime.of(8, 0), PlainTime.of(11, 0)))
+            .build();
+    }
+
 }
@@ -36,6 +36,18 @@ public class HolidayTest {
             is(PlainDate.of(2017, 5, 2)));
     }
 
+    @Test
+    public void ofWeekendAfterEviction() {
+        Locale israel = new Locale("", "IL");
+        HolidayModel hm = HolidayModel.ofWeekend(israel);
+        for (int i = 0; i < 200; i++) {
+            HolidayModel.ofWeekend(new Locale("", "X" + i));
+        }
+        assertThat(hm.test(PlainDate.of(2019, 3, 15)), is(true)); // Friday
+        assertThat(hm.test(PlainDate.of(2019, 3, 17)), is(false)); // Sunday
+        assertThat(HolidayModel.ofWeekend(israel).test(PlainDate.of(2019, 3, 16)), is(true)); // Saturday
+    }
+
     @Test
     public void nextBusinessDay() {
         HolidayModel hm = HolidayModel.ofSaturdayOrSunday();
@@ -262,6 +274,123 @@ public class HolidayTest {
         assertThat(start.until(end.plus(8, ClockUnit.HOURS), hm.businessDays()), is(3L));
     }
 
+    @Test
+    public void compiledBusinessDays() {
+        HolidayModel hm =
+            date -> {
+                if (date.equals(PlainDate.of(2017, 6, 10))) {
+                    return false; // working saturday
+                }
+                return HolidayModel.ofSaturdayOrSunday().test(date)
+                    || date.equals(PlainDate.of(2017, 5, 1))
+                    || date.equals(PlainDate.of(2017, 12, 25))
+                    || date.equals(PlainDate.of(2017, 12, 26));
+            };
+        HolidayModel compiled = hm.compile(DateInterval.between(PlainDate.of(2017, 3, 1), PlainDate.of(2018, 2, 28)));
+
+        PlainDate first = PlainDate.of(2017, 1, 1);
+        for (int i = 0; i < 430; i += 3) {
+            PlainDate start = first.plus(i, CalendarUnit.DAYS);
+            assertThat(compiled.test(start), is(hm.test(start)));
+            for (int amount = -30; amount <= 300; amount += 11) {
+                assertThat(
+                    start.plus(amount, compiled.businessDays()),
+                    is(start.plus(amount, hm.businessDays())));
+            }
+            for (int j = -40; j <= 400; j += 13) {
+                PlainDate end = start.plus(j, CalendarUnit.DAYS);
+                assertThat(
+                    start.until(end, compiled.businessDays()),
+                    is(start.until(end, hm.businessDays())));
+                if (j >= 0) {
+                    DateInterval interval = DateInterval.between(start, end);
+                    assertThat(
+                        interval.get(compiled.countOfBusinessDays()),
+                        is(interval.get(hm.countOfBusinessDays())));
+                    assertThat(
+                        interval.get(compiled.countOfHolidays()),
+                        is(interval.get(hm.countOfHolidays())));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void compiledTwoHundredFiftyBusinessDays() {
+        HolidayModel hm = HolidayModel.ofSaturdayOrSunday().compile(CalendarYear.of(2017));
+        assertThat(PlainDate.of(2017, 1, 2).plus(250, hm.businessDays()), is(PlainDate.of(2017, 12, 18)));
+        assertThat(PlainDate.of(2017, 1, 2).until(PlainDate.of(2017, 12, 18), hm.businessDays()), is(250L));
+    }
+
+    @Test(expected=ChronoException.class)
+    public void compileInfinite() {
+        HolidayModel.ofSaturdayOrSunday().compile(DateInterval.since(PlainDate.of(2017, 1, 1)));
+    }
+
+    @Test
+    public void bitSetModel() {
+        DateInterval range = DateInterval.between(PlainDate.of(2017, 1, 1), PlainDate.of(2018, 12, 31));
+        HolidayModel weekend = HolidayModel.ofWeekend(Locale.GERMANY);
+        HolidayModel special =
+            date -> date.equals(PlainDate.of(2017, 5, 1)) || date.equals(PlainDate.of(2017, 5, 6));
+        BitSetHolidayModel b1 = BitSetHolidayModel.of(weekend, range);
+        BitSetHolidayModel b2 = BitSetHolidayModel.of(special, range);
+        BitSetHolidayModel union = b1.or(b2);
+        BitSetHolidayModel intersection = b1.and(b2);
+
+        assertThat(b1.getRange(), is(range));
+        for (int i = -10; i < 750; i++) {
+            PlainDate date = PlainDate.of(2017, 1, 1).plus(i, CalendarUnit.DAYS);
+            assertThat(b1.test(date), is(weekend.test(date)));
+            assertThat(b2.test(date), is(special.test(date)));
+            assertThat(union.test(date), is(weekend.test(date) || special.test(date)));
+            assertThat(intersection.test(date), is(weekend.test(date) && special.test(date)));
+        }
+        assertThat(
+            PlainDate.of(2017, 4, 28).with(union.nextBusinessDay()),
+            is(PlainDate.of(2017, 5, 2)));
+    }
+
+    @Test
+    public void bitSetModelWithDifferentRanges() {
+        BitSetHolidayModel b1 =
+            BitSetHolidayModel.of(
+                HolidayModel.ofSaturdayOrSunday(),
+                DateInterval.between(PlainDate.of(2017, 1, 1), PlainDate.of(2017, 12, 31)));
+        BitSetHolidayModel b2 =
+            BitSetHolidayModel.of(
+                date -> date.getDayOfMonth() == 1,
+                DateInterval.between(PlainDate.of(2017, 7, 1), PlainDate.of(2018, 6, 30)));
+        BitSetHolidayModel union = b1.or(b2);
+        assertThat(
+            union.getRange(),
+            is(DateInterval.between(PlainDate.of(2017, 7, 1), PlainDate.of(2017, 12, 31))));
+        for (int i = 0; i < 730; i++) {
+            PlainDate date = PlainDate.of(2017, 1, 1).plus(i, CalendarUnit.DAYS);
+            assertThat(
+                union.test(date),
+                is(HolidayModel.ofSaturdayOrSunday().test(date) || date.getDayOfMonth() == 1));
+        }
+    }
+
+    @Test(expected=ChronoException.class)
+    public void bitSetModelWithoutOverlap() {
+        BitSetHolidayModel b1 =
+            BitSetHolidayModel.of(HolidayModel.ofSaturdayOrSunday(), CalendarYear.of(2017));
+        BitSetHolidayModel b2 =
+            BitSetHolidayModel.of(HolidayModel.ofSaturdayOrSunday(), CalendarYear.of(2019));
+        b1.and(b2);
+    }
+
+    @Test
+    public void ofWeekendCached() {
+        HolidayModel hm = HolidayModel.ofWeekend(new Locale("ar", "SA"));
+        assertThat(hm == HolidayModel.ofWeekend(new Locale("ar", "SA")), is(true));
+        assertThat(hm.test(PlainDate.of(2017, 4, 28)), is(true)); // friday
+        assertThat(hm.test(PlainDate.of(2017, 4, 29)), is(true)); // saturday
+        assertThat(hm.test(PlainDate.of(2017, 4, 30)), is(false)); // sunday
+    }
+
     @Test
     public void isBusinessDay() {
         HolidayModel hm = HolidayModel.ofSaturdayOrSunday();
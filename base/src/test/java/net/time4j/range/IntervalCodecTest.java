@@ -0,0 +1,103 @@
+package net.time4j.range;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.engine.Temporal;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalCodecTest {
+
+    @Test
+    public void dateInterval() {
+        roundTrip(IntervalCodec.DATE_INTERVAL, DateInterval.between(PlainDate.of(2019, 1, 1), PlainDate.of(2019, 3, 17)));
+        roundTrip(IntervalCodec.DATE_INTERVAL, DateInterval.since(PlainDate.of(2019, 1, 1)));
+        roundTrip(IntervalCodec.DATE_INTERVAL, DateInterval.until(PlainDate.of(2019, 1, 1)));
+        roundTrip(
+            IntervalCodec.DATE_INTERVAL,
+            DateInterval.between(PlainDate.of(2019, 1, 1), PlainDate.of(2019, 3, 17)).withOpenEnd());
+    }
+
+    @Test
+    public void clockInterval() {
+        roundTrip(IntervalCodec.CLOCK_INTERVAL, ClockInterval.between(PlainTime.of(8, 30), PlainTime.of(24)));
+        roundTrip(IntervalCodec.CLOCK_INTERVAL, ClockInterval.between(PlainTime.of(0), PlainTime.of(0)));
+    }
+
+    @Test
+    public void timestampInterval() {
+        roundTrip(
+            IntervalCodec.TIMESTAMP_INTERVAL,
+            TimestampInterval.between(
+                PlainTimestamp.of(2019, 3, 17, 10, 0),
+                PlainTimestamp.of(2019, 3, 18, 0, 0, 1).plus(3, ClockUnit.NANOS)));
+        roundTrip(IntervalCodec.TIMESTAMP_INTERVAL, TimestampInterval.since(PlainTimestamp.of(2019, 3, 17, 10, 0)));
+    }
+
+    @Test
+    public void momentInterval() {
+        Moment start = Moment.of(1483228799L, TimeScale.POSIX);
+        roundTrip(IntervalCodec.MOMENT_INTERVAL, MomentInterval.between(start, start.plus(2, SI.SECONDS)));
+        roundTrip(IntervalCodec.MOMENT_INTERVAL, MomentInterval.until(start));
+    }
+
+    @Test
+    public void intervalArrayInDirectBuffer() {
+        DateInterval[] intervals = {
+            DateInterval.between(PlainDate.of(2019, 1, 1), PlainDate.of(2019, 1, 31)),
+            DateInterval.since(PlainDate.of(2019, 2, 1))
+        };
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        IntervalCodec.DATE_INTERVAL.encodeArray(intervals, buffer);
+        buffer.flip();
+        DateInterval[] copy = IntervalCodec.DATE_INTERVAL.decodeArray(buffer);
+        assertThat(copy.length, is(2));
+        assertThat(copy[0], is(intervals[0]));
+        assertThat(copy[1], is(intervals[1]));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void startAfterEnd() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) 32).put((byte) 1).put((byte) 0);
+        buffer.put((byte) 2); // 1970-01-02
+        buffer.put((byte) 0); // 1970-01-01
+        buffer.flip();
+        IntervalCodec.DATE_INTERVAL.decode(buffer);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void truncatedInterval() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) 32).put((byte) 1).put((byte) 0);
+        buffer.put((byte) 0); // 1970-01-01 ohne Ende
+        buffer.flip();
+        IntervalCodec.DATE_INTERVAL.decode(buffer);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidFlags() {
+        IntervalCodec.DATE_INTERVAL.decode(new byte[] {32, 1, 3});
+    }
+
+    private static <T extends Temporal<? super T>, I extends IsoInterval<T, I>> void roundTrip(
+        IntervalCodec<T, I> codec,
+        I interval
+    ) {
+        assertThat(codec.decode(codec.encode(interval)), is(interval));
+    }
+
+}
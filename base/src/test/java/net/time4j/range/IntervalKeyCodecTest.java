@@ -0,0 +1,126 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.SI;
+import net.time4j.engine.Temporal;
+import net.time4j.scale.TimeScale;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalKeyCodecTest {
+
+    @Test
+    public void dateIntervalOrder() {
+        PlainDate d1 = PlainDate.of(2019, 1, 1);
+        PlainDate d2 = PlainDate.of(2019, 1, 31);
+        PlainDate d3 = PlainDate.of(2019, 3, 17);
+        List<DateInterval> intervals =
+            Arrays.asList(
+                DateInterval.ALWAYS,
+                DateInterval.until(d1),
+                DateInterval.until(d2),
+                DateInterval.since(d1),
+                DateInterval.between(d1, d2),
+                DateInterval.between(d1, d3),
+                DateInterval.between(d1, d3).withOpenEnd(),
+                DateInterval.between(d2, d3),
+                DateInterval.atomic(d3),
+                DateInterval.since(d3),
+                DateInterval.between(PlainDate.axis().getMinimum(), d1),
+                DateInterval.since(PlainDate.axis().getMaximum()));
+        assertOrder(IntervalKeyCodec.DATE_INTERVAL, DateInterval.comparator(), intervals);
+    }
+
+    @Test
+    public void momentIntervalOrder() {
+        Moment m1 = Moment.of(1483228799L, TimeScale.POSIX);
+        Moment ls = m1.plus(1, SI.SECONDS);
+        Moment m2 = Moment.of(1483228800L, TimeScale.POSIX);
+        List<MomentInterval> intervals =
+            Arrays.asList(
+                MomentInterval.between(m1, ls),
+                MomentInterval.between(m1, m2),
+                MomentInterval.between(ls, m2),
+                MomentInterval.since(ls),
+                MomentInterval.until(m1),
+                MomentInterval.between(m1, ls).withClosedEnd(),
+                MomentInterval.between(m1, ls).withOpenStart().withClosedEnd());
+        assertOrder(IntervalKeyCodec.MOMENT_INTERVAL, MomentInterval.comparator(), intervals);
+    }
+
+    @Test
+    public void clockIntervalOrder() {
+        List<ClockInterval> intervals =
+            Arrays.asList(
+                ClockInterval.between(PlainTime.of(0), PlainTime.of(24)),
+                ClockInterval.between(PlainTime.of(8), PlainTime.of(12)),
+                ClockInterval.between(PlainTime.of(8), PlainTime.of(8)),
+                ClockInterval.between(PlainTime.of(12), PlainTime.of(24)));
+        assertOrder(IntervalKeyCodec.CLOCK_INTERVAL, ClockInterval.comparator(), intervals);
+    }
+
+    @Test
+    public void equivalentBoundariesYieldEqualKeys() {
+        PlainDate d1 = PlainDate.of(2019, 1, 1);
+        PlainDate d2 = PlainDate.of(2019, 1, 31);
+        byte[] closed = IntervalKeyCodec.DATE_INTERVAL.encode(DateInterval.between(d1, d2));
+        byte[] open = IntervalKeyCodec.DATE_INTERVAL.encode(DateInterval.between(d1, d2.plus(1, CalendarUnit.DAYS)).withOpenEnd());
+        assertThat(Arrays.equals(closed, open), is(true));
+    }
+
+    @Test
+    public void infiniteBoundaries() {
+        byte[] key = IntervalKeyCodec.DATE_INTERVAL.encode(DateInterval.ALWAYS);
+        assertThat(key.length, is(16));
+        for (int i = 0; i < 8; i++) {
+            assertThat(key[i], is((byte) 0));
+            assertThat(key[i + 8], is((byte) 0xFF));
+        }
+    }
+
+    @Test
+    public void encodeIntoBuffer() {
+        DateInterval interval = DateInterval.between(PlainDate.of(2019, 1, 1), PlainDate.of(2019, 1, 31));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        IntervalKeyCodec.DATE_INTERVAL.encode(interval, buffer);
+        IntervalKeyCodec.DATE_INTERVAL.encode(DateInterval.ALWAYS, buffer);
+        buffer.flip();
+        byte[] actual = new byte[32];
+        buffer.get(actual);
+        byte[] expected = new byte[32];
+        IntervalKeyCodec.DATE_INTERVAL.encode(interval, expected, 0);
+        IntervalKeyCodec.DATE_INTERVAL.encode(DateInterval.ALWAYS, expected, 16);
+        assertThat(Arrays.equals(actual, expected), is(true));
+    }
+
+    private static <T extends Temporal<? super T>, I extends IsoInterval<T, I>> void assertOrder(
+        IntervalKeyCodec<T, I> codec,
+        Comparator<ChronoInterval<T>> comparator,
+        List<I> intervals
+    ) {
+        for (I i1 : intervals) {
+            byte[] k1 = codec.encode(i1);
+            for (I i2 : intervals) {
+                byte[] k2 = codec.encode(i2);
+                int expected = Integer.signum(comparator.compare(i1, i2));
+                int actual = Integer.signum(codec.compare(k1, 0, k2, 0));
+                assertThat(i1 + " vs " + i2, actual, is(expected));
+            }
+        }
+    }
+
+}
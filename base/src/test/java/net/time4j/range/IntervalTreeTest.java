@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -13,7 +14,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -290,6 +294,106 @@ public class IntervalTreeTest {
         assertThat(coll1.equals(Arrays.asList(i1, i2, i3)), is(true));
     }
 
+    @Test
+    public void findIntersectionsInBatch() {
+        DateInterval i1 =
+            DateInterval.between(
+                PlainDate.of(2014, 2, 28),
+                PlainDate.of(2014, 5, 31));
+        DateInterval i2 =
+            DateInterval.between(
+                PlainDate.of(2014, 5, 31),
+                PlainDate.of(2014, 6, 1));
+        DateInterval i3 =
+            DateInterval.between(
+                PlainDate.of(2014, 6, 15),
+                PlainDate.of(2014, 6, 30)).withOpenEnd();
+        DateInterval i4 = DateInterval.since(PlainDate.of(2014, 6, 20));
+
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Arrays.asList(i4, i3, i1, i2));
+        List<PlainDate> dates =
+            Arrays.asList(
+                PlainDate.of(2014, 1, 1),
+                PlainDate.of(2014, 5, 31),
+                PlainDate.of(2014, 5, 31),
+                PlainDate.of(2014, 6, 10),
+                PlainDate.of(2014, 6, 29),
+                PlainDate.of(2014, 6, 30));
+        List<String> result = new ArrayList<>();
+        tree.findIntersections(dates, (date, interval) -> result.add(date + "=" + interval));
+
+        assertThat(
+            result,
+            is(Arrays.asList(
+                "2014-05-31=" + i1,
+                "2014-05-31=" + i2,
+                "2014-05-31=" + i1,
+                "2014-05-31=" + i2,
+                "2014-06-29=" + i3,
+                "2014-06-29=" + i4,
+                "2014-06-30=" + i4)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void findIntersectionsInBatchUnsorted() {
+        DateInterval i1 =
+            DateInterval.between(
+                PlainDate.of(2014, 2, 28),
+                PlainDate.of(2014, 5, 31));
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Collections.singletonList(i1));
+        tree.findIntersections(
+            Arrays.asList(PlainDate.of(2014, 3, 1), PlainDate.of(2014, 2, 28)),
+            (date, interval) -> {});
+    }
+
+    @Test
+    public void findIntersectionsInParallel() {
+        List<DateInterval> intervals = new ArrayList<>();
+        PlainDate start = PlainDate.of(2014, 1, 1);
+        for (int i = 0; i < 500; i++) {
+            PlainDate d = start.plus(i * 7, CalendarUnit.DAYS);
+            intervals.add(DateInterval.between(d, d.plus(i % 20, CalendarUnit.DAYS)));
+        }
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(intervals);
+
+        List<PlainDate> dates = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            dates.add(start.plus(i, CalendarUnit.DAYS));
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (PlainDate date : dates) {
+            for (DateInterval interval : tree.findIntersections(date)) {
+                expected.add(date + "=" + interval);
+            }
+        }
+
+        List<String> sequential = new ArrayList<>();
+        tree.findIntersections(dates, (date, interval) -> sequential.add(date + "=" + interval));
+        assertThat(sequential, is(expected));
+
+        List<String> parallel = Collections.synchronizedList(new ArrayList<>());
+        tree.findIntersectionsInParallel(
+            dates,
+            (date, interval) -> parallel.add(date + "=" + interval),
+            new ForkJoinPool(4));
+        Map<String, List<String>> byDate = new HashMap<>();
+        for (String entry : parallel) { // every date belongs to one chunk only
+            byDate.computeIfAbsent(entry.substring(0, entry.indexOf('=')), k -> new ArrayList<>()).add(entry);
+        }
+        for (PlainDate date : dates) {
+            List<String> ordered = new ArrayList<>();
+            for (DateInterval interval : tree.findIntersections(date)) {
+                ordered.add(date + "=" + interval);
+            }
+            assertThat(byDate.getOrDefault(date.toString(), Collections.emptyList()), is(ordered));
+        }
+        List<String> copy = new ArrayList<>(parallel);
+        Collections.sort(copy);
+        Collections.sort(expected);
+        assertThat(copy, is(expected));
+    }
+
     @Test
     public void isEmpty() {
         IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Arrays.asList());
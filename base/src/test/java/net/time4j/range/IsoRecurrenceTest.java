@@ -3,6 +3,7 @@ package net.time4j.range;
 import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Duration;
+import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.tz.OffsetSign;
@@ -14,6 +15,7 @@ import org.junit.runners.JUnit4;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -416,4 +418,157 @@ public class IsoRecurrenceTest {
         assertThat(recurrence.intervalStream().parallel().collect(Collectors.toList()), is(expected));
     }
 
+    @Test
+    public void getByIndex() {
+        List<IsoRecurrence<?>> recurrences = new ArrayList<>();
+        recurrences.add(IsoRecurrence.of(20, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(IsoRecurrence.of(20, PlainDate.of(2016, 7, 31), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(IsoRecurrence.of(20, Duration.ofCalendarUnits(1, 2, 3), PlainDate.of(2016, 7, 15)));
+        recurrences.add(
+            IsoRecurrence.of(
+                20,
+                PlainTimestamp.of(2016, 7, 1, 10, 15, 59),
+                Duration.ofPositive().days(4).hours(12).millis(500).build()));
+        recurrences.add(
+            IsoRecurrence.of(
+                20,
+                Duration.ofPositive().years(1).months(2).build(),
+                PlainTimestamp.of(2016, 7, 1, 10, 15, 59)));
+        recurrences.add(
+            IsoRecurrence.of(
+                20,
+                PlainTimestamp.of(2016, 7, 1, 10, 15, 59).atUTC(),
+                Duration.ofClockUnits(25, 0, 0),
+                ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2)));
+        for (IsoRecurrence<?> recurrence : recurrences) {
+            int index = 0;
+            for (Object interval : recurrence) {
+                assertThat(recurrence.get(index), is(interval));
+                index++;
+            }
+            assertThat(recurrence.intervalStream().collect(Collectors.toList()), is(toList(recurrence)));
+        }
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getByIndexOutOfRange() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS)).get(4);
+    }
+
+    @Test
+    public void getByIndexInfinite() {
+        IsoRecurrence<TimestampInterval> recurrence =
+            IsoRecurrence.of(0, PlainTimestamp.of(2016, 7, 1, 0, 0), Duration.of(1, CalendarUnit.WEEKS))
+                .withInfiniteCount();
+        assertThat(
+            recurrence.get(1_000_000).getStartAsTimestamp(),
+            is(PlainTimestamp.of(2016, 7, 1, 0, 0).plus(7_000_000, CalendarUnit.DAYS)));
+    }
+
+    @Test
+    public void occurrenceAt() {
+        IsoRecurrence<DateInterval> monthly =
+            IsoRecurrence.of(0, PlainDate.of(2016, 7, 15), Duration.of(1, CalendarUnit.MONTHS)).withInfiniteCount();
+        assertThat(
+            monthly.occurrenceAt(PlainDate.of(2116, 3, 14)),
+            is(Optional.of(DateInterval.between(PlainDate.of(2116, 2, 15), PlainDate.of(2116, 3, 14)))));
+        assertThat(monthly.occurrenceAt(PlainDate.of(2016, 7, 14)), is(Optional.empty()));
+
+        IsoRecurrence<DateInterval> backwards =
+            IsoRecurrence.of(10, Duration.of(10, CalendarUnit.DAYS), PlainDate.of(2016, 7, 31));
+        assertThat(
+            backwards.occurrenceAt(PlainDate.of(2016, 7, 10)),
+            is(Optional.of(DateInterval.between(PlainDate.of(2016, 7, 2), PlainDate.of(2016, 7, 11)))));
+        assertThat(backwards.occurrenceAt(PlainDate.of(2016, 8, 1)), is(Optional.empty()));
+        assertThat(backwards.occurrenceAt(PlainDate.of(2016, 4, 22)), is(Optional.empty()));
+
+        IsoRecurrence<DateInterval> irregular =
+            IsoRecurrence.of(10, PlainDate.of(2016, 1, 31), Duration.of(1, CalendarUnit.MONTHS));
+        assertThat(irregular.occurrenceAt(PlainDate.of(2016, 3, 30)), is(Optional.of(irregular.get(2))));
+
+        IsoRecurrence<MomentInterval> hourly =
+            IsoRecurrence.of(
+                100,
+                PlainTimestamp.of(2016, 7, 1, 0, 0).atUTC(),
+                Duration.of(1, ClockUnit.HOURS),
+                ZonalOffset.UTC);
+        Moment m = PlainTimestamp.of(2016, 7, 3, 5, 30).atUTC();
+        assertThat(hourly.occurrenceAt(m).get().getStart().getTemporal(), is(PlainTimestamp.of(2016, 7, 3, 5, 0).atUTC()));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void occurrenceAtWithWrongType() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS))
+            .occurrenceAt(PlainTimestamp.of(2016, 7, 1, 0, 0));
+    }
+
+    @Test
+    public void occurrenceAtNearEndOfRange() {
+        IsoRecurrence<DateInterval> daily =
+            IsoRecurrence.of(0, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.DAYS)).withInfiniteCount();
+        PlainDate max = PlainDate.axis().getMaximum();
+        PlainDate last = max.minus(1, CalendarUnit.DAYS);
+        assertThat(daily.occurrenceAt(last), is(Optional.of(DateInterval.between(last, last))));
+        assertThat(daily.occurrenceAt(max), is(Optional.empty()));
+        assertThat(daily.stream(last, max).count(), is(1L));
+
+        IsoRecurrence<DateInterval> yearly =
+            IsoRecurrence.of(0, Duration.of(1, CalendarUnit.YEARS), PlainDate.of(2016, 1, 1)).withInfiniteCount();
+        PlainDate min = PlainDate.axis().getMinimum();
+        assertThat(
+            yearly.occurrenceAt(min.plus(1, CalendarUnit.YEARS)),
+            is(Optional.of(DateInterval.between(PlainDate.of(-999_999_999, 1, 2), PlainDate.of(-999_999_998, 1, 1)))));
+        assertThat(yearly.occurrenceAt(min), is(Optional.empty()));
+    }
+
+    @Test
+    public void occurrenceAtWithFractionalSeconds() {
+        IsoRecurrence<MomentInterval> recurrence =
+            IsoRecurrence.of(
+                0,
+                PlainTimestamp.of(2016, 7, 1, 0, 0).atUTC(),
+                Duration.of(500, ClockUnit.MILLIS),
+                ZonalOffset.UTC
+            ).withInfiniteCount();
+        PlainTimestamp tsp = PlainTimestamp.of(2516, 7, 1, 0, 0, 1);
+        assertThat(
+            recurrence.occurrenceAt(tsp.plus(700, ClockUnit.MILLIS).atUTC()).get().getStart().getTemporal(),
+            is(tsp.plus(500, ClockUnit.MILLIS).atUTC()));
+    }
+
+    @Test
+    public void streamWindow() {
+        List<IsoRecurrence<DateInterval>> recurrences = new ArrayList<>();
+        recurrences.add(IsoRecurrence.of(50, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.WEEKS)));
+        recurrences.add(IsoRecurrence.of(50, PlainDate.of(2016, 7, 31), Duration.of(1, CalendarUnit.MONTHS)));
+        recurrences.add(IsoRecurrence.of(50, Duration.of(1, CalendarUnit.WEEKS), PlainDate.of(2017, 3, 1)));
+        PlainDate from = PlainDate.of(2016, 9, 10);
+        PlainDate to = PlainDate.of(2016, 12, 24);
+        DateInterval window = DateInterval.between(from, to);
+        for (IsoRecurrence<DateInterval> recurrence : recurrences) {
+            List<DateInterval> expected =
+                toList(recurrence).stream().filter(i -> i.intersects(window)).collect(Collectors.toList());
+            assertThat(recurrence.stream(from, to).collect(Collectors.toList()), is(expected));
+            assertThat(recurrence.stream(from, to).parallel().collect(Collectors.toList()), is(expected));
+        }
+        IsoRecurrence<DateInterval> daily =
+            IsoRecurrence.of(0, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.DAYS)).withInfiniteCount();
+        assertThat(daily.stream(PlainDate.of(2216, 7, 1), PlainDate.of(2216, 7, 31)).count(), is(31L));
+        assertThat(daily.stream(PlainDate.of(2015, 7, 1), PlainDate.of(2015, 7, 31)).count(), is(0L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void streamWindowWithInvertedBounds() {
+        IsoRecurrence.of(4, PlainDate.of(2016, 7, 1), Duration.of(1, CalendarUnit.MONTHS))
+            .stream(PlainDate.of(2016, 8, 1), PlainDate.of(2016, 7, 1));
+    }
+
+    private static <I> List<I> toList(IsoRecurrence<I> recurrence) {
+        List<I> result = new ArrayList<>();
+        for (I interval : recurrence) {
+            result.add(interval);
+        }
+        return result;
+    }
+
 }
@@ -24,7 +24,9 @@ import org.junit.runners.Suite.SuiteClasses;
         DateIntervalFormatTest.class,
         DayPartitionTest.class,
         HolidayTest.class,
+        IntervalCodecTest.class,
         IntervalCollectionTest.class,
+        IntervalKeyCodecTest.class,
         IntervalTreeTest.class,
         IsoRecurrenceTest.class,
         MomentIntervalFormatTest.class,
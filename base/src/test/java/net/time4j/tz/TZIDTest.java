@@ -1,6 +1,8 @@
 package net.time4j.tz;
 
 import net.time4j.PlainTimestamp;
+import net.time4j.tz.olson.AMERICA;
+import net.time4j.tz.olson.EUROPE;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -52,4 +54,21 @@ public class TZIDTest {
             is(tzid));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void resolveFixedOffsets() {
+        assertThat(Timezone.of("UTC").getID(), is((TZID) ZonalOffset.UTC));
+        assertThat(Timezone.of("GMT0").getID(), is((TZID) ZonalOffset.UTC));
+        assertThat(Timezone.of("Z").getID(), is((TZID) ZonalOffset.UTC));
+        assertThat(
+            Timezone.of("UTC+02:00").getID(),
+            is((TZID) ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2)));
+    }
+
+    @Test
+    public void resolveOlsonEnums() {
+        assertThat(Timezone.of("Europe/Berlin").getID(), is((TZID) EUROPE.BERLIN));
+        assertThat(Timezone.of("America/Argentina/Buenos_Aires").getID(), is((TZID) AMERICA.ARGENTINA.BUENOS_AIRES));
+        assertThat(Timezone.normalize("Europe/Berlin"), is((TZID) EUROPE.BERLIN));
+    }
+
+}
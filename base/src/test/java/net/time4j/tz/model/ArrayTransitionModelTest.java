@@ -66,6 +66,15 @@ public class ArrayTransitionModelTest {
             is(false));
     }
 
+    @Test
+    public void getStartTransitionMaterializedOnce() {
+        UnixTime ut = new UT(365 * 86400L + 1);
+        ZonalTransition zt = MODEL.getStartTransition(ut);
+        assertThat(zt, is(SECOND));
+        assertThat(MODEL.getStartTransition(ut) == zt, is(true));
+        assertThat(MODEL.getStdTransitions().get(1), is(SECOND));
+    }
+
     @Test
     public void getStartTransition2() {
         assertThat(
@@ -355,6 +364,31 @@ public class ArrayTransitionModelTest {
         assertThat(MODEL.isEmpty(), is(false));
     }
 
+    @Test
+    public void equalsAndHashCode() {
+        TransitionHistory other = new ArrayTransitionModel(Arrays.asList(FIRST, SECOND, THIRD, FOURTH));
+        assertThat(MODEL.equals(other), is(true));
+        assertThat(MODEL.hashCode(), is(other.hashCode()));
+        assertThat(MODEL.hashCode(), is(Arrays.hashCode(new ZonalTransition[] {FIRST, SECOND, THIRD, FOURTH})));
+        TransitionHistory different =
+            new ArrayTransitionModel(
+                Arrays.asList(FIRST, SECOND, new ZonalTransition(730 * 86400L, 3600, -13 * 3600, -3600)));
+        assertThat(MODEL.equals(different), is(false));
+    }
+
+    @Test
+    public void materializedTransitions() {
+        assertThat(
+            MODEL.getTransitions(new UT(Long.MIN_VALUE / 2), new UT(Long.MAX_VALUE / 2)),
+            is(Arrays.asList(FIRST, SECOND, THIRD, FOURTH)));
+        assertThat(
+            MODEL.getStartTransition(new UT(730 * 86400L)).getExtraOffset(),
+            is(0));
+        assertThat(
+            MODEL.getStartTransition(new UT(730 * 86400L)).getRawOffset(),
+            is(-13 * 3600));
+    }
+
     // Hilfsklasse
     private static class UT implements UnixTime {
 
@@ -0,0 +1,159 @@
+package net.time4j.tz.model;
+
+import net.time4j.Moment;
+import net.time4j.Month;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.Weekday;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.threeten.JdkZoneProviderSPI;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompiledZoneRepositoryTest {
+
+    private static final ZonalTransition FIRST =
+        new ZonalTransition(-2_000_000_000L, 1800, 7200, 3600);
+    private static final ZonalTransition SECOND =
+        new ZonalTransition(365 * 86400L, 7200, 3600, 0);
+    private static final ZonalTransition THIRD =
+        new ZonalTransition(830 * 86400L + 17, 3600, -13 * 3600, 0);
+
+    @Test
+    public void roundTripOfStandardModels() throws IOException {
+        DaylightSavingRule spring =
+            GregorianTimezoneRule.ofLastWeekday(Month.MARCH, Weekday.SUNDAY, PlainTime.of(1), OffsetIndicator.UTC_TIME, 3600);
+        DaylightSavingRule autumn =
+            GregorianTimezoneRule.ofWeekdayAfterDate(Month.OCTOBER, 8, Weekday.SUNDAY, PlainTime.of(2), OffsetIndicator.WALL_TIME, 0);
+        DaylightSavingRule fixed =
+            GregorianTimezoneRule.ofFixedDay(Month.APRIL, 1, PlainTime.of(2, 30), OffsetIndicator.STANDARD_TIME, 1800);
+        Map<String, TransitionHistory> histories = new HashMap<>();
+        histories.put("Test/Empty", TransitionModel.of(ZonalOffset.ofTotalSeconds(-18000), Collections.emptyList()));
+        histories.put("Test/Array", TransitionModel.of(Arrays.asList(FIRST, SECOND, THIRD)));
+        histories.put("Test/Rules", TransitionModel.of(ZonalOffset.ofTotalSeconds(3600), Arrays.asList(spring, autumn)));
+        histories.put("Test/Fixed", TransitionModel.of(ZonalOffset.ofTotalSeconds(0), Arrays.asList(fixed, autumn)));
+        histories.put(
+            "Test/Composite",
+            TransitionModel.of(
+                ZonalOffset.ofTotalSeconds(1800),
+                Arrays.asList(FIRST, SECOND, new ZonalTransition(830 * 86400L, 3600, 7200, 3600)),
+                Arrays.asList(spring, autumn)));
+        Map<String, String> aliases = Collections.singletonMap("Test/Alias", "Test/Array");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledZoneRepository.compile("TEST", "2019a", "", histories, aliases, out);
+        CompiledZoneRepository repository = CompiledZoneRepository.of(ByteBuffer.wrap(out.toByteArray()));
+
+        assertThat(repository.getName(), is("TEST"));
+        assertThat(repository.getVersion(), is("2019a"));
+        assertThat(repository.getFallback(), is(""));
+        assertThat(repository.getLocation(), is("memory"));
+        assertThat(repository.getAliases(), is(aliases));
+        assertThat(repository.getAvailableIDs(), is(histories.keySet()));
+        assertThat(repository.load("Test/Unknown"), nullValue());
+
+        for (String id : histories.keySet()) {
+            assertThat(id, repository.load(id), is(histories.get(id)));
+        }
+    }
+
+    @Test
+    public void compileJdkProvider() throws IOException {
+        ZoneModelProvider original = new JdkZoneProviderSPI();
+        File file = File.createTempFile("time4j-tz", ".repository");
+        file.deleteOnExit();
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            CompiledZoneRepository.compile(original, "COMPILED-JDK", out);
+        }
+
+        CompiledZoneRepository repository = CompiledZoneRepository.open(file);
+        assertThat(repository.getName(), is("COMPILED-JDK"));
+        assertThat(repository.getVersion(), is(original.getVersion()));
+        assertThat(repository.getAvailableIDs(), is(original.getAvailableIDs()));
+
+        for (String id : Arrays.asList("Europe/Berlin", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe")) {
+            TransitionHistory expected = original.load(id);
+            TransitionHistory history = repository.load(id);
+            assertThat(history.getInitialOffset(), is(expected.getInitialOffset()));
+            for (int year = 1850; year <= 2100; year++) {
+                Moment m = PlainDate.of(year, 7, 1).atStartOfDay().atUTC();
+                assertThat(id, history.getStartTransition(m), is(expected.getStartTransition(m)));
+                assertThat(
+                    id,
+                    history.getValidOffsets(PlainDate.of(year, 1, 15), PlainTime.of(12)),
+                    is(expected.getValidOffsets(PlainDate.of(year, 1, 15), PlainTime.of(12))));
+            }
+            assertThat(repository.load(id) == history, is(true));
+        }
+    }
+
+    @Test
+    public void compileJdkProviderBeyond2100() throws IOException {
+        ZoneModelProvider original = new JdkZoneProviderSPI();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompiledZoneRepository.compile(original, "COMPILED-JDK-2100", out);
+        CompiledZoneRepository repository = CompiledZoneRepository.of(ByteBuffer.wrap(out.toByteArray()));
+
+        for (String id : Arrays.asList("Europe/Berlin", "America/New_York", "Australia/Lord_Howe")) {
+            TransitionHistory expected = original.load(id);
+            TransitionHistory history = repository.load(id);
+            for (int year = 2101; year <= 2400; year++) {
+                Moment summer = PlainDate.of(year, 7, 1).atStartOfDay().atUTC();
+                Moment winter = PlainDate.of(year, 1, 1).atStartOfDay().atUTC();
+                assertThat(id, history.getStartTransition(summer), is(expected.getStartTransition(summer)));
+                assertThat(id, history.getStartTransition(winter), is(expected.getStartTransition(winter)));
+            }
+        }
+    }
+
+    @Test
+    public void registerCompiledJdkProvider() throws IOException {
+        ZoneModelProvider original = new JdkZoneProviderSPI();
+        File file = File.createTempFile("time4j-tz", ".repository");
+        file.deleteOnExit();
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            CompiledZoneRepository.compile(original, "COMPILED-REGISTERED", out);
+        }
+
+        CompiledZoneRepository repository = CompiledZoneRepository.open(file);
+        assertThat(Timezone.registerProvider(repository), is(true));
+        Timezone tz = Timezone.of("COMPILED-REGISTERED~Europe/Berlin");
+        assertThat(tz.getID().canonical(), is("COMPILED-REGISTERED~Europe/Berlin"));
+        Moment summer = PlainDate.of(2019, 7, 1).atStartOfDay().atUTC();
+        Moment winter = PlainDate.of(2019, 1, 1).atStartOfDay().atUTC();
+        assertThat(tz.getOffset(summer), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 2)));
+        assertThat(tz.getOffset(winter), is(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 1)));
+        assertThat(tz.getHistory() == repository.load("Europe/Berlin"), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void compileWithoutName() throws IOException {
+        CompiledZoneRepository.compile(new JdkZoneProviderSPI(), "", new ByteArrayOutputStream());
+    }
+
+}
@@ -3,6 +3,8 @@ package net.time4j.tz.threeten;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.TransitionHistory;
@@ -14,7 +16,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
 
 import static net.time4j.ClockUnit.MINUTES;
 import static org.hamcrest.CoreMatchers.is;
@@ -235,4 +243,79 @@ public class JdkZoneProviderTest {
             is(0));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void sameRulesShareHistory() {
+        assertThat(
+            zp.load("Atlantic/Jan_Mayen"),
+            is(zp.load("Europe/Oslo")));
+        assertThat(
+            zp.load("Europe/Berlin") == zp.load("Europe/Berlin"),
+            is(true));
+    }
+
+    @Test
+    public void lazyHistoryEqualToFullConversion() {
+        for (String tzid : zp.getAvailableIDs()) {
+            ZoneRules zoneRules = ZoneId.of(tzid).getRules();
+            TransitionHistory lazy = zp.load(tzid);
+            TransitionHistory full =
+                JdkZoneProviderSPI.convert(
+                    JdkZoneProviderSPI.getInitialOffset(zoneRules),
+                    zoneRules,
+                    JdkZoneProviderSPI.convertRules(zoneRules));
+            assertThat(lazy.getInitialOffset(), is(full.getInitialOffset()));
+            for (int year = 1850; year <= 2050; year++) {
+                for (int month = 1; month <= 12; month += 3) {
+                    PlainDate date = PlainDate.of(year, month, 1);
+                    PlainTime time = PlainTime.of(2, 30);
+                    Moment m = date.atStartOfDay().atUTC();
+                    assertThat(tzid, lazy.getStartTransition(m), is(full.getStartTransition(m)));
+                    assertThat(tzid, lazy.findNextTransition(m), is(full.findNextTransition(m)));
+                    assertThat(tzid, lazy.getValidOffsets(date, time), is(full.getValidOffsets(date, time)));
+                    assertThat(
+                        tzid,
+                        lazy.getConflictTransition(date, time),
+                        is(full.getConflictTransition(date, time)));
+                }
+            }
+            Moment start = Moment.of(-2_000_000_000L, TimeScale.POSIX);
+            Moment end = Moment.of(3_000_000_000L, TimeScale.POSIX);
+            for (ZonalTransition zt : full.getTransitions(start, end)) {
+                for (long delta = -1; delta <= 1; delta++) {
+                    Moment m = Moment.of(zt.getPosixTime() + delta, TimeScale.POSIX);
+                    assertThat(tzid, lazy.getStartTransition(m), is(full.getStartTransition(m)));
+                    PlainTimestamp tsp = m.toZonalTimestamp(ZonalOffset.ofTotalSeconds(zt.getPreviousOffset()));
+                    assertThat(
+                        tzid,
+                        lazy.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime()),
+                        is(full.getValidOffsets(tsp.getCalendarDate(), tsp.getWallTime())));
+                    assertThat(
+                        tzid,
+                        lazy.getConflictTransition(tsp.getCalendarDate(), tsp.getWallTime()),
+                        is(full.getConflictTransition(tsp.getCalendarDate(), tsp.getWallTime())));
+                }
+            }
+            assertThat(tzid, lazy.getStdTransitions(), is(full.getStdTransitions()));
+        }
+    }
+
+    @Test
+    public void serializeLazyHistory() throws IOException, ClassNotFoundException {
+        TransitionHistory history = zp.load("America/New_York");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(history);
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        Object ser = ois.readObject();
+        ois.close();
+        assertThat(ser, is(history));
+    }
+
+    @Test
+    public void preloadAll() {
+        JdkZoneProviderSPI.preloadAll(true);
+        assertThat(zp.load("Europe/Berlin").getStdTransitions().isEmpty(), is(false));
+    }
+
+}
@@ -63,7 +63,7 @@ public abstract class JDBCAdapter<S, T>
     
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final boolean WITH_SQL_UTC_CONVERSION =
+    static final boolean WITH_SQL_UTC_CONVERSION =
         Boolean.getBoolean("net.time4j.sql.utc.conversion");
     private static final PlainDate UNIX_DATE = PlainDate.of(0, EpochDays.UNIX);
 
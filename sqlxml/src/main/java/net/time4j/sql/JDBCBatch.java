@@ -0,0 +1,681 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2015-2019 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (JDBCBatch.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.sql;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalType;
+import net.time4j.base.MathUtils;
+import net.time4j.base.UnixTime;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>Reads and writes whole columns of temporal values via JDBC. </p>
+ *
+ * <p>The conversions yield the same results as the single-value adapters in {@link JDBCAdapter}
+ * but avoid their per-row overhead: </p>
+ *
+ * <ul>
+ *     <li>If the JDBC-driver supports JSR-310 (JDBC 4.2) then the columns will be read via
+ *     {@code ResultSet.getObject(int, LocalDateTime.class)} and written via
+ *     {@code PreparedStatement.setObject(int, LocalDateTime)} so that no intermediate
+ *     {@code java.sql.Timestamp} is needed. This is only applied if the system property
+ *     &quot;net.time4j.sql.utc.conversion&quot; is not set. </li>
+ *     <li>Otherwise the offset of the system timezone is only determined once per interval
+ *     between two timezone transitions and not for every row. </li>
+ * </ul>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  try (ResultSet rs = stmt.executeQuery(&quot;SELECT created FROM orders&quot;)) {
+ *      PlainTimestamp[] created = JDBCBatch.readTimestamps(rs, 1);
+ *  }
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+/*[deutsch]
+ * <p>Liest und schreibt ganze Spalten von Zeitwerten &uuml;ber JDBC. </p>
+ *
+ * <p>Die Konversionen liefern dieselben Ergebnisse wie die Einzelwert-Adapter in
+ * {@link JDBCAdapter}, vermeiden aber deren Aufwand pro Zeile: </p>
+ *
+ * <ul>
+ *     <li>Wenn der JDBC-Treiber JSR-310 unterst&uuml;tzt (JDBC 4.2), dann werden die
+ *     Spalten &uuml;ber {@code ResultSet.getObject(int, LocalDateTime.class)} gelesen
+ *     und &uuml;ber {@code PreparedStatement.setObject(int, LocalDateTime)} geschrieben,
+ *     so da&szlig; kein {@code java.sql.Timestamp} als Zwischenobjekt n&ouml;tig ist.
+ *     Das gilt nur, wenn die System-Property &quot;net.time4j.sql.utc.conversion&quot;
+ *     nicht gesetzt ist. </li>
+ *     <li>Sonst wird der Offset der System-Zeitzone nur einmal pro Intervall zwischen
+ *     zwei Zeitzonen&uuml;berg&auml;ngen bestimmt und nicht f&uuml;r jede Zeile. </li>
+ * </ul>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  try (ResultSet rs = stmt.executeQuery(&quot;SELECT created FROM orders&quot;)) {
+ *      PlainTimestamp[] created = JDBCBatch.readTimestamps(rs, 1);
+ *  }
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.6
+ */
+public final class JDBCBatch {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MILLIS_PER_DAY = 86400 * 1000;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private JDBCBatch() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Reads all remaining rows of given result set as SQL-DATE-values. </p>
+     *
+     * <p>SQL-NULL-values will be represented by {@code null}-elements. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  array of dates (one element per row)
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_DATE
+     */
+    /*[deutsch]
+     * <p>Liest alle restlichen Zeilen der angegebenen Ergebnismenge als SQL-DATE-Werte. </p>
+     *
+     * <p>SQL-NULL-Werte werden durch {@code null}-Elemente dargestellt. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  array of dates (one element per row)
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_DATE
+     */
+    public static PlainDate[] readDates(
+        ResultSet rs,
+        int columnIndex
+    ) throws SQLException {
+
+        return readAll(rs, new DateReader(columnIndex)).toArray(new PlainDate[0]);
+
+    }
+
+    /**
+     * <p>Reads all remaining rows of given result set as SQL-TIMESTAMP-values. </p>
+     *
+     * <p>SQL-NULL-values will be represented by {@code null}-elements. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  array of timestamps (one element per row)
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    /*[deutsch]
+     * <p>Liest alle restlichen Zeilen der angegebenen Ergebnismenge als SQL-TIMESTAMP-Werte. </p>
+     *
+     * <p>SQL-NULL-Werte werden durch {@code null}-Elemente dargestellt. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  array of timestamps (one element per row)
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    public static PlainTimestamp[] readTimestamps(
+        ResultSet rs,
+        int columnIndex
+    ) throws SQLException {
+
+        return readAll(rs, new TimestampReader(columnIndex)).toArray(new PlainTimestamp[0]);
+
+    }
+
+    /**
+     * <p>Reads all remaining rows of given result set as SQL-TIMESTAMP-values in UTC. </p>
+     *
+     * <p>SQL-NULL-values will be represented by {@code null}-elements. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  array of moments (one element per row)
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    /*[deutsch]
+     * <p>Liest alle restlichen Zeilen der angegebenen Ergebnismenge als SQL-TIMESTAMP-Werte in UTC. </p>
+     *
+     * <p>SQL-NULL-Werte werden durch {@code null}-Elemente dargestellt. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  array of moments (one element per row)
+     * @throws  SQLException if the column cannot be read
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    public static Moment[] readMoments(
+        ResultSet rs,
+        int columnIndex
+    ) throws SQLException {
+
+        return readAll(rs, new MomentReader(columnIndex)).toArray(new Moment[0]);
+
+    }
+
+    /**
+     * <p>Streams the remaining rows of given result set as SQL-DATE-values. </p>
+     *
+     * <p>The stream is lazy and advances the result set only on demand. It does not close
+     * the result set. SQL-NULL-values will be represented by {@code null}-elements. Any
+     * {@code SQLException} will be wrapped in an {@code IllegalStateException}. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  sequential stream of dates
+     * @see     JDBCAdapter#SQL_DATE
+     */
+    /*[deutsch]
+     * <p>Liefert die restlichen Zeilen der angegebenen Ergebnismenge als Strom von
+     * SQL-DATE-Werten. </p>
+     *
+     * <p>Der Strom ist faul und r&uuml;ckt die Ergebnismenge nur bei Bedarf vor. Er
+     * schlie&szlig;t die Ergebnismenge nicht. SQL-NULL-Werte werden durch {@code null}-Elemente
+     * dargestellt. Jede {@code SQLException} wird in eine {@code IllegalStateException}
+     * verpackt. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  sequential stream of dates
+     * @see     JDBCAdapter#SQL_DATE
+     */
+    public static Stream<PlainDate> streamDates(
+        ResultSet rs,
+        int columnIndex
+    ) {
+
+        return stream(rs, new DateReader(columnIndex));
+
+    }
+
+    /**
+     * <p>Streams the remaining rows of given result set as SQL-TIMESTAMP-values. </p>
+     *
+     * <p>The stream is lazy and advances the result set only on demand. It does not close
+     * the result set. SQL-NULL-values will be represented by {@code null}-elements. Any
+     * {@code SQLException} will be wrapped in an {@code IllegalStateException}. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  sequential stream of timestamps
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    /*[deutsch]
+     * <p>Liefert die restlichen Zeilen der angegebenen Ergebnismenge als Strom von
+     * SQL-TIMESTAMP-Werten. </p>
+     *
+     * <p>Der Strom ist faul und r&uuml;ckt die Ergebnismenge nur bei Bedarf vor. Er
+     * schlie&szlig;t die Ergebnismenge nicht. SQL-NULL-Werte werden durch {@code null}-Elemente
+     * dargestellt. Jede {@code SQLException} wird in eine {@code IllegalStateException}
+     * verpackt. </p>
+     *
+     * @param   rs              result set positioned before the first row to be read
+     * @param   columnIndex     the first column is 1
+     * @return  sequential stream of timestamps
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    public static Stream<PlainTimestamp> streamTimestamps(
+        ResultSet rs,
+        int columnIndex
+    ) {
+
+        return stream(rs, new TimestampReader(columnIndex));
+
+    }
+
+    /**
+     * <p>Binds every timestamp to given parameter of the prepared statement and adds
+     * it to the batch of the statement. </p>
+     *
+     * <p>Other parameters of the statement keep their current values. The batch is not
+     * executed by this method. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  the first parameter is 1
+     * @param   values          timestamps to be bound ({@code null} stands for SQL-NULL)
+     * @return  count of added batch entries
+     * @throws  SQLException if the statement cannot accept the values
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    /*[deutsch]
+     * <p>Bindet jeden Zeitstempel an den angegebenen Parameter der vorbereiteten Anweisung
+     * und f&uuml;gt ihn dem Stapel der Anweisung hinzu. </p>
+     *
+     * <p>Andere Parameter der Anweisung behalten ihre aktuellen Werte. Der Stapel wird
+     * von dieser Methode nicht ausgef&uuml;hrt. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  the first parameter is 1
+     * @param   values          timestamps to be bound ({@code null} stands for SQL-NULL)
+     * @return  count of added batch entries
+     * @throws  SQLException if the statement cannot accept the values
+     * @see     JDBCAdapter#SQL_TIMESTAMP
+     */
+    public static int bindTimestamps(
+        PreparedStatement ps,
+        int parameterIndex,
+        Iterable<PlainTimestamp> values
+    ) throws SQLException {
+
+        boolean jsr310 = !JDBCAdapter.WITH_SQL_UTC_CONVERSION;
+        boolean verified = false;
+        int count = 0;
+
+        for (PlainTimestamp tsp : values) {
+            if (tsp == null) {
+                ps.setNull(parameterIndex, java.sql.Types.TIMESTAMP);
+            } else {
+                if (jsr310) {
+                    try {
+                        ps.setObject(parameterIndex, TemporalType.LOCAL_DATE_TIME.from(tsp));
+                        verified = true;
+                    } catch (SQLFeatureNotSupportedException | AbstractMethodError ex) {
+                        if (verified) {
+                            throw ex;
+                        }
+                        jsr310 = false;
+                    }
+                }
+                if (!jsr310) {
+                    ps.setTimestamp(parameterIndex, JDBCAdapter.SQL_TIMESTAMP.from(tsp));
+                }
+            }
+            ps.addBatch();
+            count++;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * <p>Binds every moment to given parameter of the prepared statement and adds
+     * it to the batch of the statement. </p>
+     *
+     * <p>Other parameters of the statement keep their current values. The batch is not
+     * executed by this method. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  the first parameter is 1
+     * @param   values          moments to be bound ({@code null} stands for SQL-NULL)
+     * @return  count of added batch entries
+     * @throws  SQLException if the statement cannot accept the values
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    /*[deutsch]
+     * <p>Bindet jeden Moment an den angegebenen Parameter der vorbereiteten Anweisung
+     * und f&uuml;gt ihn dem Stapel der Anweisung hinzu. </p>
+     *
+     * <p>Andere Parameter der Anweisung behalten ihre aktuellen Werte. Der Stapel wird
+     * von dieser Methode nicht ausgef&uuml;hrt. </p>
+     *
+     * @param   ps              prepared statement
+     * @param   parameterIndex  the first parameter is 1
+     * @param   values          moments to be bound ({@code null} stands for SQL-NULL)
+     * @return  count of added batch entries
+     * @throws  SQLException if the statement cannot accept the values
+     * @see     JDBCAdapter#SQL_TIMESTAMP_WITH_ZONE
+     */
+    public static int bindMoments(
+        PreparedStatement ps,
+        int parameterIndex,
+        Iterable<Moment> values
+    ) throws SQLException {
+
+        int count = 0;
+
+        for (Moment moment : values) {
+            if (moment == null) {
+                ps.setNull(parameterIndex, java.sql.Types.TIMESTAMP);
+            } else {
+                ps.setTimestamp(parameterIndex, JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.from(moment));
+            }
+            ps.addBatch();
+            count++;
+        }
+
+        return count;
+
+    }
+
+    private static <T> List<T> readAll(
+        ResultSet rs,
+        ColumnReader<T> reader
+    ) throws SQLException {
+
+        List<T> list = new ArrayList<>();
+
+        while (rs.next()) {
+            list.add(reader.read(rs));
+        }
+
+        return list;
+
+    }
+
+    private static <T> Stream<T> stream(
+        ResultSet rs,
+        ColumnReader<T> reader
+    ) {
+
+        Spliterator<T> spliterator =
+            new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    try {
+                        if (rs.next()) {
+                            action.accept(reader.read(rs));
+                            return true;
+                        }
+                        return false;
+                    } catch (SQLException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            };
+
+        return StreamSupport.stream(spliterator, false);
+
+    }
+
+    // lokale Millisekunden plus Nanosekunden ohne Zwischenschritte über Arithmetik
+    private static PlainTimestamp toTimestamp(
+        long localMillis,
+        int nanos
+    ) {
+
+        PlainDate date = PlainDate.of(MathUtils.floorDivide(localMillis, MILLIS_PER_DAY), EpochDays.UNIX);
+        int secondOfDay = MathUtils.floorModulo(localMillis, MILLIS_PER_DAY) / 1000;
+        PlainTime time = PlainTime.of(secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60, nanos);
+        return PlainTimestamp.of(date, time);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private interface ColumnReader<T> {
+
+        //~ Methoden ------------------------------------------------------
+
+        T read(ResultSet rs) throws SQLException;
+
+    }
+
+    // verwendet die JSR-310-Typen, solange der Treiber sie unterstützt
+    private abstract static class LocalReader<L, T>
+        implements ColumnReader<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        final int columnIndex;
+        private final Class<L> localType;
+        private boolean jsr310 = !JDBCAdapter.WITH_SQL_UTC_CONVERSION;
+        private boolean first = true;
+        OffsetCache offsets = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LocalReader(
+            int columnIndex,
+            Class<L> localType
+        ) {
+            super();
+
+            this.columnIndex = columnIndex;
+            this.localType = localType;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public T read(ResultSet rs) throws SQLException {
+
+            if (this.jsr310) {
+                try {
+                    L value = rs.getObject(this.columnIndex, this.localType);
+                    this.first = false;
+                    return ((value == null) ? null : this.fromLocal(value));
+                } catch (SQLFeatureNotSupportedException | AbstractMethodError ex) {
+                    if (!this.first) {
+                        throw ex;
+                    }
+                    this.jsr310 = false;
+                }
+            }
+
+            if (this.offsets == null) {
+                this.offsets = new OffsetCache(Timezone.ofSystem());
+            }
+
+            return this.fromJDBC(rs);
+
+        }
+
+        abstract T fromLocal(L value);
+
+        abstract T fromJDBC(ResultSet rs) throws SQLException;
+
+        // entspricht der Konversion in JDBCAdapter
+        long toLocalMillis(long millis) {
+
+            if (JDBCAdapter.WITH_SQL_UTC_CONVERSION) {
+                return millis;
+            }
+
+            return millis + this.offsets.getOffset(MathUtils.floorDivide(millis, 1000)) * 1000L;
+
+        }
+
+    }
+
+    private static class DateReader
+        extends LocalReader<LocalDate, PlainDate> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        DateReader(int columnIndex) {
+            super(columnIndex, LocalDate.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        PlainDate fromLocal(LocalDate value) {
+
+            return TemporalType.LOCAL_DATE.translate(value);
+
+        }
+
+        @Override
+        PlainDate fromJDBC(ResultSet rs) throws SQLException {
+
+            java.sql.Date date = rs.getDate(this.columnIndex);
+
+            if (date == null) {
+                return null;
+            }
+
+            long localMillis = this.toLocalMillis(date.getTime());
+            return PlainDate.of(MathUtils.floorDivide(localMillis, MILLIS_PER_DAY), EpochDays.UNIX);
+
+        }
+
+    }
+
+    private static class TimestampReader
+        extends LocalReader<LocalDateTime, PlainTimestamp> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TimestampReader(int columnIndex) {
+            super(columnIndex, LocalDateTime.class);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        PlainTimestamp fromLocal(LocalDateTime value) {
+
+            return TemporalType.LOCAL_DATE_TIME.translate(value);
+
+        }
+
+        @Override
+        PlainTimestamp fromJDBC(ResultSet rs) throws SQLException {
+
+            java.sql.Timestamp ts = rs.getTimestamp(this.columnIndex);
+
+            if (ts == null) {
+                return null;
+            }
+
+            return toTimestamp(this.toLocalMillis(ts.getTime()), ts.getNanos());
+
+        }
+
+    }
+
+    private static class MomentReader
+        implements ColumnReader<Moment> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int columnIndex;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        MomentReader(int columnIndex) {
+            super();
+
+            this.columnIndex = columnIndex;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Moment read(ResultSet rs) throws SQLException {
+
+            java.sql.Timestamp ts = rs.getTimestamp(this.columnIndex);
+            return ((ts == null) ? null : JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.translate(ts));
+
+        }
+
+    }
+
+    // merkt sich den Offset einer Zeitzone für das Intervall zwischen zwei Übergängen
+    static class OffsetCache {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Timezone tz;
+        private long start = 0; // inklusive
+        private long end = 0; // exklusive
+        private int offset = 0;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        OffsetCache(Timezone tz) {
+            super();
+
+            this.tz = tz;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // Offset in Sekunden zur angegebenen POSIX-Zeit
+        int getOffset(long posixTime) {
+
+            if ((posixTime >= this.start) && (posixTime < this.end)) {
+                return this.offset;
+            }
+
+            UnixTime ut = Moment.of(posixTime, TimeScale.POSIX);
+            ZonalOffset zo = this.tz.getOffset(ut);
+            TransitionHistory history = this.tz.getHistory();
+            this.offset = zo.getIntegralAmount();
+
+            if (this.tz.isFixed()) {
+                this.start = Long.MIN_VALUE;
+                this.end = Long.MAX_VALUE;
+            } else if ((history == null) || (zo.getFractionalAmount() != 0)) {
+                this.start = posixTime; // kein Intervall bekannt
+                this.end = posixTime + 1;
+            } else {
+                ZonalTransition previous = history.getStartTransition(ut);
+                Optional<ZonalTransition> next = history.findNextTransition(ut);
+                this.start = ((previous == null) ? Long.MIN_VALUE : previous.getPosixTime());
+                this.end = (next.isPresent() ? next.get().getPosixTime() : Long.MAX_VALUE);
+            }
+
+            return this.offset;
+
+        }
+
+    }
+
+}
@@ -250,6 +250,128 @@ public abstract class XMLAdapter<S, T>
     public static final XMLAdapter<javax.xml.datatype.Duration, Duration<IsoUnit>> XML_DURATION =
         new XmlDurationRule();
 
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:date} and the type {@code PlainDate}. </p>
+     *
+     * <p>Parses and prints the XML-text directly without creating any {@code XMLGregorianCalendar}
+     * and yields the same results as {@link #XML_DATE}. An optional timezone offset will be
+     * ignored during parsing. Suitable for JAXB-adapters or StAX-readers, for example: </p>
+     *
+     * <pre>
+     *  public class DateAdapter extends javax.xml.bind.annotation.adapters.XmlAdapter&lt;String, PlainDate&gt; {
+     *      public PlainDate unmarshal(String v) { return XMLAdapter.XML_DATE_LEXICAL.translate(v); }
+     *      public String marshal(PlainDate v) { return XMLAdapter.XML_DATE_LEXICAL.from(v); }
+     *  }
+     *
+     *  PlainDate date = XMLAdapter.XML_DATE_LEXICAL.translate(xmlStreamReader.getElementText());
+     * </pre>
+     *
+     * @throws  IllegalArgumentException if the text is not a valid lexical representation
+     * @since   5.6
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:date} und dem Typ
+     * {@code PlainDate}. </p>
+     *
+     * <p>Interpretiert und formatiert den XML-Text direkt ohne Erzeugung eines
+     * {@code XMLGregorianCalendar} und liefert dieselben Ergebnisse wie {@link #XML_DATE}.
+     * Ein optionaler Zeitzonen-Offset wird beim Interpretieren ignoriert. Geeignet f&uuml;r
+     * JAXB-Adapter oder StAX-Leser, zum Beispiel: </p>
+     *
+     * <pre>
+     *  public class DateAdapter extends javax.xml.bind.annotation.adapters.XmlAdapter&lt;String, PlainDate&gt; {
+     *      public PlainDate unmarshal(String v) { return XMLAdapter.XML_DATE_LEXICAL.translate(v); }
+     *      public String marshal(PlainDate v) { return XMLAdapter.XML_DATE_LEXICAL.from(v); }
+     *  }
+     *
+     *  PlainDate date = XMLAdapter.XML_DATE_LEXICAL.translate(xmlStreamReader.getElementText());
+     * </pre>
+     *
+     * @throws  IllegalArgumentException if the text is not a valid lexical representation
+     * @since   5.6
+     */
+    public static final XMLAdapter<String, PlainDate> XML_DATE_LEXICAL =
+        new LexicalDateRule();
+
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:dateTime} and the type
+     * {@code PlainTimestamp}. </p>
+     *
+     * <p>Parses and prints the XML-text directly without creating any {@code XMLGregorianCalendar}
+     * and yields the same results as {@link #XML_DATE_TIME}. An optional timezone offset will be
+     * ignored during parsing. </p>
+     *
+     * @throws  IllegalArgumentException if the text is not a valid lexical representation
+     * @since   5.6
+     * @see     #XML_DATE_LEXICAL
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:dateTime} und dem Typ
+     * {@code PlainTimestamp}. </p>
+     *
+     * <p>Interpretiert und formatiert den XML-Text direkt ohne Erzeugung eines
+     * {@code XMLGregorianCalendar} und liefert dieselben Ergebnisse wie {@link #XML_DATE_TIME}.
+     * Ein optionaler Zeitzonen-Offset wird beim Interpretieren ignoriert. </p>
+     *
+     * @throws  IllegalArgumentException if the text is not a valid lexical representation
+     * @since   5.6
+     * @see     #XML_DATE_LEXICAL
+     */
+    public static final XMLAdapter<String, PlainTimestamp> XML_DATE_TIME_LEXICAL =
+        new LexicalDateTimeRule();
+
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:dateTime} with timezone offset and the
+     * type {@code ZonalDateTime}. </p>
+     *
+     * <p>Parses and prints the XML-text directly without creating any {@code XMLGregorianCalendar}
+     * and yields the same results as {@link #XML_DATE_TIME_OFFSET}. </p>
+     *
+     * @throws  IllegalArgumentException if the text is not a valid lexical representation
+     * @since   5.6
+     * @see     #XML_DATE_LEXICAL
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:dateTime} mit
+     * Zeitzonen-Offset und dem Typ {@code ZonalDateTime}. </p>
+     *
+     * <p>Interpretiert und formatiert den XML-Text direkt ohne Erzeugung eines
+     * {@code XMLGregorianCalendar} und liefert dieselben Ergebnisse wie
+     * {@link #XML_DATE_TIME_OFFSET}. </p>
+     *
+     * @throws  IllegalArgumentException if the text is not a valid lexical representation
+     * @since   5.6
+     * @see     #XML_DATE_LEXICAL
+     */
+    public static final XMLAdapter<String, ZonalDateTime> XML_DATE_TIME_OFFSET_LEXICAL =
+        new LexicalDateTimeOffsetRule();
+
+    /**
+     * <p>Bridge between the lexical form of {@code xsd:duration} and the Time4J-type
+     * {@code Duration}. </p>
+     *
+     * <p>Parses and prints the XML-text directly without creating any
+     * {@code javax.xml.datatype.Duration} and yields the same results as {@link #XML_DURATION}. </p>
+     *
+     * @since   5.6
+     * @see     Duration#parsePeriod(String)
+     * @see     Duration#toStringXML()
+     */
+    /*[deutsch]
+     * <p>Br&uuml;cke zwischen der lexikalischen Form von {@code xsd:duration} und dem
+     * Time4J-Typ {@code Duration}. </p>
+     *
+     * <p>Interpretiert und formatiert den XML-Text direkt ohne Erzeugung einer
+     * {@code javax.xml.datatype.Duration} und liefert dieselben Ergebnisse wie
+     * {@link #XML_DURATION}. </p>
+     *
+     * @since   5.6
+     * @see     Duration#parsePeriod(String)
+     * @see     Duration#toStringXML()
+     */
+    public static final XMLAdapter<String, Duration<IsoUnit>> XML_DURATION_LEXICAL =
+        new LexicalDurationRule();
+
     //~ Konstruktoren -----------------------------------------------------
 
     private XMLAdapter() {
@@ -301,6 +423,101 @@ public abstract class XMLAdapter<S, T>
 
     }
 
+    private static Duration<IsoUnit> parseDuration(String text) {
+
+        try {
+            return Duration.parsePeriod(text);
+        } catch (ParseException ex) {
+            if (ex.getCause() instanceof NumberFormatException) {
+                ArithmeticException ae = new ArithmeticException();
+                ae.initCause(ex);
+                throw ae;
+            }
+            throw new ChronoException("Cannot translate: " + text, ex);
+        }
+
+    }
+
+    // entspricht der Ausgabe von XMLGregorianCalendar.toXMLFormat()
+    private static void printDate(
+        PlainDate date,
+        StringBuilder sb
+    ) {
+
+        int year = date.getYear();
+
+        if (year == 0) {
+            throw new IllegalArgumentException("Year zero is not valid in XML-Schema: " + date);
+        } else if (year < 0) {
+            sb.append('-');
+        }
+
+        printDigits(Math.abs(year), 4, sb);
+        sb.append('-');
+        printDigits(date.getMonth(), 2, sb);
+        sb.append('-');
+        printDigits(date.getDayOfMonth(), 2, sb);
+
+    }
+
+    private static String printDateTime(
+        ChronoDisplay tsp,
+        int tz
+    ) {
+
+        if ((tz != DatatypeConstants.FIELD_UNDEFINED) && (Math.abs(tz) > 14 * 60)) {
+            throw new IllegalArgumentException("Timezone offset out of range: " + tz);
+        }
+
+        StringBuilder sb = new StringBuilder(35);
+        printDate(tsp.get(PlainDate.COMPONENT), sb);
+        sb.append('T');
+
+        PlainTime time = tsp.get(PlainTime.COMPONENT);
+        printDigits(time.getHour(), 2, sb);
+        sb.append(':');
+        printDigits(time.getMinute(), 2, sb);
+        sb.append(':');
+        printDigits(tsp.get(PlainTime.SECOND_OF_MINUTE), 2, sb); // LS
+        sb.append('.');
+
+        int nano = time.getNanosecond();
+
+        if ((nano % MIO) == 0) {
+            printDigits(nano / MIO, 3, sb);
+        } else {
+            printDigits(nano, 9, sb);
+        }
+
+        if (tz == 0) {
+            sb.append('Z');
+        } else if (tz != DatatypeConstants.FIELD_UNDEFINED) {
+            sb.append((tz < 0) ? '-' : '+');
+            printDigits(Math.abs(tz) / 60, 2, sb);
+            sb.append(':');
+            printDigits(Math.abs(tz) % 60, 2, sb);
+        }
+
+        return sb.toString();
+
+    }
+
+    private static void printDigits(
+        int value,
+        int minDigits,
+        StringBuilder sb
+    ) {
+
+        for (int limit = 10, i = 1; i < minDigits; i++, limit *= 10) {
+            if (value < limit) {
+                sb.append('0');
+            }
+        }
+
+        sb.append(value);
+
+    }
+
     //~ Innere Klassen ----------------------------------------------------
 
     private static class XmlDateRule
@@ -602,16 +819,7 @@ public abstract class XMLAdapter<S, T>
                 return Duration.ofZero();
             }
 
-            try {
-                return Duration.parsePeriod(source.toString());
-            } catch (ParseException ex) {
-                if (ex.getCause() instanceof NumberFormatException) {
-                    ArithmeticException ae = new ArithmeticException();
-                    ae.initCause(ex);
-                    throw ae;
-                }
-                throw new ChronoException("Cannot translate: " + source, ex);
-            }
+            return parseDuration(source.toString());
 
         }
 
@@ -632,4 +840,377 @@ public abstract class XMLAdapter<S, T>
 
     }
 
+    // direkter Parser für die lexikalischen Formen von xsd:date und xsd:dateTime
+    private static class LexicalParser {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String text;
+        private final int end;
+        private int pos;
+
+        int year;
+        int month;
+        int dom;
+        int hour;
+        int minute;
+        int second;
+        int nano;
+        int tz = DatatypeConstants.FIELD_UNDEFINED; // in Minuten wie bei XMLGregorianCalendar
+
+        //~ Konstruktoren -------------------------------------------------
+
+        LexicalParser(String text) {
+            super();
+
+            int start = 0;
+            int len = text.length();
+
+            // whitespace-Behandlung nach XML-Schema (collapse)
+            while ((start < len) && isWhitespace(text.charAt(start))) {
+                start++;
+            }
+
+            while ((len > start) && isWhitespace(text.charAt(len - 1))) {
+                len--;
+            }
+
+            this.text = text;
+            this.pos = start;
+            this.end = len;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        LexicalParser parseDate() {
+
+            this.parseDateFields();
+            this.parseOffset();
+            this.checkEnd();
+            return this;
+
+        }
+
+        LexicalParser parseDateTime() {
+
+            this.parseDateFields();
+            this.expect('T');
+            this.hour = this.parseDigits(2);
+            this.expect(':');
+            this.minute = this.parseDigits(2);
+            this.expect(':');
+            this.second = this.parseDigits(2);
+
+            if ((this.pos < this.end) && (this.text.charAt(this.pos) == '.')) {
+                this.pos++;
+                int digits = 0;
+                int fraction = 0;
+
+                while ((this.pos < this.end) && isDigit(this.text.charAt(this.pos))) {
+                    if (digits < 9) {
+                        fraction = fraction * 10 + (this.text.charAt(this.pos) - '0');
+                        digits++;
+                    }
+                    this.pos++; // Ziffern nach der neunten werden abgeschnitten
+                }
+
+                if (digits == 0) {
+                    throw this.invalid();
+                }
+
+                while (digits < 9) {
+                    fraction *= 10;
+                    digits++;
+                }
+
+                this.nano = fraction;
+            }
+
+            if ((this.hour == 24) && ((this.minute != 0) || (this.second != 0) || (this.nano != 0))) {
+                throw this.invalid();
+            }
+
+            this.parseOffset();
+            this.checkEnd();
+            return this;
+
+        }
+
+        PlainTimestamp toTimestamp(boolean globalContext) {
+
+            int s = this.second;
+
+            if (globalContext && (s == 60)) {
+                s = 59;
+            }
+
+            if (this.nano == 0) {
+                return PlainTimestamp.of(this.year, this.month, this.dom, this.hour, this.minute, s);
+            }
+
+            return PlainTimestamp.of(
+                PlainDate.of(this.year, this.month, this.dom),
+                PlainTime.of(this.hour, this.minute, s, this.nano));
+
+        }
+
+        private void parseDateFields() {
+
+            boolean negative = false;
+
+            if ((this.pos < this.end) && (this.text.charAt(this.pos) == '-')) {
+                negative = true;
+                this.pos++;
+            }
+
+            int start = this.pos;
+            long y = 0;
+
+            while ((this.pos < this.end) && isDigit(this.text.charAt(this.pos))) {
+                y = y * 10 + (this.text.charAt(this.pos) - '0');
+                this.pos++;
+
+                if (this.pos - start > 9) {
+                    throw new ArithmeticException("Year out of supported range: " + this.text);
+                }
+            }
+
+            int digits = this.pos - start;
+
+            if ((digits < 4) || (y == 0)) {
+                throw this.invalid();
+            }
+
+            this.year = (int) (negative ? -y : y);
+            this.expect('-');
+            this.month = this.parseDigits(2);
+            this.expect('-');
+            this.dom = this.parseDigits(2);
+
+        }
+
+        private void parseOffset() {
+
+            if (this.pos >= this.end) {
+                return;
+            }
+
+            char c = this.text.charAt(this.pos);
+
+            if (c == 'Z') {
+                this.pos++;
+                this.tz = 0;
+            } else if ((c == '+') || (c == '-')) {
+                this.pos++;
+                int h = this.parseDigits(2);
+                this.expect(':');
+                int m = this.parseDigits(2);
+
+                if ((m >= 60) || (h > 14) || ((h == 14) && (m != 0))) {
+                    throw this.invalid();
+                }
+
+                this.tz = (h * 60 + m) * ((c == '-') ? -1 : 1);
+            }
+
+        }
+
+        private int parseDigits(int count) {
+
+            if (this.pos + count > this.end) {
+                throw this.invalid();
+            }
+
+            int value = 0;
+
+            for (int i = 0; i < count; i++) {
+                char c = this.text.charAt(this.pos++);
+                if (!isDigit(c)) {
+                    throw this.invalid();
+                }
+                value = value * 10 + (c - '0');
+            }
+
+            return value;
+
+        }
+
+        private void expect(char c) {
+
+            if ((this.pos >= this.end) || (this.text.charAt(this.pos) != c)) {
+                throw this.invalid();
+            }
+
+            this.pos++;
+
+        }
+
+        private void checkEnd() {
+
+            if (this.pos != this.end) {
+                throw this.invalid();
+            }
+
+        }
+
+        private IllegalArgumentException invalid() {
+
+            return new IllegalArgumentException(
+                "\"" + this.text + "\" is not a valid representation of an XML-Schema value.");
+
+        }
+
+        private static boolean isDigit(char c) {
+
+            return ((c >= '0') && (c <= '9'));
+
+        }
+
+        private static boolean isWhitespace(char c) {
+
+            return ((c == ' ') || (c == '\t') || (c == '\n') || (c == '\r'));
+
+        }
+
+    }
+
+    private static class LexicalDateRule
+        extends XMLAdapter<String, PlainDate> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainDate translate(String source) {
+
+            LexicalParser parser = new LexicalParser(source).parseDate();
+            return PlainDate.of(parser.year, parser.month, parser.dom);
+
+        }
+
+        @Override
+        public String from(PlainDate date) {
+
+            StringBuilder sb = new StringBuilder(10);
+            printDate(date, sb);
+            return sb.toString();
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    private static class LexicalDateTimeRule
+        extends XMLAdapter<String, PlainTimestamp> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public PlainTimestamp translate(String source) {
+
+            return new LexicalParser(source).parseDateTime().toTimestamp(false);
+
+        }
+
+        @Override
+        public String from(PlainTimestamp tsp) {
+
+            return printDateTime(tsp, DatatypeConstants.FIELD_UNDEFINED);
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    private static class LexicalDateTimeOffsetRule
+        extends XMLAdapter<String, ZonalDateTime> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ZonalDateTime translate(String source) {
+
+            LexicalParser parser = new LexicalParser(source).parseDateTime();
+            PlainTimestamp tsp = parser.toTimestamp(true);
+
+            if (parser.tz == DatatypeConstants.FIELD_UNDEFINED) {
+                throw new ChronoException("Missing timezone offset: " + source);
+            }
+
+            ZonalOffset offset = ZonalOffset.ofTotalSeconds(parser.tz * 60);
+            Moment moment = tsp.at(offset);
+
+            if (
+                (parser.second == 60)
+                && LeapSeconds.getInstance().isEnabled()
+            ) {
+                Moment ls = moment.plus(1, SI.SECONDS);
+                if (ls.isLeapSecond()) {
+                    return ls.inZonalView(offset);
+                } else {
+                    throw new ChronoException(
+                        "Leap second not registered: " + source);
+                }
+            } else {
+                return moment.inZonalView(offset);
+            }
+
+        }
+
+        @Override
+        public String from(ZonalDateTime zm) {
+
+            return printDateTime(zm, zm.getOffset().getIntegralAmount() / 60);
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
+    private static class LexicalDurationRule
+        extends XMLAdapter<String, Duration<IsoUnit>> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public Duration<IsoUnit> translate(String source) {
+
+            return parseDuration(source.trim());
+
+        }
+
+        @Override
+        public String from(Duration<IsoUnit> duration) {
+
+            return duration.toStringXML();
+
+        }
+
+        @Override
+        public Class<String> getSourceType() {
+
+            return String.class;
+
+        }
+
+    }
+
 }
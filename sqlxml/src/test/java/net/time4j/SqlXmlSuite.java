@@ -1,7 +1,9 @@
 package net.time4j;
 
 import net.time4j.sql.JDBCAdapterTest;
+import net.time4j.sql.JDBCBatchTest;
 import net.time4j.xml.XMLAdapterTest;
+import net.time4j.xml.XMLLexicalTest;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -12,7 +14,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         JDBCAdapterTest.class,
-        XMLAdapterTest.class
+        JDBCBatchTest.class,
+        XMLAdapterTest.class,
+        XMLLexicalTest.class
     }
 )
 public class SqlXmlSuite {
@@ -0,0 +1,231 @@
+package net.time4j.sql;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.TemporalType;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class JDBCBatchTest {
+
+    private static final LocalDateTime[] VALUES = {
+        LocalDateTime.of(2012, 7, 1, 0, 0, 0, 210),
+        LocalDateTime.of(2016, 3, 27, 1, 59, 59, 999999999),
+        null,
+        LocalDateTime.of(2016, 10, 30, 2, 30),
+        LocalDateTime.of(1969, 12, 31, 23, 59, 59, 123456789),
+        LocalDateTime.of(9999, 12, 31, 12, 0)
+    };
+
+    @Test
+    public void readTimestampsWithJSR310() throws Exception {
+        Stub stub = new Stub(true);
+        PlainTimestamp[] result = JDBCBatch.readTimestamps(stub.resultSet(), 1);
+        assertThat(result.length, is(VALUES.length));
+        for (int i = 0; i < VALUES.length; i++) {
+            assertThat(result[i], is(expectedTimestamp(i)));
+        }
+        assertThat(stub.timestampCalls, is(JDBCAdapter.WITH_SQL_UTC_CONVERSION ? VALUES.length : 0));
+    }
+
+    @Test
+    public void readTimestampsWithoutJSR310() throws Exception {
+        Stub stub = new Stub(false);
+        PlainTimestamp[] result = JDBCBatch.readTimestamps(stub.resultSet(), 1);
+        for (int i = 0; i < VALUES.length; i++) {
+            assertThat(result[i], is(expectedTimestamp(i)));
+        }
+        assertThat(stub.timestampCalls, is(VALUES.length));
+    }
+
+    @Test
+    public void readDates() throws Exception {
+        for (boolean jsr310 : new boolean[] {true, false}) {
+            PlainDate[] result = JDBCBatch.readDates(new Stub(jsr310).resultSet(), 1);
+            for (int i = 0; i < VALUES.length; i++) {
+                PlainDate expected = (
+                    (VALUES[i] == null)
+                    ? null
+                    : JDBCAdapter.SQL_DATE.translate(java.sql.Date.valueOf(VALUES[i].toLocalDate())));
+                assertThat(result[i], is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void readMoments() throws Exception {
+        Moment[] result = JDBCBatch.readMoments(new Stub(true).resultSet(), 1);
+        assertThat(result[2], nullValue());
+        assertThat(
+            result[0],
+            is(JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.translate(java.sql.Timestamp.valueOf(VALUES[0]))));
+    }
+
+    @Test
+    public void streamTimestamps() throws Exception {
+        Stub stub = new Stub(false);
+        List<PlainTimestamp> result =
+            JDBCBatch.streamTimestamps(stub.resultSet(), 1).limit(2).collect(Collectors.toList());
+        assertThat(result, is(Arrays.asList(expectedTimestamp(0), expectedTimestamp(1))));
+        assertThat(stub.row, is(1)); // lazy
+    }
+
+    @Test
+    public void streamDates() throws Exception {
+        assertThat(JDBCBatch.streamDates(new Stub(true).resultSet(), 1).count(), is((long) VALUES.length));
+    }
+
+    @Test
+    public void bindTimestamps() throws Exception {
+        for (boolean jsr310 : new boolean[] {true, false}) {
+            Stub stub = new Stub(jsr310);
+            List<PlainTimestamp> values = new ArrayList<>();
+            for (int i = 0; i < VALUES.length; i++) {
+                values.add((VALUES[i] == null) ? null : TemporalType.LOCAL_DATE_TIME.translate(VALUES[i]));
+            }
+            assertThat(JDBCBatch.bindTimestamps(stub.statement(), 2, values), is(VALUES.length));
+            assertThat(stub.batch.size(), is(VALUES.length));
+            for (int i = 0; i < VALUES.length; i++) {
+                Object expected;
+                if (VALUES[i] == null) {
+                    expected = "NULL";
+                } else if (jsr310 && !JDBCAdapter.WITH_SQL_UTC_CONVERSION) {
+                    expected = VALUES[i];
+                } else {
+                    expected = JDBCAdapter.SQL_TIMESTAMP.from(values.get(i));
+                }
+                assertThat(stub.batch.get(i), is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void bindMoments() throws Exception {
+        Stub stub = new Stub(true);
+        Moment m = Moment.of(1341100800L, 210, TimeScale.POSIX);
+        assertThat(JDBCBatch.bindMoments(stub.statement(), 1, Arrays.asList(m, null)), is(2));
+        assertThat(stub.batch.get(0), is(JDBCAdapter.SQL_TIMESTAMP_WITH_ZONE.from(m)));
+        assertThat(stub.batch.get(1), is("NULL"));
+    }
+
+    @Test
+    public void offsetCache() {
+        for (String tzid : new String[] {"Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "UTC"}) {
+            Timezone tz = Timezone.of(tzid);
+            JDBCBatch.OffsetCache cache = new JDBCBatch.OffsetCache(tz);
+            for (long t = 1400000000L; t < 1600000000L; t += 3559) {
+                assertThat(
+                    cache.getOffset(t),
+                    is(tz.getOffset(Moment.of(t, TimeScale.POSIX)).getIntegralAmount()));
+            }
+        }
+    }
+
+    private static PlainTimestamp expectedTimestamp(int i) {
+        if (VALUES[i] == null) {
+            return null;
+        } else if (JDBCAdapter.WITH_SQL_UTC_CONVERSION) {
+            return JDBCAdapter.SQL_TIMESTAMP.translate(java.sql.Timestamp.valueOf(VALUES[i]));
+        } else {
+            return TemporalType.LOCAL_DATE_TIME.translate(VALUES[i]);
+        }
+    }
+
+    // JDBC-Attrappe im Speicher: eine Spalte mit den Werten aus VALUES
+    private static class Stub {
+
+        private final boolean jsr310;
+        private final List<Object> batch = new ArrayList<>();
+        private Object parameter = null;
+        private int row = -1;
+        private int timestampCalls = 0;
+
+        Stub(boolean jsr310) {
+            super();
+
+            this.jsr310 = jsr310;
+        }
+
+        ResultSet resultSet() {
+            return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    LocalDateTime value = ((this.row >= 0) && (this.row < VALUES.length)) ? VALUES[this.row] : null;
+                    switch (method.getName()) {
+                        case "next":
+                            this.row++;
+                            return this.row < VALUES.length;
+                        case "getObject":
+                            if (!this.jsr310) {
+                                throw new SQLFeatureNotSupportedException();
+                            } else if (value == null) {
+                                return null;
+                            } else if (args[1] == LocalDate.class) {
+                                return value.toLocalDate();
+                            } else if (args[1] == LocalDateTime.class) {
+                                return value;
+                            }
+                            throw new SQLFeatureNotSupportedException();
+                        case "getTimestamp":
+                            this.timestampCalls++;
+                            return (value == null) ? null : java.sql.Timestamp.valueOf(value);
+                        case "getDate":
+                            return (value == null) ? null : java.sql.Date.valueOf(value.toLocalDate());
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+
+        PreparedStatement statement() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "setObject":
+                            if (!this.jsr310) {
+                                throw new SQLFeatureNotSupportedException();
+                            }
+                            this.parameter = args[1];
+                            return null;
+                        case "setTimestamp":
+                            this.parameter = args[1];
+                            return null;
+                        case "setNull":
+                            this.parameter = "NULL";
+                            return null;
+                        case "addBatch":
+                            this.batch.add(this.parameter);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        }
+
+    }
+
+}
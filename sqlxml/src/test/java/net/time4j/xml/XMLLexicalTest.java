@@ -0,0 +1,197 @@
+package net.time4j.xml;
+
+import net.time4j.ClockUnit;
+import net.time4j.Duration;
+import net.time4j.IsoUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.ZonalDateTime;
+import net.time4j.engine.ChronoException;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class XMLLexicalTest {
+
+    private static final String[] DATE_TIMES = {
+        "2012-06-30T23:59:59",
+        "2012-06-30T23:59:59.1",
+        "2012-06-30T23:59:59.123456789",
+        "2012-06-30T23:59:59.1234567891234",
+        "2012-06-30T00:00:00.000Z",
+        "2012-06-30T17:45:00+14:00",
+        "2012-06-30T17:45:00-01:30",
+        "2012-06-30T24:00:00",
+        "2012-06-30T24:00:00.0",
+        "2012-06-30T23:59:59.5+00:00",
+        "0001-01-01T00:00:00",
+        "-0044-03-15T12:00:00",
+        "12345-06-30T03:09:00.000",
+        "02012-06-30T23:59:59",
+        " 2016-02-29T12:30:15.5Z\n"
+    };
+
+    private static final String[] INVALID = {
+        "",
+        "2012-06-30",
+        "2012-6-30T23:59:59",
+        "012-06-30T23:59:59",
+        "0000-06-30T23:59:59",
+        "2012-06-30T23:59",
+        "2012-06-30T23:59:59.",
+        "2012-06-30T23:59:59+15:00",
+        "2012-06-30T23:59:59+01:60",
+        "2012-06-30T24:00:01",
+        "2012-06-30T23:59:59Zx",
+        "2012-13-30T23:59:59",
+        "2012-02-30T23:59:59"
+    };
+
+    @Test
+    public void parseDateTime() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (String xml : DATE_TIMES) {
+            assertThat(
+                xml,
+                XMLAdapter.XML_DATE_TIME_LEXICAL.translate(xml),
+                is(XMLAdapter.XML_DATE_TIME.translate(factory.newXMLGregorianCalendar(xml.trim()))));
+        }
+    }
+
+    @Test
+    public void parseDateTimeOffset() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (String xml : DATE_TIMES) {
+            String s = xml.trim();
+            if (s.endsWith("Z") || (s.charAt(s.length() - 3) == ':' && s.lastIndexOf('T') < s.length() - 9)) {
+                assertThat(
+                    xml,
+                    XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate(xml),
+                    is(XMLAdapter.XML_DATE_TIME_OFFSET.translate(factory.newXMLGregorianCalendar(s))));
+            }
+        }
+        String leap = "2012-06-30T23:59:60.123456789Z";
+        assertThat(
+            XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate(leap),
+            is(XMLAdapter.XML_DATE_TIME_OFFSET.translate(factory.newXMLGregorianCalendar(leap))));
+    }
+
+    @Test(expected=ChronoException.class)
+    public void parseDateTimeOffsetWithoutOffset() {
+        XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate("2012-06-30T23:59:59");
+    }
+
+    @Test(expected=ChronoException.class)
+    public void parseUnregisteredLeapSecond() {
+        XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate("2012-06-29T23:59:60Z");
+    }
+
+    @Test
+    public void parseInvalid() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (String xml : INVALID) {
+            try {
+                XMLAdapter.XML_DATE_TIME_LEXICAL.translate(xml);
+                fail("Invalid text accepted: " + xml);
+            } catch (IllegalArgumentException iae) {
+                // ok
+            }
+            if (xml.endsWith(":60")) {
+                continue; // XMLGregorianCalendar erlaubt hier fälschlich mehr als 59 Minuten
+            }
+            try {
+                XMLAdapter.XML_DATE_TIME.translate(factory.newXMLGregorianCalendar(xml));
+                fail("Invalid text accepted by XMLGregorianCalendar: " + xml);
+            } catch (IllegalArgumentException | ChronoException ex) {
+                // ok
+            }
+        }
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void parseYearOutOfRange() {
+        XMLAdapter.XML_DATE_LEXICAL.translate("1000000000-01-01");
+    }
+
+    @Test
+    public void parseDate() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (String xml : new String[] {"2014-02-28", "2014-02-28+01:00", "-0001-12-31Z", "999999999-12-31"}) {
+            assertThat(
+                XMLAdapter.XML_DATE_LEXICAL.translate(xml),
+                is(XMLAdapter.XML_DATE.translate(factory.newXMLGregorianCalendar(xml))));
+        }
+    }
+
+    @Test
+    public void printDate() {
+        for (PlainDate date : new PlainDate[] {PlainDate.of(2014, 2, 28), PlainDate.of(-44, 3, 15), PlainDate.of(12345, 1, 1)}) {
+            assertThat(
+                XMLAdapter.XML_DATE_LEXICAL.from(date),
+                is(XMLAdapter.XML_DATE.from(date).toXMLFormat()));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void printYearZero() {
+        XMLAdapter.XML_DATE_LEXICAL.from(PlainDate.of(0, 1, 1));
+    }
+
+    @Test
+    public void printDateTime() {
+        PlainTimestamp base = PlainTimestamp.of(2012, 6, 30, 23, 59, 59);
+        PlainTimestamp[] values = {
+            base,
+            base.plus(120, ClockUnit.MILLIS),
+            base.plus(1234567, ClockUnit.NANOS),
+            PlainTimestamp.of(-1, 6, 30, 3, 9, 0),
+            PlainTimestamp.of(5, 6, 30, 3, 9, 0).plus(123456700, ClockUnit.NANOS)
+        };
+        for (PlainTimestamp tsp : values) {
+            assertThat(
+                XMLAdapter.XML_DATE_TIME_LEXICAL.from(tsp),
+                is(XMLAdapter.XML_DATE_TIME.from(tsp).toXMLFormat()));
+            assertThat(XMLAdapter.XML_DATE_TIME_LEXICAL.translate(XMLAdapter.XML_DATE_TIME_LEXICAL.from(tsp)), is(tsp));
+        }
+    }
+
+    @Test
+    public void printDateTimeOffset() {
+        ZonalDateTime[] values = {
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).at(ZonalOffset.UTC).inZonalView(ZonalOffset.UTC),
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).at(ZonalOffset.UTC).inZonalView(ZonalOffset.ofHoursMinutes(
+                net.time4j.tz.OffsetSign.BEHIND_UTC, 1, 30)),
+            PlainTimestamp.of(2012, 6, 30, 23, 59, 59).at(ZonalOffset.UTC).inZonalView(ZonalOffset.ofHours(
+                net.time4j.tz.OffsetSign.AHEAD_OF_UTC, 14)),
+            XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.translate("2012-06-30T23:59:60.123Z")
+        };
+        for (ZonalDateTime zdt : values) {
+            assertThat(
+                XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.from(zdt),
+                is(XMLAdapter.XML_DATE_TIME_OFFSET.from(zdt).toXMLFormat()));
+        }
+        assertThat(XMLAdapter.XML_DATE_TIME_OFFSET_LEXICAL.from(values[3]), is("2012-06-30T23:59:60.123Z"));
+    }
+
+    @Test
+    public void duration() throws Exception {
+        DatatypeFactory factory = DatatypeFactory.newInstance();
+        for (String xml : new String[] {"P1Y2M3DT4H5M6.7S", "-P2D", "PT0S", "P0D", "PT36H"}) {
+            Duration<IsoUnit> expected = XMLAdapter.XML_DURATION.translate(factory.newDuration(xml));
+            assertThat(XMLAdapter.XML_DURATION_LEXICAL.translate(xml), is(expected));
+            assertThat(
+                XMLAdapter.XML_DURATION_LEXICAL.from(expected),
+                is(XMLAdapter.XML_DURATION.from(expected).toString()));
+        }
+    }
+
+}